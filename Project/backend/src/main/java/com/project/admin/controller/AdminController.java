@@ -25,6 +25,9 @@ import com.project.admin.entity.AdminEntity;
 import com.project.admin.repository.AdminRepository;
 import com.project.admin.service.AdminService;
 import com.project.common.jwt.JwtTokenProvider;
+import com.project.common.jwt.RefreshTokenService;
+import com.project.common.jwt.RefreshTokenService.TokenPair;
+import com.project.common.service.LoginRateLimiter;
 import com.project.member.dto.MemberPageRequestDto;
 import com.project.member.dto.MemberPageResponseDto;
 import com.project.member.entity.MemberState;
@@ -39,6 +42,8 @@ public class AdminController {
 	private final AdminService adminService;
 	private final AdminRepository adminRepository;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final RefreshTokenService refreshTokenService;
+	private final LoginRateLimiter loginRateLimiter;
 	
 	//관리자 로그인 
 	//param : dto 관리자 로그인 요청 정보(아이디, 비밀번호)
@@ -47,6 +52,9 @@ public class AdminController {
 	@PostMapping("login")
 	public AdminLoginResponseDto login(@RequestBody AdminLoginRequestDto dto) {
 		
+		//0. 시도 횟수 제한 (IP/계정) - 초과 시 BCrypt 없이 429
+		loginRateLimiter.acquire(dto.getAdminId());
+		
 		//1. 아이디로 관리자 먼저 조회
 	    AdminEntity admin = adminRepository.findFirstByAdminId(dto.getAdminId())
 	        .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다."));
@@ -55,19 +63,15 @@ public class AdminController {
 	    if (!new BCryptPasswordEncoder().matches(dto.getAdminPw(), admin.getAdminPw())) {
 	        throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다.");
 	    }
+	    loginRateLimiter.reset(admin.getAdminId());
 	    
-	    // ✅ role: ADMIN 포함한 토큰 발급
-	    String accessToken = jwtTokenProvider.generateAccessToken(admin.getAdminId(), "ADMIN");
-	    String refreshToken = jwtTokenProvider.generateRefreshToken(admin.getAdminId());
-
-	    // ✅ refreshToken 저장
-	    admin.setRefreshToken(refreshToken);
-	    adminRepository.save(admin);
+	    // ✅ role: ADMIN 포함한 토큰 발급 (refreshToken 은 RefreshTokenStore 에 저장)
+	    TokenPair tokens = refreshTokenService.issue(admin.getAdminId(), "ADMIN");
 
 	    return AdminLoginResponseDto.builder()
 	            .adminId(admin.getAdminId())
-	            .accessToken(accessToken)	// ⬅️ 발급한 토큰 포함
-	            .refreshToken(refreshToken)
+	            .accessToken(tokens.accessToken())	// ⬅️ 발급한 토큰 포함
+	            .refreshToken(tokens.refreshToken())
 	            .message("관리자 로그인 성공")
 	            .build();
 	}
@@ -84,12 +88,8 @@ public class AdminController {
 	    String adminId = jwtTokenProvider.getMemberIdFromToken(token); // 관리자도 getMemberIdFromToken 쓰는 경우
 
 
-	    AdminEntity admin = adminRepository.findFirstByAdminId(adminId)
-	            .orElseThrow(() -> new IllegalArgumentException("관리자 계정을 찾을 수 없습니다."));
-
-	    // Refresh 토큰 DB에 저장한 경우
-	    admin.setRefreshToken(null);
-	    adminRepository.save(admin);
+	    // Refresh 토큰 폐기 (관리자 행은 건드리지 않음)
+	    refreshTokenService.revokeAll(adminId);
 
 	    return ResponseEntity.ok("관리자 로그아웃 성공");
 	}
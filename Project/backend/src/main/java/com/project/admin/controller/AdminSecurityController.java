@@ -0,0 +1,24 @@
+package com.project.admin.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.common.service.LoginRateLimiter;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin/security")
+@RequiredArgsConstructor
+public class AdminSecurityController {
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    // 로그인 시도 제한 현황 (허용/거절 누적 건수, 추적 중인 IP/계정 수)
+    @GetMapping("/login-limiter")
+    public ResponseEntity<LoginRateLimiter.Stats> loginLimiterStats() {
+        return ResponseEntity.ok(loginRateLimiter.stats());
+    }
+}
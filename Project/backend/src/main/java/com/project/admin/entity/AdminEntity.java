@@ -62,7 +62,4 @@ public class AdminEntity {
 	private LocalDateTime registDate; //등록일시
 	@Column(name = "connect_data", nullable = false)
 	private LocalDateTime connectData; //접속일시
-	
-    private String accessToken;
-    private String refreshToken;
 }
\ No newline at end of file
@@ -20,8 +20,10 @@ import com.project.admin.dto.AdminMemberUpdateRequestDto;
 import com.project.admin.dto.AdminPasswordUpdateRequestDto;
 import com.project.admin.entity.AdminEntity;
 import com.project.admin.repository.AdminRepository;
-import com.project.common.jwt.JwtTokenProvider;
-import com.project.common.util.JasyptUtil;
+import com.project.common.jwt.RefreshTokenService;
+import com.project.common.jwt.RefreshTokenService.TokenPair;
+import com.project.common.service.LoginRateLimiter;
+import com.project.common.util.FieldCrypto;
 import com.project.member.dto.MemberPageRequestDto;
 import com.project.member.dto.MemberPageResponseDto;
 import com.project.member.entity.MemberEntity;
@@ -40,7 +42,9 @@ public class AdminServiceImpl implements AdminService {
 	private final AdminRepository adminRepository;
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
-	private final JwtTokenProvider jwtTokenProvider;
+	private final FieldCrypto fieldCrypto;
+	private final RefreshTokenService refreshTokenService;
+	private final LoginRateLimiter loginRateLimiter;
 	//복호화 고정키값 and 테스트 키값 ☆필수★
 	//추후 변경
     static {
@@ -56,6 +60,9 @@ public class AdminServiceImpl implements AdminService {
 	        throw new AccessDeniedException("지정된 관리자 계정만 로그인할 수 있습니다.");
 	    }
 	    
+	    //시도 횟수 제한 (IP/계정) - 초과 시 BCrypt 없이 429
+	    loginRateLimiter.acquire(dto.getAdminId());
+	    
 	    //관리자 ID 기준으로 먼저 조회
 	    AdminEntity admin = adminRepository.findFirstByAdminId(dto.getAdminId())
 	        .orElseThrow(() -> new IllegalArgumentException("아이디가 일치하지 않습니다."));
@@ -64,14 +71,10 @@ public class AdminServiceImpl implements AdminService {
 		if(!passwordEncoder.matches(dto.getAdminPw(), admin.getAdminPw())){
 			throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
 		}
+		loginRateLimiter.reset(admin.getAdminId());
 		
-		//역할: ADMIN 고정
-	    String accessToken = jwtTokenProvider.generateAccessToken(admin.getAdminId(), "ADMIN");
-	    String refreshToken = jwtTokenProvider.generateRefreshToken(admin.getAdminId());
-
-	    //Refresh 토큰 DB 저장
-	    admin.setRefreshToken(refreshToken);
-	    adminRepository.save(admin);
+		//역할: ADMIN 고정, Refresh 토큰은 RefreshTokenStore 에 저장
+	    TokenPair tokens = refreshTokenService.issue(admin.getAdminId(), "ADMIN");
 	    
 		//로그인 성공 시 필요한 정보 dto 반환
 		return AdminLoginResponseDto.builder()
@@ -79,8 +82,8 @@ public class AdminServiceImpl implements AdminService {
 				.adminPhone(admin.getAdminPhone())	//관리자 전화번호
 				.connectData(admin.getConnectData())	//접속시간
 				.message("관리자 로그인 성공")
-				.accessToken("정상 토큰")
-				.refreshToken("재발급 토큰")
+				.accessToken(tokens.accessToken())	//발급한 토큰
+				.refreshToken(tokens.refreshToken())
 				.build();
 	}
 	
@@ -214,7 +217,7 @@ public class AdminServiceImpl implements AdminService {
 		MemberEntity member = memberRepository.findByMemberNum(memberNum)
 				.orElseThrow(() ->  new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
 		
-		String decryptedPhone = JasyptUtil.decrypt(member.getMemberPhone());
+		String decryptedPhone = fieldCrypto.decrypt(member.getMemberPhone());
 		
 		return AdminMemberDetailResponseDto.builder()
 				.memberNum(member.getMemberNum())		//회원번호
@@ -253,6 +256,8 @@ public class AdminServiceImpl implements AdminService {
 		}
 		//계정 잠금 여부 설정
 		member.setMemberLock(memberLock);
+		//기존 형식 암호문이면 저장하는 김에 새 형식으로 변환
+		member.setMemberPhone(fieldCrypto.migrate(member.getMemberPhone()));
 		memberRepository.save(member);
 		 
 		//회원상태 변경시 메시지 처리
@@ -22,6 +22,7 @@ import com.project.adopt.entity.AdoptEntity;
 import com.project.adopt.service.AdoptService;
 import com.project.animal.entity.AnimalEntity;
 import com.project.animal.service.AnimalService;
+import com.project.common.dto.CursorPageResponseDto;
 import com.project.common.jwt.JwtTokenProvider;
 import com.project.member.dto.MemberMeResponseDto;
 import com.project.member.entity.MemberEntity;
@@ -160,6 +161,32 @@ public class AdoptController {
         return ResponseEntity.ok(adoptPage.map(this::toDto));
     }
 
+    // ----------------- 신청서 목록 커서 기반 조회 (입양번호 내림차순) -----------------
+    // 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+    @GetMapping("/list/cursor")
+    public ResponseEntity<CursorPageResponseDto<AdoptResponseDto>> listByCursor(
+            HttpServletRequest request,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+
+        String role = getRoleFromRequest(request);
+        if (role == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        Long memberNum;
+        if ("ADMIN".equals(role)) {
+            memberNum = null; // 전체
+        } else if ("USER".equals(role)) {
+            MemberMeResponseDto member = getMemberFromRequest(request);
+            if (member == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            memberNum = member.getMemberNum();
+        } else {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(adoptService.listByCursor(memberNum, cursor, size, withTotal).map(this::toDto));
+    }
+
     // ----------------- 신청서 상세 조회 -----------------
     @GetMapping("/detail/{id}")
     public ResponseEntity<AdoptResponseDto> get(@PathVariable Long id, HttpServletRequest request) {
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.adopt.entity.AdoptEntity;
@@ -20,4 +22,26 @@ public interface AdoptRepository extends JpaRepository<AdoptEntity, Long> {
     List<AdoptEntity> findByMember_MemberNum(Long memberNum);//개인 입양 조회
     
     Page<AdoptEntity> findByMember_MemberNum(Long memberNum, Pageable pageable);
-}
\ No newline at end of file
+
+    // 커서(keyset) 페이지네이션: adoptNum 내림차순 (PK 범위 탐색)
+    @Query("""
+        SELECT a FROM AdoptEntity a
+        WHERE a.adoptNum < :adoptNum
+        ORDER BY a.adoptNum DESC
+    """)
+    List<AdoptEntity> findPageAfter(@Param("adoptNum") Long adoptNum, Pageable limit);
+
+    // 회원별: member_num 으로 좁힌 뒤 정렬
+    @Query("""
+        SELECT a FROM AdoptEntity a
+        WHERE a.member.memberNum = :memberNum
+          AND a.adoptNum < :adoptNum
+        ORDER BY a.adoptNum DESC
+    """)
+    List<AdoptEntity> findMemberPageAfter(@Param("memberNum") Long memberNum,
+                                          @Param("adoptNum") Long adoptNum,
+                                          Pageable limit);
+
+    long countByMember_MemberNum(Long memberNum);
+
+}
@@ -1,13 +1,18 @@
 package com.project.adopt.service;
 
+import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.adopt.entity.AdoptEntity;
 import com.project.adopt.repository.AdoptRepository;
+import com.project.common.dto.CursorPageResponseDto;
+import com.project.common.service.CountCache;
+import com.project.common.util.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,12 +20,29 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdoptService {
     private final AdoptRepository adoptRepository;
+    private final CountCache countCache;
 
     //입양 리스트 전체 확인
     @Transactional(readOnly = true)
     public Page<AdoptEntity> listAll(Pageable pageable) {
         return adoptRepository.findAll(pageable);
     }
+
+    //입양 리스트 커서 기반 조회 (입양번호 내림차순, memberNum 이 null 이면 전체)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<AdoptEntity> listByCursor(Long memberNum, String cursor, int size, boolean withTotal) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor.Position pos = KeysetCursor.decode(cursor, "adoptNum");
+        long afterNum = (pos == null) ? Long.MAX_VALUE : pos.id();
+        List<AdoptEntity> rows = (memberNum != null)
+                ? adoptRepository.findMemberPageAfter(memberNum, afterNum, PageRequest.of(0, limit + 1))
+                : adoptRepository.findPageAfter(afterNum, PageRequest.of(0, limit + 1));
+
+        Long total = withTotal
+                ? countCache.get("adopt:" + memberNum, () -> memberNum != null ? adoptRepository.countByMember_MemberNum(memberNum) : adoptRepository.count())
+                : null;
+        return CursorPageResponseDto.of(rows, limit, e -> KeysetCursor.encode("adoptNum", null, e.getAdoptNum()), total);
+    }
     //특정 입양 번호 조회
     @Transactional(readOnly = true)
     public AdoptEntity get(Long id) {
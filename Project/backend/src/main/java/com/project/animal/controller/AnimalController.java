@@ -29,6 +29,7 @@ import com.project.animal.dto.AnimalResponseDto;
 import com.project.animal.entity.AnimalEntity;
 import com.project.animal.entity.AnimalFileEntity;
 import com.project.animal.service.AnimalService;
+import com.project.common.dto.CursorPageResponseDto;
 import com.project.common.jwt.JwtTokenProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -101,6 +102,18 @@ public class AnimalController {
         return ResponseEntity.ok(responsePage);
     }
 
+    /**
+     * 동물 목록 커서 기반 조회 (입소일 최신순)
+     * - 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+     */
+    @GetMapping("/list/cursor")
+    public ResponseEntity<CursorPageResponseDto<AnimalResponseDto>> listByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(animalService.listByCursor(cursor, size, withTotal).map(this::toDto));
+    }
+
     /**
      * 특정 동물 정보 조회 (관리자/클라이언트)
      * - 클라이언트는 권한 없이 접근 가능
@@ -11,6 +11,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -18,7 +19,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "animal")
+@Table(name = "animal",
+       indexes = {
+         @Index(name = "idx_animal_date_id", columnList = "animal_date, animal_id") // 커서 목록 (입소일 최신순)
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
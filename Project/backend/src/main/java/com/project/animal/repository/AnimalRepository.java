@@ -1,6 +1,12 @@
 package com.project.animal.repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.animal.entity.AnimalEntity;
@@ -8,5 +14,25 @@ import com.project.animal.entity.AnimalEntity;
 
 @Repository
 public interface AnimalRepository extends JpaRepository<AnimalEntity, Long> {
-	
-}
\ No newline at end of file
+
+    // 커서(keyset) 페이지네이션: (입소일, animalId) 최신순 — idx_animal_date_id 범위 탐색
+    // 입소일 없는 행은 아래 findUndatedPageAfter 로 맨 뒤에 이어서 조회
+    @Query("""
+        SELECT a FROM AnimalEntity a
+        WHERE a.animalDate < :animalDate
+           OR (a.animalDate = :animalDate AND a.animalId < :animalId)
+        ORDER BY a.animalDate DESC, a.animalId DESC
+    """)
+    List<AnimalEntity> findPageAfter(@Param("animalDate") LocalDate animalDate,
+                                     @Param("animalId") Long animalId,
+                                     Pageable limit);
+
+    // 입소일 없는 행: animalId 역순 (PK 범위 탐색)
+    @Query("""
+        SELECT a FROM AnimalEntity a
+        WHERE a.animalDate IS NULL AND a.animalId < :animalId
+        ORDER BY a.animalId DESC
+    """)
+    List<AnimalEntity> findUndatedPageAfter(@Param("animalId") Long animalId, Pageable limit);
+
+}
@@ -1,9 +1,12 @@
 package com.project.animal.service;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 import com.project.animal.entity.AnimalEntity;
 import com.project.animal.repository.AnimalFileRepository;
 import com.project.animal.repository.AnimalRepository;
+import com.project.common.dto.CursorPageResponseDto;
+import com.project.common.service.CountCache;
+import com.project.common.util.KeysetCursor;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +26,32 @@ import lombok.RequiredArgsConstructor;
 public class AnimalService {
     private final AnimalRepository animalRepository;
     private final AnimalFileRepository animalFileRepository;
+    private final CountCache countCache;
     
     //동물 데이터 조회
     @Transactional(readOnly = true)
     public Page<AnimalEntity> listAll(Pageable pageable) {
         return animalRepository.findAll(pageable);
     }
+
+    //동물 데이터 커서 기반 조회 (입소일 최신순, OFFSET/COUNT 없음)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<AnimalEntity> listByCursor(String cursor, int size, boolean withTotal) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor.Position pos = KeysetCursor.decode(cursor, "animalDate");
+        // 입소일 있는 동물 → 입소일 없는 동물(가장 오래된 것으로 취급) 순
+        List<AnimalEntity> rows = KeysetCursor.fetchNullsLast(pos, limit + 1,
+                n -> animalRepository.findPageAfter(
+                        pos == null ? LocalDate.of(9999, 12, 31) : pos.asLocalDate(),
+                        pos == null ? Long.MAX_VALUE : pos.id(),
+                        PageRequest.of(0, n)),
+                (afterId, n) -> animalRepository.findUndatedPageAfter(afterId, PageRequest.of(0, n)));
+
+        Long total = withTotal ? countCache.get("animal", animalRepository::count) : null;
+        return CursorPageResponseDto.of(rows, limit,
+                e -> KeysetCursor.encode("animalDate", e.getAnimalDate(), e.getAnimalId()),
+                total);
+    }
     
     //특정 동물 데이터 조회 , 없을시 null 반환
     @Transactional(readOnly = true)
@@ -5,6 +5,8 @@ import com.project.banner.dto.BannerRequestDto;
 import com.project.banner.dto.BannerResponseDto;
 import com.project.banner.entity.BannerEntity;
 import com.project.banner.repository.BannerRepository;
+import com.project.common.service.ImageVariantService;
+import com.project.common.storage.FileStorageService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,6 +27,8 @@ import java.util.stream.Collectors;
 public class BannerServiceImpl implements BannerService {
 
     private final BannerRepository bannerRepository;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
@@ -116,8 +120,13 @@ public class BannerServiceImpl implements BannerService {
         banner.setUpdatedAt(LocalDateTime.now());
 
         if (file != null && !file.isEmpty()) {
+            String oldFileName = banner.getImageUrl();
             String fileName = saveFile(file);
             banner.setImageUrl(fileName);
+            // 이전 이미지의 변형 캐시 제거
+            if (oldFileName != null) {
+                imageVariantService.evict(uploadPath.resolve(oldFileName));
+            }
         }
 
         bannerRepository.save(banner);
@@ -154,6 +163,7 @@ public class BannerServiceImpl implements BannerService {
     private void deleteFile(String fileName) throws IOException {
         Path path = uploadPath.resolve(fileName);
         Files.deleteIfExists(path);
+        imageVariantService.evict(path);
     }
 
     // 파일 저장
@@ -179,10 +189,9 @@ public class BannerServiceImpl implements BannerService {
             throw new RuntimeException("jpg/jpeg/png 형식의 이미지 파일만 허용됩니다.");
         }
 
+        // 힙에 파일 전체를 올리지 않고 스트리밍 저장 (저장 중 용량/실제 형식 재검증)
         String fileName = System.currentTimeMillis() + "_" + originalFileName;
-        Path path = uploadPath.resolve(fileName);
-        Files.createDirectories(path.getParent());
-        Files.write(path, file.getBytes(), StandardOpenOption.CREATE);
+        fileStorageService.store(file, uploadPath, fileName, maxFileSize, List.of("image/jpeg", "image/png"));
         return fileName;
     }
     
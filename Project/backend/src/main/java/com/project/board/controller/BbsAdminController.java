@@ -10,23 +10,30 @@ import com.project.board.dto.QandADto;
 import com.project.board.entity.BbsEntity;
 import com.project.board.exception.BbsException;
 import com.project.board.repository.BbsRepository;
+import com.project.board.service.BbsAttachmentZipExporter;
+import com.project.board.service.BbsFileDedupeJob;
 import com.project.board.service.BbsService;
+import com.project.board.service.BbsThumbnailPipeline;
+import com.project.board.service.BbsUploadPaths;
 import com.project.common.jwt.JwtTokenProvider;
+import com.project.common.storage.FileDownloadHandler;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value; // ✅ 추가: 물리 경로 주입용
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,33 +51,25 @@ public class BbsAdminController {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private BbsThumbnailPipeline bbsThumbnailPipeline;
+
+    @Autowired
+    private BbsFileDedupeJob bbsFileDedupeJob;
+
+    @Autowired
+    private FileDownloadHandler fileDownloadHandler;
+
+    @Autowired
+    private BbsAttachmentZipExporter bbsAttachmentZipExporter;
+
+    // DB의 /DATA/... → 물리경로 매핑 (downloadFile)
+    @Autowired
+    private BbsUploadPaths uploadPaths;
+
     // ⚠️ 프론트는 /DATA/... 로 직접 접근하므로 이미지/파일 미리보기에는 BACKEND_URL을 붙이지 않음
     //private final String BACKEND_URL = "/api";
 
-    // =========================
-    // 📌 application.properties 값 주입 (물리 저장소 경로)
-    //    downloadFile 에서 DB의 /DATA/... 를 물리경로로 매핑하는 데 사용
-    // =========================
-    @Value("${file.upload-imgbbs}")
-    private String imgBbsUploadDir;    // ../frontend/public/DATA/bbs/imgBbs
-
-    @Value("${file.upload-norbbs}")
-    private String norBbsUploadDir;    // ../frontend/public/DATA/bbs/norBbs
-
-    @Value("${file.upload-quesbbs}")
-    private String quesBbsUploadDir;   // ../frontend/public/DATA/bbs/quesBbs
-
-    // =========================
-    // 🔧 /DATA/... → 물리경로(baseDir) 매핑 헬퍼
-    // =========================
-    private String resolveBaseDirByWebPath(String webPath) {
-        if (webPath == null) return norBbsUploadDir; // 기본값
-        if (webPath.contains("/DATA/bbs/imgBbs/"))  return imgBbsUploadDir;
-        if (webPath.contains("/DATA/bbs/norBbs/"))  return norBbsUploadDir;
-        if (webPath.contains("/DATA/bbs/quesBbs/")) return quesBbsUploadDir;
-        return norBbsUploadDir; // fallback
-    }
-
     // ---------------- 관리자용 공지사항 게시글 조회 (최신순) ----------------
     @GetMapping("/notices")
     public ResponseEntity<Map<String, Object>> getNoticeBbsList(
@@ -499,9 +498,13 @@ public class BbsAdminController {
         List<BbsDto> content = (List<BbsDto>) result.get("list");
         if (content == null) content = new ArrayList<>();
 
+        // 대표 이미지는 한 번에 조회 (게시글마다 개별 조회하지 않음)
+        List<Long> bulletinNums = content.stream().map(BbsDto::getBulletinNum).collect(Collectors.toList());
+        Map<Long, ImageBbsDto> repImgByNum = bbsService.getRepresentativeImages(bulletinNums);
+
         Map<String, Object> repImages = new HashMap<>();
         for (BbsDto dto : content) {
-            var repImg = bbsService.getRepresentativeImage(dto.getBulletinNum());
+            ImageBbsDto repImg = repImgByNum.get(dto.getBulletinNum());
             Map<String, Object> imgMap = new HashMap<>();
             if (repImg != null) {
                 imgMap.put("bulletinNum", dto.getBulletinNum());
@@ -515,6 +518,19 @@ public class BbsAdminController {
         return ResponseEntity.ok(result);
     }
 
+    // ---------------- 썸네일 생성 파이프라인 상태 (대기 건수/지연 시간) ----------------
+    @GetMapping("/thumbnails/stats")
+    public ResponseEntity<Map<String, Object>> getThumbnailStats() {
+        return ResponseEntity.ok(bbsThumbnailPipeline.getStats());
+    }
+
+    // ---------------- 기존 첨부파일 중복 정리 (내용 해시 파일명으로 1회 전환) ----------------
+    @PostMapping("/files/dedupe")
+    public ResponseEntity<Map<String, Object>> dedupeFiles(
+            @RequestParam(defaultValue = "false") boolean sweepOrphans) {
+        return ResponseEntity.ok(bbsFileDedupeJob.run(sweepOrphans));
+    }
+
     // ---------------- 관리자 이미지 게시글 단건 조회 ----------------
     @GetMapping("/poto/{id}")
     public ResponseEntity<Map<String, Object>> getPotoBbsDetail(@PathVariable Long id) {
@@ -577,17 +593,32 @@ public class BbsAdminController {
         return ResponseEntity.ok(fileMapList);
     }
 
+    // ---------------- 게시글 첨부파일 전체 ZIP 다운로드 ----------------
+    @GetMapping("/{id}/files/zip")
+    public void downloadFilesZip(@PathVariable Long id, HttpServletResponse response) throws IOException {
+        bbsAttachmentZipExporter.exportPost(id, response);
+    }
+
+    // ---------------- 게시판 + 등록일 구간 첨부파일 ZIP 다운로드 ----------------
+    // 예) /admin/bbs/files/zip?type=NORMAL&from=2025-01-01&to=2025-03-31
+    @GetMapping("/files/zip")
+    public void downloadBoardFilesZip(@RequestParam BoardType type,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                      HttpServletResponse response) throws IOException {
+        bbsAttachmentZipExporter.exportBoard(type, from, to, response);
+    }
+
     // ---------------- 첨부파일 다운로드 (보조용) ----------------
     @GetMapping("/files/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId) {
+    public void downloadFile(@PathVariable Long fileId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        // 메타만 조회 (게시글 엔티티는 로딩하지 않음)
         FileUpLoadDto fileDto = bbsService.getFileById(fileId);
-        if (fileDto == null) return ResponseEntity.notFound().build();
 
         // ✅ DB path는 /DATA/... 이므로, 물리경로(baseDir)로 변환 후 savedName과 조합
-        String baseDir = resolveBaseDirByWebPath(fileDto.getPath());
-        Path path = Paths.get(baseDir, fileDto.getSavedName());
-        Resource resource = new FileSystemResource(path);
-        if (!resource.exists()) return ResponseEntity.notFound().build();
+        Path path = uploadPaths.uploadDirOf(fileDto.getPath()).resolve(fileDto.getSavedName());
 
         MediaType mediaType;
         String ext = fileDto.getExtension().toLowerCase();
@@ -611,13 +642,9 @@ public class BbsAdminController {
         }
 
         // 이미지 등 미리보기 가능한 타입은 inline, 그 외는 attachment
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok().contentType(mediaType);
-        if (mediaType.equals(MediaType.APPLICATION_OCTET_STREAM) || mediaType.equals(MediaType.APPLICATION_PDF)) {
-            responseBuilder.header(HttpHeaders.CONTENT_DISPOSITION,
-                    "attachment; filename=\"" + fileDto.getOriginalName() + "\"");
-        }
-
-        return responseBuilder.body(resource);
+        // Range(이어받기)/ETag(304)/sendfile 처리는 공용 다운로드 핸들러에서 수행
+        boolean attachment = mediaType.equals(MediaType.APPLICATION_OCTET_STREAM) || mediaType.equals(MediaType.APPLICATION_PDF);
+        fileDownloadHandler.serve(path, fileDto.getOriginalName(), mediaType, attachment, request, response);
     }
 
     // ---------------- 본문 삽입 처리 (미사용: 서비스에서 처리) ----------------
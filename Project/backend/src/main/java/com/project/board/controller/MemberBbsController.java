@@ -1,5 +1,6 @@
 package com.project.board.controller;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -11,17 +12,16 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value; // ✅ 추가: 물리 경로 주입용
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -45,7 +45,13 @@ import com.project.board.entity.QandAEntity;
 import com.project.board.exception.BbsException;
 import com.project.board.repository.QandARepository;
 import com.project.board.service.BbsService;
+import com.project.board.service.BbsUploadPaths;
+import com.project.common.dto.CursorPageResponseDto;
+import com.project.common.storage.FileDownloadHandler;
+import com.project.common.util.ClientIpResolver;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -58,38 +64,17 @@ public class MemberBbsController {
 
     private final QandARepository qandARepository;
 
+    private final FileDownloadHandler fileDownloadHandler;
+
+    private final ClientIpResolver clientIpResolver;
+
+    // DB의 /DATA/... → 물리경로 매핑 (downloadFile)
+    private final BbsUploadPaths uploadPaths;
+
     // ⚠️ 프론트는 /DATA/... 로 직접 접근하므로 미리보기에는 BACKEND_URL을 붙이지 않음
     //    단, "다운로드" 클릭 시 호출할 보조용 링크 구성에만 사용
     //private final String BACKEND_URL = "/api";
 
-    // =========================
-    // 📌 application.properties 값 주입 (물리 저장소 경로)
-    //    downloadFile 에서 DB의 /DATA/... 를 물리경로로 매핑하는 데 사용
-    //    application.properties 예:
-    //      file.upload-imgbbs=../frontend/public/DATA/bbs/imgBbs
-    //      file.upload-norbbs=../frontend/public/DATA/bbs/norBbs
-    //      file.upload-quesbbs=../frontend/public/DATA/bbs/quesBbs
-    // =========================
-    @Value("${file.upload-imgbbs}")
-    private String imgBbsUploadDir;    // ../frontend/public/DATA/bbs/imgBbs
-
-    @Value("${file.upload-norbbs}")
-    private String norBbsUploadDir;    // ../frontend/public/DATA/bbs/norBbs
-
-    @Value("${file.upload-quesbbs}")
-    private String quesBbsUploadDir;   // ../frontend/public/DATA/bbs/quesBbs
-
-    // =========================
-    // 🔧 /DATA/... → 물리경로(baseDir) 매핑 헬퍼
-    // =========================
-    private String resolveBaseDirByWebPath(String webPath) {
-        if (webPath == null) return norBbsUploadDir; // 기본값
-        if (webPath.contains("/DATA/bbs/imgBbs/"))  return imgBbsUploadDir;
-        if (webPath.contains("/DATA/bbs/norBbs/"))  return norBbsUploadDir;
-        if (webPath.contains("/DATA/bbs/quesBbs/")) return quesBbsUploadDir;
-        return norBbsUploadDir; // fallback
-    }
-
     // ---------------- 게시글 작성 ----------------
     @PostMapping("/bbslist/bbsadd")
     public ResponseEntity<Map<String, Object>> createBbs(
@@ -318,10 +303,15 @@ public class MemberBbsController {
 
     // ---------------- 게시글 단건 조회 ----------------
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getBbs(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getBbs(@PathVariable Long id, HttpServletRequest request) {
         // 1. 게시글 정보 조회
         BbsDto dto = bbsService.getBbs(id);
 
+        // 1-1. 조회수 증가 (게시글이 있을 때만, 같은 회원/IP의 반복 조회는 일정 시간 1회로 처리)
+        if (bbsService.increaseViewCount(id, resolveViewerKey(request))) {
+            dto.setViewers((dto.getViewers() != null ? dto.getViewers() : 0) + 1);
+        }
+
         // 2. 대표 이미지(POTO 타입만) 조회 — /DATA/... 그대로 전달
         ImageBbsDto repImg = null;
         Map<String, Object> repImgMap = null;
@@ -393,9 +383,47 @@ public class MemberBbsController {
 
         // (이하 기존 로직 그대로)
         if (type == BoardType.POTO) {
+            // 대표 이미지는 한 번에 조회 (게시글마다 개별 조회하지 않음)
+            List<Long> bulletinNums = page.getContent().stream().map(BbsDto::getBulletinNum).collect(Collectors.toList());
+            Map<Long, ImageBbsDto> repImgByNum = bbsService.getRepresentativeImages(bulletinNums);
+
+            Map<String, Object> repImageMap = new HashMap<>();
+            page.getContent().forEach(dto -> {
+                ImageBbsDto repImg = repImgByNum.get(dto.getBulletinNum());
+                Map<String, Object> repMap = new HashMap<>();
+                repMap.put("bulletinNum", dto.getBulletinNum());
+                repMap.put("thumbnailPath", repImg != null ? repImg.getThumbnailPath() : "");
+                repMap.put("imagePath", repImg != null ? repImg.getImagePath() : "");
+                repImageMap.put(dto.getBulletinNum().toString(), repMap);
+            });
+            result.put("representativeImages", repImageMap);
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+    // ---------------- 게시글 목록 커서 기반 조회 (sort=latest|views) ----------------
+    // 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+    @GetMapping("/bbslist/cursor")
+    public ResponseEntity<Map<String, Object>> getBbsListByCursor(
+            @RequestParam BoardType type,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        CursorPageResponseDto<BbsDto> page = bbsService.getPostsByCursor(type, sort, cursor, size, withTotal);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("bbsList", page);
+
+        if (type == BoardType.POTO) {
+            List<Long> bulletinNums = page.getContent().stream().map(BbsDto::getBulletinNum).collect(Collectors.toList());
+            Map<Long, ImageBbsDto> repImgByNum = bbsService.getRepresentativeImages(bulletinNums);
+
             Map<String, Object> repImageMap = new HashMap<>();
             page.getContent().forEach(dto -> {
-                ImageBbsDto repImg = bbsService.getRepresentativeImage(dto.getBulletinNum());
+                ImageBbsDto repImg = repImgByNum.get(dto.getBulletinNum());
                 Map<String, Object> repMap = new HashMap<>();
                 repMap.put("bulletinNum", dto.getBulletinNum());
                 repMap.put("thumbnailPath", repImg != null ? repImg.getThumbnailPath() : "");
@@ -424,6 +452,15 @@ public class MemberBbsController {
         return ResponseEntity.ok(fileMapList);
     }
 
+    // ---------------- 조회자 식별 키 (로그인 회원 ID 우선, 없으면 클라이언트 IP) ----------------
+    private String resolveViewerKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "M:" + auth.getName();
+        }
+        return "IP:" + clientIpResolver.resolve(request);
+    }
+
     // ---------------- deletedFileIds 문자열 → List<Long> 변환 ----------------
     private List<Long> parseDeleteIds(String deletedFileIds) {
         if (deletedFileIds != null && !deletedFileIds.isEmpty()) {
@@ -439,27 +476,24 @@ public class MemberBbsController {
 
     // ---------------- 첨부파일 다운로드 (보조용) ----------------
     @GetMapping("/files/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId,
-                                                 @RequestParam(required = false) String boardType) {
+    public void downloadFile(@PathVariable Long fileId,
+                             @RequestParam(required = false) String boardType,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        // 메타만 조회 (게시글 엔티티는 로딩하지 않음)
         FileUpLoadDto fileDto = bbsService.getFileById(fileId);
-        if (fileDto == null) return ResponseEntity.notFound().build();
 
         // ✅ POTO 전용 제약: 이미지 게시판에서는 jpg/jpeg만 허용
         if ("image".equals(boardType)) {
             String extCheck = fileDto.getExtension().toLowerCase();
             if (!extCheck.equals("jpg") && !extCheck.equals("jpeg")) {
-                return ResponseEntity.badRequest().build();
+                response.sendError(HttpStatus.BAD_REQUEST.value());
+                return;
             }
         }
 
         // ✅ DB path는 /DATA/... 이므로, 물리경로(baseDir)로 변환 후 savedName과 조합
-        String baseDir = resolveBaseDirByWebPath(fileDto.getPath());
-        Path path = Paths.get(baseDir, fileDto.getSavedName());
-        Resource resource = new FileSystemResource(path);
-
-        if (!resource.exists()) {
-            return ResponseEntity.notFound().build();
-        }
+        Path path = uploadPaths.uploadDirOf(fileDto.getPath()).resolve(fileDto.getSavedName());
 
         // 미디어 타입 판별 (png 추가)
         MediaType mediaType;
@@ -484,13 +518,9 @@ public class MemberBbsController {
         }
 
         // 이미지 등 미리보기 가능한 타입은 inline, 그 외는 attachment
-        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(mediaType);
-        if (mediaType.equals(MediaType.APPLICATION_OCTET_STREAM) || mediaType.equals(MediaType.APPLICATION_PDF)) {
-            builder.header(HttpHeaders.CONTENT_DISPOSITION,
-                    "attachment; filename=\"" + fileDto.getOriginalName() + "\"");
-        }
-
-        return builder.body(resource);
+        // Range(이어받기)/ETag(304)/sendfile 처리는 공용 다운로드 핸들러에서 수행
+        boolean attachment = mediaType.equals(MediaType.APPLICATION_OCTET_STREAM) || mediaType.equals(MediaType.APPLICATION_PDF);
+        fileDownloadHandler.serve(path, fileDto.getOriginalName(), mediaType, attachment, request, response);
     }
 
     // 게시판 공지사항 조회 최신5개 (안형주 추가 09.01)
@@ -16,7 +16,12 @@ import lombok.Setter;
 
 
 @Entity
-@Table(name = "bbs")
+@Table(name = "bbs",
+       indexes = {
+         // 게시판별 커서 목록 (최신순 / 조회수순)
+         @Index(name = "idx_bbs_type_date_num", columnList = "bulletin_type, regist_date, bulletin_num"),
+         @Index(name = "idx_bbs_type_viewers_num", columnList = "bulletin_type, viewers, bulletin_num")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
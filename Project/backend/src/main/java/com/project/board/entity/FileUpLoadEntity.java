@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "file_upload") // 테이블명은 일반적으로 소문자 사용 추천
+@Table(name = "file_upload", // 테이블명은 일반적으로 소문자 사용 추천
+       indexes = {
+         // 내용 주소 저장 파일의 참조 수 (참조 해제 / 주기적 누수 점검)
+         @Index(name = "idx_file_upload_path", columnList = "file_path")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "imagebbs")
+@Table(name = "imagebbs",
+       indexes = {
+         // 썸네일 파일의 참조 수 (참조 해제 / 주기적 누수 점검)
+         @Index(name = "idx_imagebbs_thumbnail_path", columnList = "thumbnail_path")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,7 @@
 package com.project.board.repository;
 
 import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -43,6 +44,28 @@ public interface BbsRepository extends JpaRepository<BbsEntity, Long> {
     //25.09.01 안형주 추가
     List<BbsEntity> findTop5ByBulletinTypeOrderByRegistdateDesc(BoardType boardType);
     
+    // 검색 인덱스 결과(게시글 번호 목록)로 게시글 + 작성자(회원/관리자)를 한 번에 조회
+    @Query("""
+        SELECT b FROM BbsEntity b
+        LEFT JOIN FETCH b.memberNum
+        LEFT JOIN FETCH b.adminId
+        WHERE b.bulletinNum IN :bulletinNums
+    """)
+    List<BbsEntity> findWithWriterByBulletinNumIn(@Param("bulletinNums") List<Long> bulletinNums);
+
+    // 검색 인덱스 후보 중 LIKE 조건을 실제로 만족하는 게시글 번호 (pattern = '%...%', 이스케이프 문자 '\')
+    @Query("""
+        SELECT b.bulletinNum FROM BbsEntity b
+        WHERE b.bulletinNum IN :bulletinNums AND b.bbstitle LIKE :pattern ESCAPE '\\'
+    """)
+    List<Long> findBulletinNumsByTitleLike(@Param("bulletinNums") List<Long> bulletinNums, @Param("pattern") String pattern);
+
+    @Query("""
+        SELECT b.bulletinNum FROM BbsEntity b
+        WHERE b.bulletinNum IN :bulletinNums AND b.bbscontent LIKE :pattern ESCAPE '\\'
+    """)
+    List<Long> findBulletinNumsByContentLike(@Param("bulletinNums") List<Long> bulletinNums, @Param("pattern") String pattern);
+
     // ---------------- JPQL for Admin QnA / FAQ ----------------
     @Query("""
         SELECT new com.project.board.dto.BbsDto(
@@ -106,4 +129,59 @@ public interface BbsRepository extends JpaRepository<BbsEntity, Long> {
         WHERE f.filenum = :fileId
     """)
     Optional<FileUpLoadDto> findFileById(@Param("fileId") Long fileId);
+
+    // ---------------- 커서(keyset) 페이지네이션 ----------------
+    // 최신순: (registdate, bulletinNum) 이 커서보다 작은 행부터 조회 (OFFSET/COUNT 없음)
+    // 게시판 종류 지정 / 전체를 별도 쿼리로 분리 → (bulletin_type, regist_date, bulletin_num) 인덱스 범위 탐색
+    // regist_date / viewers 는 NOT NULL 이라 NULL 구간 없음
+    @Query("""
+        SELECT b FROM BbsEntity b
+        LEFT JOIN FETCH b.memberNum
+        LEFT JOIN FETCH b.adminId
+        WHERE b.bulletinType = :type
+          AND (b.registdate < :registdate OR (b.registdate = :registdate AND b.bulletinNum < :bulletinNum))
+        ORDER BY b.registdate DESC, b.bulletinNum DESC
+    """)
+    List<BbsEntity> findPageAfterRegistdate(@Param("type") BoardType type,
+                                            @Param("registdate") LocalDateTime registdate,
+                                            @Param("bulletinNum") Long bulletinNum,
+                                            Pageable limit);
+
+    @Query("""
+        SELECT b FROM BbsEntity b
+        LEFT JOIN FETCH b.memberNum
+        LEFT JOIN FETCH b.adminId
+        WHERE b.registdate < :registdate OR (b.registdate = :registdate AND b.bulletinNum < :bulletinNum)
+        ORDER BY b.registdate DESC, b.bulletinNum DESC
+    """)
+    List<BbsEntity> findAllPageAfterRegistdate(@Param("registdate") LocalDateTime registdate,
+                                               @Param("bulletinNum") Long bulletinNum,
+                                               Pageable limit);
+
+    // 조회수순: (viewers, bulletinNum) 이 커서보다 작은 행부터 조회 → (bulletin_type, viewers, bulletin_num) 인덱스
+    @Query("""
+        SELECT b FROM BbsEntity b
+        LEFT JOIN FETCH b.memberNum
+        LEFT JOIN FETCH b.adminId
+        WHERE b.bulletinType = :type
+          AND (b.viewers < :viewers OR (b.viewers = :viewers AND b.bulletinNum < :bulletinNum))
+        ORDER BY b.viewers DESC, b.bulletinNum DESC
+    """)
+    List<BbsEntity> findPageAfterViewers(@Param("type") BoardType type,
+                                         @Param("viewers") Integer viewers,
+                                         @Param("bulletinNum") Long bulletinNum,
+                                         Pageable limit);
+
+    @Query("""
+        SELECT b FROM BbsEntity b
+        LEFT JOIN FETCH b.memberNum
+        LEFT JOIN FETCH b.adminId
+        WHERE b.viewers < :viewers OR (b.viewers = :viewers AND b.bulletinNum < :bulletinNum)
+        ORDER BY b.viewers DESC, b.bulletinNum DESC
+    """)
+    List<BbsEntity> findAllPageAfterViewers(@Param("viewers") Integer viewers,
+                                            @Param("bulletinNum") Long bulletinNum,
+                                            Pageable limit);
+
+    long countByBulletinType(BoardType type);
 }
@@ -1,9 +1,15 @@
 package com.project.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.project.board.BoardType;
+import com.project.board.dto.FileUpLoadDto;
 import com.project.board.entity.FileUpLoadEntity;
 
 public interface FileUpLoadRepository extends JpaRepository<FileUpLoadEntity, Long> {
@@ -11,4 +17,23 @@ public interface FileUpLoadRepository extends JpaRepository<FileUpLoadEntity, Lo
     List<FileUpLoadEntity> findByBbsBulletinNum(Long bulletinNum); // 특정 게시글 번호(bulletinNum)에 해당하는 모든 첨부파일 리스트 조회
     
     void deleteByBbsBulletinNum(Long bulletinNum); // 특정 게시글 번호(bulletinNum)에 해당하는 모든 첨부파일 삭제
+
+    long countByPath(String path); // 같은 물리 파일(내용 주소 저장)을 가리키는 첨부 개수 = 참조 개수
+
+    // 게시판 타입 + 등록일 구간의 첨부 메타를 파일 번호 순으로 일부씩 조회 (ZIP 내보내기용, afterFileNum 이후부터)
+    @Query("""
+        SELECT new com.project.board.dto.FileUpLoadDto(
+            f.filenum, b.bulletinNum, f.originalName, f.savedName, f.path, f.size, f.extension, null
+        )
+        FROM FileUpLoadEntity f JOIN f.bbs b
+        WHERE b.bulletinType = :type
+          AND b.registdate >= :from AND b.registdate < :to
+          AND f.filenum > :afterFileNum
+        ORDER BY f.filenum ASC
+    """)
+    List<FileUpLoadDto> findExportChunk(@Param("type") BoardType type,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("afterFileNum") Long afterFileNum,
+                                        Pageable pageable);
 }
\ No newline at end of file
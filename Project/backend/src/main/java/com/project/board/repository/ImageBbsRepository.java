@@ -2,10 +2,12 @@ package com.project.board.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.project.board.dto.ImageBbsDto;
 import com.project.board.entity.ImageBbsEntity;
 
 public interface ImageBbsRepository extends JpaRepository<ImageBbsEntity, Long> {
@@ -22,12 +24,32 @@ public interface ImageBbsRepository extends JpaRepository<ImageBbsEntity, Long>
     // 특정 게시글 번호(bulletinNum)에 등록된 이미지 개수 조회
     long countByBbsBulletinNum(Long bulletinNum);
 
+    // 같은 썸네일 파일을 가리키는 대표 이미지 개수 (썸네일 참조 개수)
+    long countByThumbnailPath(String thumbnailPath);
+
     // ----------------------------
     // 대표 이미지 조회 (엔티티 수정 없이, Y/N로 대표 여부 판단)
     @Query(value = "SELECT i.image_path FROM imagebbs i WHERE i.bulletin_num = :bulletinNum AND i.is_representative = 'Y' LIMIT 1", nativeQuery = true)
     String findRepresentativeImagePath(@Param("bulletinNum") Long bulletinNum);
     
     ImageBbsEntity findTopByBbsBulletinNumOrderByBulletinNumAsc(Long bulletinNum);
+
+    // 여러 게시글의 대표 이미지를 한 번에 조회 (목록 화면 N+1 방지, 게시글 엔티티는 로딩하지 않음)
+    @Query("""
+        SELECT new com.project.board.dto.ImageBbsDto(i.bulletinNum, i.thumbnailPath, i.imagePath)
+        FROM ImageBbsEntity i
+        WHERE i.bulletinNum IN :bulletinNums
+    """)
+    List<ImageBbsDto> findRepresentativeImagesByBulletinNums(@Param("bulletinNums") List<Long> bulletinNums);
+
+    // 썸네일 누락 점검용 경로 목록 (게시글 번호 순으로 after 다음부터, 게시글 엔티티는 로딩하지 않음)
+    @Query("""
+        SELECT new com.project.board.dto.ImageBbsDto(i.bulletinNum, i.thumbnailPath, i.imagePath)
+        FROM ImageBbsEntity i
+        WHERE i.bulletinNum > :after
+        ORDER BY i.bulletinNum
+    """)
+    List<ImageBbsDto> findPathsAfter(@Param("after") Long after, Pageable pageable);
     
    
 }
@@ -0,0 +1,27 @@
+package com.project.board.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.project.board.BoardType;
+
+/**
+ * 게시글 제목/내용 검색 인덱스
+ * - 구현체를 교체할 수 있도록 인터페이스로 분리 (기본: 메모리 역색인)
+ * - isReady()가 false이면 서비스는 기존 DB LIKE 검색으로 처리
+ */
+public interface BbsSearchIndex {
+
+    boolean isReady(); // 인덱스 사용 가능 여부 (비활성화 또는 초기 구축 중이면 false)
+
+    void index(Long bulletinNum, BoardType type, String title, String content, LocalDateTime registdate); // 게시글 등록/수정 반영
+
+    void remove(Long bulletinNum); // 게시글 삭제 반영
+
+    // DB 의 LIKE '%검색어%' 와 같은 결과의 게시글 번호를 등록일 내림차순으로 반환
+    // likeWildcards: true 면 검색어의 % _ 를 LIKE 와일드카드로 (@Query CONCAT 검색), false 면 글자 그대로 (Spring Data Containing)
+    // title/content 가 null 이거나 비어 있으면 해당 조건은 적용하지 않음, type 이 null 이면 전체 게시판
+    // 인덱스로 후보를 좁힐 수 없으면(조건 없음 / 2글자 이상 조각 없음) Optional.empty() → 호출 쪽에서 DB 검색
+    Optional<List<Long>> search(BoardType type, String title, String content, boolean likeWildcards);
+}
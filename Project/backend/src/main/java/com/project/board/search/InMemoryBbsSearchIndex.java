@@ -0,0 +1,264 @@
+package com.project.board.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.project.board.BoardType;
+import com.project.board.entity.BbsEntity;
+import com.project.board.repository.BbsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 역색인 기반 게시글 검색
+ * - 한글은 형태소 분석 없이도 부분 검색이 되도록 2-gram(연속 두 글자) 단위로 색인
+ * - 메모리에는 포스팅(2-gram → 게시글 번호)과 정렬용 게시판 종류/등록일만 둠 (제목/내용 원문은 보관하지 않음)
+ * - 검색어를 % _ \ 기준으로 나눈 조각들의 2-gram 포스팅을 교집합해 후보를 좁힌 뒤,
+ *   후보 게시글 번호로 DB 에서 같은 LIKE 조건을 확인 → 결과는 DB 의 LIKE '%검색어%' 와 동일
+ *   (후보는 소문자 기준으로 좁히므로 DB 콜레이션이 대소문자를 구분하든 안 하든 실제 결과를 모두 포함)
+ * - 애플리케이션 기동 시 bbs 테이블 전체로 구축, 이후 등록/수정/삭제 시 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryBbsSearchIndex implements BbsSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final int CONFIRM_BATCH_SIZE = 1000;
+
+    private final BbsRepository bbsRepository;
+
+    @Value("${bbs.search.index.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean ready = false;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 게시글 번호 → 색인된 문서
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    // 2-gram → 게시글 번호 목록 (제목/내용 분리)
+    private final Map<Integer, Set<Long>> titlePostings = new HashMap<>();
+    private final Map<Integer, Set<Long>> contentPostings = new HashMap<>();
+
+    // 수정/삭제 시 포스팅에서 빼기 위해 글마다 2-gram 목록을 함께 보관
+    private record Doc(Long bulletinNum, BoardType type, LocalDateTime registdate, int[] titleGrams, int[] contentGrams) {}
+
+    // =========================
+    // 📌 기동 시 전체 색인 구축
+    // =========================
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            log.info("게시글 검색 인덱스 비활성화 (bbs.search.index.enabled=false) → DB 검색 사용");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int pageNum = 0;
+        Page<BbsEntity> page;
+        do {
+            page = bbsRepository.findAll(PageRequest.of(pageNum++, BUILD_BATCH_SIZE, Sort.by("bulletinNum")));
+            for (BbsEntity e : page.getContent()) {
+                index(e.getBulletinNum(), e.getBulletinType(), e.getBbstitle(), e.getBbscontent(), e.getRegistdate());
+            }
+        } while (page.hasNext());
+
+        ready = true;
+        log.info("게시글 검색 인덱스 구축 완료: {}건, {}ms", docs.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // =========================
+    // 📌 색인 추가/갱신
+    // =========================
+    @Override
+    public void index(Long bulletinNum, BoardType type, String title, String content, LocalDateTime registdate) {
+        if (!enabled || bulletinNum == null) return;
+
+        Doc doc = new Doc(bulletinNum, type, registdate, grams(normalize(title)), grams(normalize(content)));
+
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.put(bulletinNum, doc);
+            if (old != null) {
+                unlink(old.titleGrams(), titlePostings, bulletinNum);
+                unlink(old.contentGrams(), contentPostings, bulletinNum);
+            }
+            link(doc.titleGrams(), titlePostings, bulletinNum);
+            link(doc.contentGrams(), contentPostings, bulletinNum);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =========================
+    // 📌 색인 삭제
+    // =========================
+    @Override
+    public void remove(Long bulletinNum) {
+        if (!enabled || bulletinNum == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.remove(bulletinNum);
+            if (old != null) {
+                unlink(old.titleGrams(), titlePostings, bulletinNum);
+                unlink(old.contentGrams(), contentPostings, bulletinNum);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =========================
+    // 📌 검색 (등록일 내림차순, 동일 시각은 게시글 번호 내림차순)
+    // =========================
+    @Override
+    public Optional<List<Long>> search(BoardType type, String title, String content, boolean likeWildcards) {
+        String titleQuery = normalizeQuery(title);
+        String contentQuery = normalizeQuery(content);
+        if (titleQuery == null && contentQuery == null) return Optional.empty();
+
+        List<Doc> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = null;
+            if (titleQuery != null) ids = intersect(ids, candidates(titleQuery, titlePostings));
+            if (contentQuery != null) ids = intersect(ids, candidates(contentQuery, contentPostings));
+            if (ids == null) return Optional.empty();
+
+            for (Long id : ids) {
+                Doc doc = docs.get(id);
+                if (doc == null) continue;
+                if (type != null && doc.type() != type) continue;
+                candidates.add(doc);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.sort(Comparator.comparing(Doc::registdate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Doc::bulletinNum, Comparator.reverseOrder()));
+        List<Long> ordered = candidates.stream().map(Doc::bulletinNum).toList();
+        return Optional.of(confirm(ordered, title, content, likeWildcards));
+    }
+
+    // 후보를 DB 의 LIKE 로 최종 확인 (게시글 번호 IN 조회, 후보 순서 유지)
+    private List<Long> confirm(List<Long> ordered, String title, String content, boolean likeWildcards) {
+        String titlePattern = likePattern(title, likeWildcards);
+        String contentPattern = likePattern(content, likeWildcards);
+        List<Long> result = new ArrayList<>();
+        for (int from = 0; from < ordered.size(); from += CONFIRM_BATCH_SIZE) {
+            List<Long> chunk = ordered.subList(from, Math.min(from + CONFIRM_BATCH_SIZE, ordered.size()));
+            List<Long> hits = chunk;
+            if (titlePattern != null) {
+                hits = bbsRepository.findBulletinNumsByTitleLike(hits, titlePattern);
+            }
+            if (contentPattern != null && !hits.isEmpty()) {
+                hits = bbsRepository.findBulletinNumsByContentLike(hits, contentPattern);
+            }
+            Set<Long> matched = new HashSet<>(hits);
+            for (Long id : chunk) {
+                if (matched.contains(id)) result.add(id);
+            }
+        }
+        return result;
+    }
+
+    // 검색어 조각(와일드카드/이스케이프 문자 사이)의 2-gram 을 모두 포함하는 게시글 후보
+    // 2글자 이상 조각이 없으면 후보 축소 불가 → null
+    private Set<Long> candidates(String query, Map<Integer, Set<Long>> postings) {
+        Set<Integer> gramSet = new HashSet<>();
+        for (String segment : query.split("[%_\\\\]")) {
+            for (int gram : grams(segment)) gramSet.add(gram);
+        }
+        if (gramSet.isEmpty()) return null;
+        int[] queryGrams = gramSet.stream().mapToInt(Integer::intValue).toArray();
+
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.length);
+        for (int gram : queryGrams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) return Collections.emptySet();
+            lists.add(posting);
+        }
+        // 가장 짧은 포스팅부터 교집합
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private Set<Long> intersect(Set<Long> current, Set<Long> next) {
+        if (next == null) return current;
+        if (current == null) return next;
+        Set<Long> result = new HashSet<>(current);
+        result.retainAll(next);
+        return result;
+    }
+
+    private void link(int[] grams, Map<Integer, Set<Long>> postings, Long bulletinNum) {
+        for (int gram : grams) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(bulletinNum);
+        }
+    }
+
+    private void unlink(int[] grams, Map<Integer, Set<Long>> postings, Long bulletinNum) {
+        for (int gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(bulletinNum);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    // 연속 두 글자를 int 하나로 묶은 2-gram 집합 (중복 제거)
+    private static int[] grams(String text) {
+        if (text.length() < 2) return new int[0];
+        Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < text.length() - 1; i++) {
+            set.add((text.charAt(i) << 16) | text.charAt(i + 1));
+        }
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeQuery(String query) {
+        return (query == null || query.isEmpty()) ? null : query.toLowerCase(Locale.ROOT);
+    }
+
+    // LIKE 패턴 (likeWildcards=false 면 Spring Data Containing 처럼 % _ \ 를 이스케이프)
+    private static String likePattern(String query, boolean likeWildcards) {
+        if (query == null || query.isEmpty()) return null;
+        String body = likeWildcards ? query : query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + body + "%";
+    }
+}
@@ -0,0 +1,182 @@
+package com.project.board.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.project.board.BoardType;
+import com.project.board.dto.FileUpLoadDto;
+import com.project.board.entity.BbsEntity;
+import com.project.board.entity.FileUpLoadEntity;
+import com.project.board.exception.BbsException;
+import com.project.board.repository.BbsRepository;
+import com.project.board.repository.FileUpLoadRepository;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글/게시판 첨부파일 ZIP 내보내기 (응답 스트림에 바로 기록)
+ * - 아카이브를 디스크나 메모리에 만들지 않고 파일 단위로 읽어 ZipOutputStream 에 씀
+ * - jpg/png 등 이미 압축된 형식은 STORED(무압축), 문서류는 DEFLATED
+ * - 고정 크기 버퍼 + 블로킹 쓰기 → 클라이언트가 느리면 읽기도 같이 멈춤 (메모리 일정)
+ * - 게시판 단위는 첨부 메타를 파일 번호 기준으로 일부씩 조회하여 전체 목록을 메모리에 두지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BbsAttachmentZipExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHUNK_SIZE = 200;
+    private static final Set<String> STORED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "zip", "pptx", "docx");
+
+    private final BbsRepository bbsRepository;
+    private final FileUpLoadRepository fileUploadRepository;
+    private final BbsUploadPaths uploadPaths;
+
+    // =========================
+    // 📌 게시글 1건의 첨부파일 → ZIP
+    // =========================
+    public void exportPost(Long bulletinNum, HttpServletResponse response) throws IOException {
+        BbsEntity bbs = bbsRepository.findById(bulletinNum)
+                .orElseThrow(() -> new BbsException("게시글이 존재하지 않습니다. ID: " + bulletinNum));
+        Path dir = uploadPaths.uploadDir(bbs.getBulletinType());
+
+        List<FileUpLoadEntity> files = fileUploadRepository.findByBbsBulletinNum(bulletinNum);
+        startZipResponse(response, "bbs_" + bulletinNum + "_files.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream())) {
+            Set<String> names = new HashSet<>();
+            List<String> missing = new ArrayList<>();
+            for (FileUpLoadEntity f : files) {
+                writeEntry(zip, dir.resolve(f.getSavedName()), uniqueName(names, "", f.getOriginalName()),
+                        f.getExtension(), missing);
+            }
+            writeMissingList(zip, missing);
+        }
+    }
+
+    // =========================
+    // 📌 게시판 타입 + 등록일 구간(from ~ to, 양끝 포함)의 첨부파일 → ZIP (게시글 번호별 폴더)
+    // =========================
+    public void exportBoard(BoardType type, LocalDate from, LocalDate to, HttpServletResponse response) throws IOException {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Path dir = uploadPaths.uploadDir(type);
+
+        startZipResponse(response, type.name().toLowerCase(Locale.ROOT) + "_" + from + "_" + to + ".zip");
+        try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream())) {
+            Set<String> names = new HashSet<>();
+            List<String> missing = new ArrayList<>();
+            long after = 0L;
+            while (true) {
+                List<FileUpLoadDto> chunk = fileUploadRepository.findExportChunk(
+                        type, start, end, after, PageRequest.of(0, CHUNK_SIZE));
+                for (FileUpLoadDto f : chunk) {
+                    String folder = f.getBulletinNum() + "/";
+                    writeEntry(zip, dir.resolve(f.getSavedName()), uniqueName(names, folder, f.getOriginalName()),
+                            f.getExtension(), missing);
+                }
+                if (chunk.size() < CHUNK_SIZE) break;
+                after = chunk.get(chunk.size() - 1).getFileNum();
+            }
+            writeMissingList(zip, missing);
+        }
+    }
+
+    // 전체 크기를 미리 알 수 없으므로 Content-Length 없이 전송 (chunked)
+    private void startZipResponse(HttpServletResponse response, String fileName) {
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+    }
+
+    private void writeEntry(ZipOutputStream zip, Path file, String entryName, String extension,
+                            List<String> missing) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            missing.add(entryName);
+            log.warn("ZIP 내보내기: 파일 없음 {}", file);
+            return;
+        }
+
+        ZipEntry entry = new ZipEntry(entryName);
+        entry.setTime(Files.getLastModifiedTime(file).toMillis());
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        String ext = extension == null ? "" : extension.toLowerCase(Locale.ROOT);
+        if (STORED_EXTENSIONS.contains(ext)) {
+            // STORED 는 로컬 헤더에 크기/CRC 가 먼저 필요 → 한 번 읽어 CRC 계산 후 본문 전송
+            long size = Files.size(file);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(size);
+            entry.setCompressedSize(size);
+            entry.setCrc(crc32(file, buffer));
+        } else {
+            entry.setMethod(ZipEntry.DEFLATED);
+        }
+
+        zip.putNextEntry(entry);
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                zip.write(buffer, 0, read);
+            }
+        }
+        zip.closeEntry();
+    }
+
+    private long crc32(Path file, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    // 원본 파일명에서 경로 문자 제거 + 같은 폴더 안 중복 이름은 "이름 (2).확장자" 형태로 변경
+    private String uniqueName(Set<String> used, String folder, String originalName) {
+        String base = (originalName == null || originalName.isBlank()) ? "file" : originalName;
+        base = base.replaceAll("[\\\\/:*?\"<>|]", "_");
+
+        String candidate = folder + base;
+        int dot = base.lastIndexOf('.');
+        String stem = dot > 0 ? base.substring(0, dot) : base;
+        String ext = dot > 0 ? base.substring(dot) : "";
+        for (int i = 2; !used.add(candidate); i++) {
+            candidate = folder + stem + " (" + i + ")" + ext;
+        }
+        return candidate;
+    }
+
+    // 물리 파일이 없어 빠진 항목 목록
+    private void writeMissingList(ZipOutputStream zip, List<String> missing) throws IOException {
+        if (missing.isEmpty()) return;
+        zip.putNextEntry(new ZipEntry("_missing.txt"));
+        zip.write(String.join("\n", missing).getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,262 @@
+package com.project.board.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.board.BoardType;
+import com.project.board.entity.BbsEntity;
+import com.project.board.entity.FileUpLoadEntity;
+import com.project.board.entity.ImageBbsEntity;
+import com.project.board.repository.FileUpLoadRepository;
+import com.project.board.repository.ImageBbsRepository;
+import com.project.common.storage.FileStorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 첨부파일 → 내용 주소(SHA-256) 파일명으로 전환하는 1회성 정리 작업
+ * - 업로드 시각 기반(UUID) 파일명을 "해시.확장자"로 바꿔 같은 내용의 파일을 하나로 합침
+ * - 첨부 메타(saved_name, file_path), 대표 이미지/썸네일 경로, 본문에 삽입된 이미지 경로를 함께 갱신
+ * - 새 파일명은 하드링크(불가 시 복사)로 먼저 만들고, 페이지 단위 커밋 이후에만 옛 파일을 삭제
+ *   → 중간에 실패해도 DB가 가리키는 파일은 항상 존재
+ * - 여러 번 실행해도 안전 (이미 전환된 파일은 건너뜀)
+ * - 내용 주소 파일 중 어떤 행도 가리키지 않는 파일은 주기적으로 정리
+ *   (커밋 직후 참조 해제가 진행 중인 획득 때문에 미뤄졌거나, 저장 후 커밋 전에 서버가 종료된 경우)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BbsFileDedupeJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    // 내용 주소 파일명 (SHA-256 16진수 64자 + 확장자)
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]+");
+
+    // 주기 정리 시 이보다 최근에 바뀐 파일은 건너뜀
+    @Value("${file.blob.sweep-min-age-ms:600000}")
+    private long sweepMinAgeMs;
+
+    private final FileUpLoadRepository fileUploadRepository;
+    private final ImageBbsRepository imageBbsRepository;
+    private final FileStorageService fileStorageService;
+    private final PlatformTransactionManager transactionManager;
+    private final BbsUploadPaths uploadPaths;
+
+    // 커밋 이후 참조 확인 후 삭제할 옛 파일 (썸네일 여부에 따라 참조 확인 대상이 다름)
+    private record Retired(Path file, String webPath, boolean thumbnail) {}
+
+    // =========================
+    // 📌 실행 (sweepOrphans = true 이면 어떤 행도 가리키지 않는 파일까지 정리)
+    // =========================
+    public synchronized Map<String, Object> run(boolean sweepOrphans) {
+        long[] stats = new long[5]; // scanned, renamed, deduplicated, missing, bytesReclaimed
+        long deleted = 0;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        int page = 0;
+        while (true) {
+            final int current = page;
+            List<Retired> retired = new ArrayList<>();
+            Boolean hasNext = tx.execute(status -> migratePage(current, stats, retired));
+
+            // 페이지 커밋 이후: 더 이상 참조되지 않는 옛 파일 삭제
+            for (Retired r : retired) {
+                if (fileStorageService.release(r.file(), () -> countReferences(r))) deleted++;
+            }
+            if (!Boolean.TRUE.equals(hasNext)) break;
+            page++;
+        }
+
+        long orphans = sweepOrphans ? sweepOrphans(false) : 0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scanned", stats[0]);
+        result.put("renamed", stats[1]);
+        result.put("deduplicated", stats[2]);
+        result.put("missing", stats[3]);
+        result.put("bytesReclaimed", stats[4]);
+        result.put("oldFilesDeleted", deleted);
+        result.put("orphansDeleted", orphans);
+        log.info("첨부파일 중복 정리 완료: {}", result);
+        return result;
+    }
+
+    // 행을 지우지 않고 이름만 바꾸므로 번호 순 페이지 조회가 실행 중에도 안정적
+    private boolean migratePage(int page, long[] stats, List<Retired> retired) {
+        Page<FileUpLoadEntity> files = fileUploadRepository.findAll(
+                PageRequest.of(page, PAGE_SIZE, Sort.by("filenum").ascending()));
+
+        for (FileUpLoadEntity file : files) {
+            stats[0]++;
+            try {
+                migrate(file, stats, retired);
+            } catch (IOException e) {
+                log.warn("첨부파일 정리 실패 (file_num={}): {}", file.getFilenum(), e.getMessage());
+            }
+        }
+        return files.hasNext();
+    }
+
+    private void migrate(FileUpLoadEntity file, long[] stats, List<Retired> retired) throws IOException {
+        BbsEntity bbs = file.getBbs();
+        BoardType type = bbs.getBulletinType();
+        Path dir = uploadPaths.uploadDir(type);
+        Path source = dir.resolve(file.getSavedName());
+        if (!Files.isRegularFile(source)) {
+            stats[3]++;
+            return;
+        }
+
+        String ext = (file.getExtension() != null ? file.getExtension() : extensionOf(file.getSavedName()))
+                .toLowerCase(Locale.ROOT);
+        String newName = FileStorageService.contentAddressedName(sha256(source), ext);
+        if (newName.equals(file.getSavedName())) return; // 이미 전환됨
+
+        Path target = dir.resolve(newName);
+        if (Files.exists(target)) {
+            stats[2]++;
+            stats[4] += Files.size(source);
+        } else {
+            linkOrCopy(source, target);
+        }
+
+        String oldWebPath = file.getPath();
+        String newWebPath = uploadPaths.webPath(type, newName);
+        file.setSavedName(newName);
+        file.setPath(newWebPath);
+        stats[1]++;
+
+        // 본문에 삽입된 이미지 경로
+        if (bbs.getBbscontent() != null && oldWebPath != null && bbs.getBbscontent().contains(oldWebPath)) {
+            bbs.setBbscontent(bbs.getBbscontent().replace(oldWebPath, newWebPath));
+        }
+
+        // 대표 이미지 + 썸네일
+        if (type == BoardType.POTO) {
+            ImageBbsEntity image = imageBbsRepository.findById(bbs.getBulletinNum()).orElse(null);
+            if (image != null && oldWebPath != null && oldWebPath.equals(image.getImagePath())) {
+                Path thumbDir = uploadPaths.thumbnailDir();
+                String oldThumbName = Path.of(image.getThumbnailPath()).getFileName().toString();
+                Path oldThumb = thumbDir.resolve(oldThumbName);
+                Path newThumb = thumbDir.resolve(newName);
+                if (Files.notExists(newThumb) && Files.isRegularFile(oldThumb)) {
+                    linkOrCopy(oldThumb, newThumb);
+                }
+                image.setImagePath(newWebPath);
+                image.setThumbnailPath(uploadPaths.thumbnailWebPath(newName));
+                retired.add(new Retired(oldThumb, uploadPaths.thumbnailWebPath(oldThumbName), true));
+            }
+        }
+
+        retired.add(new Retired(source, oldWebPath, false));
+    }
+
+    private long countReferences(Retired r) {
+        return r.thumbnail()
+                ? imageBbsRepository.countByThumbnailPath(r.webPath())
+                : fileUploadRepository.countByPath(r.webPath());
+    }
+
+    // =========================
+    // 📌 참조 없는 내용 주소 파일 주기 정리
+    // =========================
+    @Scheduled(fixedDelayString = "${file.blob.sweep-interval-ms:3600000}",
+               initialDelayString = "${file.blob.sweep-interval-ms:3600000}")
+    public synchronized void sweepUnreferenced() {
+        long deleted = sweepOrphans(true);
+        fileStorageService.purgeIdleStates();
+        if (deleted > 0) {
+            log.info("참조 없는 첨부파일 정리: {}건", deleted);
+        }
+    }
+
+    // =========================
+    // 📌 참조 없는 파일 정리
+    //   contentAddressedOnly = true 이면 해시 파일명이면서 sweep-min-age-ms 보다 오래된 파일만 대상
+    //   진행 중인 참조 획득이 있는 파일은 FileStorageService.release 가 삭제하지 않음
+    // =========================
+    private long sweepOrphans(boolean contentAddressedOnly) {
+        long deleted = 0;
+        for (BoardType type : List.of(BoardType.POTO, BoardType.NORMAL, BoardType.FAQ)) {
+            Path dir = uploadPaths.uploadDir(type);
+            deleted += sweep(dir, contentAddressedOnly,
+                    name -> fileUploadRepository.countByPath(uploadPaths.webPath(type, name)));
+        }
+        deleted += sweep(uploadPaths.thumbnailDir(), contentAddressedOnly,
+                name -> imageBbsRepository.countByThumbnailPath(uploadPaths.thumbnailWebPath(name)));
+        return deleted;
+    }
+
+    private long sweep(Path dir, boolean contentAddressedOnly, ToLongFunction<String> references) {
+        if (!Files.isDirectory(dir)) return 0;
+        long deleted = 0;
+        long threshold = System.currentTimeMillis() - sweepMinAgeMs;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                String name = p.getFileName().toString();
+                if (name.startsWith(".") || !Files.isRegularFile(p)) continue; // 업로드 임시 파일 제외
+                if (contentAddressedOnly && (!CONTENT_ADDRESSED.matcher(name).matches()
+                        || Files.getLastModifiedTime(p).toMillis() > threshold)) continue;
+                if (fileStorageService.release(p, () -> references.applyAsLong(name))) deleted++;
+            }
+        } catch (IOException e) {
+            log.warn("디렉터리 정리 실패: {} - {}", dir, e.getMessage());
+        }
+        return deleted;
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | IOException e) {
+            if (Files.exists(target)) return;
+            Files.copy(source, target);
+        }
+    }
+
+    private String sha256(Path file) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                md.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private String extensionOf(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1);
+    }
+}
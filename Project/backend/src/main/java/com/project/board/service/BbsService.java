@@ -2,6 +2,7 @@ package com.project.board.service;
 
 import com.project.board.BoardType;
 import com.project.board.dto.*;
+import com.project.common.dto.CursorPageResponseDto;
 import java.util.List;
 import java.util.Map;
 
@@ -30,9 +31,13 @@ public interface BbsService {
     
     BbsDto getBbs(Long id); // 게시글 단건 조회
     
+    boolean increaseViewCount(Long id, String viewerKey); // 조회수 증가 (메모리 누적 후 주기적으로 DB 반영, 중복 조회면 false)
+    
     List<BbsDto> getAllByType(BoardType type); // 특정 게시판 타입으로 모든 게시글 리스트 조회
     
     Page<BbsDto> getPagedPosts(BoardType type, String sort, Pageable pageable); // 게시판 타입 + 정렬 조건으로 페이징된 게시글 조회
+
+    CursorPageResponseDto<BbsDto> getPostsByCursor(BoardType type, String sort, String cursor, int size, boolean withTotal); // 커서 기반 목록 조회 (OFFSET/COUNT 없음)
     
     Page<BbsDto> searchPosts(String searchType, String bbstitle, String bbscontent, String memberName, BoardType type, Pageable pageable); // 게시판 타입 + 검색 조건으로 페이징된 게시글 조회
     
@@ -60,6 +65,8 @@ public interface BbsService {
     
     ImageBbsDto getRepresentativeImage(Long bulletinNum);
     
+    Map<Long, ImageBbsDto> getRepresentativeImages(List<Long> bulletinNums); // 여러 게시글의 대표 이미지 일괄 조회 (게시글 번호 → 대표 이미지)
+    
     // FAQ 게시글 리스트 조회
     Map<String, Object> getBbsList(BoardType type, int page, int size, String bbstitle, String memberName, String bbscontent);
 
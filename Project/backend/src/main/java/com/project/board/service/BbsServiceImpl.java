@@ -1,11 +1,6 @@
 package com.project.board.service;
 
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,18 +10,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.imageio.ImageIO;
-
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.project.admin.entity.AdminEntity;
@@ -46,6 +40,12 @@ import com.project.board.repository.BbsRepository;
 import com.project.board.repository.FileUpLoadRepository;
 import com.project.board.repository.ImageBbsRepository;
 import com.project.board.repository.QandARepository;
+import com.project.board.search.BbsSearchIndex;
+import com.project.common.dto.CursorPageResponseDto;
+import com.project.common.exception.FileStorageException;
+import com.project.common.service.CountCache;
+import com.project.common.storage.FileStorageService;
+import com.project.common.util.KeysetCursor;
 import com.project.member.entity.MemberEntity;
 import com.project.member.repository.MemberRepository;
 
@@ -61,51 +61,14 @@ public class BbsServiceImpl implements BbsService {
     private final FileUpLoadRepository fileUploadRepository;
     private final MemberRepository memberRepository;
     private final AdminRepository adminRepository;
-
-    // =========================
-    // 📌 application.properties 값 주입 (물리 저장소 경로)
-    //   - 프론트는 /DATA/... 로 접근하므로 DB에는 /DATA/... 만 저장
-    //   - 실제 저장/삭제는 아래 물리 경로를 사용
-    // =========================
-    @Value("${file.upload-imgbbs}")
-    private String imgBbsUploadDir;   // ../frontend/public/DATA/bbs/imgBbs
-
-    @Value("${file.upload-norbbs}")
-    private String norBbsUploadDir;   // ../frontend/public/DATA/bbs/norBbs
-
-    @Value("${file.upload-quesbbs}")
-    private String quesBbsUploadDir;  // ../frontend/public/DATA/bbs/quesBbs
-    
-    @Value("${file.upload-sumnel}")
-    private String thumbnailUploadDir;   // ../frontend/public/DATA/bbs/thumbnail
-    
-    // =========================
-    // 📌 게시판 타입별 물리 저장소 경로
-    // =========================
-    private String getUploadDir(BoardType boardType) {
-        return switch (boardType) {
-            case POTO -> imgBbsUploadDir;
-            case NORMAL -> norBbsUploadDir;
-            case FAQ -> quesBbsUploadDir;
-            default -> throw new BbsException("지원하지 않는 게시판 타입입니다.");
-        };
-    }
-
-    // =========================
-    // 📌 게시판 타입별 웹 경로(/DATA/...) 생성
-    // =========================
-    private String getWebPath(BoardType boardType, String savedName) {
-        return switch (boardType) {
-            case POTO -> "/DATA/bbs/imgBbs/" + savedName;
-            case NORMAL -> "/DATA/bbs/norBbs/" + savedName;
-            case FAQ -> "/DATA/bbs/quesBbs/" + savedName;
-            default -> throw new BbsException("지원하지 않는 게시판 타입입니다.");
-        };
-    }
-    // ★ 썸네일의 /DATA 경로 생성
-    private String getThumbnailWebPath(String savedName) {
-        return "/DATA/bbs/thumbnail/" + savedName;
-    }
+    private final BbsViewCounter bbsViewCounter;
+    private final BbsSearchIndex bbsSearchIndex;
+    private final BbsThumbnailPipeline bbsThumbnailPipeline;
+    private final FileStorageService fileStorageService;
+    private final CountCache countCache;
+
+    // 물리 저장 경로 / 웹 경로(/DATA/...) 매핑 (DB에는 /DATA/... 만 저장)
+    private final BbsUploadPaths uploadPaths;
     
     // ---------------- 게시글 저장(메타만) ----------------
     //25.12.01 안형주 추가 수정
@@ -145,6 +108,7 @@ public class BbsServiceImpl implements BbsService {
 
         BbsEntity entity = builder.build();
         BbsEntity savedEntity = bbsRepository.save(entity);
+        reindexAfterCommit(savedEntity);
 
         return convertToDto(savedEntity);
     }
@@ -264,6 +228,7 @@ public class BbsServiceImpl implements BbsService {
                 .viewers(0)
                 .build();
         savedEntity = bbsRepository.save(savedEntity);
+        reindexAfterCommit(savedEntity);
 
         if (isRepresentativeList == null || isRepresentativeList.size() != files.size()) {
             throw new BbsException("대표 이미지 정보가 올바르지 않습니다.");
@@ -287,40 +252,37 @@ public class BbsServiceImpl implements BbsService {
                 throw new BbsException("첨부파일은 jpg 또는 jpeg 이미지만 가능합니다. (" + file.getOriginalFilename() + ")");
             }
 
-            String savedName = UUID.randomUUID() + "." + ext;
-
-            // 원본 이미지 저장
-            Path imgDir = resolveAndEnsureDir(getUploadDir(BoardType.POTO));
-            Path imgTarget = imgDir.resolve(savedName);
-            try {
-                file.transferTo(imgTarget.toFile());
-            } catch (IOException e) {
-                throw new BbsException("이미지 저장 실패: " + file.getOriginalFilename(), e);
-            }
+            // 원본 이미지 저장 (내용 해시 파일명 — 같은 이미지는 파일 하나를 공유)
+            Path imgDir = resolveAndEnsureDir(uploadPaths.uploadDir(BoardType.POTO));
+            FileStorageService.StoredFile stored = storeUpload(file, imgDir, ext, allowedMimeTypes, maxSize);
+            String savedName = stored.savedName();
+            Path imgTarget = stored.path();
 
             // 파일 메타(첨부) 저장 — DB엔 /DATA/... 만
             FileUpLoadEntity fileEntity = FileUpLoadEntity.builder()
                     .bbs(savedEntity)
                     .originalName(file.getOriginalFilename())
                     .savedName(savedName)
-                    .path(getWebPath(BoardType.POTO, savedName)) // ✅ /DATA/bbs/imgBbs/...
-                    .size(file.getSize())
+                    .path(uploadPaths.webPath(BoardType.POTO, savedName)) // ✅ /DATA/bbs/imgBbs/...
+                    .size(stored.size())
                     .extension(ext)
                     .build();
             fileUploadRepository.save(fileEntity);
 
             // ✅ 대표 이미지일 경우: 썸네일 생성 + ImageBbsEntity 저장
             if ("Y".equalsIgnoreCase(isRepresentativeList.get(i)) && representativeImage == null) {
-                Path thumbDir = resolveAndEnsureDir(thumbnailUploadDir);
+                Path thumbDir = resolveAndEnsureDir(uploadPaths.thumbnailDir());
                 Path thumbTarget = thumbDir.resolve(savedName);
 
-                // 300x300 리사이즈 썸네일 생성
-                createJpegThumbnail(imgTarget, thumbTarget, 300, 300);
+                // 300x300 리사이즈 썸네일 생성 (커밋 이후 비동기 처리, 같은 이미지의 썸네일이 있으면 참조 획득 후 재사용)
+                if (!fileStorageService.acquire(thumbTarget)) {
+                    bbsThumbnailPipeline.enqueueAfterCommit(imgTarget, thumbTarget, 300, 300);
+                }
 
                 ImageBbsEntity repImg = ImageBbsEntity.builder()
                         .bbs(savedEntity)
-                        .thumbnailPath(getThumbnailWebPath(savedName)) // ✅ /DATA/bbs/thumbnail/...
-                        .imagePath(getWebPath(BoardType.POTO, savedName)) // ✅ /DATA/bbs/imgBbs/...
+                        .thumbnailPath(uploadPaths.thumbnailWebPath(savedName)) // ✅ /DATA/bbs/thumbnail/...
+                        .imagePath(uploadPaths.webPath(BoardType.POTO, savedName)) // ✅ /DATA/bbs/imgBbs/...
                         .build();
                 representativeImage = imageBbsRepository.save(repImg);
             }
@@ -353,6 +315,7 @@ public class BbsServiceImpl implements BbsService {
                     .orElseThrow(() -> new BbsException("게시글이 존재하지 않습니다."));
             bbsEntity.setBbscontent(updatedContent);
             bbsRepository.save(bbsEntity);
+            reindexAfterCommit(bbsEntity);
 
             savedBbs.setBbsContent(updatedContent);
         }
@@ -431,7 +394,9 @@ public class BbsServiceImpl implements BbsService {
                 }
             }
 
-            return convertToDto(bbsRepository.save(bbs));
+            BbsEntity saved = bbsRepository.save(bbs);
+            reindexAfterCommit(saved);
+            return convertToDto(saved);
 
         } catch (Exception e) {
             throw new RuntimeException("게시글 수정 실패", e);
@@ -452,6 +417,7 @@ public class BbsServiceImpl implements BbsService {
         if (bbs.getBulletinType() == BoardType.FAQ) qandARepository.deleteByBbsBulletinNum(id);
         deleteFilesAndImages(bbs);
         bbsRepository.deleteById(id);
+        unindexAfterCommit(id);
     }
 
     // ---------------- 다중 삭제 ----------------
@@ -465,46 +431,27 @@ public class BbsServiceImpl implements BbsService {
             if (bbs.getBulletinType() == BoardType.FAQ) qandARepository.deleteByBbsBulletinNum(id);
             deleteFilesAndImages(bbs);
             bbsRepository.deleteById(id);
+            unindexAfterCommit(id);
         }
     }
 
     // ---------------- 첨부파일 + POTO 이미지 삭제 공통 ----------------
     private void deleteFilesAndImages(BbsEntity bbs) {
-        // 첨부파일(일반/FAQ/POTO 공통) — savedName 기준으로 물리 파일 삭제
+        // 첨부파일(일반/FAQ/POTO 공통) — 메타 삭제 후 다른 게시글이 공유하지 않는 물리 파일만 삭제
         List<FileUpLoadEntity> files = fileUploadRepository.findByBbsBulletinNum(bbs.getBulletinNum());
+        fileUploadRepository.deleteByBbsBulletinNum(bbs.getBulletinNum());
         for (FileUpLoadEntity file : files) {
-            try {
-                String uploadDir = getUploadDir(bbs.getBulletinType());
-                Files.deleteIfExists(Paths.get(uploadDir, file.getSavedName()));
-            } catch (IOException ignored) {}
+            releaseFileAfterCommit(bbs.getBulletinType(), file.getSavedName());
         }
-        fileUploadRepository.deleteByBbsBulletinNum(bbs.getBulletinNum());
 
-        // POTO 대표 이미지 엔티티 정리(물리 파일은 위에서 이미 제거됨)
+        // POTO 대표 이미지 엔티티 정리(원본은 위 첨부 참조 해제로 처리됨)
         if (bbs.getBulletinType() == BoardType.POTO) {
             List<ImageBbsEntity> images = imageBbsRepository.findByBbsBulletinNum(bbs.getBulletinNum());
+            imageBbsRepository.deleteByBbsBulletinNum(bbs.getBulletinNum());
             for (ImageBbsEntity image : images) {
-                try {
-                    // 썸네일/원본 경로에서 파일명만 추출 후 물리 삭제 시도(중복 호출되어도 안전)
-                    if (image.getImagePath() != null) {
-                        String imgName = Paths.get(image.getImagePath()).getFileName().toString();
-                        String uploadDir = getUploadDir(BoardType.POTO);
-                        Files.deleteIfExists(Paths.get(uploadDir, imgName));
-                    }
-                    // ★ 썸네일 삭제
-                    if (image.getThumbnailPath() != null) {
-                        String thumbName = Paths.get(image.getThumbnailPath()).getFileName().toString();
-                        Path thumbDir = resolveAndEnsureDir(thumbnailUploadDir);
-                        Files.deleteIfExists(thumbDir.resolve(thumbName));
-                    }
-                    if (image.getImagePath() != null) {
-                        String uploadDir = getUploadDir(BoardType.POTO);
-                        String imgFileName = Paths.get(image.getImagePath()).getFileName().toString();
-                        Files.deleteIfExists(Paths.get(uploadDir, imgFileName));
-                    }
-                } catch (IOException ignored) {}
+                // ★ 썸네일 참조 해제
+                releaseThumbnailAfterCommit(getFileNameFromPath(image.getThumbnailPath()));
             }
-            imageBbsRepository.deleteByBbsBulletinNum(bbs.getBulletinNum());
         }
     }
 
@@ -513,7 +460,22 @@ public class BbsServiceImpl implements BbsService {
     public BbsDto getBbs(Long id) {
         BbsEntity entity = bbsRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글 없음: " + id));
-        return convertToDto(entity);
+        BbsDto dto = convertToDto(entity);
+
+        // 아직 DB에 반영되지 않은 조회수까지 포함해서 보여줌
+        long pendingViews = bbsViewCounter.getPendingCount(id);
+        if (pendingViews > 0) {
+            int viewers = dto.getViewers() != null ? dto.getViewers() : 0;
+            dto.setViewers((int) (viewers + pendingViews));
+        }
+        return dto;
+    }
+
+    // ---------------- 조회수 증가 ----------------
+    // bbs 행을 즉시 UPDATE 하지 않고 메모리에 누적 → BbsViewCounter가 주기적으로 일괄 반영
+    @Override
+    public boolean increaseViewCount(Long id, String viewerKey) {
+        return bbsViewCounter.increase(id, viewerKey);
     }
 
     @Override
@@ -533,6 +495,40 @@ public class BbsServiceImpl implements BbsService {
         return page.map(this::convertToDto);
     }
 
+    // ---------------- 커서(keyset) 기반 목록 조회 ----------------
+    // 최신순 (registdate, bulletinNum) / 조회수순 (viewers, bulletinNum) — 전체 개수는 요청 시에만 캐시에서
+    @Override
+    public CursorPageResponseDto<BbsDto> getPostsByCursor(BoardType type, String sort, String cursor, int size, boolean withTotal) {
+        int limit = KeysetCursor.clampSize(size);
+        boolean byViews = "views".equals(sort);
+        String sortKey = byViews ? "views" : "registdate";
+        KeysetCursor.Position pos = KeysetCursor.decode(cursor, sortKey);
+        long afterNum = (pos == null) ? Long.MAX_VALUE : pos.id();
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<BbsEntity> rows;
+        if (byViews) {
+            int viewers = (pos == null) ? Integer.MAX_VALUE : pos.asInt();
+            rows = (type != null)
+                    ? bbsRepository.findPageAfterViewers(type, viewers, afterNum, fetch)
+                    : bbsRepository.findAllPageAfterViewers(viewers, afterNum, fetch);
+        } else {
+            LocalDateTime registdate = (pos == null) ? LocalDateTime.of(9999, 12, 31, 23, 59, 59) : pos.asLocalDateTime();
+            rows = (type != null)
+                    ? bbsRepository.findPageAfterRegistdate(type, registdate, afterNum, fetch)
+                    : bbsRepository.findAllPageAfterRegistdate(registdate, afterNum, fetch);
+        }
+
+        Long total = withTotal
+                ? countCache.get("bbs:" + type, () -> type != null ? bbsRepository.countByBulletinType(type) : bbsRepository.count())
+                : null;
+
+        return CursorPageResponseDto.of(rows, limit,
+                e -> KeysetCursor.encode(sortKey, byViews ? e.getViewers() : e.getRegistdate(), e.getBulletinNum()),
+                total).map(this::convertToDto);
+    }
+
     @Override
     public Page<BbsDto> searchPosts(String searchType, String bbstitle, String bbscontent,
                                     String memberName, BoardType type, Pageable pageable) {
@@ -554,6 +550,23 @@ public class BbsServiceImpl implements BbsService {
         Page<BbsEntity> result;
         String typeLower = (searchType == null || searchType.isEmpty()) ? "all" : searchType.toLowerCase();
 
+        // ✅ 2) 제목/내용 검색은 검색 인덱스 우선 사용 (인덱스 정렬과 같은 최신순 요청일 때만)
+        //       인덱스를 쓸 수 없으면 아래 DB LIKE 검색으로 처리
+        String indexTitle = "title".equals(typeLower) ? bbstitle : null;
+        String indexContent = "content".equals(typeLower) ? bbscontent : null;
+        //       (Containing 은 % _ 를 글자 그대로 찾으므로 인덱스도 글자 그대로)
+        Optional<List<Long>> indexed = ((indexTitle != null || indexContent != null)
+                && isRegistDateDesc(sortedPageable.getSort()) && bbsSearchIndex.isReady())
+                ? bbsSearchIndex.search(type, indexTitle, indexContent, false)
+                : Optional.empty();
+        if (indexed.isPresent()) {
+            List<Long> matchedIds = indexed.get();
+            List<BbsDto> content = loadPageByIds(matchedIds, sortedPageable).stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, sortedPageable, matchedIds.size());
+        }
+
         if (type != null) {
             result = switch (typeLower) {
                 case "title"   -> bbsRepository.findByBulletinTypeAndBbstitleContaining(type, bbstitle, sortedPageable);
@@ -572,6 +585,54 @@ public class BbsServiceImpl implements BbsService {
 
         return result.map(this::convertToDto);
     }
+
+    private boolean isRegistDateDesc(Sort sort) {
+        Sort.Order order = sort.getOrderFor("registdate");
+        return order != null && order.isDescending() && sort.stream().count() == 1;
+    }
+
+    // 검색 인덱스 결과(최신순 게시글 번호)에서 해당 페이지만 잘라 작성자와 함께 조회, 인덱스 순서 유지
+    private List<BbsEntity> loadPageByIds(List<Long> orderedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedIds.size());
+        List<Long> pageIds = orderedIds.subList(from, to);
+        if (pageIds.isEmpty()) return new ArrayList<>();
+
+        Map<Long, BbsEntity> byId = bbsRepository.findWithWriterByBulletinNumIn(pageIds).stream()
+                .collect(Collectors.toMap(BbsEntity::getBulletinNum, e -> e));
+        return pageIds.stream()
+                .map(byId::get)
+                .filter(e -> e != null) // 색인 반영 직전에 삭제된 글은 제외
+                .collect(Collectors.toList());
+    }
+
+    // ---------------- 검색 인덱스 갱신 (커밋 이후 반영 → 롤백된 글은 색인되지 않음) ----------------
+    private void reindexAfterCommit(BbsEntity e) {
+        Long bulletinNum = e.getBulletinNum();
+        BoardType type = e.getBulletinType();
+        String title = e.getBbstitle();
+        String content = e.getBbscontent();
+        LocalDateTime registdate = e.getRegistdate();
+        runAfterCommit(() -> bbsSearchIndex.index(bulletinNum, type, title, content, registdate));
+    }
+
+    private void unindexAfterCommit(Long bulletinNum) {
+        runAfterCommit(() -> bbsSearchIndex.remove(bulletinNum));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
     private BbsDto convertToDto(BbsEntity e) {
         String filteredName;
         if (e.getMemberNum() != null) {
@@ -725,6 +786,7 @@ public class BbsServiceImpl implements BbsService {
         bbs.setBbscontent(dto.getBbsContent());
         bbs.setRegistdate(LocalDateTime.now());
         bbsRepository.save(bbs);
+        reindexAfterCommit(bbs);
         
         // 3) 삭제 처리
         if (deletedFileIds != null && !deletedFileIds.isEmpty()) {
@@ -736,18 +798,11 @@ public class BbsServiceImpl implements BbsService {
                             .filter(img -> img.getImagePath() != null && img.getImagePath().endsWith(fileEntity.getSavedName()))
                             .forEach(imageBbsRepository::delete);
 
-                    try {
-                        String uploadDir = getUploadDir(BoardType.POTO);
-                        Files.deleteIfExists(Paths.get(uploadDir, fileEntity.getSavedName()));
-                        
-                    	// ★ 썸네일도 삭제 (있을 수도 있고 없을 수도 있음)
-                        Path thumbDir = resolveAndEnsureDir(thumbnailUploadDir);
-                        Files.deleteIfExists(thumbDir.resolve(fileEntity.getSavedName()));
-                        
-                    } catch (IOException e) {
-                        throw new BbsException("파일 삭제 실패: " + fileEntity.getOriginalName());
-                    }
                     fileUploadRepository.delete(fileEntity);
+
+                    // 물리 파일 + ★ 썸네일 참조 해제 (다른 게시글이 같은 이미지를 쓰면 유지)
+                    releaseFileAfterCommit(BoardType.POTO, fileEntity.getSavedName());
+                    releaseThumbnailAfterCommit(fileEntity.getSavedName());
                 });
             }
         }
@@ -760,13 +815,8 @@ public class BbsServiceImpl implements BbsService {
         if (overwriteFileIds != null) {
             for (Long overwriteId : overwriteFileIds) {
                 fileUploadRepository.findById(overwriteId).ifPresent(oldFile -> {
-                    try {
-                        String uploadDir = getUploadDir(BoardType.POTO);
-                        Files.deleteIfExists(Paths.get(uploadDir, oldFile.getSavedName()));
-                    } catch (IOException e) {
-                        throw new BbsException("파일 삭제 실패: " + oldFile.getOriginalName());
-                    }
                     fileUploadRepository.delete(oldFile);
+                    releaseFileAfterCommit(BoardType.POTO, oldFile.getSavedName());
                     combinedFiles.remove(oldFile);
                 });
             }
@@ -784,26 +834,20 @@ public class BbsServiceImpl implements BbsService {
                     throw new BbsException("첨부파일은 jpg/jpeg만 가능: " + file.getOriginalFilename());
                 }
 
-                String savedName = UUID.randomUUID() + "." + ext;
-
                 // ✅ 업로드 경로 보정 (물리 저장소 확보)
-                Path imgDir = resolveAndEnsureDir(getUploadDir(BoardType.POTO));
-                Path imgTarget = imgDir.resolve(savedName);
+                Path imgDir = resolveAndEnsureDir(uploadPaths.uploadDir(BoardType.POTO));
 
-                try {
-                    // 파일 저장
-                    file.transferTo(imgTarget.toFile());
-                } catch (IOException e) {
-                    throw new BbsException("파일 저장 실패: " + file.getOriginalFilename(), e);
-                }
+                // 파일 저장 (스트리밍 + 실제 형식/용량 검증, 내용 해시 파일명)
+                FileStorageService.StoredFile stored = storeUpload(file, imgDir, ext, List.of("image/jpeg"), 5 * 1024 * 1024);
+                String savedName = stored.savedName();
 
                 // DB 메타 저장 (웹 접근 경로는 /DATA/...)
                 FileUpLoadEntity newFileEntity = FileUpLoadEntity.builder()
                         .bbs(bbs)
                         .originalName(file.getOriginalFilename())
                         .savedName(savedName)
-                        .path(getWebPath(BoardType.POTO, savedName)) // ✅ /DATA/... 저장
-                        .size(file.getSize())
+                        .path(uploadPaths.webPath(BoardType.POTO, savedName)) // ✅ /DATA/... 저장
+                        .size(stored.size())
                         .extension(ext)
                         .build();
 
@@ -842,27 +886,32 @@ public class BbsServiceImpl implements BbsService {
                         .orElseThrow(() -> new BbsException("대표 이미지 파일이 존재하지 않습니다."))
                 );
 
-        // 기존 대표 이미지 삭제 후 교체
+        // 기존 대표 이미지 삭제 후 교체 (이전 썸네일은 참조가 없어지면 정리)
         imageBbsRepository.findByBbsBulletinNum(bbs.getBulletinNum())
-                .forEach(imageBbsRepository::delete);
+                .forEach(img -> {
+                    imageBbsRepository.delete(img);
+                    if (!img.getThumbnailPath().equals(uploadPaths.thumbnailWebPath(repFile.getSavedName()))) {
+                        releaseThumbnailAfterCommit(getFileNameFromPath(img.getThumbnailPath()));
+                    }
+                });
 
         // 1) 썸네일 300x300 보장 생성
-        Path imgDir = resolveAndEnsureDir(getUploadDir(BoardType.POTO));
+        Path imgDir = resolveAndEnsureDir(uploadPaths.uploadDir(BoardType.POTO));
         Path imgSrc = imgDir.resolve(repFile.getSavedName());
 
-        Path thumbDir = resolveAndEnsureDir(thumbnailUploadDir);
+        Path thumbDir = resolveAndEnsureDir(uploadPaths.thumbnailDir());
         Path thumbTarget = thumbDir.resolve(repFile.getSavedName());
 
-        // 썸네일이 없으면 생성 (있어도 재생성 원하면 Files.exists 체크없이 생성)
-        if (Files.notExists(thumbTarget)) {
-            createJpegThumbnail(imgSrc, thumbTarget, 300, 300);
+        // 썸네일이 없으면 생성, 있으면 참조 획득 후 재사용 (커밋 전 다른 글의 참조 해제로 지워지지 않음) — 커밋 이후 비동기 처리
+        if (!fileStorageService.acquire(thumbTarget)) {
+            bbsThumbnailPipeline.enqueueAfterCommit(imgSrc, thumbTarget, 300, 300);
         }
 
         // 2) 올바른 경로로 저장 (thumbnailPath → /DATA/bbs/thumbnail/..., imagePath → /DATA/bbs/imgBbs/...)
         ImageBbsEntity repImg = ImageBbsEntity.builder()
                 .bbs(bbs)
-                .thumbnailPath(getThumbnailWebPath(repFile.getSavedName()))   // ✅ /DATA/bbs/thumbnail/...
-                .imagePath(getWebPath(BoardType.POTO, repFile.getSavedName()))// ✅ /DATA/bbs/imgBbs/...
+                .thumbnailPath(uploadPaths.thumbnailWebPath(repFile.getSavedName()))   // ✅ /DATA/bbs/thumbnail/...
+                .imagePath(uploadPaths.webPath(BoardType.POTO, repFile.getSavedName()))// ✅ /DATA/bbs/imgBbs/...
                 .build();
 
         imageBbsRepository.save(repImg);
@@ -886,6 +935,16 @@ public class BbsServiceImpl implements BbsService {
                 .build();
     }
 
+    // ---------------- 대표 이미지 일괄 조회 (목록용) ----------------
+    @Override
+    public Map<Long, ImageBbsDto> getRepresentativeImages(List<Long> bulletinNums) {
+        if (bulletinNums == null || bulletinNums.isEmpty()) return new HashMap<>();
+
+        // 단일 IN 쿼리로 조회 → 페이지 크기와 무관하게 쿼리 1회
+        return imageBbsRepository.findRepresentativeImagesByBulletinNums(bulletinNums).stream()
+                .collect(Collectors.toMap(ImageBbsDto::getBulletinNum, img -> img, (a, b) -> a));
+    }
+
     private String getFileNameFromPath(String path) {
         if (path == null) return null;
         return Paths.get(path).getFileName().toString();
@@ -903,14 +962,7 @@ public class BbsServiceImpl implements BbsService {
              .orElseThrow(() -> new BbsException("해당 게시글이 존재하지 않습니다"));
 
      // ✅ 절대경로로 보정 + 디렉터리 생성
-     String uploadDir = getUploadDir(boardType); // application.yml 값
-     File uploadPath = new File(uploadDir);
-     if (!uploadPath.exists()) {
-         boolean created = uploadPath.mkdirs();
-         if (!created) {
-             throw new BbsException("업로드 경로 생성 실패: " + uploadDir);
-         }
-     }
+     Path uploadPath = resolveAndEnsureDir(uploadPaths.uploadDir(boardType));
 
      // ✅ 게시판 타입별 허용 확장자/MIME/사이즈
      List<String> allowedExt;
@@ -952,22 +1004,18 @@ public class BbsServiceImpl implements BbsService {
              throw new BbsException("허용되지 않은 파일 형식/크기입니다: " + file.getOriginalFilename());
          }
 
-         // 저장 파일명
-         String savedName = UUID.randomUUID() + "." + ext;
-         try {
-             Path target = Paths.get(uploadPath.getAbsolutePath(), savedName);
-             file.transferTo(target.toFile());
-         } catch (IOException e) {
-             throw new BbsException("파일 저장 실패: " + file.getOriginalFilename(), e);
-         }
+         // 저장 파일명 = 내용 해시 (같은 파일은 물리 파일 하나를 공유)
+         FileStorageService.StoredFile stored =
+                 storeUpload(file, uploadPath, ext, allowedMime, maxSize);
+         String savedName = stored.savedName();
 
          // DB 메타 — /DATA/...
          FileUpLoadEntity entity = FileUpLoadEntity.builder()
                  .bbs(bbs)
                  .originalName(file.getOriginalFilename())
                  .savedName(savedName)
-                 .path(getWebPath(boardType, savedName)) // "/DATA/bbs/..." 경로
-                 .size(size)
+                 .path(uploadPaths.webPath(boardType, savedName)) // "/DATA/bbs/..." 경로
+                 .size(stored.size())
                  .extension(ext)
                  .build();
          entities.add(entity);
@@ -1014,65 +1062,61 @@ public class BbsServiceImpl implements BbsService {
                 .orElseThrow(() -> new BbsException("파일 없음"));
 
         if (newFile != null && !newFile.isEmpty()) {
-            try {
-                // ✅ 게시판 타입별 검증 재적용
-                BoardType type = file.getBbs().getBulletinType();
-                List<String> allowedExt;
-                List<String> allowedMime;
-                long maxSize = 5 * 1024 * 1024;
-
-                switch (type) {
-                    case POTO -> {
-                        allowedExt  = List.of("jpg", "jpeg");
-                        allowedMime = List.of("image/jpeg");
-                    }
-                    case NORMAL, FAQ -> {
-                        allowedExt  = List.of("jpg", "jpeg", "png", "pdf", "ppt", "pptx", "doc", "docx");
-                        allowedMime = List.of(
-                                "image/jpeg", "image/png",
-                                "application/pdf",
-                                "application/vnd.ms-powerpoint",
-                                "application/vnd.openxmlformats-officedocument.presentationml.presentation",
-                                "application/msword",
-                                "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
-                        );
-                    }
-                    default -> throw new BbsException("지원하지 않는 게시판 타입입니다.");
+            // ✅ 게시판 타입별 검증 재적용
+            BoardType type = file.getBbs().getBulletinType();
+            List<String> allowedExt;
+            List<String> allowedMime;
+            long maxSize = 5 * 1024 * 1024;
+
+            switch (type) {
+                case POTO -> {
+                    allowedExt  = List.of("jpg", "jpeg");
+                    allowedMime = List.of("image/jpeg");
                 }
-
-                String ext  = getExtension(newFile.getOriginalFilename());
-                String mime = newFile.getContentType();
-                long size   = newFile.getSize();
-                if (ext == null || !allowedExt.contains(ext.toLowerCase())
-                        || mime == null || !allowedMime.contains(mime.toLowerCase())
-                        || size > maxSize) {
-                    throw new BbsException("허용되지 않은 파일 형식/크기입니다: " + newFile.getOriginalFilename());
+                case NORMAL, FAQ -> {
+                    allowedExt  = List.of("jpg", "jpeg", "png", "pdf", "ppt", "pptx", "doc", "docx");
+                    allowedMime = List.of(
+                            "image/jpeg", "image/png",
+                            "application/pdf",
+                            "application/vnd.ms-powerpoint",
+                            "application/vnd.openxmlformats-officedocument.presentationml.presentation",
+                            "application/msword",
+                            "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
+                    );
                 }
+                default -> throw new BbsException("지원하지 않는 게시판 타입입니다.");
+            }
 
-                // 기존 물리 파일 삭제
-                try {
-                    String oldSavedName = file.getSavedName();
-                    if (oldSavedName != null && !oldSavedName.isBlank()) {
-                        String oldUploadDir = getUploadDir(type);
-                        Files.deleteIfExists(Paths.get(oldUploadDir, oldSavedName));
-                    }
-                } catch (IOException ignore) {}
-
-                // 새 파일 저장
-                String savedName = UUID.randomUUID() + "." + ext;
-                String uploadDir = getUploadDir(type);
-                Path path = Paths.get(uploadDir, savedName);
-                newFile.transferTo(path.toFile());
-
-                // ✅ DB 메타 갱신 — /DATA/...
-                file.setOriginalName(newFile.getOriginalFilename());
-                file.setSavedName(savedName);
-                file.setPath(getWebPath(type, savedName)); // ★ 기존 "/uploads/..." → "/DATA/..."로 수정
-                file.setSize(size);
-                file.setExtension(ext);
-
-            } catch (IOException e) {
-                throw new BbsException("파일 저장 실패", e);
+            String ext  = getExtension(newFile.getOriginalFilename());
+            String mime = newFile.getContentType();
+            long size   = newFile.getSize();
+            if (ext == null || !allowedExt.contains(ext.toLowerCase())
+                    || mime == null || !allowedMime.contains(mime.toLowerCase())
+                    || size > maxSize) {
+                throw new BbsException("허용되지 않은 파일 형식/크기입니다: " + newFile.getOriginalFilename());
+            }
+
+            // 새 파일을 먼저 검증/저장 (내용 해시 파일명) → 기존 파일은 커밋 이후에만 정리
+            //   저장이 실패하면 기존 파일과 메타는 그대로, 트랜잭션이 롤백되면 새 파일만 정리
+            String oldSavedName = file.getSavedName();
+            Path uploadPath = resolveAndEnsureDir(uploadPaths.uploadDir(type));
+            FileStorageService.StoredFile stored = storeUpload(newFile, uploadPath, ext, allowedMime, maxSize);
+            String savedName = stored.savedName();
+            if (!savedName.equals(oldSavedName)) {
+                releaseFileAfterRollback(type, savedName);
+            }
+
+            // ✅ DB 메타 갱신 — /DATA/...
+            file.setOriginalName(newFile.getOriginalFilename());
+            file.setSavedName(savedName);
+            file.setPath(uploadPaths.webPath(type, savedName)); // ★ 기존 "/uploads/..." → "/DATA/..."로 수정
+            file.setSize(stored.size());
+            file.setExtension(ext);
+            fileUploadRepository.save(file);
+
+            // 기존 물리 파일 참조 해제 (다른 첨부가 공유 중이면 유지)
+            if (!savedName.equals(oldSavedName)) {
+                releaseFileAfterCommit(type, oldSavedName);
             }
         }
 
@@ -1091,22 +1135,42 @@ public class BbsServiceImpl implements BbsService {
         FileUpLoadEntity file = fileUploadRepository.findById(fileId)
                 .orElseThrow(() -> new BbsException("삭제할 파일이 존재하지 않습니다: " + fileId));
 
-        // 물리 파일 삭제
-        try {
-            String uploadDir = getUploadDir(file.getBbs().getBulletinType());
-            Files.deleteIfExists(Paths.get(uploadDir, file.getSavedName()));
-        } catch (IOException ignore) {}
-
-        // 메타 삭제
+        // 메타 삭제 후 물리 파일 참조 해제 (마지막 참조일 때만 삭제)
+        BoardType type = file.getBbs().getBulletinType();
         fileUploadRepository.delete(file);
+        releaseFileAfterCommit(type, file.getSavedName());
     }
 
     @Override
     public Map<String, Object> getBbsList(BoardType type, int page, int size, String bbstitle, String memberName, String bbscontent) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("registdate").descending());
-        Page<BbsDto> pageResult = bbsRepository.findBbsByTypeAndSearch(type, bbstitle, memberName, bbscontent, pageable);
-        List<BbsDto> list = pageResult.getContent();
-        long total = pageResult.getTotalElements();
+        List<BbsDto> list;
+        long total;
+
+        // 제목/내용 검색은 검색 인덱스 사용 (작성자명 검색이 섞이면 DB 검색으로 처리)
+        // DB 검색은 게시판 종류가 필수이고(null 이면 결과 없음) % _ 를 LIKE 와일드카드로 처리 → 인덱스도 같은 조건으로
+        boolean hasTextQuery = (bbstitle != null && !bbstitle.isEmpty()) || (bbscontent != null && !bbscontent.isEmpty());
+        Optional<List<Long>> indexed = (hasTextQuery && memberName == null && type != null && bbsSearchIndex.isReady())
+                ? bbsSearchIndex.search(type, bbstitle, bbscontent, true)
+                : Optional.empty();
+        if (indexed.isPresent()) {
+            List<Long> matchedIds = indexed.get();
+            list = loadPageByIds(matchedIds, pageable).stream()
+                    .map(e -> new BbsDto(
+                            e.getBulletinNum(),
+                            e.getBbstitle(),
+                            e.getBbscontent(),
+                            e.getBulletinType(),
+                            e.getMemberNum() != null ? e.getMemberNum().getMemberName()
+                                    : (e.getAdminId() != null ? e.getAdminId().getAdminName() : null),
+                            e.getRegistdate()))
+                    .collect(Collectors.toList());
+            total = matchedIds.size();
+        } else {
+            Page<BbsDto> pageResult = bbsRepository.findBbsByTypeAndSearch(type, bbstitle, memberName, bbscontent, pageable);
+            list = pageResult.getContent();
+            total = pageResult.getTotalElements();
+        }
 
         Map<String, Object> result = new HashMap<>();
         result.put("list", list);
@@ -1129,14 +1193,53 @@ public class BbsServiceImpl implements BbsService {
                 .toList();
     }
     
+    // ===== 업로드 파일 저장 (스트리밍, 저장 중 용량/실제 형식 검증, 저장 파일명 = SHA-256.확장자) =====
+    private FileStorageService.StoredFile storeUpload(MultipartFile file, Path dir, String ext,
+                                                      List<String> allowedMime, long maxSize) {
+        try {
+            return fileStorageService.storeContentAddressed(file, dir, ext, maxSize, allowedMime);
+        } catch (FileStorageException e) {
+            throw new BbsException(e.getMessage(), e);
+        }
+    }
+
+    // ===== 물리 파일 참조 해제 (커밋 이후 같은 경로를 가리키는 첨부가 없을 때만 삭제) =====
+    private void releaseFileAfterCommit(BoardType type, String savedName) {
+        if (savedName == null || savedName.isBlank()) return;
+        String webPath = uploadPaths.webPath(type, savedName);
+        Path target = uploadPaths.uploadDir(type).resolve(savedName);
+        runAfterCommit(() -> fileStorageService.release(target, () -> fileUploadRepository.countByPath(webPath)));
+    }
+
+    // ===== 롤백 시 이번 트랜잭션에서 저장한 물리 파일 참조 해제 (다른 첨부가 공유 중이면 유지) =====
+    private void releaseFileAfterRollback(BoardType type, String savedName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        String webPath = uploadPaths.webPath(type, savedName);
+        Path target = uploadPaths.uploadDir(type).resolve(savedName);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    fileStorageService.release(target, () -> fileUploadRepository.countByPath(webPath));
+                }
+            }
+        });
+    }
+
+    private void releaseThumbnailAfterCommit(String savedName) {
+        if (savedName == null || savedName.isBlank()) return;
+        String webPath = uploadPaths.thumbnailWebPath(savedName);
+        Path target = uploadPaths.thumbnailDir().resolve(savedName);
+        runAfterCommit(() -> fileStorageService.release(target, () -> imageBbsRepository.countByThumbnailPath(webPath)));
+    }
+
     // ===== 업로드 경로 보정 & 디렉터리 생성 유틸 =====
     /**
-     * application.properties에서 받은 경로(상대/절대 무관)를
-     * 절대경로로 정규화한 뒤, 존재하지 않으면 디렉터리를 생성합니다.
+     * BbsUploadPaths 가 절대경로로 정규화한 디렉터리가
+     * 존재하지 않으면 생성합니다.
      * 예) ../frontend/public/DATA/bbs/imgBbs  →  C:\...\frontend\public\DATA\bbs\imgBbs
      */
-    private Path resolveAndEnsureDir(String dir) {
-    	Path base = Paths.get(dir).toAbsolutePath().normalize();
+    private Path resolveAndEnsureDir(Path base) {
         try {
             Files.createDirectories(base);
         } catch (IOException e) {
@@ -1145,40 +1248,6 @@ public class BbsServiceImpl implements BbsService {
         return base;
     }
     
-    /**
-     * JPEG 썸네일 생성 (지정 크기로 리사이즈)
-     * @param source 원본 이미지 경로
-     * @param target 썸네일 저장 경로
-     * @param width  썸네일 가로 크기
-     * @param height 썸네일 세로 크기
-     */
-    private void createJpegThumbnail(Path source, Path target, int width, int height) {
-        try {
-            BufferedImage originalImage = ImageIO.read(source.toFile());
-            if (originalImage == null) {
-                throw new IOException("이미지를 읽을 수 없습니다: " + source);
-            }
-
-            // 리사이즈
-            BufferedImage resizedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-            Graphics2D g2d = resizedImage.createGraphics();
-            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2d.drawImage(originalImage, 0, 0, width, height, null);
-            g2d.dispose();
-
-            // 디렉토리 생성 보장
-            Files.createDirectories(target.getParent());
-
-            // JPEG로 저장
-            try (OutputStream os = Files.newOutputStream(target)) {
-                ImageIO.write(resizedImage, "jpg", os);
-            }
-
-        } catch (IOException e) {
-            throw new BbsException("썸네일 생성 실패: " + source, e);
-        }
-    }
-
     //안형주 추가
     @Override
     @Transactional
@@ -1212,6 +1281,7 @@ public class BbsServiceImpl implements BbsService {
                 .viewers(0)
                 .build();
         savedEntity = bbsRepository.save(savedEntity);
+        reindexAfterCommit(savedEntity);
 
         // 3) 파일 저장 + 대표 이미지 처리
         ImageBbsEntity representativeImage = null;
@@ -1232,39 +1302,36 @@ public class BbsServiceImpl implements BbsService {
                 throw new BbsException("첨부파일은 jpg 또는 jpeg 이미지만 가능합니다. (" + file.getOriginalFilename() + ")");
             }
 
-            String savedName = UUID.randomUUID() + "." + ext;
-
-            // 3-1) 원본 저장(물리)
-            Path imgDir = resolveAndEnsureDir(getUploadDir(BoardType.POTO));
-            Path imgTarget = imgDir.resolve(savedName);
-            try {
-                file.transferTo(imgTarget.toFile());
-            } catch (IOException e) {
-                throw new BbsException("이미지 저장 실패: " + file.getOriginalFilename(), e);
-            }
+            // 3-1) 원본 저장(물리, 내용 해시 파일명)
+            Path imgDir = resolveAndEnsureDir(uploadPaths.uploadDir(BoardType.POTO));
+            FileStorageService.StoredFile stored = storeUpload(file, imgDir, ext, allowedMimeTypes, maxSize);
+            String savedName = stored.savedName();
+            Path imgTarget = stored.path();
 
             // 3-2) 파일 메타 저장(DB에는 /DATA/... 경로만)
             FileUpLoadEntity fileEntity = FileUpLoadEntity.builder()
                     .bbs(savedEntity)
                     .originalName(file.getOriginalFilename())
                     .savedName(savedName)
-                    .path(getWebPath(BoardType.POTO, savedName)) // /DATA/bbs/imgBbs/...
-                    .size(file.getSize())
+                    .path(uploadPaths.webPath(BoardType.POTO, savedName)) // /DATA/bbs/imgBbs/...
+                    .size(stored.size())
                     .extension(ext)
                     .build();
             fileUploadRepository.save(fileEntity);
 
             // 3-3) 대표 이미지: 썸네일 300x300 생성 + ImageBbsEntity 저장
             if ("Y".equalsIgnoreCase(isRepresentativeList.get(i)) && representativeImage == null) {
-                Path thumbDir = resolveAndEnsureDir(thumbnailUploadDir);
+                Path thumbDir = resolveAndEnsureDir(uploadPaths.thumbnailDir());
                 Path thumbTarget = thumbDir.resolve(savedName);
 
-                createJpegThumbnail(imgTarget, thumbTarget, 300, 300);
+                if (!fileStorageService.acquire(thumbTarget)) {
+                    bbsThumbnailPipeline.enqueueAfterCommit(imgTarget, thumbTarget, 300, 300); // 커밋 이후 비동기 처리
+                }
 
                 ImageBbsEntity repImg = ImageBbsEntity.builder()
                         .bbs(savedEntity)
-                        .thumbnailPath(getThumbnailWebPath(savedName))   // /DATA/bbs/thumbnail/...
-                        .imagePath(getWebPath(BoardType.POTO, savedName))// /DATA/bbs/imgBbs/...
+                        .thumbnailPath(uploadPaths.thumbnailWebPath(savedName))   // /DATA/bbs/thumbnail/...
+                        .imagePath(uploadPaths.webPath(BoardType.POTO, savedName))// /DATA/bbs/imgBbs/...
                         .build();
                 representativeImage = imageBbsRepository.save(repImg);
             }
@@ -0,0 +1,271 @@
+package com.project.board.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 게시판 썸네일 비동기 생성 파이프라인
+ * - 업로드 트랜잭션 안에서 리사이즈하지 않고, 커밋 이후 작업 큐에 등록
+ *   → 게시글은 즉시 저장되고 썸네일은 준비되는 대로 생성됨
+ * - CPU 코어 수 만큼의 워커 + 크기 제한 큐
+ *   큐가 가득 차면 대기 목록(backlog)에 넣고 주기적으로 큐에 다시 넣음 → 요청 스레드에서 리사이즈/재시도 대기를 하지 않음
+ *   대기 목록도 가득 차면 버리고 dropped 로 집계
+ * - 같은 썸네일 경로는 한 번만 대기, 처리 시점에 썸네일이 이미 있으면 건너뜀 (skipped)
+ * - 버려진 작업 / 종료 시 처리하지 못한 작업은 BbsThumbnailReconciler 가 썸네일 누락 점검으로 다시 요청
+ * - 실패 시 재시도, 임시 파일에 쓴 뒤 이동하여 반쯤 쓰인 썸네일이 노출되지 않음
+ * - 큐 대기 건수/처리 지연 시간 등 통계 제공
+ */
+@Slf4j
+@Component
+public class BbsThumbnailPipeline {
+
+    @Value("${bbs.thumbnail.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${bbs.thumbnail.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${bbs.thumbnail.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${bbs.thumbnail.backlog-capacity:10000}")
+    private int backlogCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    private record Job(Path source, Path target, int width, int height, long enqueuedAt) {}
+
+    // 큐가 가득 차서 밀린 작업 (drainBacklog 가 큐에 빈자리가 생기는 대로 다시 넣음)
+    private final ConcurrentLinkedDeque<Job> backlog = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger backlogSize = new AtomicInteger();
+
+    // 대기/처리 중인 썸네일 경로 (같은 썸네일 중복 요청 방지)
+    private final Set<Path> pendingTargets = ConcurrentHashMap.newKeySet();
+
+    // 통계
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    @PostConstruct
+    protected void init() {
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors());
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "bbs-thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!backlog.isEmpty()) {
+            log.warn("대기 목록의 썸네일 작업 {}건은 처리하지 않고 종료합니다. (다음 기동 시 누락 점검에서 다시 생성)", backlogSize.get());
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("썸네일 작업 {}건이 완료되지 않은 채 종료됩니다. (다음 기동 시 누락 점검에서 다시 생성)", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    // =========================
+    // 📌 썸네일 생성 요청 (트랜잭션 중이면 커밋 이후에 등록)
+    // =========================
+    public void enqueueAfterCommit(Path source, Path target, int width, int height) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(source, target, width, height);
+                }
+            });
+        } else {
+            submit(source, target, width, height);
+        }
+    }
+
+    private void submit(Path source, Path target, int width, int height) {
+        if (!pendingTargets.add(target)) return; // 같은 썸네일이 이미 대기/처리 중
+        submitted.increment();
+        Job job = new Job(source, target, width, height, System.currentTimeMillis());
+        // 대기 목록이 남아 있으면 순서를 지키기 위해 뒤에 붙임
+        if (!backlog.isEmpty() || !tryExecute(job)) {
+            defer(job);
+        }
+    }
+
+    private boolean tryExecute(Job job) {
+        try {
+            executor.execute(() -> process(job));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void defer(Job job) {
+        if (backlogSize.incrementAndGet() > backlogCapacity) {
+            backlogSize.decrementAndGet();
+            dropped.increment();
+            pendingTargets.remove(job.target());
+            log.error("썸네일 대기 목록이 가득 차 작업을 버립니다 (누락 점검에서 다시 요청): {}", job.source());
+            return;
+        }
+        backlog.offerLast(job);
+        deferred.increment();
+    }
+
+    // =========================
+    // 📌 대기 목록 → 작업 큐 (큐에 빈자리가 있는 만큼)
+    // =========================
+    @Scheduled(fixedDelayString = "${bbs.thumbnail.backlog-drain-interval-ms:500}")
+    public void drainBacklog() {
+        if (executor.isShutdown()) return;
+        while (executor.getQueue().remainingCapacity() > 0) {
+            Job job = backlog.pollFirst();
+            if (job == null) return;
+            if (!tryExecute(job)) {
+                backlog.offerFirst(job);
+                return;
+            }
+            backlogSize.decrementAndGet();
+        }
+    }
+
+    private void process(Job job) {
+        try {
+            if (Files.exists(job.target())) {
+                skipped.increment();
+                return;
+            }
+            generate(job);
+        } finally {
+            pendingTargets.remove(job.target());
+        }
+    }
+
+    private void generate(Job job) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                createJpegThumbnail(job.source(), job.target(), job.width(), job.height());
+                long latency = System.currentTimeMillis() - job.enqueuedAt();
+                completed.increment();
+                totalLatencyMs.add(latency);
+                maxLatencyMs.accumulateAndGet(latency, Math::max);
+                return;
+            } catch (IOException | RuntimeException e) {
+                if (attempt == maxAttempts) {
+                    failed.increment();
+                    log.error("썸네일 생성 실패 ({}회 시도): {} - {}", attempt, job.source(), e.getMessage());
+                    return;
+                }
+                retried.increment();
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    failed.increment();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * JPEG 썸네일 생성 (지정 크기로 리사이즈)
+     * - 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 이동
+     */
+    private void createJpegThumbnail(Path source, Path target, int width, int height) throws IOException {
+        BufferedImage originalImage = ImageIO.read(source.toFile());
+        if (originalImage == null) {
+            throw new IOException("이미지를 읽을 수 없습니다: " + source);
+        }
+
+        // 리사이즈
+        BufferedImage resizedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = resizedImage.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(originalImage, 0, 0, width, height, null);
+        g2d.dispose();
+
+        // 디렉토리 생성 보장
+        Files.createDirectories(target.getParent());
+
+        // JPEG로 저장 (임시 파일 → 이동)
+        Path tmp = Files.createTempFile(target.getParent(), ".thumb-", ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                ImageIO.write(resizedImage, "jpg", os);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // =========================
+    // 📌 파이프라인 통계
+    // =========================
+    public Map<String, Object> getStats() {
+        long done = completed.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("workers", executor.getMaximumPoolSize());
+        stats.put("activeWorkers", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("backlog", backlogSize.get());
+        stats.put("deferred", deferred.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("skipped", skipped.sum());
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", done);
+        stats.put("failed", failed.sum());
+        stats.put("retried", retried.sum());
+        stats.put("avgLatencyMs", done == 0 ? 0 : totalLatencyMs.sum() / done);
+        stats.put("maxLatencyMs", maxLatencyMs.get());
+        return stats;
+    }
+}
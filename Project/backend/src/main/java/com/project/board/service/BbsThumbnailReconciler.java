@@ -0,0 +1,82 @@
+package com.project.board.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.board.dto.ImageBbsDto;
+import com.project.board.repository.ImageBbsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 썸네일 누락 점검
+ * - 대표 이미지 행 중 썸네일 파일이 없는 것을 찾아 BbsThumbnailPipeline 에 다시 요청
+ *   (종료 시 큐/대기 목록에 남았던 작업, 대기 목록이 가득 차 버려진 작업, 재시도까지 실패한 작업)
+ * - 기동 직후 한 번 + 주기 실행, imagebbs 를 게시글 번호 순으로 나눠 읽음
+ * - 원본 이미지가 없으면 만들 수 없으므로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BbsThumbnailReconciler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int THUMBNAIL_SIZE = 300;
+
+    private final ImageBbsRepository imageBbsRepository;
+    private final BbsUploadPaths uploadPaths;
+    private final BbsThumbnailPipeline bbsThumbnailPipeline;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // =========================
+    // 📌 썸네일이 없는 대표 이미지 다시 요청 (요청 건수 반환)
+    // =========================
+    @Scheduled(fixedDelayString = "${bbs.thumbnail.reconcile-interval-ms:3600000}",
+               initialDelayString = "${bbs.thumbnail.reconcile-interval-ms:3600000}")
+    public int reconcile() {
+        int requested = 0;
+        int missingSource = 0;
+        long after = 0L;
+        List<ImageBbsDto> rows;
+        do {
+            rows = imageBbsRepository.findPathsAfter(after, PageRequest.of(0, BATCH_SIZE));
+            for (ImageBbsDto row : rows) {
+                after = row.getBulletinNum();
+                if (row.getThumbnailPath() == null || row.getImagePath() == null) continue;
+
+                Path thumbnail = uploadPaths.thumbnailDir().resolve(fileName(row.getThumbnailPath()));
+                if (Files.exists(thumbnail)) continue;
+
+                Path source = uploadPaths.uploadDirOf(row.getImagePath()).resolve(fileName(row.getImagePath()));
+                if (!Files.exists(source)) {
+                    missingSource++;
+                    continue;
+                }
+                bbsThumbnailPipeline.enqueueAfterCommit(source, thumbnail, THUMBNAIL_SIZE, THUMBNAIL_SIZE);
+                requested++;
+            }
+        } while (rows.size() == BATCH_SIZE);
+
+        if (requested > 0 || missingSource > 0) {
+            log.info("썸네일 누락 점검: 재생성 요청 {}건, 원본 없음 {}건", requested, missingSource);
+        }
+        return requested;
+    }
+
+    private static String fileName(String webPath) {
+        return Paths.get(webPath).getFileName().toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.board.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.board.BoardType;
+
+/**
+ * 게시판 첨부파일 저장 위치 매핑 (게시판 서비스/컨트롤러/정리 작업 공용)
+ * - 물리 경로: application.properties 의 file.upload-* (절대경로로 정규화)
+ * - 웹 경로: /DATA/bbs/{imgBbs|norBbs|quesBbs|thumbnail}/파일명
+ */
+@Component
+public class BbsUploadPaths {
+
+    @Value("${file.upload-imgbbs}")
+    private String imgBbsUploadDir;
+
+    @Value("${file.upload-norbbs}")
+    private String norBbsUploadDir;
+
+    @Value("${file.upload-quesbbs}")
+    private String quesBbsUploadDir;
+
+    @Value("${file.upload-sumnel}")
+    private String thumbnailUploadDir;
+
+    public Path uploadDir(BoardType type) {
+        String dir = switch (type) {
+            case POTO -> imgBbsUploadDir;
+            case NORMAL -> norBbsUploadDir;
+            case FAQ -> quesBbsUploadDir;
+        };
+        return Paths.get(dir).toAbsolutePath().normalize();
+    }
+
+    public String webPath(BoardType type, String savedName) {
+        return switch (type) {
+            case POTO -> "/DATA/bbs/imgBbs/" + savedName;
+            case NORMAL -> "/DATA/bbs/norBbs/" + savedName;
+            case FAQ -> "/DATA/bbs/quesBbs/" + savedName;
+        };
+    }
+
+    // DB 에 저장된 /DATA/... 웹 경로 → 게시판 물리 디렉터리 (알 수 없으면 일반 게시판)
+    public Path uploadDirOf(String webPath) {
+        if (webPath != null) {
+            if (webPath.contains("/DATA/bbs/imgBbs/")) return uploadDir(BoardType.POTO);
+            if (webPath.contains("/DATA/bbs/quesBbs/")) return uploadDir(BoardType.FAQ);
+        }
+        return uploadDir(BoardType.NORMAL);
+    }
+
+    public Path thumbnailDir() {
+        return Paths.get(thumbnailUploadDir).toAbsolutePath().normalize();
+    }
+
+    public String thumbnailWebPath(String savedName) {
+        return "/DATA/bbs/thumbnail/" + savedName;
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.board.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * - 조회 시점에는 메모리(LongAdder)에만 누적 → bbs 행에 락을 걸지 않음
+ * - 주기적으로 누적분을 한 번의 배치 UPDATE로 DB에 반영 (카운터는 맵에 둔 채 sumThenReset → 반영 중 들어온 조회도 유실 없음)
+ *   배치는 한 트랜잭션 → 일부 행만 반영된 채 실패하는 일이 없으므로 실패 시 전부 되돌려 다음 주기에 재시도해도 중복 집계 없음
+ * - 같은 사용자(회원ID/IP)의 반복 조회는 일정 시간 동안 1회로 간주
+ * - 애플리케이션 종료 시 남은 누적분을 반영
+ */
+@Slf4j
+@Component
+public class BbsViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE bbs SET viewers = viewers + ? WHERE bulletin_num = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTx;
+
+    // 게시글 번호 → 아직 DB에 반영되지 않은 조회수
+    // 반영 시 sumThenReset 으로 비우고 카운터는 맵에서 빼지 않음 (빼면 그 사이 잡아 둔 카운터에 더한 조회가 사라짐)
+    // → 항목 수는 조회된 적 있는 게시글 수만큼
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // "게시글번호:조회자키" → 마지막으로 카운트된 시각(ms)
+    private final ConcurrentHashMap<String, Long> recentViews = new ConcurrentHashMap<>();
+
+    @Value("${bbs.view.dedupe-window-ms:600000}")   // 기본 10분
+    private long dedupeWindowMs;
+
+    public BbsViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTx = new TransactionTemplate(transactionManager);
+    }
+
+    // =========================
+    // 📌 조회 1건 기록 (중복 조회는 무시)
+    // =========================
+    public boolean increase(Long bulletinNum, String viewerKey) {
+        if (bulletinNum == null) return false;
+
+        if (viewerKey != null) {
+            long now = System.currentTimeMillis();
+            String key = bulletinNum + ":" + viewerKey;
+            boolean[] counted = {false};
+            recentViews.compute(key, (k, last) -> {
+                if (last == null || now - last >= dedupeWindowMs) {
+                    counted[0] = true;
+                    return now;
+                }
+                return last;
+            });
+            if (!counted[0]) return false;
+        }
+
+        pending.computeIfAbsent(bulletinNum, k -> new LongAdder()).increment();
+        return true;
+    }
+
+    // =========================
+    // 📌 아직 반영되지 않은 조회수 (상세 화면 표시 보정용)
+    // =========================
+    public long getPendingCount(Long bulletinNum) {
+        LongAdder adder = pending.get(bulletinNum);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // =========================
+    // 📌 누적분 DB 반영 (주기 실행)
+    // =========================
+    @Scheduled(fixedDelayString = "${bbs.view.flush-interval-ms:10000}")
+    public void flush() {
+        evictExpiredViews();
+        if (pending.isEmpty()) return;
+
+        Map<Long, Long> deltas = new TreeMap<>();   // 게시글 번호 순으로 정렬해 락 획득 순서를 고정
+        pending.forEach((bulletinNum, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) deltas.put(bulletinNum, delta);
+        });
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((bulletinNum, delta) -> batchArgs.add(new Object[]{delta, bulletinNum}));
+        if (batchArgs.isEmpty()) return;
+
+        try {
+            flushTx.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (Exception e) {
+            // 반영 실패 = 배치 전체 롤백 → 누적분을 전부 되돌려 다음 주기에 재시도
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            for (Object[] args : batchArgs) {
+                pending.computeIfAbsent((Long) args[1], k -> new LongAdder()).add((Long) args[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 중복 판정 창이 지난 항목 정리 (메모리 증가 방지)
+    private void evictExpiredViews() {
+        long threshold = System.currentTimeMillis() - dedupeWindowMs;
+        Iterator<Map.Entry<String, Long>> it = recentViews.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue() < threshold) it.remove();
+        }
+    }
+}
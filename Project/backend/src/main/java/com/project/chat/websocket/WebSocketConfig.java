@@ -1,5 +1,6 @@
 package com.project.chat.websocket;
 
+import com.project.common.jwt.JwtPrincipal;
 import com.project.common.jwt.JwtTokenProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
@@ -67,9 +68,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     String token = authToken.substring(7);
                     
                     try {
-                        if (jwtTokenProvider.validateToken(token)) {
-                            String memberId = jwtTokenProvider.getMemberIdFromToken(token);
-                            String role = jwtTokenProvider.getRoleFromToken(token);
+                        JwtPrincipal principal = jwtTokenProvider.verify(token).orElse(null);
+                        if (principal != null) {
+                            String memberId = principal.subject();
+                            String role = principal.role();
                             
                             log.info("토큰 검증 성공 - 사용자: {}, 역할: {}", memberId, role);
                             
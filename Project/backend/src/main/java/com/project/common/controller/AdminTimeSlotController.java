@@ -21,7 +21,7 @@ public class AdminTimeSlotController {
     public ResponseEntity<List<TimeSlotDto>> getTimeSlotsByType(@PathVariable String type) {
         try {
             TimeType timeType = TimeType.valueOf(type.toUpperCase());
-            List<TimeSlotDto> result = timeSlotService.getTimeSlotsByType(timeType);
+            List<TimeSlotDto> result = timeSlotService.getTimeSlotsWithReserveState(timeType);
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -10,6 +10,7 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -19,6 +20,9 @@ import org.springframework.web.bind.annotation.RestController;
 import com.project.admin.entity.AdminEntity;
 import com.project.admin.repository.AdminRepository;
 import com.project.common.jwt.JwtTokenProvider;
+import com.project.common.jwt.RefreshTokenService;
+import com.project.common.jwt.RefreshTokenService.TokenPair;
+import com.project.common.service.LoginRateLimiter;
 import com.project.member.dto.MemberAuthResult;
 import com.project.member.dto.MemberLoginRequestDto;
 import com.project.member.dto.MemberLoginResponseDto;
@@ -45,6 +49,8 @@ public class AuthController {
 	private final MemberRepository memberRepository;
 	private final AdminRepository adminRepository;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final RefreshTokenService refreshTokenService;
+	private final LoginRateLimiter loginRateLimiter;
 	private final PasswordEncoder passwordEncoder;
 	
 	// ✅ 공용 로그인: 관리자 이메일이면 role=ADMIN, 아니면 role=USER
@@ -71,20 +77,21 @@ public class AuthController {
         // ✅ 관리자 인증 경로
         // =========================
         if (isAdminLogin) {
+            // 시도 횟수 제한 (IP/계정) - 초과 시 BCrypt 없이 429
+            loginRateLimiter.acquire(loginId);
+
             AdminEntity admin = adminRepository.findFirstByAdminId(loginId)
                     .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다."));
 
             if (!passwordEncoder.matches(loginDto.getMemberPw(), admin.getAdminPw())) {
                 throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다.");
             }
+            loginRateLimiter.reset(loginId);
 
-            // 토큰 발급(ADMIN)
-            String accessToken  = jwtTokenProvider.generateAccessToken(admin.getAdminId(), "ADMIN");
-            String refreshToken = jwtTokenProvider.generateRefreshToken(admin.getAdminId());
+            // 토큰 발급(ADMIN) - 리프레시 토큰은 RefreshTokenStore 에 보관
+            TokenPair tokens = refreshTokenService.issue(admin.getAdminId(), "ADMIN");
 
-            // 저장
-            admin.setAccessToken(accessToken);
-            admin.setRefreshToken(refreshToken);
+            // 접속시간 갱신
             admin.setConnectData(LocalDateTime.now());
             adminRepository.save(admin);
 
@@ -94,8 +101,8 @@ public class AuthController {
                     .memberName(admin.getAdminName())
                     .message("로그인 성공")
                     .role("ADMIN")
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
+                    .accessToken(tokens.accessToken())
+                    .refreshToken(tokens.refreshToken())
                     .build();
 
             return ResponseEntity.ok(Map.of(
@@ -111,16 +118,16 @@ public class AuthController {
         // =========================
         MemberAuthResult auth = memberService.authenticate(loginDto);
 
-        String accessToken  = jwtTokenProvider.generateAccessToken(auth.getMemberId(), "USER");
-        String refreshToken = jwtTokenProvider.generateRefreshToken(auth.getMemberId());
+        // 토큰 발급(USER) - 리프레시 토큰은 RefreshTokenStore 에 보관 (회원 행에 쓰지 않음)
+        TokenPair tokens = refreshTokenService.issue(auth.getMemberId(), "USER");
 
-        // DB 저장(Refresh/Access)
         MemberEntity member = memberRepository.findByMemberId(auth.getMemberId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        member.setAccessToken(accessToken);
-        member.setRefreshToken(refreshToken);
-        if (member.getPwUpdated() == null) member.setPwUpdated(LocalDateTime.now());
-        memberRepository.save(member);
+        // 비밀번호 변경일이 없던 회원만 한 번 저장
+        if (member.getPwUpdated() == null) {
+            member.setPwUpdated(LocalDateTime.now());
+            memberRepository.save(member);
+        }
 
         MemberLoginResponseDto userRes = MemberLoginResponseDto.builder()
                 .memberNum(member.getMemberNum())
@@ -128,8 +135,8 @@ public class AuthController {
                 .memberName(auth.getMemberName())
                 .message("로그인 성공")
                 .role("USER")
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .accessToken(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
                 .build();
 
         boolean isExpired = memberService.isPasswordExpired(member);
@@ -226,7 +233,7 @@ public class AuthController {
      * 로그아웃
      * - 클라이언트: Authorization 헤더 + (쿠키 기반이면) withCredentials=true 로 호출
      * - 서버:
-     *   - DB에 보관하던 refreshToken/accessToken 제거(있다면)
+     *   - RefreshTokenStore 에서 해당 ID 의 리프레시 토큰 전부 폐기
      *   - httpOnly refreshToken 쿠키 제거
      */
     @PostMapping("/logout")
@@ -253,18 +260,11 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
         }
 
-        // 3) subject 추출(memberId 가정) → 회원 조회
+        // 3) subject 추출(memberId 가정)
         final String memberId = jwtTokenProvider.getMemberIdFromToken(accessToken);
-        MemberEntity member = memberRepository.findByMemberId(memberId)
-                .orElse(null);
 
-        // 4) 서버 보관 토큰 제거(DB 컬럼에 보관 중인 경우)
-        //    - 프로젝트에 해당 컬럼이 없다면 이 부분은 생략 가능
-        if (member != null) {
-            member.setRefreshToken(null); // 재발급 차단
-            member.setAccessToken(null);  // (선택) 저장해두던 accessToken도 정리
-            memberRepository.save(member);
-        }
+        // 4) 리프레시 토큰 폐기 → 재발급 차단 (회원 행은 건드리지 않음)
+        refreshTokenService.revokeAll(memberId);
 
         // 5) httpOnly refreshToken 쿠키 제거
         //    ⚠️ 발급 시 설정했던 path/domain/secure/httpOnly와 동일하게 맞춰줘야 정확히 지워짐
@@ -316,31 +316,30 @@ public class AuthController {
 	
 	
 	//토큰재발급 추가
+	//리프레시 토큰: Authorization 헤더(Bearer) / 바디 {"refreshToken"} / refreshToken 쿠키 순으로 확인
+	//재발급 때마다 리프레시 토큰도 새로 발급(rotation) → 응답의 refreshToken 으로 교체해야 함
 	@PostMapping("/reissue")
-	public ResponseEntity<?> reissue(@RequestHeader("Authorization") String refreshTokenHeader){
-		//1. bearer 헤더에서 토큰 추출
-		if(refreshTokenHeader == null || !refreshTokenHeader.startsWith("Bearer")) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("유효하지 않은 리프레시 토큰입니다.");
+	public ResponseEntity<?> reissue(@RequestHeader(value = "Authorization", required = false) String refreshTokenHeader,
+									 @RequestBody(required = false) Map<String, String> body,
+									 @CookieValue(value = "refreshToken", required = false) String refreshCookie){
+		//1. 토큰 추출
+		String refreshToken = null;
+		if(refreshTokenHeader != null && refreshTokenHeader.startsWith("Bearer")) {
+			refreshToken = refreshTokenHeader.substring(7).trim();
+		} else if(body != null && body.get("refreshToken") != null) {
+			refreshToken = body.get("refreshToken");
+		} else {
+			refreshToken = refreshCookie;
 		}
-		String refreshToken = refreshTokenHeader.substring(7);
-		
-		//2. refreshToken 유효성검증
-		if(!jwtTokenProvider.validateToken(refreshToken)) {
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않는 리프레시 토큰입니다.");
-		}
-		
-		//3. 사용자 ID 추출
-		String memberId = jwtTokenProvider.getMemberIdFromToken(refreshToken);
-		
-		//4. 사용자 존재 확인 + 토큰 일치 여부 확인
-		MemberEntity member = memberRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-		if(!refreshToken.equals(member.getRefreshToken())) {
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("토큰 불일치 - 재로그인 필요");
+		if(refreshToken == null || refreshToken.isBlank()) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("유효하지 않은 리프레시 토큰입니다.");
 		}
 		
-		//5. 새로운 AccessToken 발급
-		String newAccessToken = jwtTokenProvider.generateAccessToken(memberId);
-		return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
+		//2. 저장소 확인 + 새 토큰 발급 (만료/폐기/이미 사용된 토큰이면 실패 → 재로그인)
+		return refreshTokenService.reissue(refreshToken)
+				.<ResponseEntity<?>>map(tokens -> ResponseEntity.ok(Map.of(
+						"accessToken", tokens.accessToken(),
+						"refreshToken", tokens.refreshToken())))
+				.orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."));
 	}
 }
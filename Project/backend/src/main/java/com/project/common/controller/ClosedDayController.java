@@ -18,10 +18,11 @@ public class ClosedDayController {
 
     private final ClosedDayService closedDayService;
     
-    // 공휴일 등록(연도)
+    // 공휴일 등록(연도) - refresh=true 이면 저장된 스냅샷 대신 API 재조회
     @PostMapping("/holidays/{year}")
-    public ResponseEntity<String> registerHolidays(@PathVariable int year) {
-        closedDayService.registerHolidays(year);
+    public ResponseEntity<String> registerHolidays(@PathVariable int year,
+                                                   @RequestParam(defaultValue = "false") boolean refresh) {
+        closedDayService.registerHolidays(year, refresh);
         return ResponseEntity.ok(year + "년 공휴일 등록 완료");
     }
     
@@ -0,0 +1,53 @@
+package com.project.common.controller;
+
+import com.project.common.service.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/images")
+@RequiredArgsConstructor
+public class ImageVariantController {
+
+    private final ImageVariantService imageVariantService;
+
+    // 리사이즈 이미지 조회
+    // 예) /api/images/variant?src=/DATA/bbs/imgBbs/xxx.jpg&w=320&q=75
+    @GetMapping("/variant")
+    public ResponseEntity<Resource> getVariant(
+            @RequestParam String src,
+            @RequestParam(name = "w", required = false) Integer width,
+            @RequestParam(name = "q", required = false) Integer quality,
+            WebRequest webRequest) {
+        try {
+            ImageVariantService.Variant variant = imageVariantService.getVariant(src, width, quality);
+
+            // ETag / Last-Modified 일치 시 304 (본문 전송 생략)
+            if (webRequest.checkNotModified(variant.etag(), variant.lastModified())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(variant.etag())
+                    .lastModified(variant.lastModified())
+                    .cacheControl(CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic())
+                    .contentType(MediaType.parseMediaType(variant.contentType()))
+                    .body(new FileSystemResource(variant.file()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
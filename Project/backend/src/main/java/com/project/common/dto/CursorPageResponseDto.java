@@ -0,0 +1,44 @@
+package com.project.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Data;
+
+//커서 기반 페이지네이션 응답용 Dto (기존 Page 응답은 그대로 두고 /cursor 엔드포인트에서 사용)
+@Data
+@Builder
+public class CursorPageResponseDto<T> {
+	private List<T> content;	//현재 페이지 데이터 목록
+	private int size;			//요청한 페이지 크기
+	private boolean hasNext;	//다음 페이지 존재 여부
+	private String nextCursor;	//다음 페이지 요청 시 그대로 전달할 커서 (마지막 페이지면 null)
+	private Long totalElements;	//전체 개수 (withTotal=true 일 때만, 캐시된 값일 수 있음)
+
+	// 엔티티 → 응답 Dto 변환
+	public <R> CursorPageResponseDto<R> map(Function<? super T, ? extends R> mapper) {
+		return CursorPageResponseDto.<R>builder()
+				.content(content.stream().<R>map(mapper).toList())
+				.size(size)
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.totalElements(totalElements)
+				.build();
+	}
+
+	// size + 1 건 조회한 결과로 응답 생성 (초과분이 있으면 다음 페이지 존재)
+	public static <T> CursorPageResponseDto<T> of(List<T> fetched, int size,
+	                                              Function<T, String> cursorOf, Long totalElements) {
+		boolean hasNext = fetched.size() > size;
+		List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+		String nextCursor = (hasNext && !content.isEmpty()) ? cursorOf.apply(content.get(content.size() - 1)) : null;
+		return CursorPageResponseDto.<T>builder()
+				.content(content)
+				.size(size)
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.totalElements(totalElements)
+				.build();
+	}
+}
@@ -0,0 +1,39 @@
+package com.project.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+//리프레시 토큰 저장소 테이블 (RefreshTokenStore)
+//토큰 원문 대신 SHA-256 해시를 키로 보관, 같은 로그인에서 이어진 토큰은 같은 family_id
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_subject", columnList = "subject"),
+        @Index(name = "idx_refresh_token_expires", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_hash", length = 43)
+    private String tokenHash;   // 토큰 SHA-256 (Base64url)
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;    // 로그인 1회 = family 1개 (재발급 시 그대로 이어짐)
+
+    @Column(name = "subject", nullable = false)
+    private String subject;     // 회원/관리자 ID(이메일)
+
+    @Column(name = "role", length = 20)
+    private String role;        // 재발급할 Access Token 의 role
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;     // 만료 시각(ms)
+
+    @Column(name = "used", nullable = false)
+    private boolean used;       // 재발급에 이미 사용됨 (다시 오면 탈취로 보고 family 폐기)
+}
@@ -0,0 +1,12 @@
+package com.project.common.exception;
+
+//업로드 파일 저장 예외 (용량 초과, 허용되지 않은 파일 형식 등)
+public class FileStorageException extends RuntimeException {
+    public FileStorageException(String message) {
+        super(message);
+    }
+
+    public FileStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package com.project.common.exception;
 import java.time.LocalDateTime;
 
 //import com.project.common.dto.ApiErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,6 +11,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
+import com.project.reserve.exception.ReserveLedgerUnavailableException;
+import com.project.reserve.exception.ReserveQueueFullException;
+import com.project.reserve.exception.SlotFullException;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -45,6 +50,44 @@ public class GlobalExceptionHandler {
 	    return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
 	}
 
+	// ✅ 예약 시간대 정원 초과 (409)
+	@ExceptionHandler(SlotFullException.class)
+	public ResponseEntity<ApiErrorResponse> handleSlotFull(SlotFullException ex) {
+	    log.warn("SlotFullException: {}", ex.getMessage());
+	    return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
+	}
+
+	// ✅ 예약 대기열 초과 (429)
+	@ExceptionHandler(ReserveQueueFullException.class)
+	public ResponseEntity<ApiErrorResponse> handleReserveQueueFull(ReserveQueueFullException ex) {
+	    log.warn("ReserveQueueFullException: {}", ex.getMessage());
+	    return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+	}
+
+	// ✅ 예약 현황 적재 지연 (503)
+	@ExceptionHandler(ReserveLedgerUnavailableException.class)
+	public ResponseEntity<ApiErrorResponse> handleReserveLedgerUnavailable(ReserveLedgerUnavailableException ex) {
+	    log.warn("ReserveLedgerUnavailableException: {}", ex.getMessage());
+	    return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+	}
+
+	// ✅ 로그인 시도 횟수 초과 (429 + Retry-After)
+	@ExceptionHandler(LoginThrottledException.class)
+	public ResponseEntity<ApiErrorResponse> handleLoginThrottled(LoginThrottledException ex) {
+	    log.warn("LoginThrottledException: {}", ex.getMessage());
+	    ResponseEntity<ApiErrorResponse> response = buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+	    return ResponseEntity.status(response.getStatusCode())
+	            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+	            .body(response.getBody());
+	}
+
+	// ✅ 업로드 파일 저장 실패 (용량/형식 위반) (400)
+	@ExceptionHandler(FileStorageException.class)
+	public ResponseEntity<ApiErrorResponse> handleFileStorageException(FileStorageException ex) {
+	    log.warn("FileStorageException: {}", ex.getMessage());
+	    return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+	}
+
 	// ✅ 예기치 못한 오류 처리 (500)
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ApiErrorResponse> handleUnexpected(Exception ex) {
@@ -0,0 +1,16 @@
+package com.project.common.exception;
+
+//로그인 시도 횟수 초과 (LoginRateLimiter) - retryAfterSeconds 후 다시 시도
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
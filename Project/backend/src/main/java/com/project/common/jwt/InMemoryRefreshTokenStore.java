@@ -0,0 +1,199 @@
+package com.project.common.jwt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 저장소 - 메모리 (기본)
+ * - 토큰 해시 → Entry 를 ConcurrentHashMap 에 보관 → 재발급/폐기 확인은 DB 조회 없이 O(1)
+ * - 만료 시각 순 정렬 세트로 만료된 것부터 꺼내 정리 (전체 순회 없음)
+ * - 바뀐 토큰 해시만 모아 두었다가 주기적으로 refresh_token 테이블에 배치 반영 (스냅샷)
+ * - 폐기(로그아웃/재사용 감지)는 스냅샷을 기다리지 않고 바로 DB 에서도 삭제 → 재시작해도 폐기된 토큰이 살아나지 않음
+ * - 기동 시 테이블에서 만료되지 않은 토큰을 다시 적재 → 재시작해도 로그인 유지
+ * - 서버 1대 기준 / 반영 전 비정상 종료 시 그 사이 발급분은 재로그인 필요
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String SELECT_SQL =
+            "SELECT token_hash, family_id, subject, role, expires_at, used FROM refresh_token WHERE expires_at > ?";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO refresh_token (token_hash, family_id, subject, role, expires_at, used) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE used = VALUES(used)";
+
+    private static final String DELETE_SQL = "DELETE FROM refresh_token WHERE token_hash = ?";
+
+    private static final String DELETE_FAMILY_SQL = "DELETE FROM refresh_token WHERE family_id = ?";
+
+    private static final String DELETE_SUBJECT_SQL = "DELETE FROM refresh_token WHERE subject = ?";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM refresh_token WHERE expires_at <= ?";
+
+    // 만료 순 정렬용 (같은 시각이면 해시로 구분)
+    private record Expiry(long expiresAt, String tokenHash) {}
+
+    private static final Comparator<Expiry> EXPIRY_ORDER =
+            Comparator.comparingLong(Expiry::expiresAt).thenComparing(Expiry::tokenHash);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Expiry> expiries = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+
+    // 아직 DB 에 반영되지 않은 토큰 해시 (반영 시점의 메모리 상태로 저장/삭제)
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    // =========================
+    // 📌 저장 / 조회
+    // =========================
+    @Override
+    public void save(Entry entry) {
+        tokens.put(entry.tokenHash(), entry);
+        expiries.add(new Expiry(entry.expiresAt(), entry.tokenHash()));
+        dirty.add(entry.tokenHash());
+    }
+
+    @Override
+    public Optional<Entry> find(String tokenHash) {
+        return Optional.ofNullable(tokens.get(tokenHash));
+    }
+
+    // 이전 토큰 사용 처리 + 새 토큰 저장을 폐기와 같은 락으로 묶음
+    // → 그 사이 family/subject 폐기가 끼어들어 새 토큰만 살아남는 일이 없음
+    @Override
+    public synchronized boolean rotate(String tokenHash, Entry next) {
+        boolean[] rotated = new boolean[1];
+        tokens.computeIfPresent(tokenHash, (k, current) -> {
+            if (current.used()) return current;
+            rotated[0] = true;
+            return current.markUsed();
+        });
+        if (!rotated[0]) return false;
+        dirty.add(tokenHash);
+        save(next);
+        return true;
+    }
+
+    // =========================
+    // 📌 폐기 (로그아웃 / 재사용 감지 시만 실행되므로 순회)
+    //    메모리에서 지운 뒤 DB 도 바로 삭제 (flush / rotate 와 겹치지 않도록 같은 락)
+    //    DB 삭제가 실패하면 지운 해시를 다음 스냅샷에 맡기고 예외
+    // =========================
+    @Override
+    public synchronized int revokeFamily(String familyId) {
+        return revoke(e -> e.familyId().equals(familyId), DELETE_FAMILY_SQL, familyId);
+    }
+
+    @Override
+    public synchronized int revokeSubject(String subject) {
+        return revoke(e -> e.subject().equals(subject), DELETE_SUBJECT_SQL, subject);
+    }
+
+    private int revoke(Predicate<Entry> condition, String deleteSql, String value) {
+        List<String> removed = new ArrayList<>();
+        for (Entry entry : tokens.values()) {
+            if (condition.test(entry) && tokens.remove(entry.tokenHash()) != null) {
+                expiries.remove(new Expiry(entry.expiresAt(), entry.tokenHash()));
+                removed.add(entry.tokenHash());
+            }
+        }
+        try {
+            jdbcTemplate.update(deleteSql, value);
+        } catch (RuntimeException e) {
+            dirty.addAll(removed);
+            throw new IllegalStateException("리프레시 토큰 폐기 DB 반영 실패", e);
+        }
+        removed.forEach(dirty::remove);
+        return removed.size();
+    }
+
+    // 만료 시각이 지난 것부터 꺼냄 (DB 는 flush 때 한 번에 정리)
+    @Override
+    public int evictExpired(long now) {
+        int removed = 0;
+        for (Iterator<Expiry> it = expiries.iterator(); it.hasNext(); ) {
+            Expiry head = it.next();
+            if (head.expiresAt() > now) break;
+            it.remove();
+            tokens.remove(head.tokenHash());
+            dirty.remove(head.tokenHash());
+            removed++;
+        }
+        return removed;
+    }
+
+    // =========================
+    // 📌 DB 스냅샷 (주기 실행)
+    // =========================
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.snapshot-interval-ms:10000}")
+    public synchronized void flush() {
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<String> batch = new ArrayList<>(dirty);
+        for (String hash : batch) {
+            dirty.remove(hash);   // 꺼낸 뒤 바뀐 토큰은 다음 주기에 다시 반영
+            Entry e = tokens.get(hash);
+            if (e != null) {
+                upserts.add(new Object[]{e.tokenHash(), e.familyId(), e.subject(), e.role(), e.expiresAt(), e.used()});
+            } else {
+                deletes.add(new Object[]{hash});
+            }
+        }
+
+        try {
+            if (!upserts.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+            if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            jdbcTemplate.update(DELETE_EXPIRED_SQL, System.currentTimeMillis());
+        } catch (Exception ex) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            log.warn("리프레시 토큰 스냅샷 반영 실패, 다음 주기에 재시도: {}", ex.getMessage());
+            dirty.addAll(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 기동 시 만료되지 않은 토큰 적재 (이미 메모리에 있는 값이 우선)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<Entry> rows = jdbcTemplate.query(SELECT_SQL, (rs, i) -> new Entry(
+                    rs.getString("token_hash"), rs.getString("family_id"), rs.getString("subject"),
+                    rs.getString("role"), rs.getLong("expires_at"), rs.getBoolean("used")),
+                    System.currentTimeMillis());
+            for (Entry entry : rows) {
+                if (tokens.putIfAbsent(entry.tokenHash(), entry) == null) {
+                    expiries.add(new Expiry(entry.expiresAt(), entry.tokenHash()));
+                }
+            }
+            log.info("리프레시 토큰 적재 완료: {}건", rows.size());
+        } catch (Exception e) {
+            log.warn("리프레시 토큰 적재 실패: {}", e.getMessage());
+        }
+    }
+}
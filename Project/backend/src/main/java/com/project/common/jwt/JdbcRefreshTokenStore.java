@@ -0,0 +1,82 @@
+package com.project.common.jwt;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리프레시 토큰 저장소 - JDBC (jwt.refresh-store.type=jdbc)
+ * - 모든 조회/변경을 refresh_token 테이블에 바로 반영 → 서버 여러 대가 같은 저장소를 공유할 때 사용
+ * - 재발급은 "used=0 인 행만 used=1 로" 조건부 UPDATE 로 한 번만 성공하도록 함
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-store.type", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO refresh_token (token_hash, family_id, subject, role, expires_at, used) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT token_hash, family_id, subject, role, expires_at, used FROM refresh_token WHERE token_hash = ?";
+
+    private static final String MARK_USED_SQL =
+            "UPDATE refresh_token SET used = 1 WHERE token_hash = ? AND used = 0";
+
+    private static final RowMapper<Entry> ROW_MAPPER = (rs, i) -> new Entry(
+            rs.getString("token_hash"), rs.getString("family_id"), rs.getString("subject"),
+            rs.getString("role"), rs.getLong("expires_at"), rs.getBoolean("used"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate rotateTx;
+
+    public JdbcRefreshTokenStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 사용 처리 + 새 토큰 저장을 한 트랜잭션으로 (호출한 쪽 트랜잭션과 무관)
+        this.rotateTx = new TransactionTemplate(transactionManager);
+        this.rotateTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void save(Entry entry) {
+        jdbcTemplate.update(INSERT_SQL, entry.tokenHash(), entry.familyId(), entry.subject(), entry.role(),
+                entry.expiresAt(), entry.used());
+    }
+
+    @Override
+    public Optional<Entry> find(String tokenHash) {
+        List<Entry> rows = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, tokenHash);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean rotate(String tokenHash, Entry next) {
+        Boolean rotated = rotateTx.execute(status -> {
+            if (jdbcTemplate.update(MARK_USED_SQL, tokenHash) != 1) return false;
+            save(next);
+            return true;
+        });
+        return Boolean.TRUE.equals(rotated);
+    }
+
+    @Override
+    public int revokeFamily(String familyId) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE family_id = ?", familyId);
+    }
+
+    @Override
+    public int revokeSubject(String subject) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE subject = ?", subject);
+    }
+
+    @Override
+    public int evictExpired(long now) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE expires_at <= ?", now);
+    }
+}
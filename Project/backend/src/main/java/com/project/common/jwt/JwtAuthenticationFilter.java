@@ -5,9 +5,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.GrantedAuthority;
@@ -47,36 +44,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            if (!jwtTokenProvider.validateToken(token)) {
+            // 서명/만료 검증 + 클레임 읽기를 한 번에 (같은 토큰이면 캐시된 결과)
+            JwtPrincipal principal = jwtTokenProvider.verify(token).orElse(null);
+            if (principal == null) {
                 chain.doFilter(request, response);
                 return;
             }
 
-            Claims claims = jwtTokenProvider.getClaims(token); // 구현체에 맞게 조정
-            String subject = claims.getSubject();              // adminId 또는 memberId
-
-            // role 추출 ("ADMIN" / "ROLE_ADMIN" / "USER" ...)
-            Object raw = claims.get("role");
-            if (raw == null) raw = claims.get("roles");
-            if (raw == null) raw = claims.get("authorities");
-
-            String roleString = (raw == null) ? "" : String.valueOf(raw).toUpperCase();
+            String subject = principal.subject();              // adminId 또는 memberId
 
-            // 2) "ROLE_ADMIN" → "ADMIN" 으로 정규화
-            if (roleString.startsWith("ROLE_")) {
-                roleString = roleString.substring(5);
-            }
-
-            // 3) 최종 권한 리스트 구성
+            // role 클레임("ADMIN" / "ROLE_ADMIN" / "USER" ...)을 "ADMIN" 형태로 정규화
             //    - ADMIN 이면 ADMIN 권한 부여
-            //    - USER 등 다른 값이면 해당 값 부여(선택) + ADMIN은 부여하지 않음
-            GrantedAuthority auth;
-            if ("ADMIN".equals(roleString)) {
-                auth = new SimpleGrantedAuthority("ADMIN");
-            } else {
-                // 필요 시 여러 권한 파싱 로직 추가 가능
-                auth = new SimpleGrantedAuthority(roleString.isEmpty() ? "USER" : roleString);
-            }
+            //    - USER 등 다른 값이면 해당 값 부여 + ADMIN은 부여하지 않음
+            GrantedAuthority auth = new SimpleGrantedAuthority(principal.authority());
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(subject, null, List.of(auth));
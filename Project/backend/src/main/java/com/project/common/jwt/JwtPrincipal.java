@@ -0,0 +1,22 @@
+package com.project.common.jwt;
+
+/**
+ * 검증을 마친 토큰의 인증 정보 (불변)
+ * - subject: 이메일(=ID), role: 토큰의 role/roles/authorities 클레임 원본 (없으면 null)
+ * - expiresAt: 만료 시각(ms) - 캐시된 결과도 이 시각이 지나면 사용하지 않음
+ */
+public record JwtPrincipal(String subject, String role, long expiresAt) {
+
+    // Security 권한 문자열 ("ROLE_ADMIN"/"admin" → "ADMIN", 없으면 "USER")
+    public String authority() {
+        String value = role == null ? "" : role.toUpperCase();
+        if (value.startsWith("ROLE_")) {
+            value = value.substring(5);
+        }
+        return value.isEmpty() ? "USER" : value;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
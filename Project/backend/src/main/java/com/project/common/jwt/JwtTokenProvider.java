@@ -1,14 +1,22 @@
 package com.project.common.jwt;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -19,6 +27,9 @@ import jakarta.annotation.PostConstruct;
  * - AccessToken: 30분(기본), RefreshToken: 7일(기본)
  * - subject에는 "이메일(=ID)"를 넣는 것을 전제로 함 (회원/관리자 공통)
  * - role 클레임: "USER" or "ADMIN" (서버에서 판단하여 발급)
+ * - 검증: 파서 1개를 재사용하고, 검증 결과(JwtPrincipal)를 토큰 해시 기준으로 만료 시각까지 캐시
+ *   → 같은 Access Token 으로 반복 요청 시 서명(HMAC) 검증/JSON 파싱 생략
+ *   (role 클레임이 있는 Access Token 만 캐시, Refresh Token 은 verifyRefreshToken 으로 매번 검증)
  */
 @Component
 public class JwtTokenProvider {
@@ -32,6 +43,7 @@ public class JwtTokenProvider {
     private String secretKeyRaw;
 
     private Key key; // 서명키 (HMAC)
+    private JwtParser parser; // 서명키가 고정이므로 한 번만 생성 (thread-safe)
 
     // =====================================
     // ⏱️ 토큰 유효 시간 (ms)
@@ -42,12 +54,23 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-validity-ms:604800000}")   // 기본 7일
     private long refreshTokenValidityMs;
 
+    // =====================================
+    // ⚡ 검증 결과 캐시 (키: 토큰 SHA-256 앞 16바이트 → 토큰 원문은 보관하지 않음)
+    // =====================================
+    @Value("${jwt.verify-cache.max-entries:10000}")
+    private int verifyCacheMaxEntries;
+
+    private record TokenKey(long high, long low) {}
+
+    private final ConcurrentHashMap<TokenKey, JwtPrincipal> verified = new ConcurrentHashMap<>();
+
     // 🔐 key 초기화
     @PostConstruct
     protected void init() {
         // 문자열 키를 그대로 바이트로 사용 (운영에서는 Base64 디코딩 등 사용 고려)
         byte[] keyBytes = secretKeyRaw.getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // ==============================
@@ -86,12 +109,13 @@ public class JwtTokenProvider {
     // ✅ [3] Refresh Token 생성 (공통)
     // ==============================
     // param : subject - 사용자/관리자 식별자(이메일=ID)
-    // return: JWT 문자열
+    // return: JWT 문자열 (jti 로 같은 시각에 발급돼도 토큰마다 다름 → RefreshTokenStore 키)
     public String generateRefreshToken(String subject) {
         final Date now = new Date();
         final Date expiry = new Date(now.getTime() + refreshTokenValidityMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
@@ -100,53 +124,118 @@ public class JwtTokenProvider {
     }
 
     // ==============================
-    // ✅ [4] 토큰에서 사용자 ID(subject) 추출
+    // ✅ [4] 토큰 검증 + 인증 정보 (1회 파싱, 결과 캐시)
+    // ==============================
+    // return: 유효하면 JwtPrincipal, 서명 위변조/만료/형식 오류면 empty
+    public Optional<JwtPrincipal> verify(String token) {
+        try {
+            return Optional.of(verifyOrThrow(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 유효하지 않으면 JwtException (기존 getMemberIdFromToken 등과 같은 예외)
+    public JwtPrincipal verifyOrThrow(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("토큰이 비어 있습니다.");
+        }
+        long now = System.currentTimeMillis();
+        TokenKey cacheKey = keyOf(token);
+
+        JwtPrincipal cached = verified.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verified.remove(cacheKey, cached);
+        }
+
+        // 캐시에 없으면 서명/만료 검증 (실패 시 예외 → 캐시하지 않음)
+        // role 이 없는 토큰(Refresh Token)은 수명이 길고 재발급 때 한 번만 쓰이므로 캐시하지 않음
+        JwtPrincipal principal = toPrincipal(parser.parseClaimsJws(token).getBody());
+        if (principal.role() != null && principal.expiresAt() > now) {
+            if (verified.size() >= verifyCacheMaxEntries) {
+                evict(now);
+            }
+            verified.put(cacheKey, principal);
+        }
+        return principal;
+    }
+
+    // Refresh Token 검증 (캐시 조회/저장 없이 매번 서명/만료 검증)
+    public Optional<JwtPrincipal> verifyRefreshToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(toPrincipal(parser.parseClaimsJws(token).getBody()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static JwtPrincipal toPrincipal(Claims claims) {
+        // role 클레임 이름이 발급처마다 달라도 동일하게 처리
+        Object role = claims.get("role");
+        if (role == null) role = claims.get("roles");
+        if (role == null) role = claims.get("authorities");
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                claims.getSubject(),
+                role == null ? null : role.toString(),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime());
+    }
+
+    private static TokenKey keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenKey(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 상한 도달 시: 만료된 항목 제거 → 그래도 많으면 1/4 정도 비움 (다음 요청에서 다시 검증)
+    private void evict(long now) {
+        verified.values().removeIf(p -> p.isExpired(now));
+        int excess = verified.size() - (verifyCacheMaxEntries * 3 / 4);
+        Iterator<TokenKey> it = verified.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    // ==============================
+    // ✅ [5] 토큰에서 사용자 ID(subject) 추출
     // ==============================
     public String getMemberIdFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verifyOrThrow(token).subject();
     }
 
     // ==============================
-    // ✅ [5] 토큰에서 역할(Role) 추출
+    // ✅ [6] 토큰에서 역할(Role) 추출
     // ==============================
     public String getRoleFromToken(String token) {
-        Object role = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role");
-        return role == null ? null : role.toString();
+        return verifyOrThrow(token).role();
     }
 
     // ==============================
-    // ✅ [6] 토큰 유효성 검증(서명/만료)
+    // ✅ [7] 토큰 유효성 검증(서명/만료)
     // ==============================
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            // 로그를 남기고 false 반환 (서명 위변조/만료/형식 오류 등)
-            return false;
-        }
+        return verify(token).isPresent();
     }
     
-    //토큰에서 Claims 전부 꺼내기
+    public long getRefreshTokenValidityMs() {
+        return refreshTokenValidityMs;
+    }
+
+    //토큰에서 Claims 전부 꺼내기 (캐시 없이 매번 검증)
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
  // ==============================
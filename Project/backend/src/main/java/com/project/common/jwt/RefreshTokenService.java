@@ -0,0 +1,151 @@
+package com.project.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 토큰 발급 / 재발급(rotation) / 폐기
+ * - 로그인마다 family 를 새로 만들고, 재발급 때마다 리프레시 토큰을 새로 발급 (이전 토큰은 사용 처리)
+ * - 이미 사용된 리프레시 토큰이 다시 오면 탈취로 보고 그 family 전체를 폐기 → 재로그인 필요
+ *   (단, 재발급 직후 유예 시간(jwt.refresh-reuse-grace-ms) 안에 같은 토큰이 다시 오면 같은 새 토큰을 돌려줌
+ *    → 여러 탭/동시 요청이 같은 토큰으로 재발급해도 로그아웃되지 않음, 유예 기록은 이 서버 메모리에만 있음)
+ * - 회원/관리자 행(MemberEntity/AdminEntity)에는 토큰을 쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    /** 발급 결과 */
+    public record TokenPair(String accessToken, String refreshToken) {}
+
+    private record Issued(TokenPair pair, RefreshTokenStore.Entry entry) {}
+
+    // 재발급된 토큰 해시 → 그때 발급한 새 토큰 (유예 시간까지, family/ID 가 폐기되면 함께 삭제)
+    private record Grace(TokenPair pair, String familyId, String subject, long until) {}
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final ConcurrentHashMap<String, Grace> graces = new ConcurrentHashMap<>();
+
+    @Value("${jwt.refresh-reuse-grace-ms:5000}")
+    private long reuseGraceMs;
+
+    // =========================
+    // 📌 로그인 시 발급 (새 family)
+    // =========================
+    public TokenPair issue(String subject, String role) {
+        Issued issued = newTokens(subject, role, UUID.randomUUID().toString());
+        refreshTokenStore.save(issued.entry());
+        return issued.pair();
+    }
+
+    // =========================
+    // 📌 재발급 (유효하지 않거나 재사용이면 empty)
+    // =========================
+    public Optional<TokenPair> reissue(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank() || jwtTokenProvider.verifyRefreshToken(refreshToken).isEmpty()) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        String tokenHash = hash(refreshToken);
+        RefreshTokenStore.Entry entry = refreshTokenStore.find(tokenHash).orElse(null);
+        if (entry == null || entry.isExpired(now)) {
+            return Optional.empty();
+        }
+        if (entry.used()) {
+            return reissuedWithinGrace(tokenHash, now).or(() -> {
+                revokeReused(entry);
+                return Optional.empty();
+            });
+        }
+
+        // 같은 family 로 새 토큰 발급 (동시에 같은 토큰으로 재발급하면 먼저 유예 기록을 남긴 쪽의 토큰을 함께 사용)
+        Issued next = newTokens(entry.subject(), entry.role(), entry.familyId());
+        Grace grace = new Grace(next.pair(), entry.familyId(), entry.subject(), now + reuseGraceMs);
+        if (graces.putIfAbsent(tokenHash, grace) != null) {
+            return reissuedWithinGrace(tokenHash, now).or(() -> {
+                revokeReused(entry);
+                return Optional.empty();
+            });
+        }
+        if (!refreshTokenStore.rotate(tokenHash, next.entry())) {
+            graces.remove(tokenHash, grace);
+            revokeReused(entry);
+            return Optional.empty();
+        }
+        return Optional.of(next.pair());
+    }
+
+    // 유예 시간 안이면 그때 발급한 새 토큰 반환 (로그아웃/폐기된 family 는 유예 기록도 지워져 있음)
+    private Optional<TokenPair> reissuedWithinGrace(String tokenHash, long now) {
+        Grace grace = graces.get(tokenHash);
+        if (grace == null || now >= grace.until()) {
+            return Optional.empty();
+        }
+        return Optional.of(grace.pair());
+    }
+
+    // =========================
+    // 📌 로그아웃 (해당 ID 의 토큰 전부 폐기)
+    // =========================
+    public void revokeAll(String subject) {
+        if (subject != null) {
+            graces.values().removeIf(g -> g.subject().equals(subject));
+            refreshTokenStore.revokeSubject(subject);
+        }
+    }
+
+    // 지난 유예 기록 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictGraces() {
+        long now = System.currentTimeMillis();
+        graces.values().removeIf(g -> now >= g.until());
+    }
+
+    // 만료된 토큰 정리 (1분마다)
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        int removed = refreshTokenStore.evictExpired(System.currentTimeMillis());
+        if (removed > 0) {
+            log.debug("만료된 리프레시 토큰 정리: {}건", removed);
+        }
+    }
+
+    private Issued newTokens(String subject, String role, String familyId) {
+        String accessToken = jwtTokenProvider.generateAccessToken(subject, role);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(subject);
+        RefreshTokenStore.Entry entry = new RefreshTokenStore.Entry(hash(refreshToken), familyId, subject, role,
+                System.currentTimeMillis() + jwtTokenProvider.getRefreshTokenValidityMs(), false);
+        return new Issued(new TokenPair(accessToken, refreshToken), entry);
+    }
+
+    private void revokeReused(RefreshTokenStore.Entry entry) {
+        graces.values().removeIf(g -> g.familyId().equals(entry.familyId()));
+        int revoked = refreshTokenStore.revokeFamily(entry.familyId());
+        log.warn("사용된 리프레시 토큰 재사용 감지 → family 폐기: subject={}, {}건", entry.subject(), revoked);
+    }
+
+    // 토큰 원문 → SHA-256 (Base64url 43자)
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.common.jwt;
+
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소
+ * - 키: 토큰 SHA-256 해시 (토큰 원문은 보관하지 않음)
+ * - 기본 구현: InMemoryRefreshTokenStore (메모리 + 주기적 DB 스냅샷)
+ * - jwt.refresh-store.type=jdbc 이면 JdbcRefreshTokenStore (매 요청 DB)
+ */
+public interface RefreshTokenStore {
+
+    /** 저장된 토큰 1건 (불변) */
+    record Entry(String tokenHash, String familyId, String subject, String role, long expiresAt, boolean used) {
+
+        public boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        Entry markUsed() {
+            return new Entry(tokenHash, familyId, subject, role, expiresAt, true);
+        }
+    }
+
+    void save(Entry entry);
+
+    Optional<Entry> find(String tokenHash);
+
+    // 아직 사용되지 않은 토큰이면 사용 처리 후 next 저장 (원자적) / 이미 사용됐거나 없으면 false
+    boolean rotate(String tokenHash, Entry next);
+
+    // 같은 로그인에서 이어진 토큰 전부 폐기
+    int revokeFamily(String familyId);
+
+    // 해당 ID 의 토큰 전부 폐기 (로그아웃)
+    int revokeSubject(String subject);
+
+    // 만료된 토큰 정리
+    int evictExpired(long now);
+}
@@ -20,6 +20,6 @@ public class HolidayScheduler {
     public void registerNextYearHolidays() {
         int nextYear = LocalDate.now().plusYears(1).getYear();
         log.info("자동 실행: {}년 공휴일 등록 시작", nextYear);
-        closedDayService.registerHolidays(nextYear);
+        closedDayService.registerHolidays(nextYear, true); // 연 1회는 항상 최신 API 값으로
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.project.common.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.common.dto.ClosedDayResponseDto;
+import com.project.common.entity.ClosedDay;
+import com.project.common.repository.ClosedDayRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 휴무일/공휴일 메모리 달력
+ * - 연도별로 "일자(day-of-year) → 비트" 형태의 BitSet 보관 (1년 = 366비트)
+ *   registered: closed_day 행이 있는 날 / closed: 예약 불가(isClosed != false)인 날
+ * - 사유(reason)는 행이 있는 날만 일자 인덱스 배열에 보관 (달력 응답용)
+ * - 기동 시 전체 적재, 휴무일 등록/수정/삭제/공휴일 등록 커밋 후 해당 연도만 다시 적재
+ * - 연도 맵은 통째로 교체(copy-on-write)하므로 조회는 락 없이 항상 일관된 상태를 봄
+ */
+@Slf4j
+@Component
+public class ClosedDayCalendar {
+
+    private static final class Year {
+        final BitSet registered = new BitSet(367);
+        final BitSet closed = new BitSet(367);
+        final String[] reasons = new String[367];
+    }
+
+    private static final Year EMPTY = new Year();
+
+    private final ClosedDayRepository closedDayRepository;
+    private final TransactionTemplate loadTx;
+
+    private volatile Map<Integer, Year> years;
+
+    public ClosedDayCalendar(ClosedDayRepository closedDayRepository, PlatformTransactionManager transactionManager) {
+        this.closedDayRepository = closedDayRepository;
+        // 호출한 트랜잭션과 무관하게 커밋된 최신 값을 읽기 위해 별도 트랜잭션 사용
+        this.loadTx = new TransactionTemplate(transactionManager);
+        this.loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTx.setReadOnly(true);
+    }
+
+    // =========================
+    // 📌 기동 시 전체 적재
+    // =========================
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadAll() {
+        List<ClosedDay> rows = loadTx.execute(status -> closedDayRepository.findAll());
+        Map<Integer, Year> next = new HashMap<>();
+        for (ClosedDay cd : rows) {
+            put(next.computeIfAbsent(cd.getClosedDate().getYear(), y -> new Year()), cd);
+        }
+        years = Map.copyOf(next);
+        log.info("휴무일 달력 적재 완료: {}건 ({}개 연도)", rows.size(), next.size());
+    }
+
+    // =========================
+    // 📌 조회 (DB 조회 없음)
+    // =========================
+
+    // 예약 불가일 여부
+    public boolean isClosed(LocalDate date) {
+        return year(date.getYear()).closed.get(date.getDayOfYear());
+    }
+
+    // 기간 내 휴무일 목록 (양끝 포함, 날짜순) - 행이 있는 날 모두 (isClosed=false 포함)
+    public List<ClosedDayResponseDto> between(LocalDate start, LocalDate end) {
+        List<ClosedDayResponseDto> result = new ArrayList<>();
+        for (int y = start.getYear(); y <= end.getYear(); y++) {
+            Year year = year(y);
+            int from = y == start.getYear() ? start.getDayOfYear() : 1;
+            int to = y == end.getYear() ? end.getDayOfYear() : LocalDate.of(y, 12, 31).getDayOfYear();
+            for (int d = year.registered.nextSetBit(from); d >= 0 && d <= to; d = year.registered.nextSetBit(d + 1)) {
+                result.add(ClosedDayResponseDto.builder()
+                        .closedDate(LocalDate.ofYearDay(y, d))
+                        .reason(year.reasons[d])
+                        .isClosed(year.closed.get(d))
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    // =========================
+    // 📌 갱신 (변경된 연도만, 커밋 이후)
+    // =========================
+    public void refreshAfterCommit(Collection<Integer> changedYears) {
+        Set<Integer> targets = new TreeSet<>(changedYears);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload(targets);
+                }
+            });
+        } else {
+            reload(targets);
+        }
+    }
+
+    private synchronized void reload(Set<Integer> targets) {
+        if (years == null) {
+            loadAll();
+            return;
+        }
+        Map<Integer, Year> next = new HashMap<>(years);
+        for (int y : targets) {
+            List<ClosedDay> rows = loadTx.execute(status ->
+                    closedDayRepository.findByClosedDateBetween(LocalDate.of(y, 1, 1), LocalDate.of(y, 12, 31)));
+            Year year = new Year();
+            rows.forEach(cd -> put(year, cd));
+            next.put(y, year);
+        }
+        years = Map.copyOf(next);
+    }
+
+    private Year year(int y) {
+        Map<Integer, Year> snapshot = years;
+        if (snapshot == null) {
+            loadAll();   // 기동 이벤트 이전 호출 대비
+            snapshot = years;
+        }
+        return snapshot.getOrDefault(y, EMPTY);
+    }
+
+    private static void put(Year year, ClosedDay cd) {
+        int d = cd.getClosedDate().getDayOfYear();
+        year.registered.set(d);
+        year.closed.set(d, !Boolean.FALSE.equals(cd.getIsClosed()));
+        year.reasons[d] = cd.getReason();
+    }
+}
@@ -23,6 +23,9 @@ public interface ClosedDayService {
     //명절이나 크리스마스 자동 등록
     void registerHolidays(int year);
     
+    //공휴일 자동 등록 (refresh=true 이면 저장된 스냅샷 대신 API 재조회)
+    void registerHolidays(int year, boolean refresh);
+    
     //특정 연/월의 휴무일 조회 (달력 UI에서 한 달 표시용)
     List<ClosedDayResponseDto> getClosedDays(int year, int month);
 }
\ No newline at end of file
@@ -6,12 +6,18 @@ import com.project.common.dto.HolidayDto;
 import com.project.common.entity.ClosedDay;
 import com.project.common.repository.ClosedDayRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Date;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +26,14 @@ public class ClosedDayServiceImpl implements ClosedDayService {
 
     private final ClosedDayRepository closedDayRepository;
     private final HolidayApiService holidayApiService;
+    private final ClosedDayCalendar closedDayCalendar;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 공휴일 일괄 등록: 있으면 사유/휴무여부 갱신, 없으면 추가 (closed_date PK 기준)
+    private static final String UPSERT_SQL =
+            "INSERT INTO closed_day (closed_date, reason, is_closed) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE reason = VALUES(reason), is_closed = VALUES(is_closed)";
     
     // 휴무일 등록/수정
     @Override
@@ -31,59 +45,58 @@ public class ClosedDayServiceImpl implements ClosedDayService {
                 .build();
 
         closedDayRepository.save(closedDay);
+        closedDayCalendar.refreshAfterCommit(List.of(dto.getClosedDate().getYear()));
     }
 
     // 휴무일 삭제
     @Override
     public void deleteClosedDay(LocalDate date) {
         closedDayRepository.deleteByClosedDate(date);
+        closedDayCalendar.refreshAfterCommit(List.of(date.getYear()));
     }
 
-    // 특정 날짜 휴무 여부
+    // 특정 날짜 휴무 여부 (메모리 달력, 예약 불가(isClosed)인 날만 true)
     @Override
     @Transactional(readOnly = true)
     public boolean isClosed(LocalDate date) {
-        return closedDayRepository.existsByClosedDate(date);
+        return closedDayCalendar.isClosed(date);
     }
 
-    // 특정 기간 내 휴무일 조회
+    // 특정 기간 내 휴무일 조회 (메모리 달력)
     @Override
     @Transactional(readOnly = true)
     public List<ClosedDayResponseDto> getClosedDaysInPeriod(LocalDate start, LocalDate end) {
-        return closedDayRepository.findByClosedDateBetween(start, end)
-                .stream()
-                .map(cd -> ClosedDayResponseDto.builder()
-                        .closedDate(cd.getClosedDate())
-                        .reason(cd.getReason())
-                        .isClosed(cd.getIsClosed())
-                        .build())
-                .collect(Collectors.toList());
+        return closedDayCalendar.between(start, end);
     }
 
-    // 공휴일 자동 등록 (HolidayApiService 사용 가능)
+    // 공휴일 자동 등록 (스냅샷이 있으면 네트워크 없이 등록)
+    // - 아래 메서드를 내부 호출하므로 프록시를 거치지 않음 → 여기에도 NOT_SUPPORTED 를 붙여 클래스 트랜잭션 밖에서 조회
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void registerHolidays(int year) {
-        // HolidayApiService 통해 공휴일 가져오기
-        List<HolidayDto> holidays = holidayApiService.getHolidays(year);
+        registerHolidays(year, false);
+    }
 
-        for (HolidayDto holiday : holidays) {
-            ClosedDay closedDay = ClosedDay.builder()
-                    .closedDate(holiday.getDate())
-                    .reason(holiday.getName())
-                    .isClosed("Y".equalsIgnoreCase(holiday.getIsHoliday()))
-                    .build();
+    // 공휴일 자동 등록
+    // - API 조회(또는 스냅샷 읽기)는 트랜잭션 밖에서 → 네트워크 대기 중 DB 커넥션 점유 없음
+    // - 등록은 한 트랜잭션에서 배치 upsert 1회 (건별 findById + save 하지 않음)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void registerHolidays(int year, boolean refresh) {
+        List<HolidayDto> holidays = holidayApiService.getHolidays(year, refresh);
+        Set<Integer> changedYears = new HashSet<>();
+        changedYears.add(year);
+        holidays.forEach(h -> changedYears.add(h.getDate().getYear()));
 
-            // ✅ 중복이면 holidayName 업데이트, 없으면 새로 저장
-            closedDayRepository.findById(closedDay.getClosedDate())
-                    .ifPresentOrElse(
-                        existing -> {
-                            existing.setReason(holiday.getName());
-                            existing.setIsClosed(closedDay.getIsClosed()); // 필요하다면 isClosed도 갱신
-                            closedDayRepository.save(existing);
-                        },
-                        () -> closedDayRepository.save(closedDay)
-                    );
-        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // ✅ 중복이면 사유/휴무여부 갱신, 없으면 새로 저장
+            jdbcTemplate.batchUpdate(UPSERT_SQL, holidays, holidays.size(), (ps, holiday) -> {
+                ps.setDate(1, Date.valueOf(holiday.getDate()));
+                ps.setString(2, holiday.getName());
+                ps.setBoolean(3, "Y".equalsIgnoreCase(holiday.getIsHoliday()));
+            });
+            closedDayCalendar.refreshAfterCommit(changedYears);
+        });
     }
     
 //    @Override
@@ -0,0 +1,31 @@
+package com.project.common.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 전체 개수(COUNT) 캐시
+ * - 커서 페이지네이션에서 전체 개수를 요청한 경우에만 계산 (요청마다 COUNT 하지 않음)
+ * - 키별로 TTL 동안 재사용, 같은 키의 동시 요청은 한 번만 계산
+ * - 등록/삭제 직후에는 TTL 만큼 이전 개수가 보일 수 있음 (목록 자체는 커서로 항상 최신)
+ */
+@Component
+public class CountCache {
+
+    @Value("${paging.count-cache-ttl-ms:30000}")
+    private long ttlMs;
+
+    private record Entry(long value, long expiresAt) {}
+
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.compute(key, (k, old) ->
+                (old != null && old.expiresAt() > now) ? old : new Entry(counter.getAsLong(), now + ttlMs));
+        return entry.value();
+    }
+}
@@ -6,42 +6,201 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 공휴일 API(data.go.kr) 조회
+ * - 12개월을 동시에 요청 (월별 연결/응답 타임아웃 + 지수 백오프 재시도)
+ * - 한 해 전체를 받아오면 로컬 JSON 스냅샷으로 저장 → 보존 기간(holiday.snapshot-ttl-days) 안의 재실행은 스냅샷 사용
+ * - 한 달이라도 끝내 실패하면 나머지 달 요청을 중단(인터럽트)하고 예외, 스냅샷도 만들지 않음 (일부만 등록되는 일 방지)
+ * - 결과가 0건이거나 응답 건수(totalCount)와 받은 건수가 다르면 스냅샷으로 남기지 않음
+ * - 보존 기간이 지난 스냅샷은 다시 조회하고, 조회가 실패하면 지난 스냅샷으로 대신함
+ * - holiday.api.base-url 을 바꾸면 로컬 스텁 서버로 느린/실패 응답을 재현할 수 있음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HolidayApiService {
 
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private RestTemplate restTemplate;
+    private ExecutorService executor;
 
     @Value("${holiday.api.key}")
     private String serviceKey;
-    
+
     //공휴일 정보 조회 기능 기본요청 url
-    private static final String BASE_URL = "https://apis.data.go.kr/B090041/openapi/service/SpcdeInfoService/getRestDeInfo";
+    @Value("${holiday.api.base-url:https://apis.data.go.kr/B090041/openapi/service/SpcdeInfoService/getRestDeInfo}")
+    private String baseUrl;
+
+    @Value("${holiday.api.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${holiday.api.read-timeout-ms:5000}")
+    private int readTimeoutMs;
+
+    @Value("${holiday.api.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${holiday.api.retry-backoff-ms:300}")
+    private long retryBackoffMs;
+
+    @Value("${holiday.api.parallelism:6}")
+    private int parallelism;
+
+    @Value("${holiday.snapshot-dir:./cache/holidays}")
+    private String snapshotDir;
+
+    // 임시 공휴일/대체공휴일이 뒤늦게 지정되는 경우가 있어 스냅샷은 일정 기간만 사용
+    @Value("${holiday.snapshot-ttl-days:7}")
+    private long snapshotTtlDays;
+
+    @PostConstruct
+    protected void init() {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+        restTemplate = new RestTemplate(factory);
+
+        AtomicInteger seq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "holiday-api-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 
+    // 보존 기간 안의 스냅샷이 있으면 스냅샷, 없으면 API 조회 후 스냅샷 저장
     public List<HolidayDto> getHolidays(int year) {
-        List<HolidayDto> holidays = new ArrayList<>();
+        return getHolidays(year, false);
+    }
+
+    // refresh=true 이면 스냅샷을 무시하고 다시 조회
+    public List<HolidayDto> getHolidays(int year, boolean refresh) {
+        Path snapshot = snapshotPath(year);
+        List<HolidayDto> stale = null;
+        if (!refresh && Files.isRegularFile(snapshot)) {
+            try {
+                List<HolidayDto> cached = objectMapper.readValue(snapshot.toFile(), new TypeReference<List<HolidayDto>>() {});
+                if (isFresh(snapshot)) {
+                    log.info("{}년 공휴일 스냅샷 사용: {} ({}건)", year, snapshot, cached.size());
+                    return cached;
+                }
+                stale = cached;
+            } catch (IOException e) {
+                log.warn("{}년 공휴일 스냅샷 읽기 실패 → API 재조회: {}", year, e.getMessage());
+            }
+        }
+
+        List<HolidayDto> holidays;
+        try {
+            holidays = fetchYear(year);
+        } catch (RuntimeException e) {
+            if (stale == null) throw e;
+            log.warn("{}년 공휴일 API 조회 실패 → 보존 기간이 지난 스냅샷 사용 ({}건): {}", year, stale.size(), e.getMessage());
+            return stale;
+        }
+
+        if (holidays.isEmpty()) {
+            log.warn("{}년 공휴일 조회 결과 0건 → 스냅샷 저장 안 함", year);
+        } else {
+            writeSnapshot(snapshot, holidays);
+        }
+        return holidays;
+    }
+
+    // 12개월 동시 조회, 먼저 끝난 순서로 받다가 한 달이라도 실패하면 나머지는 취소(인터럽트 → 재시도 중단)
+    private List<HolidayDto> fetchYear(int year) {
+        long start = System.currentTimeMillis();
+        CompletionService<List<HolidayDto>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<List<HolidayDto>>> months = new ArrayList<>();
         for (int month = 1; month <= 12; month++) {
-            holidays.addAll(fetch(year, month));
+            int m = month;
+            months.add(completion.submit(() -> fetchWithRetry(year, m)));
+        }
+
+        List<HolidayDto> holidays = new ArrayList<>();
+        try {
+            for (int i = 0; i < months.size(); i++) {
+                holidays.addAll(completion.take().get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("공휴일 API 조회 중단: " + year + "년", e);
+        } finally {
+            months.forEach(f -> f.cancel(true));
         }
+        holidays.sort(Comparator.comparing(HolidayDto::getDate));
+        log.info("{}년 공휴일 API 조회 완료: {}건, {}ms", year, holidays.size(), System.currentTimeMillis() - start);
         return holidays;
     }
 
+    private List<HolidayDto> fetchWithRetry(int year, int month) {
+        RuntimeException last = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            // 다른 달이 실패해서 취소된 경우 더 요청하지 않음
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            try {
+                return fetch(year, month);
+            } catch (RuntimeException e) {
+                last = e;
+                log.warn("공휴일 API {}-{} 조회 실패 ({}/{}): {}", year, month, attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts) {
+                    try {
+                        Thread.sleep(retryBackoffMs << (attempt - 1));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+        throw new RuntimeException("공휴일 API 호출 실패: " + year + "년 " + month + "월", last);
+    }
+
     private List<HolidayDto> fetch(int year, int month) {
-        URI uri = UriComponentsBuilder.fromHttpUrl(BASE_URL)
+        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
                 .queryParam("solYear", year)
                 .queryParam("solMonth", String.format("%02d", month))
                 .queryParam("ServiceKey", serviceKey)
@@ -50,9 +209,15 @@ public class HolidayApiService {
                 .build(true)
                 .toUri();
 
-        ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.getForEntity(uri, String.class);
+        } catch (RestClientException e) {
+            throw new RuntimeException("공휴일 API 요청 오류: " + e.getMessage(), e);
+        }
 
-        if (!response.getHeaders().getContentType().includes(MediaType.APPLICATION_JSON)) {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !contentType.includes(MediaType.APPLICATION_JSON)) {
             throw new RuntimeException("API 응답이 JSON 형식이 아닙니다.");
         }
 
@@ -62,15 +227,35 @@ public class HolidayApiService {
             throw new RuntimeException("공휴일 API 호출 실패: " + response.getStatusCode());
         }
     }
-    
-    
+
+    // 임시 파일에 쓴 뒤 이동 (반쯤 쓰인 스냅샷 방지). 저장 실패는 조회 결과에 영향 없음
+    private void writeSnapshot(Path snapshot, List<HolidayDto> holidays) {
+        try {
+            Files.createDirectories(snapshot.getParent());
+            Path tmp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), ".tmp");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), holidays);
+            Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("공휴일 스냅샷 저장 실패: {} ({})", snapshot, e.getMessage());
+        }
+    }
+
+    private boolean isFresh(Path snapshot) throws IOException {
+        Instant modified = Files.getLastModifiedTime(snapshot).toInstant();
+        return modified.isAfter(Instant.now().minus(Duration.ofDays(snapshotTtlDays)));
+    }
+
+    private Path snapshotPath(int year) {
+        return Paths.get(snapshotDir).toAbsolutePath().normalize().resolve("holidays-" + year + ".json");
+    }
 
     private List<HolidayDto> parse(String json) {
         List<HolidayDto> result = new ArrayList<>();
         try {
             JsonNode root = objectMapper.readTree(json);
-            JsonNode itemsNode = root.path("response").path("body").path("items");
-            JsonNode itemNode = itemsNode.path("item");
+            JsonNode header = root.path("response").path("header");
+            JsonNode body = root.path("response").path("body");
+            JsonNode itemNode = body.path("items").path("item");
 
             if (itemNode.isArray()) {
                 for (JsonNode item : itemNode) {
@@ -79,9 +264,18 @@ public class HolidayApiService {
             } else if (itemNode.isObject()) {
                 result.add(parseItem(itemNode));
             }
+            // 정상 응답 코드("00")와 전체 건수까지 확인 → 오류 응답/잘린 응답을 빈 달로 취급하지 않음
+            String resultCode = header.path("resultCode").asText();
+            if (!"00".equals(resultCode)) {
+                throw new IllegalStateException("resultCode=" + resultCode + " " + header.path("resultMsg").asText());
+            }
+            int totalCount = body.path("totalCount").asInt(-1);
+            if (totalCount != result.size()) {
+                throw new IllegalStateException("totalCount=" + totalCount + ", items=" + result.size());
+            }
         } catch (Exception e) {
             log.error("공휴일 JSON 파싱 오류: {}", json);
-            throw new RuntimeException("공휴일 JSON 파싱 오류", e);
+            throw new RuntimeException("공휴일 JSON 파싱 오류: " + e.getMessage(), e);
         }
         return result;
     }
@@ -90,11 +284,9 @@ public class HolidayApiService {
         int locdate = item.path("locdate").asInt(); // 예: 20250815
         String dateName = item.path("dateName").asText(); // 예: 광복절
         String isHoliday = item.path("isHoliday").asText(); // "Y" or "N"
-        
-        System.out.println("공휴일 원본 데이터 → locdate=" + locdate 
-                + ", dateName=" + dateName 
-                + ", isHoliday=" + isHoliday);
-        
+
+        log.debug("공휴일 원본 데이터 → locdate={}, dateName={}, isHoliday={}", locdate, dateName, isHoliday);
+
         LocalDate date = LocalDate.parse(String.valueOf(locdate), DateTimeFormatter.BASIC_ISO_DATE);
         return HolidayDto.builder()
                 .date(date)
@@ -102,4 +294,4 @@ public class HolidayApiService {
                 .isHoliday(isHoliday)
                 .build();
     }
-}
\ No newline at end of file
+}
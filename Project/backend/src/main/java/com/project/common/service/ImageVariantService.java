@@ -0,0 +1,314 @@
+package com.project.common.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 리사이즈 변형(variant) 생성 + 디스크 캐시
+ * - 원본: 포토게시판(/DATA/bbs/imgBbs), 게시판 첨부 이미지, 썸네일, 배너(/DATA/banner)
+ * - 요청 폭은 정해진 단계로 맞춰서 캐시 파일 수를 제한
+ * - 캐시 키 = 원본 내용의 SHA-256 + 폭 + 품질 → 같은 원본이면 경로가 달라도 같은 캐시 사용
+ * - 큰 JPEG는 디코딩 단계에서 서브샘플링하여 원본 크기 버퍼를 만들지 않음
+ * - 같은 변형을 동시에 요청하면 한 요청만 생성하고 나머지는 그 결과를 기다림
+ * - 원본 교체/삭제 시 evict 로 해시 캐시와 변형 파일 제거 (배너 수정/삭제, FileStorageService.release)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final int[] WIDTH_STEPS = {160, 320, 480, 640, 960, 1280, 1920};
+    private static final int DEFAULT_QUALITY = 80;
+    private static final int MIN_QUALITY = 30;
+    private static final int MAX_QUALITY = 95;
+
+    @Value("${file.upload-imgbbs}")
+    private String imgBbsUploadDir;
+
+    @Value("${file.upload-norbbs}")
+    private String norBbsUploadDir;
+
+    @Value("${file.upload-quesbbs}")
+    private String quesBbsUploadDir;
+
+    @Value("${file.upload-sumnel}")
+    private String thumbnailUploadDir;
+
+    @Value("${file.upload-dir}")
+    private String bannerUploadDir;
+
+    @Value("${file.image-variant-cache-dir:./cache/image-variants}")
+    private String cacheDirRaw;
+
+    private Path cacheDir;
+
+    // 원본 경로 → (크기, 수정시각, 내용 해시) : 원본이 바뀌지 않았으면 해시 재계산 생략
+    private final ConcurrentHashMap<Path, SourceDigest> digestCache = new ConcurrentHashMap<>();
+
+    private record SourceDigest(long size, long lastModified, String sha256) {}
+
+    // 생성 중인 변형 파일 → 생성 완료 신호 (같은 캐시 파일 동시 생성 방지)
+    private final ConcurrentHashMap<Path, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /** 생성(또는 캐시에서 찾은) 변형 이미지 */
+    public record Variant(Path file, String etag, long lastModified, String contentType) {}
+
+    @PostConstruct
+    protected void init() throws IOException {
+        cacheDir = Paths.get(cacheDirRaw).toAbsolutePath().normalize();
+        Files.createDirectories(cacheDir);
+    }
+
+    // =========================
+    // 📌 변형 이미지 조회 (캐시에 없으면 생성)
+    // =========================
+    public Variant getVariant(String webPath, Integer width, Integer quality) throws IOException {
+        Path source = resolveSource(webPath);
+        if (source == null || !Files.isRegularFile(source)) {
+            throw new IllegalArgumentException("이미지를 찾을 수 없습니다: " + webPath);
+        }
+
+        String format = isJpeg(source) ? "jpg" : "png";
+        int targetWidth = snapWidth(width);
+        int q = (quality == null) ? DEFAULT_QUALITY : Math.max(MIN_QUALITY, Math.min(MAX_QUALITY, quality));
+
+        String key = digest(source) + "_w" + targetWidth + ("jpg".equals(format) ? "_q" + q : "") + "." + format;
+        Path cached = cacheDir.resolve(key.substring(0, 2)).resolve(key);
+
+        if (Files.notExists(cached)) {
+            generateOnce(source, cached, targetWidth, q, format);
+        }
+
+        String contentType = "jpg".equals(format) ? "image/jpeg" : "image/png";
+        return new Variant(cached, "\"" + key + "\"", Files.getLastModifiedTime(cached).toMillis(), contentType);
+    }
+
+    // =========================
+    // 📌 원본 교체/삭제 → 해시 캐시와 변형 파일 제거
+    //   같은 내용의 다른 원본이 해시 캐시에 남아 있으면 변형 파일은 유지 (내용 해시 기준 공유)
+    //   재기동 전에 만든 변형은 해시 캐시에 없으므로 여기서 지워지지 않음
+    // =========================
+    public void evict(Path source) {
+        if (source == null) return;
+        SourceDigest removed = digestCache.remove(source.toAbsolutePath().normalize());
+        if (removed == null) return;
+        String sha256 = removed.sha256();
+        if (digestCache.values().stream().anyMatch(d -> d.sha256().equals(sha256))) return;
+
+        Path dir = cacheDir.resolve(sha256.substring(0, 2));
+        if (!Files.isDirectory(dir)) return;
+        try (var variants = Files.newDirectoryStream(dir, sha256 + "_*")) {
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+                evicted.increment();
+            }
+        } catch (IOException e) {
+            log.warn("이미지 변형 삭제 실패: {} ({})", source.getFileName(), e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("generated", generated.sum());
+        stats.put("joined", joined.sum());
+        stats.put("evicted", evicted.sum());
+        stats.put("digests", digestCache.size());
+        return stats;
+    }
+
+    // /DATA/... 웹 경로 → 물리 경로 (파일명만 사용하여 상위 경로 접근 차단)
+    private Path resolveSource(String webPath) {
+        if (webPath == null || webPath.isBlank()) return null;
+        String baseDir;
+        if (webPath.contains("/DATA/bbs/imgBbs/")) baseDir = imgBbsUploadDir;
+        else if (webPath.contains("/DATA/bbs/norBbs/")) baseDir = norBbsUploadDir;
+        else if (webPath.contains("/DATA/bbs/quesBbs/")) baseDir = quesBbsUploadDir;
+        else if (webPath.contains("/DATA/bbs/thumbnail/")) baseDir = thumbnailUploadDir;
+        else if (webPath.contains("/DATA/banner/")) baseDir = bannerUploadDir;
+        else return null;
+
+        String fileName = Paths.get(webPath).getFileName().toString();
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (!(lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".png"))) return null;
+        return Paths.get(baseDir).toAbsolutePath().normalize().resolve(fileName);
+    }
+
+    // 요청 폭 이상인 가장 작은 단계 (없으면 최대 단계)
+    private int snapWidth(Integer width) {
+        if (width == null || width <= 0) return WIDTH_STEPS[WIDTH_STEPS.length - 1];
+        for (int step : WIDTH_STEPS) {
+            if (step >= width) return step;
+        }
+        return WIDTH_STEPS[WIDTH_STEPS.length - 1];
+    }
+
+    private boolean isJpeg(Path source) {
+        String lower = source.getFileName().toString().toLowerCase(Locale.ROOT);
+        return lower.endsWith(".jpg") || lower.endsWith(".jpeg");
+    }
+
+    private String digest(Path source) throws IOException {
+        long size = Files.size(source);
+        long lastModified = Files.getLastModifiedTime(source).toMillis();
+        SourceDigest known = digestCache.get(source);
+        if (known != null && known.size() == size && known.lastModified() == lastModified) {
+            return known.sha256();
+        }
+
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                md.update(buffer, 0, read);
+            }
+        }
+        String sha256 = HexFormat.of().formatHex(md.digest());
+        digestCache.put(source, new SourceDigest(size, lastModified, sha256));
+        return sha256;
+    }
+
+    // 같은 캐시 파일은 한 요청만 생성, 동시에 들어온 요청은 완료(또는 실패)를 기다림
+    private void generateOnce(Path source, Path target, int targetWidth, int quality, String format) throws IOException {
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(target, mine);
+        if (running != null) {
+            joined.increment();
+            try {
+                running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException io) throw io;
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                throw e;
+            }
+            return;
+        }
+        try {
+            // 확인 ~ 등록 사이에 앞선 생성이 끝났을 수 있음
+            if (Files.notExists(target)) {
+                generate(source, target, targetWidth, quality, format);
+                generated.increment();
+            }
+            mine.complete(null);
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(target, mine);
+        }
+    }
+
+    // =========================
+    // 📌 변형 이미지 생성 (서브샘플링 디코딩 → 리사이즈 → 인코딩 → 원자적 이동)
+    // =========================
+    private void generate(Path source, Path target, int targetWidth, int quality, String format) throws IOException {
+        BufferedImage decoded = decodeSubsampled(source, targetWidth);
+
+        // 원본보다 크게 키우지 않음
+        int outWidth = Math.min(targetWidth, decoded.getWidth());
+        int outHeight = Math.max(1, (int) Math.round((double) decoded.getHeight() * outWidth / decoded.getWidth()));
+
+        int imageType = "jpg".equals(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage resized = new BufferedImage(outWidth, outHeight, imageType);
+        Graphics2D g2d = resized.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(decoded, 0, 0, outWidth, outHeight, null);
+        g2d.dispose();
+
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            if ("jpg".equals(format)) {
+                writeJpeg(resized, tmp, quality);
+            } else {
+                try (OutputStream os = Files.newOutputStream(tmp)) {
+                    ImageIO.write(resized, "png", os);
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        log.debug("이미지 변형 생성: {} → {} ({}x{})", source.getFileName(), target.getFileName(), outWidth, outHeight);
+    }
+
+    // 목표 폭의 2배 이상을 유지하는 범위에서 정수 배 서브샘플링하여 디코딩
+    private BufferedImage decodeSubsampled(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(source.toFile())) {
+            if (iis == null) throw new IOException("이미지를 읽을 수 없습니다: " + source);
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) throw new IOException("지원하지 않는 이미지 형식입니다: " + source);
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int srcWidth = reader.getWidth(0);
+                int factor = Math.max(1, srcWidth / (targetWidth * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (factor > 1) {
+                    param.setSourceSubsampling(factor, factor, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target, int quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality / 100f);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.common.service;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.common.exception.LoginThrottledException;
+import com.project.common.util.ClientIpResolver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷, 서버 메모리)
+ * - 클라이언트 IP 별 / (계정 ID, IP) 별 / 계정 ID 전체 버킷을 따로 두고, 모두 남아 있어야 비밀번호 검증(BCrypt)으로 진행
+ *   → 초과 시도는 DB 조회/BCrypt 전에 429 로 거절 (나쁜 로그인 폭주가 요청 스레드를 잡아먹지 않음)
+ * - 버킷 = "가득 찰 시각" long 하나 (AtomicLong CAS) → 락 없음, 기존 키 통과 시 객체 생성 없음
+ *   (시도 1번 = refill-ms 만큼 시각을 미룸, 현재 시각보다 capacity 칸 이상 앞서면 거절)
+ * - IP 는 ClientIpResolver 기준 (X-Forwarded-For 는 client-ip.trust-forwarded-for 일 때만)
+ * - IP 를 먼저 확인 → 한 IP 에서 임의 계정 ID 를 쏟아내도 계정 맵이 커지지 않음
+ * - 계정 버킷은 (계정, IP) 단위 → 다른 곳에서 남의 ID 로 틀려도 본인 IP 의 로그인은 막히지 않음
+ * - 계정 전체 버킷은 여러 IP 로 나눠 찌르는 경우의 느린 안전망 (같은 IP 에서 이미 거절된 시도는 세지 않음)
+ * - 로그인 성공 시 해당 (계정, IP) 버킷만 초기화 (전체 버킷은 유지), 가득 찬(= 최근 시도 없는) 버킷은 주기적으로 제거
+ * - 서버 1대 기준 (여러 대면 인스턴스별로 따로 셈)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+
+    /** 누적 카운터 (관리자 조회용) */
+    public record Stats(long allowed, long rejectedByIp, long rejectedByAccount, long rejectedByAccountGlobal,
+                        int trackedIps, int trackedAccounts, int trackedAccountGlobals) {}
+
+    @Value("${login.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${login.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${login.rate-limit.ip.refill-ms:3000}")
+    private long ipRefillMs;
+
+    @Value("${login.rate-limit.account.capacity:5}")
+    private int accountCapacity;
+
+    @Value("${login.rate-limit.account.refill-ms:30000}")
+    private long accountRefillMs;
+
+    @Value("${login.rate-limit.account-global.capacity:50}")
+    private int accountGlobalCapacity;
+
+    @Value("${login.rate-limit.account-global.refill-ms:60000}")
+    private long accountGlobalRefillMs;
+
+    private final ClientIpResolver clientIpResolver;
+
+    private final ConcurrentHashMap<String, AtomicLong> ipBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> accountBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> accountGlobalBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByAccount = new LongAdder();
+    private final LongAdder rejectedByAccountGlobal = new LongAdder();
+
+    // =========================
+    // 📌 시도 허용 여부 (초과 시 LoginThrottledException)
+    // =========================
+    public void acquire(String accountId) {
+        if (!enabled) return;
+        long now = System.currentTimeMillis();
+
+        String ip = clientIpResolver.current();
+        if (ip != null) {
+            long waitMs = tryAcquire(ipBuckets, ip, ipRefillMs, ipCapacity, now);
+            if (waitMs > 0) {
+                rejectedByIp.increment();
+                throw throttled(waitMs);
+            }
+        }
+
+        String account = normalize(accountId);
+        if (account != null) {
+            long waitMs = tryAcquire(accountBuckets, accountKey(account, ip), accountRefillMs, accountCapacity, now);
+            if (waitMs > 0) {
+                rejectedByAccount.increment();
+                throw throttled(waitMs);
+            }
+            waitMs = tryAcquire(accountGlobalBuckets, account, accountGlobalRefillMs, accountGlobalCapacity, now);
+            if (waitMs > 0) {
+                rejectedByAccountGlobal.increment();
+                throw throttled(waitMs);
+            }
+        }
+        allowed.increment();
+    }
+
+    // 로그인 성공 → 해당 (계정, IP) 버킷 초기화 (IP 버킷 / 계정 전체 버킷은 그대로)
+    public void reset(String accountId) {
+        String account = normalize(accountId);
+        if (account != null) {
+            accountBuckets.remove(accountKey(account, clientIpResolver.current()));
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(allowed.sum(), rejectedByIp.sum(), rejectedByAccount.sum(), rejectedByAccountGlobal.sum(),
+                ipBuckets.size(), accountBuckets.size(), accountGlobalBuckets.size());
+    }
+
+    // 허용이면 0, 거절이면 다음 시도까지 남은 ms
+    private static long tryAcquire(ConcurrentHashMap<String, AtomicLong> buckets, String key,
+                                   long refillMs, int capacity, long now) {
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt == null) {
+            fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong());
+        }
+        long limit = now + refillMs * capacity;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillMs;
+            if (next > limit) {
+                return next - limit;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private static LoginThrottledException throttled(long waitMs) {
+        long seconds = Math.max(1, (waitMs + 999) / 1000);
+        return new LoginThrottledException("로그인 시도가 너무 많습니다. " + seconds + "초 후 다시 시도해 주세요.", seconds);
+    }
+
+    // (계정, IP) 버킷 키 - 요청 밖(IP 없음)이면 계정만
+    private static String accountKey(String account, String ip) {
+        return ip == null ? account : account + "|" + ip;
+    }
+
+    // 대소문자만 다른 ID 도 같은 계정으로 셈 (바뀔 글자가 없으면 같은 문자열 그대로 사용)
+    private static String normalize(String accountId) {
+        if (accountId == null || accountId.isBlank()) return null;
+        return accountId.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // =========================
+    // 📌 가득 찬 버킷 정리 (가득 찼으면 없는 것과 같음)
+    // =========================
+    @Scheduled(fixedDelayString = "${login.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        ipBuckets.values().removeIf(fullAt -> fullAt.get() <= now);
+        accountBuckets.values().removeIf(fullAt -> fullAt.get() <= now);
+        accountGlobalBuckets.values().removeIf(fullAt -> fullAt.get() <= now);
+        if (rejectedByIp.sum() + rejectedByAccount.sum() + rejectedByAccountGlobal.sum() > 0) {
+            log.debug("로그인 제한 현황: {}", stats());
+        }
+    }
+}
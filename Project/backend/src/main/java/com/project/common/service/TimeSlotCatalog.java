@@ -0,0 +1,182 @@
+package com.project.common.service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.common.dto.TimeSlotDto;
+import com.project.common.entity.TimeSlot;
+import com.project.common.entity.TimeType;
+import com.project.common.repository.TimeSlotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간대(TimeSlot) 카탈로그 - 메모리 캐시
+ * - 시간대는 관리자 추가/수정/삭제 때만 바뀌므로 전체를 한 번 읽어 불변 스냅샷으로 보관
+ * - 예약 유효성 검사, 예약 현황 Dto, 사용자 시간대 목록은 모두 스냅샷에서 읽음 (DB 조회 없음)
+ * - 관리자 변경 시 커밋 이후 전체를 다시 읽어 새 스냅샷(버전+1)으로 한 번에 교체
+ * - 다시 읽기에 실패하면 이전 스냅샷을 유지한 채 경고 로그를 남기고, 성공할 때까지 주기적으로 재시도
+ *   (timeslot.catalog.retry-interval-ms)
+ */
+@Slf4j
+@Component
+public class TimeSlotCatalog {
+
+    /** 시간대 1건 (불변) */
+    public record Slot(Long id, String label, LocalTime startTime, LocalTime endTime,
+                       int capacity, boolean enabled, TimeType timeType) {
+
+        static Slot from(TimeSlot entity) {
+            return new Slot(entity.getId(), entity.getLabel(), entity.getStartTime(), entity.getEndTime(),
+                    entity.getCapacity(), entity.isEnabled(), entity.getTimeType());
+        }
+
+        public TimeSlotDto toDto() {
+            return TimeSlotDto.builder()
+                    .timeSlotId(id)
+                    .label(label)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .enabled(enabled)
+                    .capacity(capacity)
+                    .timeType(timeType)
+                    .build();
+        }
+    }
+
+    private record Snapshot(long version, Map<Long, Slot> byId, Map<TimeType, List<Slot>> byType) {}
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final TransactionTemplate loadTx;
+
+    private volatile Snapshot snapshot;
+
+    // 커밋 후 다시 읽기에 실패해 스냅샷이 DB 보다 오래된 상태
+    private volatile boolean stale;
+
+    public TimeSlotCatalog(TimeSlotRepository timeSlotRepository, PlatformTransactionManager transactionManager) {
+        this.timeSlotRepository = timeSlotRepository;
+        // 호출한 트랜잭션과 무관하게 커밋된 최신 값을 읽기 위해 별도 트랜잭션 사용
+        this.loadTx = new TransactionTemplate(transactionManager);
+        this.loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTx.setReadOnly(true);
+    }
+
+    // =========================
+    // 📌 조회
+    // =========================
+    public Optional<Slot> find(Long timeSlotId) {
+        return timeSlotId == null ? Optional.empty() : Optional.ofNullable(current().byId().get(timeSlotId));
+    }
+
+    public Slot get(Long timeSlotId) {
+        return find(timeSlotId).orElseThrow(() -> new IllegalArgumentException("해당 시간대가 존재하지 않습니다."));
+    }
+
+    // 예약 가능한(활성) 시간대인지 + 유형 일치 여부
+    public Optional<Slot> findBookable(Long timeSlotId, TimeType timeType) {
+        return find(timeSlotId).filter(s -> s.enabled() && s.timeType() == timeType);
+    }
+
+    // 유형별 시간대 (시작시각 순)
+    public List<Slot> byType(TimeType timeType) {
+        return current().byType().getOrDefault(timeType, List.of());
+    }
+
+    public List<Slot> all() {
+        return List.copyOf(current().byId().values());
+    }
+
+    public long version() {
+        return current().version();
+    }
+
+    // =========================
+    // 📌 갱신 (관리자 변경 후 커밋되면 다시 적재)
+    // =========================
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    // 다시 읽기 실패 시 재시도 (성공할 때까지)
+    @Scheduled(fixedDelayString = "${timeslot.catalog.retry-interval-ms:10000}")
+    public void retryIfStale() {
+        if (stale) {
+            refresh();
+        }
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    // 실패해도 예외를 던지지 않음 (커밋은 이미 끝남) → 이전 스냅샷 유지 + 재시도 표시
+    private void refresh() {
+        try {
+            reload();
+            if (stale) {
+                stale = false;
+                log.info("시간대 카탈로그 재적재 성공 v{}", snapshot.version());
+            }
+        } catch (RuntimeException e) {
+            stale = true;
+            Snapshot s = snapshot;
+            log.warn("시간대 카탈로그 다시 읽기 실패, 이전 스냅샷 v{} 유지 후 재시도: {}",
+                    s != null ? s.version() : 0, e.getMessage(), e);
+        }
+    }
+
+    // 첫 조회 시 적재 (동시에 들어와도 한 번만)
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+        synchronized (this) {
+            return snapshot != null ? snapshot : reload();
+        }
+    }
+
+    private synchronized Snapshot reload() {
+        List<TimeSlot> slots = loadTx.execute(status -> timeSlotRepository.findAll());
+
+        Map<Long, Slot> byId = slots.stream()
+                .map(Slot::from)
+                .sorted(Comparator.comparing(Slot::timeType).thenComparing(Slot::startTime).thenComparing(Slot::id))
+                .collect(Collectors.toMap(Slot::id, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        Map<TimeType, List<Slot>> byType = new EnumMap<>(TimeType.class);
+        byId.values().forEach(s -> byType.computeIfAbsent(s.timeType(), t -> new ArrayList<>()).add(s));
+        byType.replaceAll((t, list) -> List.copyOf(list));
+
+        long version = snapshot != null ? snapshot.version() + 1 : 1;
+        Snapshot next = new Snapshot(version, Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byType));
+        snapshot = next;
+        log.debug("시간대 카탈로그 적재 v{} ({}건)", version, byId.size());
+        return next;
+    }
+}
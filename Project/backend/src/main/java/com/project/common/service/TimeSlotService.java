@@ -19,8 +19,11 @@ public interface TimeSlotService {
     // 중복 여부 확인 (label 기준만)
     boolean isDuplicateLabel(String label);
     
-    // 타입별 시간대 조회
+    // 타입별 시간대 조회 (사용자, 예약 존재 여부 없음)
     List<TimeSlotDto> getTimeSlotsByType(TimeType timeType);
+
+    // 관리자 - 타입별 시간대 + 오늘 이후 예약 존재 여부
+    List<TimeSlotDto> getTimeSlotsWithReserveState(TimeType timeType);
     
     // 전체 시간대 조회
     List<TimeSlotDto> getAllTimeSlots();
@@ -14,7 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +25,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
 
     private final TimeSlotRepository timeSlotRepository;
     private final ReserveRepository reserveRepository;
+    private final TimeSlotCatalog timeSlotCatalog;
     
     // 유효성 검사
     private void validateTimeSlotDto(TimeSlotDto dto) {
@@ -69,47 +72,43 @@ public class TimeSlotServiceImpl implements TimeSlotService {
 //    }
     
     
+    // 사용자 - 타입별 시간대 조회 (시간대 카탈로그만, DB 조회 없음)
     @Override
-    @Transactional(readOnly = true)
     public List<TimeSlotDto> getTimeSlotsByType(TimeType timeType) {
-        LocalDate today = LocalDate.now();
-
-        return timeSlotRepository
-                .findByTimeTypeOrderByStartTimeAsc(timeType)
+        return timeSlotCatalog.byType(timeType)
                 .stream()
-                .map(slot -> {
-                    // 1차 테스트용: 예약 여부는 일단 false 로 고정
-                    boolean hasFutureReserve = false;
+                .map(TimeSlotCatalog.Slot::toDto)
+                .toList();
+    }
 
-                    // 원래 로직은 잠시 주석 처리
-                    /*
-                    List<ReserveState> activeStates = List.of(ReserveState.ING, ReserveState.DONE);
+    // 관리자 - 타입별 시간대 + 오늘 이후 예약 존재 여부 (시간대관리 화면에서 수정/삭제 가능 여부 표시)
+    // 시간대는 카탈로그(메모리)에서, 예약 존재 여부는 시간대 수와 무관하게 쿼리 1회로 조회
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeSlotDto> getTimeSlotsWithReserveState(TimeType timeType) {
+        LocalDate today = LocalDate.now();
+        List<ReserveState> activeStates = List.of(ReserveState.ING, ReserveState.DONE);
 
-                    if (timeType == TimeType.LAND) {
-                        hasFutureReserve = reserveRepository
-                            .existsByLandDetail_TimeSlot_IdAndLandDetail_LandDateAfterAndReserveStateIn(
-                                slot.getId(), today, activeStates
-                            );
-                    } else if (timeType == TimeType.VOL) {
-                        hasFutureReserve = reserveRepository
-                            .existsByVolunteerDetail_TimeSlot_IdAndVolunteerDetail_VolDateAfterAndReserveStateIn(
-                                slot.getId(), today, activeStates
-                            );
-                    }
-                    */
+        Set<Long> reservedSlotIds = new HashSet<>(
+                timeType == TimeType.LAND
+                        ? reserveRepository.findLandTimeSlotIdsReservedAfter(today, activeStates)
+                        : reserveRepository.findVolunteerTimeSlotIdsReservedAfter(today, activeStates));
 
-                    TimeSlotDto dto = TimeSlotDto.fromEntity(slot);
-                    dto.setHasFutureReserve(hasFutureReserve);
+        return timeSlotCatalog.byType(timeType)
+                .stream()
+                .map(slot -> {
+                    TimeSlotDto dto = slot.toDto();
+                    dto.setHasFutureReserve(reservedSlotIds.contains(slot.id())); // ✅ 예약 여부 주입
                     return dto;
                 })
                 .toList();
     }
 
-    // 전체 시간대 조회
+    // 전체 시간대 조회 (시간대 카탈로그)
     public List<TimeSlotDto> getAllTimeSlots() {
-        return timeSlotRepository.findAll()
+        return timeSlotCatalog.all()
                 .stream()
-                .map(TimeSlotDto::fromEntity)
+                .map(TimeSlotCatalog.Slot::toDto)
                 .collect(Collectors.toList());
     }
     
@@ -119,6 +118,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
     public void addTimeSlot(TimeSlotDto dto) {
         validateTimeSlotDto(dto);
         timeSlotRepository.save(dto.toEntity());
+        timeSlotCatalog.refreshAfterCommit();
     }
     
     
@@ -134,6 +134,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
         existing.setCapacity(dto.getCapacity());
         existing.setEnabled(dto.isEnabled());
         // label은 @PreUpdate로 자동 재생성됨
+        timeSlotCatalog.refreshAfterCommit();
     }
 
     // 시간대 삭제
@@ -144,6 +145,7 @@ public class TimeSlotServiceImpl implements TimeSlotService {
             throw new IllegalArgumentException("존재하지 않는 시간대입니다.");
         }
         timeSlotRepository.deleteById(timeSlotId);
+        timeSlotCatalog.refreshAfterCommit();
     }
 
     // 중복 여부 확인
@@ -0,0 +1,178 @@
+package com.project.common.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 첨부파일 다운로드 응답 처리 (부분 요청/조건부 요청 지원)
+ * - ETag: 내용 해시 파일명이면 해시 그대로, 아니면 크기 + 수정시각 (강한 검증자)
+ * - If-None-Match / If-Modified-Since 일치 시 304
+ * - Range: bytes=a-b | a- | -n 단일 구간 → 206, 범위 밖이면 416, If-Range 불일치 시 전체 전송
+ * - 본문 전송: 컨테이너가 sendfile 을 지원하면 커널에서 직접 전송 (zero-copy),
+ *   아니면 FileChannel.transferTo 로 응답 스트림에 복사
+ *   (응답 스트림은 소켓 채널이 아니므로 JDK 내부의 고정 크기 버퍼를 거침 → 파일 크기와 무관하게 버퍼 하나)
+ */
+@Component
+public class FileDownloadHandler {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("^([0-9a-f]{64})\\.[A-Za-z0-9]+$");
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이 크기 이상일 때만 sendfile 사용 (작은 파일은 일반 복사가 더 빠름)
+    @Value("${file.download.sendfile-min-size:49152}")
+    private long sendfileMinSize;
+
+    private record ByteRange(long start, long end) {
+        long length() { return end - start + 1; }
+    }
+
+    // =========================
+    // 📌 파일 응답
+    //   downloadName : 저장 시 보여줄 원본 파일명
+    //   attachment   : true 면 다운로드, false 면 브라우저 미리보기(inline)
+    // =========================
+    public void serve(Path file, String downloadName, MediaType mediaType, boolean attachment,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = etagOf(file, length, lastModified);
+
+        // 조건부 요청 (ETag/Last-Modified 헤더 설정 + 일치 시 304)
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setContentType(mediaType.toString());
+        if (attachment) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(downloadName, StandardCharsets.UTF_8).build().toString());
+        }
+
+        ByteRange range = new ByteRange(0, length - 1);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            ByteRange requested = parseRange(rangeHeader, length);
+            if (requested == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (requested.start() != 0 || requested.end() != length - 1) {
+                range = requested;
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + range.start() + "-" + range.end() + "/" + length);
+            }
+        }
+
+        response.setContentLengthLong(Math.max(0, range.length()));
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (range.length() >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 컨테이너가 응답 완료 후 파일을 소켓으로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        // sendfile 미지원/작은 구간: 고정 크기 버퍼로 구간만 복사
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break; // 파일이 도중에 줄어든 경우
+                position += sent;
+                remaining -= sent;
+            }
+        }
+        out.flush();
+    }
+
+    // 내용 해시 파일명은 해시 자체가 내용 식별자
+    private String etagOf(Path file, long length, long lastModified) {
+        Matcher m = CONTENT_HASH_NAME.matcher(file.getFileName().toString());
+        if (m.matches()) {
+            return "\"" + m.group(1) + "\"";
+        }
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    // If-Range 가 없거나 현재 ETag/수정시각과 일치할 때만 부분 전송
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag); // 강한 비교
+        }
+        long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return since != -1 && lastModified / 1000 <= since / 1000;
+    }
+
+    // 단일 구간만 지원 (여러 구간/잘못된 형식은 전체 전송, 범위 밖이면 null)
+    private ByteRange parseRange(String header, long length) {
+        if (header.indexOf(',') >= 0) {
+            return new ByteRange(0, length - 1);
+        }
+        Matcher m = SINGLE_RANGE.matcher(header.trim());
+        if (!m.matches()) {
+            return new ByteRange(0, length - 1); // 형식이 잘못된 Range 는 무시
+        }
+        String first = m.group(1);
+        String last = m.group(2);
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) return new ByteRange(0, length - 1);
+                long suffix = Long.parseLong(last);
+                if (suffix == 0) return null;
+                return new ByteRange(Math.max(0, length - suffix), length - 1);
+            }
+            long start = Long.parseLong(first);
+            if (start >= length) return null;
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (end < start) return new ByteRange(0, length - 1);
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return new ByteRange(0, length - 1);
+        }
+    }
+}
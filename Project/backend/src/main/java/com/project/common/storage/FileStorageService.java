@@ -0,0 +1,341 @@
+package com.project.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.project.common.exception.FileStorageException;
+import com.project.common.service.ImageVariantService;
+
+/**
+ * 업로드 파일 스트리밍 저장 (배너/게시판 공용)
+ * - 업로드 본문을 힙 배열로 복사하지 않고 고정 크기 버퍼로 임시 파일에 기록
+ *   → 파일 크기와 무관하게 업로드당 힙 사용량 일정
+ * - 기록하면서 SHA-256 계산, 용량 제한 검사, 앞부분 바이트로 실제 파일 형식 판별
+ * - 검증이 끝나면 최종 경로로 원자적 이동 (실패 시 임시 파일 삭제)
+ * - storeContentAddressed: 파일명을 내용 해시(SHA-256)로 정해 같은 내용은 물리 파일 하나만 유지
+ *   참조 획득(저장/공유)과 해제(삭제 판단)는 경로별 락으로 직렬화
+ *   → 아직 커밋되지 않은 새 참조가 있는 파일은 다른 요청의 참조 해제로 삭제되지 않음
+ * - 참조 해제로 삭제한 파일은 이미지 변형 캐시에서도 제거
+ * - 서버 1대 기준 (획득 상태는 메모리에만 있음)
+ */
+@Component
+public class FileStorageService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SNIFF_LENGTH = 16;
+
+    private static final int LOCK_STRIPES = 64;
+
+    // 획득 기록은 이 시간 동안 유지 (그 사이 시작된 참조 해제가 획득 여부를 판단할 수 있도록)
+    private static final long IDLE_STATE_TTL_MS = 10 * 60 * 1000L;
+
+    // 경로별 참조 획득 상태
+    //   inFlight   : 커밋/롤백 전인 획득 수 (0 보다 크면 삭제하지 않음)
+    //   generation : 마지막 획득 번호 (참조 수를 센 뒤 새 획득이 있었는지 확인)
+    private static final class BlobState {
+        int inFlight;
+        long generation;
+        long touchedAt;
+    }
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<Path, BlobState> blobs = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    private final ImageVariantService imageVariantService;
+
+    public FileStorageService() {
+        this(null);
+    }
+
+    @Autowired
+    public FileStorageService(ImageVariantService imageVariantService) {
+        this.imageVariantService = imageVariantService;
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new Object();
+    }
+
+    /** 저장 결과 */
+    public record StoredFile(Path path, String savedName, long size, String sha256, String contentType) {}
+
+    // =========================
+    // 📌 업로드 파일 저장
+    //   targetDir    : 저장 디렉터리 (없으면 생성)
+    //   savedName    : 저장 파일명
+    //   maxSize      : 최대 허용 바이트 (기록 도중 초과 시 즉시 중단)
+    //   allowedTypes : 허용 MIME 목록 (null 이면 형식 검사 생략)
+    // =========================
+    public StoredFile store(MultipartFile file, Path targetDir, String savedName,
+                            long maxSize, Collection<String> allowedTypes) {
+        try (InputStream in = file.getInputStream()) {
+            return store(in, file.getOriginalFilename(), file.getContentType(), targetDir, savedName, maxSize, allowedTypes);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    public StoredFile store(InputStream input, String originalName, String declaredType, Path targetDir,
+                            String savedName, long maxSize, Collection<String> allowedTypes) throws IOException {
+        return write(input, originalName, declaredType, targetDir, savedName, null, maxSize, allowedTypes);
+    }
+
+    // =========================
+    // 📌 내용 주소 기반 저장 (저장 파일명 = SHA-256 + "." + 확장자)
+    //   같은 내용의 파일이 이미 있으면 새로 쓰지 않고 기존 파일을 공유
+    //   → 참조 개수는 DB에서 같은 경로를 가리키는 행 수로 판단
+    //   → 트랜잭션이 끝날 때까지 참조 획득 상태로 두어 동시 삭제를 막음
+    // =========================
+    public StoredFile storeContentAddressed(MultipartFile file, Path targetDir, String extension,
+                                            long maxSize, Collection<String> allowedTypes) {
+        try (InputStream in = file.getInputStream()) {
+            return write(in, file.getOriginalFilename(), file.getContentType(), targetDir, null,
+                    extension.toLowerCase(Locale.ROOT), maxSize, allowedTypes);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    // 내용 해시로 정해지는 저장 파일명
+    public static String contentAddressedName(String sha256, String extension) {
+        return sha256 + "." + extension.toLowerCase(Locale.ROOT);
+    }
+
+    // savedName 이 null 이면 해시 기반 파일명 사용
+    private StoredFile write(InputStream input, String originalName, String declaredType, Path targetDir,
+                             String savedName, String extension, long maxSize,
+                             Collection<String> allowedTypes) throws IOException {
+        Files.createDirectories(targetDir);
+        Path tmp = Files.createTempFile(targetDir, ".upload-", ".tmp");
+        try {
+            MessageDigest md = sha256();
+            byte[] head = new byte[SNIFF_LENGTH];
+            int headLen = 0;
+            long total = 0;
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            try (ReadableByteChannel in = Channels.newChannel(input);
+                 FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    int n = buffer.remaining();
+                    total += n;
+                    if (total > maxSize) {
+                        throw new FileStorageException("파일 크기가 허용 용량(" + (maxSize / (1024 * 1024)) + "MB)을 초과합니다: " + originalName);
+                    }
+                    if (headLen < SNIFF_LENGTH) {
+                        int copy = Math.min(SNIFF_LENGTH - headLen, n);
+                        buffer.duplicate().get(head, headLen, copy);
+                        headLen += copy;
+                    }
+                    md.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+
+            String sniffed = sniff(head, headLen);
+            if (allowedTypes != null && !isAllowed(sniffed, declaredType, allowedTypes)) {
+                throw new FileStorageException("허용되지 않은 파일 형식입니다: " + originalName);
+            }
+
+            String sha256 = HexFormat.of().formatHex(md.digest());
+            String finalName = (savedName != null) ? savedName : contentAddressedName(sha256, extension);
+            Path target = targetDir.resolve(finalName);
+            if (savedName != null) {
+                moveIntoPlace(tmp, target);
+            } else {
+                // 참조 획득과 함께 파일 확보 (같은 내용이 이미 있으면 임시 파일만 버림 → finally 에서 삭제)
+                synchronized (lockFor(target)) {
+                    if (Files.notExists(target)) {
+                        moveIntoPlace(tmp, target);
+                    }
+                    beginAcquire(target);
+                }
+                endAcquireAfterCompletion(target);
+            }
+
+            String contentType = "application/octet-stream".equals(sniffed) && declaredType != null ? declaredType : sniffed;
+            return new StoredFile(target, finalName, total, sha256, contentType);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // =========================
+    // 📌 참조 획득 (이미 있는 내용 주소 파일을 새 행이 가리킬 때, 예: 같은 이미지의 썸네일 재사용)
+    //   트랜잭션이 끝날 때까지 이 파일은 삭제되지 않음
+    //   파일이 있으면 true (없으면 호출한 쪽에서 다시 만들어야 함)
+    // =========================
+    public boolean acquire(Path file) {
+        boolean exists;
+        synchronized (lockFor(file)) {
+            beginAcquire(file);
+            exists = Files.exists(file);
+        }
+        endAcquireAfterCompletion(file);
+        return exists;
+    }
+
+    // =========================
+    // 📌 참조 해제 (내용 주소 저장 파일)
+    //   referenceCount : 이 파일을 가리키는 DB 행 수 (커밋 이후 기준, 락 밖에서 조회)
+    //   참조가 없고, 진행 중인 획득도 없고, 참조 수를 세는 동안 새 획득이 없었을 때만 삭제
+    // =========================
+    public boolean release(Path file, LongSupplier referenceCount) {
+        long seen = generationOf(file);
+        if (referenceCount.getAsLong() > 0) return false;
+        boolean deleted;
+        synchronized (lockFor(file)) {
+            BlobState state = blobs.get(file);
+            if (state != null && (state.inFlight > 0 || state.generation != seen)) return false;
+            try {
+                deleted = Files.deleteIfExists(file);
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        if (deleted && imageVariantService != null) {
+            imageVariantService.evict(file);
+        }
+        return deleted;
+    }
+
+    // 오래된 획득 기록 정리 (진행 중인 획득은 유지)
+    public void purgeIdleStates() {
+        long threshold = System.currentTimeMillis() - IDLE_STATE_TTL_MS;
+        for (Path file : blobs.keySet()) {
+            synchronized (lockFor(file)) {
+                BlobState state = blobs.get(file);
+                if (state != null && state.inFlight == 0 && state.touchedAt < threshold) {
+                    blobs.remove(file);
+                }
+            }
+        }
+    }
+
+    private Object lockFor(Path file) {
+        return locks[Math.floorMod(file.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 락 안에서 호출
+    private void beginAcquire(Path file) {
+        BlobState state = blobs.computeIfAbsent(file, k -> new BlobState());
+        state.inFlight++;
+        state.generation = generations.incrementAndGet();
+        state.touchedAt = System.currentTimeMillis();
+    }
+
+    private void endAcquire(Path file) {
+        synchronized (lockFor(file)) {
+            BlobState state = blobs.get(file);
+            if (state != null && state.inFlight > 0) {
+                state.inFlight--;
+                state.touchedAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    // 트랜잭션 중이면 커밋/롤백 이후 (커밋된 행이 참조 수에 잡힌 뒤) 획득 종료
+    private void endAcquireAfterCompletion(Path file) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    endAcquire(file);
+                }
+            });
+        } else {
+            endAcquire(file);
+        }
+    }
+
+    private long generationOf(Path file) {
+        synchronized (lockFor(file)) {
+            BlobState state = blobs.get(file);
+            return state == null ? 0 : state.generation;
+        }
+    }
+
+    private void moveIntoPlace(Path tmp, Path target) throws IOException {
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 파일 앞부분(매직 넘버)으로 실제 형식 판별
+    static String sniff(byte[] head, int len) {
+        if (len >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (len >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return "image/png";
+        }
+        if (len >= 4 && head[0] == '%' && head[1] == 'P' && head[2] == 'D' && head[3] == 'F') {
+            return "application/pdf";
+        }
+        if (len >= 4 && (head[0] & 0xFF) == 0xD0 && (head[1] & 0xFF) == 0xCF
+                && (head[2] & 0xFF) == 0x11 && (head[3] & 0xFF) == 0xE0) {
+            return "application/x-ole-storage"; // doc, ppt (구 오피스 형식)
+        }
+        if (len >= 4 && head[0] == 'P' && head[1] == 'K' && head[2] == 3 && head[3] == 4) {
+            return "application/zip"; // docx, pptx (OOXML)
+        }
+        return "application/octet-stream";
+    }
+
+    // 판별된 형식이 허용 목록 및 선언된 Content-Type과 일치하는지 확인
+    private boolean isAllowed(String sniffed, String declaredType, Collection<String> allowedTypes) {
+        String declared = declaredType == null ? "" : declaredType.toLowerCase(Locale.ROOT);
+        switch (sniffed) {
+            case "image/jpeg", "image/png", "application/pdf" -> {
+                return allowedTypes.contains(sniffed);
+            }
+            case "application/x-ole-storage" -> {
+                return allowedTypes.contains(declared)
+                        && (declared.equals("application/msword") || declared.equals("application/vnd.ms-powerpoint"));
+            }
+            case "application/zip" -> {
+                return allowedTypes.contains(declared) && declared.startsWith("application/vnd.openxmlformats-officedocument.");
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
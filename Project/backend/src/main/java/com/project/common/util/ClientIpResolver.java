@@ -0,0 +1,36 @@
+package com.project.common.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+//클라이언트 IP 판별 (조회수 중복 판정 / 로그인 시도 제한이 같은 기준을 사용)
+//X-Forwarded-For 는 client-ip.trust-forwarded-for=true 일 때만 사용 → 프록시 뒤가 아니면 헤더 위조로 IP 를 바꿀 수 있음
+@Component
+public class ClientIpResolver {
+
+	@Value("${client-ip.trust-forwarded-for:false}")
+	private boolean trustForwardedFor;
+
+	public String resolve(HttpServletRequest request) {
+		if (trustForwardedFor) {
+			String forwarded = request.getHeader("X-Forwarded-For");
+			if (forwarded != null && !forwarded.isBlank()) {
+				int comma = forwarded.indexOf(',');
+				return (comma < 0 ? forwarded : forwarded.substring(0, comma)).strip();
+			}
+		}
+		return request.getRemoteAddr();
+	}
+
+	// 현재 요청 스레드의 IP (요청 밖에서 호출되면 null)
+	public String current() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes servlet)) return null;
+		return resolve(servlet.getRequest());
+	}
+}
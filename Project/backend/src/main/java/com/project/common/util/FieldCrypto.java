@@ -0,0 +1,169 @@
+package com.project.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+//개인정보 필드 암호화 (AES-256-GCM)
+//저장 형식: "v1:" + Base64url(IV 12바이트 + 암호문 + 인증태그) → 앞의 버전으로 키/방식을 구분
+//키는 기동 시 PBKDF2 로 한 번만 만들어 두고 재사용 (JasyptUtil 은 호출마다 PBE 키 유도를 다시 함)
+//field.crypto.key 는 전용 키만 사용 (없거나 Jasypt 비밀번호/휴대폰 인덱스 키와 같으면 기동 실패)
+//버전 접두어가 없는 값은 기존 Jasypt 암호문(ENC(...) 포함)으로 보고 JasyptUtil 로 복호화
+//기존 암호문은 그 행을 저장할 때 migrate() 로 새 형식으로 바꿔 씀 (일괄 변환 없음)
+@Slf4j
+@Component
+public class FieldCrypto {
+
+	private static final String VERSION = "v1:";
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final int IV_LENGTH = 12;
+	private static final int TAG_BITS = 128;
+	private static final int KDF_ITERATIONS = 100_000;
+
+	//application.properties 의 field.crypto.key (환경변수 FIELD_CRYPTO_KEY 로 주입)
+	@Value("${field.crypto.key:}")
+	private String secretKey;
+
+	@Value("${field.crypto.salt:teamproject-field-v1}")
+	private String salt;
+
+	@Value("${JASYPT_ENCRYPTOR_PASSWORD:}")
+	private String jasyptPassword;
+
+	@Value("${phone.blind-index.key:}")
+	private String blindIndexKey;
+
+	private SecretKey key;
+	private final SecureRandom random = new SecureRandom();
+
+	//Cipher 는 thread-safe 하지 않으므로 스레드마다 하나씩 재사용 (매 호출 init 만 다시 함)
+	private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(FieldCrypto::newCipher);
+
+	@PostConstruct
+	protected void init() {
+		if (secretKey == null || secretKey.isBlank()) {
+			throw new IllegalStateException("field.crypto.key 가 설정되지 않았습니다. (환경변수 FIELD_CRYPTO_KEY)");
+		}
+		if (secretKey.equals(jasyptPassword)) {
+			throw new IllegalStateException("field.crypto.key 는 JASYPT_ENCRYPTOR_PASSWORD 와 다른 값이어야 합니다.");
+		}
+		if (secretKey.equals(blindIndexKey)) {
+			throw new IllegalStateException("field.crypto.key 는 phone.blind-index.key 와 다른 값이어야 합니다.");
+		}
+		try {
+			SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+			PBEKeySpec spec = new PBEKeySpec(secretKey.toCharArray(), salt.getBytes(StandardCharsets.UTF_8), KDF_ITERATIONS, 256);
+			key = new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+			spec.clearPassword();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("필드 암호화 키 초기화 실패", e);
+		}
+	}
+
+	// =========================
+	// 📌 암호화 (항상 최신 형식)
+	// =========================
+	public String encrypt(String plainText) {
+		if (plainText == null) return null;
+		byte[] iv = new byte[IV_LENGTH];
+		random.nextBytes(iv);
+		try {
+			Cipher cipher = ciphers.get();
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+			byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
+			byte[] out = new byte[IV_LENGTH + cipher.getOutputSize(plain.length)];
+			System.arraycopy(iv, 0, out, 0, IV_LENGTH);
+			cipher.doFinal(plain, 0, plain.length, out, IV_LENGTH);
+			return VERSION + Base64.getUrlEncoder().withoutPadding().encodeToString(out);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("필드 암호화 실패", e);
+		}
+	}
+
+	// =========================
+	// 📌 복호화 (새 형식 / 기존 Jasypt 형식 모두)
+	// =========================
+	public String decrypt(String stored) {
+		if (stored == null || stored.isBlank()) return stored;
+		if (stored.startsWith(VERSION)) {
+			return decryptCurrent(stored);
+		}
+		String legacy = stored.startsWith("ENC(") && stored.endsWith(")")
+				? stored.substring(4, stored.length() - 1) : stored;
+		return JasyptUtil.decrypt(legacy);
+	}
+
+	//목록 화면용 일괄 복호화: 같은 저장값은 한 번만 복호화
+	//복호화할 수 없는 값은 결과에서 빠짐 (화면 전체가 실패하지 않도록)
+	public Map<String, String> decryptAll(Collection<String> storedValues) {
+		Map<String, String> result = new HashMap<>(Math.max(16, storedValues.size() * 2));
+		for (String stored : storedValues) {
+			if (stored == null || result.containsKey(stored)) continue;
+			try {
+				result.put(stored, decrypt(stored));
+			} catch (RuntimeException e) {
+				log.warn("필드 복호화 실패 (일괄): {}", e.getMessage());
+			}
+		}
+		return result;
+	}
+
+	// 최신 형식으로 저장된 값인지
+	public boolean isCurrent(String stored) {
+		return stored == null || stored.isBlank() || stored.startsWith(VERSION);
+	}
+
+	//행을 저장할 때 호출: 기존 형식이면 새 형식으로 다시 암호화, 이미 최신이면 그대로
+	//복호화가 안 되는 값은 건드리지 않음 (저장 자체는 막지 않음)
+	public String migrate(String stored) {
+		if (isCurrent(stored)) return stored;
+		try {
+			return encrypt(decrypt(stored));
+		} catch (RuntimeException e) {
+			log.warn("필드 암호문 변환 실패, 기존 값 유지: {}", e.getMessage());
+			return stored;
+		}
+	}
+
+	private String decryptCurrent(String stored) {
+		try {
+			byte[] in = Base64.getUrlDecoder().decode(stored.substring(VERSION.length()));
+			if (in.length <= IV_LENGTH) {
+				throw new IllegalArgumentException("암호문 길이가 올바르지 않습니다.");
+			}
+			Cipher cipher = ciphers.get();
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, in, 0, IV_LENGTH));
+			ByteBuffer plain = ByteBuffer.allocate(cipher.getOutputSize(in.length - IV_LENGTH));
+			cipher.doFinal(ByteBuffer.wrap(in, IV_LENGTH, in.length - IV_LENGTH), plain);
+			return new String(plain.array(), 0, plain.position(), StandardCharsets.UTF_8);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("필드 복호화 실패", e);
+		}
+	}
+
+	private static Cipher newCipher() {
+		try {
+			return Cipher.getInstance(TRANSFORMATION);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("필드 암호화 초기화 실패", e);
+		}
+	}
+}
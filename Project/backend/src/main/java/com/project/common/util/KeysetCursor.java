@@ -0,0 +1,98 @@
+package com.project.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 커서 기반(keyset) 페이지네이션용 불투명 커서
+ * - 마지막으로 받은 행의 (정렬 키, 번호) 를 담아 다음 페이지는 "그 행 이후" 만 조회
+ *   → OFFSET 없이 인덱스 범위 탐색이라 깊은 페이지도 첫 페이지와 같은 비용
+ * - 형식: base64url("v1|정렬이름|정렬키|번호") — 클라이언트는 내용을 해석하지 않고 그대로 돌려보냄
+ * - 정렬이름이 다른 커서(예: 최신순 커서로 조회수순 요청)는 거부
+ * - 정렬 키가 NULL 인 행은 맨 뒤 구간(번호 역순)으로 따로 조회 → fetchNullsLast
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+
+    /** 해석된 커서 위치 */
+    public record Position(String sortKey, String value, long id) {
+
+        // 정렬 키가 NULL 인 행에서 끝난 커서 (NULL 구간 안에서 이어서 조회)
+        public boolean isNullValue() {
+            return value.isEmpty();
+        }
+
+        public LocalDateTime asLocalDateTime() {
+            return parse(LocalDateTime::parse);
+        }
+
+        public LocalDate asLocalDate() {
+            return parse(LocalDate::parse);
+        }
+
+        public int asInt() {
+            return parse(Integer::valueOf);
+        }
+
+        private <T> T parse(Function<String, T> parser) {
+            try {
+                return parser.apply(value);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+            }
+        }
+    }
+
+    private KeysetCursor() {}
+
+    public static String encode(String sortKey, Object value, Long id) {
+        String raw = VERSION + "|" + sortKey + "|" + (value == null ? "" : value.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어 있으면 null (첫 페이지)
+    public static Position decode(String cursor, String expectedSortKey) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || !parts[1].equals(expectedSortKey)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new Position(parts[1], parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) { // Base64/숫자 형식 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    // 정렬 키 값이 있는 구간 → NULL 구간 순서로 fetchSize 건 조회
+    // - 두 구간을 각각 (정렬 키, 번호) / (번호) 범위 조건으로 조회 → COALESCE 없이 인덱스 범위 탐색
+    // - valued(건수): 값 있는 구간에서 커서 이후 행, nulls(번호, 건수): NULL 구간에서 그 번호보다 작은 행
+    // - NULL 구간은 값 있는 구간이 fetchSize 를 못 채운 페이지에서만 조회
+    public static <T> List<T> fetchNullsLast(Position pos, int fetchSize,
+                                             IntFunction<List<T>> valued,
+                                             BiFunction<Long, Integer, List<T>> nulls) {
+        boolean inNullSegment = pos != null && pos.isNullValue();
+        List<T> rows = new ArrayList<>(fetchSize);
+        if (!inNullSegment) {
+            rows.addAll(valued.apply(fetchSize));
+        }
+        if (rows.size() < fetchSize) {
+            rows.addAll(nulls.apply(inNullSegment ? pos.id() : Long.MAX_VALUE, fetchSize - rows.size()));
+        }
+        return rows;
+    }
+
+    // 페이지 크기 보정 (1 ~ 100)
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+}
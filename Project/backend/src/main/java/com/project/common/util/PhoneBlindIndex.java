@@ -0,0 +1,76 @@
+package com.project.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+//휴대폰 번호 블라인드 인덱스 (HMAC-SHA256)
+//암호문(memberPhone)은 암호화 방식에 따라 값이 달라질 수 있으므로, 동일 번호 조회는 이 값으로 함
+//같은 번호 → 항상 같은 값 / 키 없이 원래 번호를 알아낼 수 없음
+//번호는 숫자만 남기고 +82 국가번호는 0 으로 바꿔서 계산 (010-1234-5678 = 01012345678 = +82 10-1234-5678)
+//키는 전용 키만 사용 (없거나 Jasypt 비밀번호와 같으면 기동 실패) → 한 키가 새도 다른 용도까지 노출되지 않음
+@Component
+public class PhoneBlindIndex {
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	//application.properties 의 phone.blind-index.key (환경변수 PHONE_BLIND_INDEX_KEY 로 주입)
+	@Value("${phone.blind-index.key:}")
+	private String secretKey;
+
+	@Value("${JASYPT_ENCRYPTOR_PASSWORD:}")
+	private String jasyptPassword;
+
+	private SecretKeySpec keySpec;
+
+	//Mac 은 thread-safe 하지 않으므로 스레드마다 하나씩 재사용
+	private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+	@PostConstruct
+	protected void init() {
+		if (secretKey == null || secretKey.isBlank()) {
+			throw new IllegalStateException("phone.blind-index.key 가 설정되지 않았습니다. (환경변수 PHONE_BLIND_INDEX_KEY)");
+		}
+		if (secretKey.equals(jasyptPassword)) {
+			throw new IllegalStateException("phone.blind-index.key 는 JASYPT_ENCRYPTOR_PASSWORD 와 다른 값이어야 합니다.");
+		}
+		keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+		newMac(); // 키/알고리즘 오류는 기동 시점에 확인
+	}
+
+	//번호 → 인덱스 값 (Base64url 43자), 번호가 비어 있으면 null
+	public String index(String phone) {
+		String digits = normalize(phone);
+		if (digits == null) return null;
+		byte[] digest = macs.get().doFinal(digits.getBytes(StandardCharsets.US_ASCII));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+	}
+
+	//숫자만 남기고 국가번호(82) 정리
+	public static String normalize(String phone) {
+		if (phone == null) return null;
+		String digits = phone.replaceAll("[^0-9]", "");
+		if (digits.startsWith("82") && digits.length() >= 11) {
+			digits = "0" + digits.substring(2);
+		}
+		return digits.isEmpty() ? null : digits;
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(keySpec);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("휴대폰 번호 인덱스 키 초기화 실패", e);
+		}
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.project.common.jwt.JwtTokenProvider;
+import com.project.common.dto.CursorPageResponseDto;
 import com.project.fund.dto.FundRequestDto;
 import com.project.fund.dto.FundResponseDto;
 import com.project.fund.entity.FundEntity;
@@ -202,6 +203,35 @@ public class FundController {
         return ResponseEntity.ok(fundPage);
     }
 
+    // 후원 목록 커서 기반 조회 (후원 일시 최신순)
+    // 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+    @GetMapping("/list/cursor")
+    public ResponseEntity<CursorPageResponseDto<FundResponseDto>> listFundsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || "anonymousUser".equals(authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        String role = authentication.getAuthorities().stream()
+                .findFirst()
+                .map(a -> a.getAuthority().replace("ROLE_", ""))
+                .orElse("USER");
+
+        Long memberNum = null; // 관리자는 전체
+        if (!"ADMIN".equals(role)) {
+            MemberMeResponseDto member = memberService.getMyInfo(authentication.getName());
+            if (member == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            memberNum = member.getMemberNum();
+        }
+        return ResponseEntity.ok(fundService.getFundsByCursor(memberNum, cursor, size, withTotal));
+    }
+
 
     // 스폰서로 검색 (페이징)
     @GetMapping("/search")
@@ -13,6 +13,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "fund")
+@Table(name = "fund",
+       indexes = {
+         @Index(name = "idx_fund_time_id", columnList = "fund_time, fund_id") // 커서 목록 (후원 일시 최신순)
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,8 +1,13 @@
 package com.project.fund.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.fund.entity.FundEntity;
@@ -19,6 +24,30 @@ public interface FundRepository extends JpaRepository<FundEntity, Long> {
     // FundServiceImpl에서 사용되는 메서드를 추가
     Page<FundEntity> findByFundSponsorContaining(String fundSponsor, Pageable pageable);
     
-    Page<FundEntity> findByMember_MemberNum(Long memberNum, Pageable pageable); 
+    Page<FundEntity> findByMember_MemberNum(Long memberNum, Pageable pageable);
+
+    // 커서(keyset) 페이지네이션: (fundTime, fundId) 최신순 — 전체는 idx_fund_time_id 범위 탐색
+    @Query("""
+        SELECT f FROM FundEntity f
+        WHERE f.fundTime < :fundTime OR (f.fundTime = :fundTime AND f.fundId < :fundId)
+        ORDER BY f.fundTime DESC, f.fundId DESC
+    """)
+    List<FundEntity> findPageAfter(@Param("fundTime") LocalDateTime fundTime,
+                                   @Param("fundId") Long fundId,
+                                   Pageable limit);
+
+    // 회원별: member_num 으로 좁힌 뒤 정렬
+    @Query("""
+        SELECT f FROM FundEntity f
+        WHERE f.member.memberNum = :memberNum
+          AND (f.fundTime < :fundTime OR (f.fundTime = :fundTime AND f.fundId < :fundId))
+        ORDER BY f.fundTime DESC, f.fundId DESC
+    """)
+    List<FundEntity> findMemberPageAfter(@Param("memberNum") Long memberNum,
+                                         @Param("fundTime") LocalDateTime fundTime,
+                                         @Param("fundId") Long fundId,
+                                         Pageable limit);
+
+    long countByMember_MemberNum(Long memberNum);
 
-}
\ No newline at end of file
+}
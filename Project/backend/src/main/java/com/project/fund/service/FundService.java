@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.common.dto.CursorPageResponseDto;
 import com.project.fund.dto.FundRequestDto;
 import com.project.fund.dto.FundResponseDto;
 import com.project.fund.entity.FundEntity;
@@ -15,6 +16,8 @@ public interface FundService {
     FundResponseDto getFund(Long fundId);
     // 후원 신청서 전체 조회
     Page<FundResponseDto> getFunds(Pageable pageable);
+    // 후원 신청서 커서 기반 조회 (memberNum 이 null 이면 전체, 후원 일시 최신순)
+    CursorPageResponseDto<FundResponseDto> getFundsByCursor(Long memberNum, String cursor, int size, boolean withTotal);
     // 특정 후원자 조회
     Page<FundResponseDto> searchBySponsor(String sponsor, Pageable pageable);
     // 후원서 갱신
@@ -1,13 +1,18 @@
 package com.project.fund.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.common.dto.CursorPageResponseDto;
+import com.project.common.service.CountCache;
+import com.project.common.util.KeysetCursor;
 import com.project.fund.dto.FundRequestDto;
 import com.project.fund.dto.FundResponseDto;
 import com.project.fund.entity.FundEntity;
@@ -24,6 +29,7 @@ public class FundServiceImpl implements FundService {
 
     private final FundRepository fundRepository;
     private final MemberRepository memberRepository;
+    private final CountCache countCache;
 
     // FundEntity를 FundResponseDto로 변환하는 수동 메서드
     private FundResponseDto toDto(FundEntity entity) {
@@ -92,6 +98,26 @@ public class FundServiceImpl implements FundService {
     public Page<FundResponseDto> getFunds(Pageable pageable) {
         return fundRepository.findAll(pageable).map(this::toDto);
     }
+
+    // 후원 신청서 커서 기반 조회: (fundTime, fundId) 기준으로 다음 페이지 탐색 (OFFSET/COUNT 없음)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<FundResponseDto> getFundsByCursor(Long memberNum, String cursor, int size, boolean withTotal) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor.Position pos = KeysetCursor.decode(cursor, "fundTime");
+        LocalDateTime fundTime = (pos == null) ? LocalDateTime.of(9999, 12, 31, 23, 59, 59) : pos.asLocalDateTime();
+        long afterId = (pos == null) ? Long.MAX_VALUE : pos.id();
+        List<FundEntity> rows = (memberNum != null)
+                ? fundRepository.findMemberPageAfter(memberNum, fundTime, afterId, PageRequest.of(0, limit + 1))
+                : fundRepository.findPageAfter(fundTime, afterId, PageRequest.of(0, limit + 1));
+
+        Long total = withTotal
+                ? countCache.get("fund:" + memberNum, () -> memberNum != null ? fundRepository.countByMember_MemberNum(memberNum) : fundRepository.count())
+                : null;
+
+        return CursorPageResponseDto.of(rows, limit,
+                e -> KeysetCursor.encode("fundTime", e.getFundTime(), e.getFundId()), total).map(this::toDto);
+    }
     
     // 후원자 명으로 후원정보 검색
     @Override
@@ -9,7 +9,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "Land")
+@Table(name = "Land",
+       indexes = {
+         // 월별/일별 시간대 현황 집계 + 관리자 기간 검색
+         @Index(name = "idx_land_date_slot_type", columnList = "land_date, time_slot_id, land_type")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
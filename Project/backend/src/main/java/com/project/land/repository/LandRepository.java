@@ -62,4 +62,30 @@ public interface LandRepository extends JpaRepository<Land, Long> {
     	    @Param("landType") LandType landType
     	);
     
+    //월별 달력용 - 기간 내 (날짜, 시간대, 놀이터타입)별 예약 반려견 수를 한 번에 집계 (예약이 있는 조합만 반환)
+    @Query("""
+    	    SELECT new com.project.land.dto.LandCountDto(
+    	        ts.id,
+    	        ts.label,
+    	        l.landType,
+    	        SUM(l.animalNumber),
+    	        ts.capacity,
+    	        l.landDate
+    	    )
+    	    FROM Land l
+    	    JOIN l.timeSlot ts
+    	    JOIN l.reserve r
+    	    WHERE l.landDate BETWEEN :start AND :end
+    	      AND ts.timeType = com.project.common.entity.TimeType.LAND
+    	      AND r.reserveState IN (
+    	          com.project.reserve.entity.ReserveState.ING,
+    	          com.project.reserve.entity.ReserveState.DONE
+    	      )
+    	    GROUP BY l.landDate, ts.id, ts.label, ts.capacity, l.landType
+    	""")
+    	List<LandCountDto> getLandCountInfoBetween(
+    	    @Param("start") LocalDate start,
+    	    @Param("end") LocalDate end
+    	);
+    
 }
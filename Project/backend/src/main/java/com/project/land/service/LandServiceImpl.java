@@ -3,8 +3,9 @@ package com.project.land.service;
 import com.project.common.dto.TimeSlotDto;
 import com.project.common.entity.TimeSlot;
 import com.project.common.entity.TimeType;
-import com.project.common.repository.TimeSlotRepository;
-import com.project.common.util.JasyptUtil;
+import com.project.common.service.ClosedDayCalendar;
+import com.project.common.service.TimeSlotCatalog;
+import com.project.common.util.FieldCrypto;
 import com.project.land.dto.LandCountDto;
 import com.project.land.dto.LandDetailDto;
 import com.project.land.dto.LandRequestDto;
@@ -13,6 +14,7 @@ import com.project.land.entity.LandType;
 import com.project.land.repository.LandRepository;
 import com.project.reserve.entity.Reserve;
 import com.project.reserve.repository.ReserveRepository;
+import com.project.reserve.service.SlotOccupancyLedger;
 import com.project.member.entity.MemberEntity;
 import lombok.RequiredArgsConstructor;
 
@@ -34,7 +36,10 @@ public class LandServiceImpl implements LandService {
 
     private final LandRepository landRepository;
     private final ReserveRepository reserveRepository;
-    private final TimeSlotRepository timeSlotRepository;
+    private final TimeSlotCatalog timeSlotCatalog;
+    private final ClosedDayCalendar closedDayCalendar;
+    private final SlotOccupancyLedger occupancyLedger;
+    private final FieldCrypto fieldCrypto;
 
     
     // 놀이터 예약 상세보기 화면
@@ -70,7 +75,7 @@ public class LandServiceImpl implements LandService {
         );
         
         // 전화번호 복호화
-        String decryptedPhone = JasyptUtil.decrypt(member.getMemberPhone());
+        String decryptedPhone = fieldCrypto.decrypt(member.getMemberPhone());
         
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
@@ -79,7 +84,7 @@ public class LandServiceImpl implements LandService {
         return LandDetailDto.builder()
         		.reserveCode(reserve.getReserveCode())
                 .memberName(member.getMemberName())
-                .memberPhone(JasyptUtil.decrypt(member.getMemberPhone()))
+                .memberPhone(decryptedPhone)
                 .reserveState(reserve.getReserveState())
                 .landDate(land.getLandDate())            
                 .applyDate(reserve.getApplyDate())  
@@ -120,43 +125,56 @@ public class LandServiceImpl implements LandService {
         landRepository.save(land);
     }
     
-    // 사용자용 - 단일 시간대에 대해 정원 및 현재 놀이터예약 인원 조회
+    // 사용자용 - 단일 시간대에 대해 정원 및 현재 놀이터예약 인원 조회 (예약 점유 원장 기준, 진행/완료 예약만)
     @Override
     public LandCountDto getLandCountForSlot(LocalDate landDate, Long timeSlotId, LandType landType) {
-        TimeSlot timeSlot = timeSlotRepository.findById(timeSlotId)
+        TimeSlotCatalog.Slot timeSlot = timeSlotCatalog.find(timeSlotId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 시간대가 존재하지 않습니다."));
 
-        Integer reserved = landRepository.countByDateAndTimeAndType(landDate, timeSlot, landType);
-        int reservedCount = reserved != null ? reserved : 0;
+        int reservedCount = occupancyLedger.reserved(TimeType.LAND, landDate, timeSlot.id(), landType);
 
         return LandCountDto.builder()
-                .timeSlotId(timeSlot.getId())
-                .label(timeSlot.getLabel())
+                .timeSlotId(timeSlot.id())
+                .label(timeSlot.label())
                 .landType(landType)
                 .reservedCount(reservedCount)
-                .capacity(timeSlot.getCapacity())
+                .capacity(timeSlot.capacity())
                 .build();
     }
     // 사용자용 월별 예약마감 확인
+    // - 예약 수는 예약 점유 원장(달마다 처음 한 번만 DB 집계), 시간대는 카탈로그, 휴무일은 메모리 달력에서 읽어 조립
+    // - 응답 형태는 기존과 동일 (날짜 → 소형견 시간대들 + 대형견 시간대들, 시작시각 순)
+    // - 휴무일(isClosed)은 모든 시간대를 정원만큼 찬 것으로 내려 달력에서 마감 처리되도록 함
     @Override
+    @Transactional(readOnly = true)
     public Map<LocalDate, List<LandCountDto>> getLandTimeSlotsByMonth(int year, int month) {
         YearMonth ym = YearMonth.of(year, month);
-        Map<LocalDate, List<LandCountDto>> map = new HashMap<>();
-
-        for (int day = 1; day <= ym.lengthOfMonth(); day++) {
-            LocalDate date = ym.atDay(day);
+        LocalDate start = ym.atDay(1);
+        LocalDate end = ym.atEndOfMonth();
 
-            // 소형견
-            List<LandCountDto> smallCounts = landRepository.getLandCountInfo(date, LandType.SMALL);
-
-            // 대형견
-            List<LandCountDto> largeCounts = landRepository.getLandCountInfo(date, LandType.LARGE);
-
-            // 합쳐서 날짜별로 저장
-            List<LandCountDto> counts = new ArrayList<>();
-            counts.addAll(smallCounts);
-            counts.addAll(largeCounts);
+        List<TimeSlotCatalog.Slot> slots = timeSlotCatalog.byType(TimeType.LAND);
 
+        Map<LocalDate, List<LandCountDto>> map = new HashMap<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            boolean closed = closedDayCalendar.isClosed(date);
+
+            // 소형견 → 대형견 순으로 합쳐서 날짜별로 저장
+            List<LandCountDto> counts = new ArrayList<>(slots.size() * 2);
+            for (LandType landType : List.of(LandType.SMALL, LandType.LARGE)) {
+                for (TimeSlotCatalog.Slot ts : slots) {
+                    int reserved = closed
+                            ? ts.capacity()
+                            : occupancyLedger.reserved(TimeType.LAND, date, ts.id(), landType);
+                    counts.add(LandCountDto.builder()
+                            .timeSlotId(ts.id())
+                            .label(ts.label())
+                            .landType(landType)
+                            .reservedCount(reserved)
+                            .capacity(ts.capacity())
+                            .landDate(date)
+                            .build());
+                }
+            }
             map.put(date, counts);
         }
 
@@ -167,12 +185,22 @@ public class LandServiceImpl implements LandService {
     @Override
     @Transactional(readOnly = true)
     public List<LandCountDto> getLandTimeSlotsWithCount(LocalDate landDate, Long memberNum, LandType landType) {
-        return landRepository.getLandCountInfo(landDate, landType);
+        return getLandTimeSlotsWithCount(landDate, landType);
     }
+    // 시간대 목록 + 예약 점유 원장의 예약 반려견 수
     @Override
     @Transactional(readOnly = true)
     public List<LandCountDto> getLandTimeSlotsWithCount(LocalDate landDate, LandType landType) {
-        return landRepository.getLandCountInfo(landDate, landType);
+        return timeSlotCatalog.byType(TimeType.LAND).stream()
+                .map(ts -> LandCountDto.builder()
+                        .timeSlotId(ts.id())
+                        .label(ts.label())
+                        .landType(landType)
+                        .reservedCount(occupancyLedger.reserved(TimeType.LAND, landDate, ts.id(), landType))
+                        .capacity(ts.capacity())
+                        .landDate(landDate)
+                        .build())
+                .collect(Collectors.toList());
     }
     
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 // KakaoAuthController.java
 package com.project.member.controller;
 
-import com.project.common.jwt.JwtTokenProvider;
+import com.project.common.jwt.RefreshTokenService;
+import com.project.common.jwt.RefreshTokenService.TokenPair;
 import com.project.member.dto.KakaoUserInfoDto;
 import com.project.member.entity.MemberEntity;
 import com.project.member.repository.MemberRepository;
@@ -26,7 +27,7 @@ public class KakaoAuthController {
 
     private final KakaoApiService kakaoApiService;
     private final MemberRepository memberRepository;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     @GetMapping("/kakao/callback")
     public ResponseEntity<?> handleKakaoCallback(String code) throws Exception {
@@ -70,8 +71,10 @@ public class KakaoAuthController {
             // 필요 시 DB role 사용: m.getRole() 등
             final String role = "USER";
 
-            final String accessToken = jwtTokenProvider.createAccessToken(subject, role);
-            final String refreshToken = jwtTokenProvider.createRefreshToken(subject, role);
+            // refreshToken 은 RefreshTokenStore 에 저장 (/auth/reissue 로 재발급 가능)
+            final TokenPair tokens = refreshTokenService.issue(subject, role);
+            final String accessToken = tokens.accessToken();
+            final String refreshToken = tokens.refreshToken();
 
             // HttpOnly 쿠키 세팅 (도메인/secure/sameSite는 환경에 맞춰 조정)
             ResponseCookie atCookie = ResponseCookie.from("accessToken", accessToken)
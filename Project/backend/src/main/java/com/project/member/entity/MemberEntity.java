@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member",
+       indexes = {
+         @Index(name = "idx_member_name", columnList = "member_name"), // 관리자 예약 검색 (회원명 일치)
+         @Index(name = "idx_member_phone_hash", columnList = "member_phone_hash") // 휴대폰 번호로 회원 조회
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,7 +50,10 @@ public class MemberEntity {
     private LocalDate memberBirth; //생년월일
 
     @Column(name = "member_phone")
-    private String memberPhone; //휴대폰 번호
+    private String memberPhone; //휴대폰 번호 (암호화)
+
+    @Column(name = "member_phone_hash", length = 44)
+    private String memberPhoneHash; //휴대폰 번호 블라인드 인덱스 (PhoneBlindIndex, 동일 번호 조회용)
 
     private String memberPostcode; // 우편번호
     private String memberRoadAddress; // 기본주소(도로명/지번)
@@ -73,9 +81,6 @@ public class MemberEntity {
     
     private String volSumtime;	//총 봉사시간
     
-    private String accessToken;
-    private String refreshToken;
-    
     /* ─────────────────────────────────────────────────────────
     편의 메서드: 분리된 주소로부터 합친 주소 생성(표출용)
     - 프론트/DTO에서 필요 시 사용
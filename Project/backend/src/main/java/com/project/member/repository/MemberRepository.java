@@ -7,6 +7,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.member.entity.MemberEntity;
@@ -29,14 +31,27 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     // 아이디로 조회
     Optional<MemberEntity> findByMemberId(String memberId);
     
-    // 연락처로 회원 조회 or 핸드폰번호 기준으로 회원 존재여부 확인
-    Optional<MemberEntity> findByMemberPhone(String memberPhone);
+    // 연락처로 회원 조회 or 핸드폰번호 기준으로 회원 존재여부 확인 (블라인드 인덱스)
+    boolean existsByMemberPhoneHash(String memberPhoneHash);
+
+    // 본인 제외 같은 번호 존재 여부 (마이페이지 번호 변경)
+    boolean existsByMemberPhoneHashAndMemberNumNot(String memberPhoneHash, Long memberNum);
     
     //아이디 찾기
-    Optional<MemberEntity> findByMemberNameAndMemberPhone(String memberName, String memberPhone);
+    Optional<MemberEntity> findFirstByMemberNameAndMemberPhoneHash(String memberName, String memberPhoneHash);
     
     //비밀번호 찾기
-    Optional<MemberEntity> findByMemberIdAndMemberNameAndMemberPhone(String memberId, String memberName, String memberPhone);
+    Optional<MemberEntity> findByMemberIdAndMemberNameAndMemberPhoneHash(String memberId, String memberName, String memberPhoneHash);
+
+    // 블라인드 인덱스 백필 대상 [회원번호, 암호화된 번호] (회원번호 순으로 pageable 크기만큼)
+    @Query("SELECT m.memberNum, m.memberPhone FROM MemberEntity m WHERE m.memberNum > :afterNum " +
+           "AND m.memberPhone IS NOT NULL AND m.memberPhoneHash IS NULL ORDER BY m.memberNum")
+    List<Object[]> findPhoneIndexBackfillBatch(@Param("afterNum") Long afterNum, Pageable pageable);
+
+    // 블라인드 인덱스 재계산 대상 (키 교체 시, 이미 채워진 행 포함)
+    @Query("SELECT m.memberNum, m.memberPhone FROM MemberEntity m WHERE m.memberNum > :afterNum " +
+           "AND m.memberPhone IS NOT NULL ORDER BY m.memberNum")
+    List<Object[]> findPhoneIndexReindexBatch(@Param("afterNum") Long afterNum, Pageable pageable);
     
     //비밀번호 만료 스케줄러
     List<MemberEntity> findByPwUpdatedBefore(LocalDateTime expiryThreshold);
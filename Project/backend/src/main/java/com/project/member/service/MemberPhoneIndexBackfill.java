@@ -0,0 +1,97 @@
+package com.project.member.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.project.common.util.FieldCrypto;
+import com.project.common.util.PhoneBlindIndex;
+import com.project.member.repository.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 휴대폰 번호 블라인드 인덱스 백필
+ * - 인덱스 컬럼이 비어 있는 기존 회원을 회원번호 순으로 batch 건씩 읽어 일괄 복호화 → 인덱스 계산
+ * - 인덱스 컬럼만 배치 UPDATE (다른 컬럼을 덮어쓰지 않음, 이미 채워진 행은 건드리지 않음)
+ * - 기동 완료 후 한 번 실행 (채울 행이 없으면 조회 1회로 끝)
+ * - 복호화 실패 행은 건너뛰고 로그만 남김
+ * - phone.blind-index.reindex=true 이면 채워진 행까지 전부 다시 계산 (키 교체 후 한 번만 켜고 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberPhoneIndexBackfill {
+
+    private static final String UPDATE_SQL =
+            "UPDATE member SET member_phone_hash = ? WHERE member_num = ? AND member_phone_hash IS NULL";
+
+    private static final String REINDEX_SQL =
+            "UPDATE member SET member_phone_hash = ? WHERE member_num = ?";
+
+    private final MemberRepository memberRepository;
+    private final PhoneBlindIndex phoneBlindIndex;
+    private final FieldCrypto fieldCrypto;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${phone.blind-index.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Value("${phone.blind-index.reindex:false}")
+    private boolean reindex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long start = System.currentTimeMillis();
+        long afterNum = 0;
+        int updated = 0;
+        int skipped = 0;
+
+        while (true) {
+            List<Object[]> rows = reindex
+                    ? memberRepository.findPhoneIndexReindexBatch(afterNum, PageRequest.of(0, batchSize))
+                    : memberRepository.findPhoneIndexBackfillBatch(afterNum, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) break;
+
+            Map<String, String> plain = fieldCrypto.decryptAll(rows.stream().map(row -> (String) row[1]).toList());
+            List<Object[]> batchArgs = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                Long memberNum = (Long) row[0];
+                afterNum = memberNum;
+                String hash = indexOf((String) row[1], plain);
+                if (hash == null) {
+                    skipped++;
+                    log.warn("휴대폰 번호 인덱스 백필 건너뜀: memberNum={}", memberNum);
+                    continue;
+                }
+                batchArgs.add(new Object[]{hash, memberNum});
+            }
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(reindex ? REINDEX_SQL : UPDATE_SQL, batchArgs);
+                updated += batchArgs.size();
+            }
+            if (rows.size() < batchSize) break;
+        }
+
+        if (updated > 0 || skipped > 0) {
+            log.info("휴대폰 번호 인덱스 백필 완료: {}건 반영, {}건 건너뜀, {}ms",
+                    updated, skipped, System.currentTimeMillis() - start);
+        }
+    }
+
+    // 저장값 → 원래 번호 → 인덱스 (복호화 안 되는 값 중 암호화 안 된 숫자 저장값도 처리)
+    private String indexOf(String stored, Map<String, String> plain) {
+        if (stored == null || stored.isBlank()) return null;
+        String phone = plain.get(stored);
+        if (phone != null) return phoneBlindIndex.index(phone);
+        return stored.matches("[0-9+\\- ]+") ? phoneBlindIndex.index(stored) : null;
+    }
+}
@@ -10,8 +10,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
  
-import com.project.common.jwt.JwtTokenProvider;
-import com.project.common.util.JasyptUtil;
+import com.project.common.jwt.RefreshTokenService;
+import com.project.common.jwt.RefreshTokenService.TokenPair;
+import com.project.common.service.LoginRateLimiter;
+import com.project.common.util.FieldCrypto;
+import com.project.common.util.PhoneBlindIndex;
 import com.project.member.dto.AddressUpdateRequestDto;
 import com.project.member.dto.KakaoSignUpRequestDto;
 import com.project.member.dto.KakaoUserInfoDto;
@@ -45,7 +48,10 @@ public class MemberServiceImpl implements MemberService {
 	private final MemberRepository memberRepository;
 	private final BCryptPasswordEncoder passwordEncoder;
 	private final KakaoApiService kakaoApiService;
-	private final JwtTokenProvider jwtTokenProvider;
+	private final PhoneBlindIndex phoneBlindIndex;
+	private final FieldCrypto fieldCrypto;
+	private final RefreshTokenService refreshTokenService;
+	private final LoginRateLimiter loginRateLimiter;
 	
 	//회원가입
 	@Transactional // 하나의 트랜잭션으로 처리(중간 에러 시 전체 롤백)
@@ -103,12 +109,12 @@ public class MemberServiceImpl implements MemberService {
 
 	    // ─────────────────────────────────────────────────────────────
 	    // 3) 휴대폰번호 암호화 (기존 로직 + 숫자만 보정)
-	    //    - 카카오/일반 관계없이 숫자만 추출 후 Jasypt 암호화
+	    //    - 카카오/일반 관계없이 숫자만 추출 후 필드 암호화(AES-GCM)
 	    // ─────────────────────────────────────────────────────────────
 	    final String phoneDigits = dto.getMemberPhone() == null
 	            ? null
 	            : dto.getMemberPhone().replaceAll("[^0-9]", ""); // 숫자만
-	    final String encryptedPhone = JasyptUtil.encrypt(phoneDigits);
+	    final String encryptedPhone = fieldCrypto.encrypt(phoneDigits);
 
 	    // ─────────────────────────────────────────────────────────────
 	    // 4) 엔티티 변환 및 저장 (기존 필드 유지 + kakaoId 분기 세팅)
@@ -123,6 +129,7 @@ public class MemberServiceImpl implements MemberService {
 	            .memberName(dto.getMemberName())
 	            .memberBirth(dto.getMemberBirth())
 	            .memberPhone(encryptedPhone)                // (암호화 저장)
+	            .memberPhoneHash(phoneBlindIndex.index(phoneDigits)) // (동일 번호 조회용 인덱스)
 	            .memberAddress(dto.getMemberAddress())
 	            .memberDay(LocalDate.now())
 	            .memberSex(dto.getMemberSex())
@@ -162,6 +169,9 @@ public class MemberServiceImpl implements MemberService {
 	//로그인
 	@Override
     public MemberAuthResult authenticate(MemberLoginRequestDto dto) {
+        // 0) 시도 횟수 제한 (IP/계정) - 초과 시 조회/BCrypt 없이 429
+        loginRateLimiter.acquire(dto.getMemberId());
+
         // 1) 회원 조회
         MemberEntity member = memberRepository.findByMemberId(dto.getMemberId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계정입니다."));
@@ -177,7 +187,8 @@ public class MemberServiceImpl implements MemberService {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다.");
         }
 
-        // 4) 통과 → 기본 정보만 리턴 (토큰 발급/저장은 Controller에서)
+        // 4) 통과 → 계정 시도 횟수 초기화 후 기본 정보만 리턴 (토큰 발급/저장은 Controller에서)
+        loginRateLimiter.reset(member.getMemberId());
         return MemberAuthResult.builder()
                 .memberNum(member.getMemberNum())
                 .memberId(member.getMemberId())
@@ -214,7 +225,7 @@ public class MemberServiceImpl implements MemberService {
 				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
 		
 		//핸드폰번호 복호화
-		String decryptedPhone = JasyptUtil.decrypt(member.getMemberPhone());
+		String decryptedPhone = fieldCrypto.decrypt(member.getMemberPhone());
         return MemberMyPageResponseDto.builder()
 				.memberName(member.getMemberName())
 				.memberId(member.getMemberId())
@@ -240,14 +251,17 @@ public class MemberServiceImpl implements MemberService {
 	            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
 	    //전화번호 암호화 처리
-	    if(dto.getMemberPhone() != null) {
-	    	String encryptedPhone = JasyptUtil.encrypt(dto.getMemberPhone()); //암호화
-	    	//본인 제외 핸드폰번호 중복 검사
-	    	Optional<MemberEntity> existing = memberRepository.findByMemberPhone(encryptedPhone);
-	    	if(existing.isPresent() && !existing.get().getMemberNum().equals(memberNum)){
+	    String phoneDigits = PhoneBlindIndex.normalize(dto.getMemberPhone()); //숫자만 (없으면 null)
+	    if(phoneDigits != null) {
+	    	String phoneHash = phoneBlindIndex.index(phoneDigits);
+	    	//본인 제외 핸드폰번호 중복 검사 (블라인드 인덱스 조회)
+	    	if(memberRepository.existsByMemberPhoneHashAndMemberNumNot(phoneHash, memberNum)){
 	    		throw new IllegalArgumentException("사용할 수 없는 핸드폰 번호입니다.");
 	    	}
-	    	member.setMemberPhone(encryptedPhone);	//암호화된 (수정된) 핸드폰번호 저장
+	    	member.setMemberPhone(fieldCrypto.encrypt(phoneDigits));	//암호화된 (수정된) 핸드폰번호 저장
+	    	member.setMemberPhoneHash(phoneHash);
+	    } else {
+	    	migratePhone(member);
 	    }
 	    
 	    // 수정 가능한 항목만 반영
@@ -262,7 +276,7 @@ public class MemberServiceImpl implements MemberService {
 	            .memberBirth(member.getMemberBirth())
 	            .memberSex(member.getMemberSex())
 	            .memberAddress(member.getMemberAddress())
-	            .memberPhone(member.getMemberPhone())
+	            .memberPhone(fieldCrypto.decrypt(member.getMemberPhone()))
 	            .kakaoId(member.getKakaoId())
 	            .smsAgree(member.isSmsAgree())
 	            .build();
@@ -277,6 +291,7 @@ public class MemberServiceImpl implements MemberService {
 
         // ✅ 분리 주소로 갱신(+ 레거시 필드 동기화)
         member.updateAddress(dto.getPostcode(), dto.getRoadAddress(), dto.getDetailAddress());
+        migratePhone(member);
         // JPA dirty checking으로 업데이트
 
         // 갱신 후 최신 데이터로 응답
@@ -300,8 +315,7 @@ public class MemberServiceImpl implements MemberService {
 	    try {
 	        String curRaw = m.getMemberPhone();
 	        if (curRaw != null && !curRaw.isBlank()) {
-	            String dec = curRaw.startsWith("ENC(") && curRaw.endsWith(")") ? JasyptUtil.decrypt(curRaw) : curRaw;
-	            currentDigits = dec.replaceAll("[^0-9]", "");
+	            currentDigits = fieldCrypto.decrypt(curRaw).replaceAll("[^0-9]", "");
 	        }
 	    } catch (Exception e) {
 	        // 복호화 실패는 기존값 비교를 못하더라도 업데이트는 가능하도록 넘어감(로그만)
@@ -313,8 +327,9 @@ public class MemberServiceImpl implements MemberService {
 	    }
 	    // 저장(암호화)
 	    try {
-	        String encrypted = JasyptUtil.encrypt(newDigits);
+	        String encrypted = fieldCrypto.encrypt(newDigits);
 	        m.setMemberPhone(encrypted);
+	        m.setMemberPhoneHash(phoneBlindIndex.index(newDigits));
 	        // JPA dirty checking
 	    } catch (DataIntegrityViolationException dive) {
 	        // 유니크 제약 위반 등 → 409
@@ -336,6 +351,7 @@ public class MemberServiceImpl implements MemberService {
 	    }
 
 	    m.setSmsAgree(smsAgree); // JPA dirty checking으로 업데이트
+	    migratePhone(m);
 	    return myPage(memberNum);
 	}
 	
@@ -384,9 +400,12 @@ public class MemberServiceImpl implements MemberService {
 	//아이디 찾기
 	public String findMemberId(String memberName, String memberPhone) {
 		
-		String encryptedPhone = JasyptUtil.encrypt(memberPhone);
+		String phoneHash = phoneBlindIndex.index(memberPhone);
+		if (phoneHash == null) {
+			throw new IllegalArgumentException("일치하는 회원이 없습니다.");
+		}
 		
-		return memberRepository.findByMemberNameAndMemberPhone(memberName, encryptedPhone)
+		return memberRepository.findFirstByMemberNameAndMemberPhoneHash(memberName, phoneHash)
 				.map(member -> "회원님의 ID는 " + member.getMemberId() + " 입니다.")
 				.orElseThrow(() -> new IllegalArgumentException("일치하는 회원이 없습니다."));
 		
@@ -397,10 +416,13 @@ public class MemberServiceImpl implements MemberService {
 	//비밀번호 찾기
 	public String findMemberPw(String memberId, String memberName, String memberPhone) {
 		
-		String encryptedPhone = JasyptUtil.encrypt(memberPhone);
+		String phoneHash = phoneBlindIndex.index(memberPhone);
+		if (phoneHash == null) {
+			throw new IllegalArgumentException("입력하신 정보와 일치하는 회원이 없습니다.");
+		}
 		
 		MemberEntity member = memberRepository
-				.findByMemberIdAndMemberNameAndMemberPhone(memberId, memberName, encryptedPhone)
+				.findByMemberIdAndMemberNameAndMemberPhoneHash(memberId, memberName, phoneHash)
 				.orElseThrow(() -> new IllegalArgumentException("입력하신 정보와 일치하는 회원이 없습니다."));
 		
 		return "본인 확인이 완료되었습니다. 비밀번호를 재설정 해주세요";
@@ -410,17 +432,12 @@ public class MemberServiceImpl implements MemberService {
 	
 	//휴대폰 번호로 회원 존재 여부 확인
 	public String checkPhoneNumber(String phoneNum) {
-	    String encryptedPhone;
-		//memberPhone컬럼에 phoneNum와 같은 값이 존재하는지 조회
-	    try {
-	    	//입력값을 암호화
-	        encryptedPhone = JasyptUtil.encrypt(phoneNum);
-	        System.out.println("📦 암호화된 입력값: " + encryptedPhone); // 🔍 여기에 로그 찍기
-	    } catch (Exception e) {
-	        throw new RuntimeException("휴대폰 번호 확인중 암호화 오류 발생", e);
+	    String phoneHash = phoneBlindIndex.index(phoneNum);
+	    if (phoneHash == null) {
+	        throw new IllegalArgumentException("휴대폰 번호를 입력해주세요.");
 	    }
-	    //암호화된 값으로 조회
-	    boolean exists = memberRepository.findByMemberPhone(encryptedPhone).isPresent();
+	    //블라인드 인덱스로 조회 (인덱스 단건 조회)
+	    boolean exists = memberRepository.existsByMemberPhoneHash(phoneHash);
 
 	    //동일한 값이 존재한다면 예외 발생
 	    if (exists) {
@@ -430,8 +447,8 @@ public class MemberServiceImpl implements MemberService {
 	    return "사용 가능한 번호입니다.";
 	    
 		//1. 사용자가 핸드폰번호 입력
-  		//2. encrypt 핸드폰번호 암호화
-  		//3. 암호화된 문자열을 memberPhone과 비교
+  		//2. 핸드폰번호 블라인드 인덱스 계산 (PhoneBlindIndex)
+  		//3. 인덱스 값을 memberPhoneHash와 비교
   		//4. 존재여부 판단 > 중복 확인 처리
 	}
 	
@@ -462,6 +479,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         m.setMemberPw(passwordEncoder.encode(dto.getNewPassword()));
+        migratePhone(m);
         // (선택) m.setPasswordChangedAt(Instant.now());
     }
 
@@ -485,8 +503,14 @@ public class MemberServiceImpl implements MemberService {
         }
 
         m.setMemberPw(passwordEncoder.encode(dto.getNewPassword()));
+        migratePhone(m);
         // (선택) 비번 만료 해제, 토큰 소거 등 후처리
     }
+
+    //기존 형식(Jasypt) 휴대폰 암호문이면 회원 행을 저장하는 김에 새 형식(AES-GCM)으로 변환
+    private void migratePhone(MemberEntity m) {
+        m.setMemberPhone(fieldCrypto.migrate(m.getMemberPhone()));
+    }
   
 
 
@@ -516,16 +540,15 @@ public class MemberServiceImpl implements MemberService {
 
         MemberEntity member = existing.get();
 
-        // 4) JWT 발급
-        String jwtAccess = jwtTokenProvider.generateAccessToken(member.getMemberId());
-        String jwtRefresh = jwtTokenProvider.generateRefreshToken(member.getMemberId());
+        // 4) JWT 발급 (refreshToken 은 RefreshTokenStore 에 저장 → 재발급 가능)
+        TokenPair tokens = refreshTokenService.issue(member.getMemberId(), "USER");
 
         // 5) 로그인 성공 DTO 반환
         return MemberLoginResponseDto.builder()
                 .memberId(member.getMemberId())
                 .memberName(member.getMemberName())
-                .accessToken(jwtAccess)
-                .refreshToken(jwtRefresh)
+                .accessToken(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
                 .build();
     }
 
@@ -8,6 +8,10 @@ import com.project.land.dto.LandDetailDto;
 import com.project.volunteer.dto.VolunteerDetailDto;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +26,8 @@ public class AdminReserveController {
     private final ReserveService reserveService;
 
     // 전체 예약 목록 조회 
+    // 구 API (/all, /land, /volunteer, 검색): 최신 reserve.admin.legacy-list-limit 건까지만 반환 → /page API 사용
+    @Deprecated
     @GetMapping("/all")
     public ResponseEntity<List<AdminReservationListDto>> getAllReservationsForAdmin() {
         List<AdminReservationListDto> list = reserveService.getAllReservationsForAdmin();
@@ -29,6 +35,7 @@ public class AdminReserveController {
     }
     
     //놀이터예약 목록 조회
+    @Deprecated
     @GetMapping("/land")
     public ResponseEntity<List<AdminReservationListDto>> getLandReservationsForAdmin() {
         List<AdminReservationListDto> list = reserveService.getLandReservationsForAdmin();
@@ -36,6 +43,7 @@ public class AdminReserveController {
     } 
     
     //봉사예약 목록 조회
+    @Deprecated
     @GetMapping("/volunteer")
     public ResponseEntity<List<AdminReservationListDto>> getVolunteerReservationsForAdmin() {
         List<AdminReservationListDto> list = reserveService.getVolunteerReservationsForAdmin();
@@ -43,6 +51,7 @@ public class AdminReserveController {
     }
     
     // 놀이터 예약 검색
+    @Deprecated
     @PostMapping("/land/search")
     public ResponseEntity<List<AdminReservationListDto>> searchLandReservations(@RequestBody AdminReservationSearchDto dto) {
         List<AdminReservationListDto> list = reserveService.searchLandReservationsForAdmin(dto);
@@ -50,12 +59,39 @@ public class AdminReserveController {
     }
 
     // 봉사 예약 검색
+    @Deprecated
     @PostMapping("/volunteer/search")
     public ResponseEntity<List<AdminReservationListDto>> searchVolunteerReservations(@RequestBody AdminReservationSearchDto dto) {
         List<AdminReservationListDto> list = reserveService.searchVolunteerReservationsForAdmin(dto);
         return ResponseEntity.ok(list);
     }
 
+    // 예약 목록 페이지 조회 (예약코드 최신순, 검색조건은 모두 선택 - 쿼리 파라미터로 바인딩)
+    // /page = 전체, /land/page = 놀이터, /volunteer/page = 봉사
+    @GetMapping("/page")
+    public ResponseEntity<Page<AdminReservationListDto>> getReservationsPage(
+            @ModelAttribute AdminReservationSearchDto cond, @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(pageOf(null, cond, pageable));
+    }
+
+    @GetMapping("/land/page")
+    public ResponseEntity<Page<AdminReservationListDto>> getLandReservationsPage(
+            @ModelAttribute AdminReservationSearchDto cond, @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(pageOf(1, cond, pageable));
+    }
+
+    @GetMapping("/volunteer/page")
+    public ResponseEntity<Page<AdminReservationListDto>> getVolunteerReservationsPage(
+            @ModelAttribute AdminReservationSearchDto cond, @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(pageOf(2, cond, pageable));
+    }
+
+    // 정렬은 예약코드 최신순 고정, 페이지 크기 1~100 로 제한
+    private Page<AdminReservationListDto> pageOf(Integer reserveType, AdminReservationSearchDto cond, Pageable pageable) {
+        PageRequest page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), 100));
+        return reserveService.getReservationsPageForAdmin(reserveType, cond, page);
+    }
+
     // 놀이터 예약 상세 조회
     @GetMapping("/land/{reserveCode}")
     public ResponseEntity<LandDetailDto> getAdminLandReserveDetail(@PathVariable Long reserveCode) {
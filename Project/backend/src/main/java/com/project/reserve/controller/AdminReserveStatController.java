@@ -0,0 +1,44 @@
+package com.project.reserve.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.reserve.dto.ReserveStatDto;
+import com.project.reserve.entity.StatPeriod;
+import com.project.reserve.service.ReserveStatService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin/reserve/stats")
+@RequiredArgsConstructor
+public class AdminReserveStatController {
+
+    private final ReserveStatService reserveStatService;
+
+    // 대시보드 - 구간별 예약 통계
+    // 예) /admin/reserve/stats?period=MONTH&from=2025-01-01&to=2025-12-31&reserveType=1
+    @GetMapping
+    public ResponseEntity<List<ReserveStatDto>> getStats(
+            @RequestParam(value = "period", defaultValue = "DAY") StatPeriod period,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "reserveType", required = false) Integer reserveType) {
+        return ResponseEntity.ok(reserveStatService.getStats(period, from, to, reserveType));
+    }
+
+    // 통계 재집계 (원본 예약 기준으로 다시 계산)
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        return ResponseEntity.ok(Map.of("buckets", reserveStatService.rebuildStats()));
+    }
+}
@@ -5,15 +5,18 @@ import com.project.member.entity.MemberEntity;
 import com.project.member.repository.MemberRepository;
 import com.project.reserve.dto.FullReserveRequestDto;
 import com.project.reserve.dto.ReserveCompleteResponseDto;
+import com.project.reserve.dto.ReserveHoldResponseDto;
 import com.project.reserve.dto.ReserveRequestDto;
 import com.project.reserve.dto.ReserveResponseDto;
 import com.project.reserve.entity.ReserveState;
+import com.project.reserve.service.ReserveAdmissionQueue;
 import com.project.reserve.service.ReserveService;
 import com.project.volunteer.dto.VolunteerDetailDto;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -28,14 +31,30 @@ public class ReserveController {
 
     private final ReserveService reserveService;
     private final MemberRepository memberRepository; 
+    private final ReserveAdmissionQueue admissionQueue;
 
     //사용자 - 예약 생성
     @PostMapping
     public ResponseEntity<ReserveCompleteResponseDto> createReserve(@RequestBody FullReserveRequestDto fullRequestDto) {
+        reserveService.prepareReserve(fullRequestDto);
         ReserveCompleteResponseDto response = reserveService.createReserve(fullRequestDto);
         return ResponseEntity.ok(response);
     }
     
+    //사용자 - 예약 생성 (대기열 접수) : 홀드 토큰과 대기 순번을 즉시 반환, 처리 중이면 202
+    @PostMapping("/queue")
+    public ResponseEntity<ReserveHoldResponseDto> enqueueReserve(@RequestBody FullReserveRequestDto fullRequestDto) {
+        ReserveHoldResponseDto hold = admissionQueue.submit(fullRequestDto);
+        HttpStatus status = ReserveAdmissionQueue.PENDING.equals(hold.getStatus()) ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(hold);
+    }
+    
+    //사용자 - 대기열 접수 건 처리 상태 조회 (PENDING / DONE / FAILED)
+    @GetMapping("/queue/{holdToken}")
+    public ResponseEntity<ReserveHoldResponseDto> getQueuedReserve(@PathVariable String holdToken) {
+        return ResponseEntity.ok(admissionQueue.status(holdToken));
+    }
+    
     //사용자 - 회원 예약목록 조회 (마이페이지)
     @GetMapping("/my")//reserveAllList
     public ResponseEntity<List<ReserveResponseDto>> getMyReserves(@RequestParam("memberNum") Long memberNum) {
@@ -3,10 +3,13 @@ package com.project.reserve.dto;
 import java.time.LocalDate;
 
 import com.project.reserve.entity.Reserve;
+import com.project.reserve.entity.ReserveState;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 //관리자가 전체 예약 데이터 리스트형식으로 조회
 public class AdminReservationListDto {
 	private Long reserveCode;       // 예약 코드 (고유 식별자)
@@ -16,6 +19,17 @@ public class AdminReservationListDto {
     private LocalDate reserveDate; //예약일
     private int reserveType;	// 예약유형
     
+    // JPQL 생성자 조회용 (엔티티/연관관계 로딩 없이 한 번의 조인 쿼리로 목록 구성)
+    public AdminReservationListDto(Long reserveCode, String memberName, Integer reserveType,
+                                   ReserveState reserveState, LocalDate reserveDate) {
+        this.reserveCode = reserveCode;
+        this.memberName = memberName;
+        this.reserveType = reserveType != null ? reserveType : 0;
+        this.programName = ReserveResponseDto.getReserveTypeName(this.reserveType);
+        this.reserveState = reserveState != null ? reserveState.name() : null;
+        this.reserveDate = reserveDate;
+    }
+    
     public static AdminReservationListDto from(Reserve reserve) {
         AdminReservationListDto dto = new AdminReservationListDto();
         dto.setReserveCode(reserve.getReserveCode());
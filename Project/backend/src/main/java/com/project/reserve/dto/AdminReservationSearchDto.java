@@ -2,15 +2,23 @@ package com.project.reserve.dto;
 
 import java.time.LocalDate;
 
+import org.springframework.format.annotation.DateTimeFormat;
+
 import com.project.reserve.entity.ReserveState;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AdminReservationSearchDto {
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
 	private LocalDate startDate; // 검색 시작일
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate endDate;   // 검색 종료일
     private String memberName;	//회원 이름
     private Long reserveCode; //예약 코드
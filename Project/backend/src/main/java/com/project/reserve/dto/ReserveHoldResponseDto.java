@@ -0,0 +1,17 @@
+package com.project.reserve.dto;
+
+import lombok.*;
+
+//예약 대기열 접수/상태 조회 응답
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReserveHoldResponseDto {
+	private String holdToken;	//상태 조회용 토큰
+	private String status;		//PENDING(대기중) / DONE(예약완료) / FAILED(실패)
+	private Long position;		//대기 순번 (PENDING 일 때만, 1 = 다음 처리)
+	private Long reserveCode;	//예약 완료 시 예약코드
+	private String message;		//완료 메시지 또는 실패 사유
+}
@@ -0,0 +1,42 @@
+package com.project.reserve.dto;
+
+import java.time.LocalDate;
+
+import com.project.land.entity.LandType;
+import com.project.reserve.entity.ReserveStat;
+import com.project.reserve.entity.ReserveState;
+import com.project.reserve.entity.StatPeriod;
+
+import lombok.Builder;
+import lombok.Data;
+
+//관리자 대시보드 - 예약 통계 구간 1건 (일/주/월 × 유형 × 시간대 × 놀이터타입 × 상태)
+@Data
+@Builder
+public class ReserveStatDto {
+	private StatPeriod period;		//집계 단위
+	private LocalDate periodStart;	//구간 시작일
+	private int reserveType;		//예약유형 (1=놀이터, 2=봉사)
+	private Long timeSlotId;		//시간대
+	private String label;			//시간대 라벨 (삭제된 시간대면 null)
+	private LandType landType;		//놀이터 타입 (봉사는 null)
+	private ReserveState reserveState;	//예약 상태
+	private long reserveCount;		//예약 건수
+	private long headCount;			//놀이터=반려견 수, 봉사=신청 인원
+	private long revenue;			//결제금액 합계
+
+	public static ReserveStatDto from(ReserveStat stat, String label) {
+		return ReserveStatDto.builder()
+				.period(stat.getStatPeriod())
+				.periodStart(stat.getPeriodStart())
+				.reserveType(stat.getReserveType())
+				.timeSlotId(stat.getTimeSlotId())
+				.label(label)
+				.landType(ReserveStat.NO_LAND_TYPE.equals(stat.getLandType()) ? null : LandType.valueOf(stat.getLandType()))
+				.reserveState(stat.getReserveState())
+				.reserveCount(stat.getReserveCount())
+				.headCount(stat.getHeadCount())
+				.revenue(stat.getRevenue())
+				.build();
+	}
+}
@@ -17,7 +17,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Reserve")
+@Table(name = "Reserve",
+       indexes = {
+         // 회원별 예약 목록 / 중복 예약 검사 / 관리자 회원명 검색 후 조인
+         @Index(name = "idx_reserve_member_state", columnList = "member_num, reserve_state")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
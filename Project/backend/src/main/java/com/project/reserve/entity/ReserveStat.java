@@ -0,0 +1,65 @@
+package com.project.reserve.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 예약 통계 롤업 (일/주/월 × 예약유형 × 시간대 × 놀이터타입 × 예약상태)
+ * - 예약 생성/취소/상태변경 시 증감분만 반영 (ReserveStatRollup)
+ * - 대시보드는 이 테이블만 읽음 → 조회 비용이 예약 건수가 아닌 구간 수에 비례
+ * - landType: 봉사 예약은 "NONE" (유니크 키에 NULL 을 넣지 않기 위함)
+ */
+@Entity
+@Table(name = "reserve_stat",
+       uniqueConstraints = {
+         @UniqueConstraint(name = "uk_reserve_stat_bucket",
+                 columnNames = {"stat_period", "period_start", "reserve_type", "time_slot_id", "land_type", "reserve_state"})
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReserveStat {
+
+    public static final String NO_LAND_TYPE = "NONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stat_period", length = 5, nullable = false)
+    private StatPeriod statPeriod;		//집계 단위
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;		//구간 시작일 (일=해당일, 주=월요일, 월=1일)
+
+    @Column(name = "reserve_type", nullable = false)
+    private Integer reserveType;		//예약유형 (1=놀이터, 2=봉사)
+
+    @Column(name = "time_slot_id", nullable = false)
+    private Long timeSlotId;		//시간대
+
+    @Column(name = "land_type", length = 10, nullable = false)
+    private String landType;		//놀이터 타입 (봉사는 NONE)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reserve_state", length = 10, nullable = false)
+    private ReserveState reserveState;		//예약 상태
+
+    @Column(name = "reserve_count", nullable = false)
+    private long reserveCount;		//예약 건수
+
+    @Column(name = "head_count", nullable = false)
+    private long headCount;		//놀이터=반려견 수, 봉사=신청 인원
+
+    @Column(name = "revenue", nullable = false)
+    private long revenue;		//결제금액 합계 (놀이터 payNumber)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
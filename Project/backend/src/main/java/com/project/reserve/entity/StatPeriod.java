@@ -0,0 +1,21 @@
+package com.project.reserve.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+// 예약 통계 집계 단위
+public enum StatPeriod {
+    DAY,	//일별
+    WEEK,	//주별 (월요일 시작)
+    MONTH;	//월별
+
+    // 날짜가 속한 구간의 시작일
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.reserve.exception;
+
+// 예약 점유 원장(월 단위)을 제때 불러오지 못한 경우 - 잠시 후 재시도 (503)
+public class ReserveLedgerUnavailableException extends RuntimeException {
+
+    public ReserveLedgerUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
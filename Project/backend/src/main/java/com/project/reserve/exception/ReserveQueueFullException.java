@@ -0,0 +1,9 @@
+package com.project.reserve.exception;
+
+// 예약 대기열(시간대별)이 가득 찬 경우 - 잠시 후 재시도
+public class ReserveQueueFullException extends RuntimeException {
+
+    public ReserveQueueFullException(String message) {
+        super(message);
+    }
+}
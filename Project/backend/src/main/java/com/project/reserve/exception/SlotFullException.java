@@ -0,0 +1,9 @@
+package com.project.reserve.exception;
+
+// 시간대 정원 초과 (동시 예약으로 남은 자리가 없을 때 포함)
+public class SlotFullException extends RuntimeException {
+
+    public SlotFullException(String message) {
+        super(message);
+    }
+}
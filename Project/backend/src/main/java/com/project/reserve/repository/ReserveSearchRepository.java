@@ -0,0 +1,16 @@
+package com.project.reserve.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.project.reserve.dto.AdminReservationListDto;
+import com.project.reserve.dto.AdminReservationSearchDto;
+
+// 관리자 예약 검색 (입력된 조건만 WHERE 에 넣는 동적 쿼리) - ReserveRepository 에 합쳐서 사용
+public interface ReserveSearchRepository {
+
+    // reserveType: null=전체, 1=놀이터, 2=봉사 / cond 가 null 이면 조건 없음 / Pageable.unpaged() 면 count 생략
+    Page<AdminReservationListDto> searchAdminReservations(Integer reserveType,
+                                                          AdminReservationSearchDto cond,
+                                                          Pageable pageable);
+}
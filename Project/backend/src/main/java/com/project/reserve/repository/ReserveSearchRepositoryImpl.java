@@ -0,0 +1,137 @@
+package com.project.reserve.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.project.land.entity.Land;
+import com.project.member.entity.MemberEntity;
+import com.project.reserve.dto.AdminReservationListDto;
+import com.project.reserve.dto.AdminReservationSearchDto;
+import com.project.reserve.entity.Reserve;
+import com.project.volunteer.entity.Volunteer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 관리자 예약 검색 구현 (Criteria API)
+ * - "(:x IS NULL OR 컬럼 = :x)" 형태 대신 값이 있는 조건만 WHERE 에 추가 → 옵티마이저가 인덱스를 고를 수 있음
+ * - 유형이 정해지면 해당 상세(Land/Volunteer)만 INNER JOIN 하고 그 날짜 컬럼으로 바로 비교
+ *   (Land(land_date, ...), Volunteer(vol_date, ...) 인덱스 사용)
+ * - count 쿼리는 회원명 조건이 있을 때만 회원을 조인
+ */
+public class ReserveSearchRepositoryImpl implements ReserveSearchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // 쿼리마다 만드는 루트/조인 + 조건 묶음
+    private record Criteria(Root<Reserve> reserve, Join<Reserve, MemberEntity> member,
+                            Expression<LocalDate> reserveDate, List<Predicate> predicates) {}
+
+    @Override
+    public Page<AdminReservationListDto> searchAdminReservations(Integer reserveType,
+                                                                 AdminReservationSearchDto cond,
+                                                                 Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<AdminReservationListDto> query = cb.createQuery(AdminReservationListDto.class);
+        Criteria c = build(cb, query, reserveType, cond, true);
+        query.select(cb.construct(AdminReservationListDto.class,
+                        c.reserve().get("reserveCode"),
+                        c.member().get("memberName"),
+                        c.reserve().get("reserveType"),
+                        c.reserve().get("reserveState"),
+                        c.reserveDate()))
+                .where(c.predicates().toArray(Predicate[]::new))
+                .orderBy(cb.desc(c.reserve().get("reserveCode")));   // PK 정렬 → 페이지 경계 고정
+
+        TypedQuery<AdminReservationListDto> typed = em.createQuery(query);
+        if (pageable.isUnpaged()) {
+            List<AdminReservationListDto> all = typed.getResultList();
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        typed.setFirstResult((int) pageable.getOffset());
+        typed.setMaxResults(pageable.getPageSize());
+        List<AdminReservationListDto> content = typed.getResultList();
+
+        // 첫/마지막 페이지처럼 건수를 알 수 있으면 count 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cb, reserveType, cond));
+    }
+
+    private long count(CriteriaBuilder cb, Integer reserveType, AdminReservationSearchDto cond) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Criteria c = build(cb, query, reserveType, cond, hasText(cond != null ? cond.getMemberName() : null));
+        query.select(cb.count(c.reserve()))
+                .where(c.predicates().toArray(Predicate[]::new));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    private Criteria build(CriteriaBuilder cb, AbstractQuery<?> query, Integer reserveType,
+                           AdminReservationSearchDto cond, boolean joinMember) {
+        Root<Reserve> reserve = query.from(Reserve.class);
+        Join<Reserve, MemberEntity> member = joinMember ? reserve.join("member") : null;
+        List<Predicate> predicates = new ArrayList<>();
+
+        // ---- 유형 / 예약일 ----
+        Expression<LocalDate> reserveDate;
+        if (reserveType != null && reserveType == 1) {
+            Join<Reserve, Land> land = reserve.join("landDetail");
+            reserveDate = land.get("landDate");
+            predicates.add(cb.equal(reserve.get("reserveType"), 1));
+        } else if (reserveType != null && reserveType == 2) {
+            Join<Reserve, Volunteer> volunteer = reserve.join("volunteerDetail");
+            reserveDate = volunteer.get("volDate");
+            predicates.add(cb.equal(reserve.get("reserveType"), 2));
+        } else {
+            Join<Reserve, Land> land = reserve.join("landDetail", JoinType.LEFT);
+            Join<Reserve, Volunteer> volunteer = reserve.join("volunteerDetail", JoinType.LEFT);
+            reserveDate = cb.coalesce(land.<LocalDate>get("landDate"), volunteer.<LocalDate>get("volDate"));
+            if (reserveType != null) {
+                predicates.add(cb.equal(reserve.get("reserveType"), reserveType));
+            }
+        }
+
+        if (cond == null) {
+            return new Criteria(reserve, member, reserveDate, predicates);
+        }
+
+        // ---- 입력된 조건만 ----
+        if (cond.getReserveCode() != null) {
+            predicates.add(cb.equal(reserve.get("reserveCode"), cond.getReserveCode()));
+        }
+        if (member != null && hasText(cond.getMemberName())) {
+            predicates.add(cb.equal(member.get("memberName"), cond.getMemberName().trim()));
+        }
+        if (cond.getStartDate() != null && cond.getEndDate() != null) {
+            predicates.add(cb.between(reserveDate, cond.getStartDate(), cond.getEndDate()));
+        } else if (cond.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(reserveDate, cond.getStartDate()));
+        } else if (cond.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(reserveDate, cond.getEndDate()));
+        }
+        if (cond.getReserveState() != null) {
+            predicates.add(cb.equal(reserve.get("reserveState"), cond.getReserveState()));
+        }
+        return new Criteria(reserve, member, reserveDate, predicates);
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.reserve.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.project.reserve.entity.ReserveStat;
+import com.project.reserve.entity.StatPeriod;
+
+@Repository
+public interface ReserveStatRepository extends JpaRepository<ReserveStat, Long> {
+
+    // 대시보드 - 기간 내 구간별 통계 (전체 유형)
+    List<ReserveStat> findByStatPeriodAndPeriodStartBetweenOrderByPeriodStartAscTimeSlotIdAsc(
+            StatPeriod statPeriod, LocalDate from, LocalDate to);
+
+    // 대시보드 - 기간 내 구간별 통계 (예약유형 지정)
+    List<ReserveStat> findByStatPeriodAndReserveTypeAndPeriodStartBetweenOrderByPeriodStartAscTimeSlotIdAsc(
+            StatPeriod statPeriod, Integer reserveType, LocalDate from, LocalDate to);
+
+    // 재집계용 - 놀이터 예약 일별 합계 [날짜, 시간대, 놀이터타입, 상태, 건수, 반려견 수, 결제금액]
+    @Query("SELECT l.landDate, l.timeSlot.id, l.landType, r.reserveState, COUNT(r), SUM(l.animalNumber), SUM(l.payNumber) " +
+           "FROM Land l JOIN l.reserve r " +
+           "WHERE l.landDate IS NOT NULL AND r.reserveState IS NOT NULL " +
+           "GROUP BY l.landDate, l.timeSlot.id, l.landType, r.reserveState")
+    List<Object[]> sumLandByDay();
+
+    // 재집계용 - 봉사 예약 일별 합계 [날짜, 시간대, 상태, 건수, 신청 인원]
+    @Query("SELECT v.volDate, v.timeSlot.id, r.reserveState, COUNT(r), SUM(r.reserveNumber) " +
+           "FROM Volunteer v JOIN v.reserve r " +
+           "WHERE v.volDate IS NOT NULL AND r.reserveState IS NOT NULL " +
+           "GROUP BY v.volDate, v.timeSlot.id, r.reserveState")
+    List<Object[]> sumVolunteerByDay();
+}
@@ -0,0 +1,291 @@
+package com.project.reserve.service;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.common.entity.TimeType;
+import com.project.common.service.TimeSlotCatalog;
+import com.project.reserve.dto.FullReserveRequestDto;
+import com.project.reserve.dto.ReserveCompleteResponseDto;
+import com.project.reserve.dto.ReserveHoldResponseDto;
+import com.project.reserve.exception.DuplicateReservationException;
+import com.project.reserve.exception.ReserveQueueFullException;
+import com.project.reserve.exception.SlotFullException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 접수 대기열 (예약 오픈 시간 몰림 대응)
+ * - 같은 (예약유형, 날짜, 시간대) 요청은 시간대별 레인에 줄 세워 한 번에 하나씩 처리
+ *   → 같은 시간대끼리 중복검사/정원확인/저장이 겹치지 않아 락 대기와 경합이 사라짐
+ * - 접수 즉시 홀드 토큰 + 대기 순번을 돌려주고, 처리 결과는 토큰으로 조회
+ * - 레인마다 대기 건수 제한 → 넘치면 429 로 즉시 거절 (타임아웃까지 붙잡지 않음)
+ * - 서로 다른 시간대 레인은 워커 수만큼 병렬 처리
+ * - 레인은 카탈로그에 있는 예약 가능 시간대 + 예약 가능 기간(오늘 ~ max-days-ahead) 날짜에만 생성
+ *   → 임의의 날짜/시간대 조합으로 레인을 무한히 만들 수 없음
+ * - 실패 사유는 예외 종류별 고정 문구로만 응답 (내부 예외 메시지를 그대로 노출하지 않음)
+ * - reserve.queue.enabled=false 이면 접수 시 바로 처리하고 완료 상태로 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReserveAdmissionQueue {
+
+    public static final String PENDING = "PENDING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    // 레인 하나를 연속으로 처리할 최대 건수 (다른 레인도 워커를 쓸 수 있도록)
+    private static final int DRAIN_BATCH = 32;
+
+    private final ReserveService reserveService;
+    private final TimeSlotCatalog timeSlotCatalog;
+
+    @Value("${reserve.queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reserve.queue.lane-depth:200}")
+    private int laneDepth;
+
+    @Value("${reserve.queue.workers:4}")
+    private int workers;
+
+    @Value("${reserve.queue.hold-ttl-ms:600000}")   // 기본 10분
+    private long holdTtlMs;
+
+    @Value("${reserve.queue.max-days-ahead:180}")
+    private int maxDaysAhead;
+
+    private record LaneKey(int reserveType, LocalDate date, Long timeSlotId) {}
+
+    private static class Lane {
+        final ConcurrentLinkedQueue<Hold> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger depth = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicLong issued = new AtomicLong();
+        final AtomicLong processed = new AtomicLong();
+        volatile long lastActiveAt = System.currentTimeMillis();
+    }
+
+    private static class Hold {
+        final String token = UUID.randomUUID().toString();
+        final FullReserveRequestDto request;
+        final Lane lane;
+        long ticket;
+        volatile String status = PENDING;
+        volatile Long reserveCode;
+        volatile String message;
+        volatile long finishedAt;
+
+        Hold(FullReserveRequestDto request, Lane lane) {
+            this.request = request;
+            this.lane = lane;
+        }
+    }
+
+    private final ConcurrentHashMap<LaneKey, Lane> lanes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Hold> holds = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    protected void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),   // 레인당 작업은 최대 1개만 대기하므로 레인 수로 제한됨
+                r -> {
+                    Thread t = new Thread(r, "reserve-lane-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("예약 대기열에 처리되지 않은 작업이 남은 채 종료됩니다.");
+            executor.shutdownNow();
+        }
+    }
+
+    // =========================
+    // 📌 예약 접수 (대기열 등록 후 즉시 응답)
+    // =========================
+    public ReserveHoldResponseDto submit(FullReserveRequestDto request) {
+        if (!enabled) {
+            // 대기열 미사용 → 기존처럼 바로 처리 (실패 시 예외 그대로 전달)
+            reserveService.prepareReserve(request);
+            ReserveCompleteResponseDto result = reserveService.createReserve(request);
+            Hold hold = new Hold(request, null);
+            complete(hold, result);
+            holds.put(hold.token, hold);
+            return toDto(hold);
+        }
+
+        LaneKey key = laneKey(request);
+        Hold[] created = new Hold[1];
+        Lane lane = lanes.compute(key, (k, existing) -> {
+            Lane l = existing != null ? existing : new Lane();
+            if (l.depth.get() >= laneDepth) {
+                return l;
+            }
+            Hold hold = new Hold(request, l);
+            l.depth.incrementAndGet();
+            hold.ticket = l.issued.incrementAndGet();
+            l.queue.add(hold);
+            l.lastActiveAt = System.currentTimeMillis();
+            created[0] = hold;
+            return l;
+        });
+
+        if (created[0] == null) {
+            throw new ReserveQueueFullException("예약 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        holds.put(created[0].token, created[0]);
+        scheduleDrain(lane);
+        return toDto(created[0]);
+    }
+
+    // =========================
+    // 📌 홀드 상태 조회
+    // =========================
+    public ReserveHoldResponseDto status(String token) {
+        Hold hold = holds.get(token);
+        if (hold == null) {
+            throw new IllegalArgumentException("대기열 정보를 찾을 수 없습니다. (만료되었거나 잘못된 토큰)");
+        }
+        return toDto(hold);
+    }
+
+    private LaneKey laneKey(FullReserveRequestDto request) {
+        if (request == null || request.getReserveDto() == null) {
+            throw new IllegalArgumentException("예약 정보가 잘못되었습니다.");
+        }
+        int reserveType = request.getReserveDto().getReserveType();
+        if (reserveType == 1 && request.getLandDto() != null) {
+            return validLaneKey(reserveType, TimeType.LAND,
+                    request.getLandDto().getLandDate(), request.getLandDto().getTimeSlotId());
+        }
+        if (reserveType == 2 && request.getVolunteerDto() != null) {
+            return validLaneKey(reserveType, TimeType.VOL,
+                    request.getVolunteerDto().getVolDate(), request.getVolunteerDto().getTimeSlotId());
+        }
+        throw new IllegalArgumentException("예약 유형 또는 세부 정보가 유효하지 않습니다.");
+    }
+
+    // 레인을 만들기 전에 시간대(카탈로그)와 날짜(예약 가능 기간) 확인 - DB 조회 없음
+    private LaneKey validLaneKey(int reserveType, TimeType timeType, LocalDate date, Long timeSlotId) {
+        if (timeSlotCatalog.findBookable(timeSlotId, timeType).isEmpty()) {
+            throw new IllegalArgumentException("선택한 시간대는 예약에 유효하지 않습니다.");
+        }
+        LocalDate today = LocalDate.now();
+        if (date == null || date.isBefore(today) || date.isAfter(today.plusDays(maxDaysAhead))) {
+            throw new IllegalArgumentException("예약할 수 없는 날짜입니다.");
+        }
+        return new LaneKey(reserveType, date, timeSlotId);
+    }
+
+    // 레인마다 처리 작업은 하나만 실행 (single-writer)
+    private void scheduleDrain(Lane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(Lane lane) {
+        int handled = 0;
+        Hold hold;
+        while (handled < DRAIN_BATCH && (hold = lane.queue.poll()) != null) {
+            process(hold);
+            lane.depth.decrementAndGet();
+            lane.processed.incrementAndGet();
+            lane.lastActiveAt = System.currentTimeMillis();
+            handled++;
+        }
+        lane.draining.set(false);
+        // 처리 중 새로 들어온 요청이 있으면 다시 예약 (다른 레인 뒤로 양보)
+        if (!lane.queue.isEmpty()) {
+            scheduleDrain(lane);
+        }
+    }
+
+    private void process(Hold hold) {
+        try {
+            reserveService.prepareReserve(hold.request);
+            complete(hold, reserveService.createReserve(hold.request));
+        } catch (RuntimeException e) {
+            hold.message = failureMessage(e);
+            hold.status = FAILED;
+            hold.finishedAt = System.currentTimeMillis();
+            if (!(e instanceof IllegalArgumentException || e instanceof SlotFullException
+                    || e instanceof DuplicateReservationException)) {
+                log.warn("대기열 예약 처리 실패: {} ({})", e.getMessage(), e.getClass().getSimpleName());
+            }
+        }
+    }
+
+    // 홀드 조회로 내려가는 실패 사유 (예외 메시지 대신 고정 문구)
+    private static String failureMessage(RuntimeException e) {
+        if (e instanceof SlotFullException) return "선택한 시간대의 정원이 마감되었습니다.";
+        if (e instanceof DuplicateReservationException) return "이미 해당 시간에 예약이 존재합니다.";
+        if (e instanceof IllegalArgumentException) return "예약 정보가 유효하지 않습니다.";
+        return "예약 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.";
+    }
+
+    private void complete(Hold hold, ReserveCompleteResponseDto result) {
+        hold.reserveCode = result.getReserveCode();
+        hold.message = result.getMessage();
+        hold.status = DONE;
+        hold.finishedAt = System.currentTimeMillis();
+    }
+
+    private ReserveHoldResponseDto toDto(Hold hold) {
+        Long position = null;
+        if (PENDING.equals(hold.status) && hold.lane != null) {
+            position = Math.max(hold.ticket - hold.lane.processed.get(), 1L);
+        }
+        return ReserveHoldResponseDto.builder()
+                .holdToken(hold.token)
+                .status(hold.status)
+                .position(position)
+                .reserveCode(hold.reserveCode)
+                .message(hold.message)
+                .build();
+    }
+
+    // 처리 끝난 홀드 / 비어 있는 레인 정리 (1분마다)
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Map.Entry<String, Hold>> it = holds.entrySet().iterator(); it.hasNext(); ) {
+            Hold hold = it.next().getValue();
+            if (!PENDING.equals(hold.status) && now - hold.finishedAt > holdTtlMs) {
+                it.remove();
+            }
+        }
+        for (LaneKey key : lanes.keySet()) {
+            lanes.computeIfPresent(key, (k, lane) ->
+                    lane.depth.get() == 0 && !lane.draining.get() && now - lane.lastActiveAt > holdTtlMs ? null : lane);
+        }
+    }
+}
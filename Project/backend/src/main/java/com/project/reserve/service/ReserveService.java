@@ -10,12 +10,17 @@ import com.project.reserve.dto.ReserveResponseDto;
 import com.project.reserve.entity.ReserveState;
 import com.project.volunteer.dto.VolunteerDetailDto;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 
 public interface ReserveService {
 
+	 void prepareReserve(FullReserveRequestDto fullRequestDto); //사용자 - 예약생성 전 준비 (트랜잭션 밖에서 점유 원장 적재)
+
 	 ReserveCompleteResponseDto createReserve(FullReserveRequestDto fullRequestDto); //사용자 - 예약생성
 
 	 List<ReserveResponseDto> getReservesByMember(Long memberNum); //사용자 - 본인의 예약 목록 조회(마이페이지)
@@ -38,6 +43,8 @@ public interface ReserveService {
 
 	 List<AdminReservationListDto> searchVolunteerReservationsForAdmin(AdminReservationSearchDto dto); // 관리자용 봉사 검색
 	 
+	 Page<AdminReservationListDto> getReservationsPageForAdmin(Integer reserveType, AdminReservationSearchDto dto, Pageable pageable); // 관리자용 예약목록 페이지 (유형/검색 필터)
+	 
 	 LandDetailDto getAdminLandReserveDetail(Long reserveCode); //관리자 - 놀이터 예약 상세보기
 	 
 	 VolunteerDetailDto getAdminVolunteerReserveDetail(Long reserveCode); //관리자 - 봉사 예약 상세보기
@@ -5,13 +5,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.common.entity.TimeSlot;
 import com.project.common.entity.TimeType;
 import com.project.common.repository.TimeSlotRepository;
-import com.project.common.util.JasyptUtil;
+import com.project.common.service.ClosedDayCalendar;
+import com.project.common.service.TimeSlotCatalog;
+import com.project.common.util.FieldCrypto;
 import com.project.land.dto.LandDetailDto;
 import com.project.land.dto.LandRequestDto;
 import com.project.land.entity.Land;
@@ -50,10 +56,33 @@ public class ReserveServiceImpl implements ReserveService {
    
     private final LandRepository landRepository;
     private final VolunteerRepository volunteerRepository;
+    private final SlotOccupancyLedger occupancyLedger;
+    private final TimeSlotCatalog timeSlotCatalog;
+    private final ClosedDayCalendar closedDayCalendar;
+    private final ReserveStatRollup reserveStatRollup;
+
+    // 페이지 없는 관리자 목록/검색(구 API)이 한 번에 돌려주는 최대 건수 (최신 예약코드 순)
+    @Value("${reserve.admin.legacy-list-limit:500}")
+    private int legacyListLimit;
+    private final FieldCrypto fieldCrypto;
 
 
     
     
+    // 예약생성 전 해당 달 점유 원장 적재 (트랜잭션 밖 → 커넥션을 잡은 채 적재를 기다리지 않음)
+    // 잘못된 요청은 그대로 두고 createReserve 의 검증에서 거절
+    @Override
+    public void prepareReserve(FullReserveRequestDto fullRequestDto) {
+        if (fullRequestDto == null || fullRequestDto.getReserveDto() == null) return;
+        int reserveType = fullRequestDto.getReserveDto().getReserveType();
+        if (reserveType == 1 && fullRequestDto.getLandDto() != null && fullRequestDto.getLandDto().getLandDate() != null) {
+            occupancyLedger.warm(TimeType.LAND, fullRequestDto.getLandDto().getLandDate());
+        } else if (reserveType == 2 && fullRequestDto.getVolunteerDto() != null
+                && fullRequestDto.getVolunteerDto().getVolDate() != null) {
+            occupancyLedger.warm(TimeType.VOL, fullRequestDto.getVolunteerDto().getVolDate());
+        }
+    }
+
     // 예약생성 (사용자가 예약요청하면 예약상태 기본값으로 설정, DB에 저장)
     @Override
     @Transactional
@@ -76,7 +105,7 @@ public class ReserveServiceImpl implements ReserveService {
         }
 
         String message;
-        TimeSlot timeSlot;
+        TimeSlotCatalog.Slot slot;
 
         // 중복 예약 검사 + 시간대 유효성 검사
         if (reserveType == 1) { // LAND
@@ -87,15 +116,12 @@ public class ReserveServiceImpl implements ReserveService {
 
             Long timeSlotId = landDto.getTimeSlotId();
 
-            // ✅ 시간대 유효성 검사
-            boolean validSlot = timeSlotRepository.existsByIdAndTimeTypeAndEnabled(
-                    timeSlotId,
-                    TimeType.LAND,
-                    true
-            );
-            if (!validSlot) {
-                throw new IllegalArgumentException("선택한 시간대는 놀이터 예약에 유효하지 않습니다.");
-            }
+            // ✅ 시간대 유효성 검사 (시간대 카탈로그 - DB 조회 없음)
+            slot = timeSlotCatalog.findBookable(timeSlotId, TimeType.LAND)
+                    .orElseThrow(() -> new IllegalArgumentException("선택한 시간대는 놀이터 예약에 유효하지 않습니다."));
+
+            // ✅ 휴무일 검사 (메모리 달력 - DB 조회 없음)
+            validateOpenDay(landDto.getLandDate());
 
             // ✅ 중복 예약 검사
             boolean exists = reserveRepository
@@ -109,9 +135,6 @@ public class ReserveServiceImpl implements ReserveService {
                 throw new DuplicateReservationException("이미 해당 시간에 놀이터 예약이 존재합니다.");
             }
 
-            timeSlot = timeSlotRepository.findById(timeSlotId)
-                    .orElseThrow(() -> new IllegalArgumentException("해당 시간대 정보를 찾을 수 없습니다."));
-
         } else if (reserveType == 2) { // VOLUNTEER
             VolunteerRequestDto volunteerDto = fullRequestDto.getVolunteerDto();
             if (volunteerDto == null) {
@@ -120,15 +143,12 @@ public class ReserveServiceImpl implements ReserveService {
 
             Long timeSlotId = volunteerDto.getTimeSlotId();
 
-            // ✅ 시간대 유효성 검사
-            boolean validSlot = timeSlotRepository.existsByIdAndTimeTypeAndEnabled(
-                    timeSlotId,
-                    TimeType.VOL,
-                    true
-            );
-            if (!validSlot) {
-                throw new IllegalArgumentException("선택한 시간대는 봉사 예약에 유효하지 않습니다.");
-            }
+            // ✅ 시간대 유효성 검사 (시간대 카탈로그 - DB 조회 없음)
+            slot = timeSlotCatalog.findBookable(timeSlotId, TimeType.VOL)
+                    .orElseThrow(() -> new IllegalArgumentException("선택한 시간대는 봉사 예약에 유효하지 않습니다."));
+
+            // ✅ 휴무일 검사 (메모리 달력 - DB 조회 없음)
+            validateOpenDay(volunteerDto.getVolDate());
 
             // ✅ 중복 예약 검사
             boolean exists = reserveRepository
@@ -141,13 +161,29 @@ public class ReserveServiceImpl implements ReserveService {
             if (exists) {
                 throw new DuplicateReservationException("이미 해당 시간에 봉사 예약이 존재합니다.");
             }
-
-            timeSlot = timeSlotRepository.findById(timeSlotId)
-                    .orElseThrow(() -> new IllegalArgumentException("해당 시간대 정보를 찾을 수 없습니다."));
         } else {
             throw new IllegalArgumentException("예약 유형이 유효하지 않습니다.");
         }
 
+        // ✅ 정원 확인 + 점유 (저장 실패로 롤백되면 자동 반환)
+        if (reserveType == 1) {
+            LandRequestDto landDto = fullRequestDto.getLandDto();
+            if (landDto.getLandType() == null) {
+                throw new IllegalArgumentException("놀이터 유형이 누락되었습니다.");
+            }
+            if (landDto.getAnimalNumber() <= 0) {
+                throw new IllegalArgumentException("반려견 수는 최소 1마리 이상이어야 합니다.");
+            }
+            occupancyLedger.acquire(TimeType.LAND, landDto.getLandDate(), slot.id(), landDto.getLandType(),
+                    landDto.getAnimalNumber(), slot.capacity());
+        } else {
+            occupancyLedger.acquire(TimeType.VOL, fullRequestDto.getVolunteerDto().getVolDate(), slot.id(), null,
+                    reserveNumber, slot.capacity());
+        }
+
+        // 연관관계용 참조 (SELECT 없이 FK 만 설정)
+        TimeSlot timeSlot = timeSlotRepository.getReferenceById(slot.id());
+
         // ✅ 예약 저장
         Reserve reserve = fullRequestDto.getReserveDto().toEntity(member);
         Reserve saved = reserveRepository.save(reserve);
@@ -161,6 +197,9 @@ public class ReserveServiceImpl implements ReserveService {
             message = "봉사활동 신청이 완료되었습니다.";
         }
 
+        // ✅ 예약 통계 반영 (커밋 후)
+        reserveStatRollup.record(saved, null, saved.getReserveState());
+
         return ReserveCompleteResponseDto.builder()
                 .reserveCode(saved.getReserveCode())
                 .message(message)
@@ -185,28 +224,35 @@ public class ReserveServiceImpl implements ReserveService {
     @Override
     @Transactional(readOnly = true)
     public List<AdminReservationListDto> getAllReservationsForAdmin() {
-        List<Reserve> reserveList = reserveRepository.findAllWithDetails(); // 엔티티만 가져옴
-        return reserveList.stream()
-                .map(AdminReservationListDto::from) // DTO로 가공
-                .collect(Collectors.toList());
+        return reserveRepository.searchAdminReservations(null, null, legacyPage()).getContent();
     }
     
     //관리자 놀이터 예약목록 조회
     @Override
     @Transactional(readOnly = true)
     public List<AdminReservationListDto> getLandReservationsForAdmin() {
-        return reserveRepository.findLandReservationsForAdmin().stream()
-                .map(AdminReservationListDto::from)
-                .collect(Collectors.toList());
+        return reserveRepository.searchAdminReservations(1, null, legacyPage()).getContent();
     }
     
     //관리자 봉사 예약목록 조회
     @Override
     @Transactional(readOnly = true)
     public List<AdminReservationListDto> getVolunteerReservationsForAdmin() {
-        return reserveRepository.findVolunteerReservationsForAdmin().stream()
-                .map(AdminReservationListDto::from)
-                .collect(Collectors.toList());
+        return reserveRepository.searchAdminReservations(2, null, legacyPage()).getContent();
+    }
+    
+    // 구 API 용 첫 페이지 (최신 legacyListLimit 건까지만, 전체는 /page API 사용)
+    private Pageable legacyPage() {
+        return PageRequest.of(0, legacyListLimit);
+    }
+
+    //관리자 예약목록 페이지 조회 (reserveType null=전체, 1=놀이터, 2=봉사 / 입력된 검색조건만 적용)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdminReservationListDto> getReservationsPageForAdmin(Integer reserveType,
+                                                                      AdminReservationSearchDto dto,
+                                                                      Pageable pageable) {
+        return reserveRepository.searchAdminReservations(reserveType, dto, pageable);
     }
     
     //사용자 놀이터예약 상세페이지
@@ -271,7 +317,7 @@ public class ReserveServiceImpl implements ReserveService {
         );
         
         // 전화번호 복호화
-        String decryptedPhone = JasyptUtil.decrypt(member.getMemberPhone());
+        String decryptedPhone = fieldCrypto.decrypt(member.getMemberPhone());
         
         return LandDetailDto.builder()
         	    .reserveCode(reserve.getReserveCode())
@@ -305,7 +351,7 @@ public class ReserveServiceImpl implements ReserveService {
         Volunteer volunteer = reserve.getVolunteerDetail();
         
         // 전화번호 복호화
-        String decryptedPhone = JasyptUtil.decrypt(member.getMemberPhone());
+        String decryptedPhone = fieldCrypto.decrypt(member.getMemberPhone());
         
         return VolunteerDetailDto.builder()
                 .reserveCode(reserve.getReserveCode())
@@ -334,6 +380,10 @@ public class ReserveServiceImpl implements ReserveService {
         if (reserve.getReserveState() == ReserveState.CANCEL) {
             throw new IllegalStateException("이미 취소된 예약입니다.");
         }
+        if (isOccupying(reserve.getReserveState())) {
+            releaseOccupancy(reserve);
+        }
+        reserveStatRollup.record(reserve, reserve.getReserveState(), ReserveState.CANCEL);
         reserve.setReserveState(ReserveState.CANCEL);
     }
     
@@ -342,30 +392,14 @@ public class ReserveServiceImpl implements ReserveService {
     @Override
     @Transactional(readOnly = true)
     public List<AdminReservationListDto> searchLandReservationsForAdmin(AdminReservationSearchDto dto) {
-        return reserveRepository.searchLandReservations(
-                dto.getReserveCode(),
-                dto.getMemberName(),
-                dto.getStartDate(),
-                dto.getEndDate(),
-                dto.getReserveState()
-        ).stream()
-         .map(AdminReservationListDto::from)
-         .collect(Collectors.toList());
+        return reserveRepository.searchAdminReservations(1, dto, legacyPage()).getContent();
     }
     
     //봉사
     @Override
     @Transactional(readOnly = true)
     public List<AdminReservationListDto> searchVolunteerReservationsForAdmin(AdminReservationSearchDto dto) {
-        return reserveRepository.searchVolunteerReservations(
-                dto.getReserveCode(),
-                dto.getMemberName(),
-                dto.getStartDate(),
-                dto.getEndDate(),
-                dto.getReserveState()
-        ).stream()
-         .map(AdminReservationListDto::from)
-         .collect(Collectors.toList());
+        return reserveRepository.searchAdminReservations(2, dto, legacyPage()).getContent();
     }
     
     //관리자가 특정 예약의 상태를 변경
@@ -382,10 +416,57 @@ public class ReserveServiceImpl implements ReserveService {
             throw new IllegalArgumentException("취소된 예약은 진행/완료로 변경할 수 없습니다.");
         }
 
+        // 점유 상태(진행/완료) ↔ 비점유 상태(취소/거절) 사이 변경 시 원장 반영
+        if (isOccupying(cur) && !isOccupying(newState)) {
+            releaseOccupancy(reserve);
+        } else if (!isOccupying(cur) && isOccupying(newState)) {
+            acquireOccupancy(reserve);
+        }
+
+        reserveStatRollup.record(reserve, cur, newState);
         reserve.setReserveState(newState);
         reserve.setUpdateTime(LocalDateTime.now());
     }
 
+    // 예약 날짜 누락 / 휴무일 예약 차단
+    private void validateOpenDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("예약 날짜가 누락되었습니다.");
+        }
+        if (closedDayCalendar.isClosed(date)) {
+            throw new IllegalArgumentException("휴무일에는 예약할 수 없습니다.");
+        }
+    }
+
+    // 정원을 차지하는 예약 상태
+    private boolean isOccupying(ReserveState state) {
+        return state == ReserveState.ING || state == ReserveState.DONE;
+    }
+
+    private void acquireOccupancy(Reserve reserve) {
+        if (reserve.getLandDetail() != null) {
+            Land land = reserve.getLandDetail();
+            occupancyLedger.acquire(TimeType.LAND, land.getLandDate(), land.getTimeSlot().getId(), land.getLandType(),
+                    land.getAnimalNumber(), land.getTimeSlot().getCapacity());
+        } else if (reserve.getVolunteerDetail() != null) {
+            Volunteer volunteer = reserve.getVolunteerDetail();
+            occupancyLedger.acquire(TimeType.VOL, volunteer.getVolDate(), volunteer.getTimeSlot().getId(), null,
+                    reserve.getReserveNumber(), volunteer.getTimeSlot().getCapacity());
+        }
+    }
+
+    private void releaseOccupancy(Reserve reserve) {
+        if (reserve.getLandDetail() != null) {
+            Land land = reserve.getLandDetail();
+            occupancyLedger.release(TimeType.LAND, land.getLandDate(), land.getTimeSlot().getId(), land.getLandType(),
+                    land.getAnimalNumber());
+        } else if (reserve.getVolunteerDetail() != null) {
+            Volunteer volunteer = reserve.getVolunteerDetail();
+            occupancyLedger.release(TimeType.VOL, volunteer.getVolDate(), volunteer.getTimeSlot().getId(), null,
+                    reserve.getReserveNumber());
+        }
+    }
+
     //마이페이지에서 예약유형 별 탭 기능
     @Override
     @Transactional(readOnly = true)
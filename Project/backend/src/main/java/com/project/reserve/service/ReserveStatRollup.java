@@ -0,0 +1,242 @@
+package com.project.reserve.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.land.entity.Land;
+import com.project.land.entity.LandType;
+import com.project.reserve.entity.Reserve;
+import com.project.reserve.entity.ReserveStat;
+import com.project.reserve.entity.ReserveState;
+import com.project.reserve.entity.StatPeriod;
+import com.project.reserve.repository.ReserveStatRepository;
+import com.project.volunteer.entity.Volunteer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 통계 롤업 (write-behind)
+ * - 예약 생성/취소/상태변경이 커밋되면 (이전 상태 -1, 새 상태 +1) 증감분을 일/주/월 구간에 메모리로 누적
+ *   → 예약 트랜잭션에서 통계 행을 잠그지 않음 (같은 시간대 예약이 몰려도 경합 없음)
+ * - 주기적으로 누적분을 한 번의 배치 upsert(INSERT ... ON DUPLICATE KEY UPDATE 가산)로 반영
+ *   (호출한 쪽 트랜잭션과 무관하게 자체 쓰기 트랜잭션에서 전부 반영되거나 전부 되돌려짐)
+ * - 통계 테이블이 비어 있으면 기동 시 원본(Land/Volunteer)에서 한 번 재집계 (배포 직후 초기 적재)
+ * - 서버 1대 기준 / 반영 전 종료 시 유실분은 재집계(rebuild)로 복구
+ */
+@Slf4j
+@Component
+public class ReserveStatRollup {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO reserve_stat (stat_period, period_start, reserve_type, time_slot_id, land_type, reserve_state, " +
+            "reserve_count, head_count, revenue, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE reserve_count = reserve_count + VALUES(reserve_count), " +
+            "head_count = head_count + VALUES(head_count), revenue = revenue + VALUES(revenue), updated_at = NOW()";
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM reserve_stat";
+
+    // 통계 구간 키
+    private record Bucket(StatPeriod period, LocalDate periodStart, int reserveType, Long timeSlotId,
+                          String landType, ReserveState state) {}
+
+    // 구간별 증감분 (불변 → merge 로 원자적으로 합산)
+    private record Delta(long reserveCount, long headCount, long revenue) {
+        Delta plus(Delta other) {
+            return new Delta(reserveCount + other.reserveCount, headCount + other.headCount, revenue + other.revenue);
+        }
+        boolean isZero() {
+            return reserveCount == 0 && headCount == 0 && revenue == 0;
+        }
+    }
+
+    // 예약 1건이 통계에 기여하는 값
+    private record Fact(LocalDate date, int reserveType, Long timeSlotId, String landType, long head, long revenue) {}
+
+    private final ReserveStatRepository reserveStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTx;
+
+    // 아직 DB에 반영되지 않은 증감분
+    private final ConcurrentHashMap<Bucket, Delta> pending = new ConcurrentHashMap<>();
+
+    public ReserveStatRollup(ReserveStatRepository reserveStatRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager) {
+        this.reserveStatRepository = reserveStatRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.writeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // =========================
+    // 📌 상태 변경 기록 (from=null 이면 신규 예약)
+    // =========================
+    public void record(Reserve reserve, ReserveState from, ReserveState to) {
+        if (from == to) return;
+        Fact fact = factOf(reserve);
+        if (fact == null) return;
+
+        Map<Bucket, Delta> deltas = new HashMap<>();
+        if (from != null) add(deltas, fact, from, -1);
+        if (to != null) add(deltas, fact, to, 1);
+
+        // 커밋된 변경만 반영 (롤백되면 버림)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deltas.forEach((bucket, delta) -> pending.merge(bucket, delta, Delta::plus));
+                }
+            });
+        } else {
+            deltas.forEach((bucket, delta) -> pending.merge(bucket, delta, Delta::plus));
+        }
+    }
+
+    private static Fact factOf(Reserve reserve) {
+        if (reserve.getLandDetail() != null) {
+            Land land = reserve.getLandDetail();
+            if (land.getLandDate() == null || land.getTimeSlot() == null) return null;
+            return new Fact(land.getLandDate(), 1, land.getTimeSlot().getId(), landTypeKey(land.getLandType()),
+                    land.getAnimalNumber(), land.getPayNumber());
+        }
+        if (reserve.getVolunteerDetail() != null) {
+            Volunteer volunteer = reserve.getVolunteerDetail();
+            if (volunteer.getVolDate() == null || volunteer.getTimeSlot() == null) return null;
+            int people = reserve.getReserveNumber() != null ? reserve.getReserveNumber() : 0;
+            return new Fact(volunteer.getVolDate(), 2, volunteer.getTimeSlot().getId(), ReserveStat.NO_LAND_TYPE,
+                    people, 0);
+        }
+        return null;
+    }
+
+    // 일/주/월 세 구간에 같은 값을 더함
+    private static void add(Map<Bucket, Delta> target, Fact fact, ReserveState state, long sign) {
+        add(target, fact, state, new Delta(sign, sign * fact.head(), sign * fact.revenue()));
+    }
+
+    private static void add(Map<Bucket, Delta> target, Fact fact, ReserveState state, Delta delta) {
+        for (StatPeriod period : StatPeriod.values()) {
+            Bucket bucket = new Bucket(period, period.start(fact.date()), fact.reserveType(), fact.timeSlotId(),
+                    fact.landType(), state);
+            target.merge(bucket, delta, Delta::plus);
+        }
+    }
+
+    private static String landTypeKey(LandType landType) {
+        return landType != null ? landType.name() : ReserveStat.NO_LAND_TYPE;
+    }
+
+    // =========================
+    // 📌 누적분 DB 반영 (주기 실행, 조회 직전에도 호출)
+    // =========================
+    @Scheduled(fixedDelayString = "${reserve.stats.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Bucket, Delta> batch = new HashMap<>();
+        for (Bucket bucket : pending.keySet()) {
+            Delta delta = pending.remove(bucket);   // 꺼낸 뒤 들어오는 증감분은 새 항목으로 쌓임
+            if (delta != null && !delta.isZero()) batch.put(bucket, delta);
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            writeTx.executeWithoutResult(status -> upsert(batch));
+        } catch (Exception e) {
+            // 반영 실패 시 누적분을 되돌려 다음 주기에 재시도
+            log.warn("예약 통계 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            batch.forEach((bucket, delta) -> pending.merge(bucket, delta, Delta::plus));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 구간 순으로 정렬해 락 획득 순서를 고정
+    private void upsert(Map<Bucket, Delta> batch) {
+        List<Map.Entry<Bucket, Delta>> rows = new ArrayList<>(batch.entrySet());
+        rows.sort(Comparator.comparing((Map.Entry<Bucket, Delta> e) -> e.getKey().period())
+                .thenComparing(e -> e.getKey().periodStart())
+                .thenComparing(e -> e.getKey().reserveType())
+                .thenComparing(e -> e.getKey().timeSlotId())
+                .thenComparing(e -> e.getKey().landType())
+                .thenComparing(e -> e.getKey().state()));
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, 500, (ps, row) -> {
+            Bucket b = row.getKey();
+            Delta d = row.getValue();
+            ps.setString(1, b.period().name());
+            ps.setDate(2, Date.valueOf(b.periodStart()));
+            ps.setInt(3, b.reserveType());
+            ps.setLong(4, b.timeSlotId());
+            ps.setString(5, b.landType());
+            ps.setString(6, b.state().name());
+            ps.setLong(7, d.reserveCount());
+            ps.setLong(8, d.headCount());
+            ps.setLong(9, d.revenue());
+        });
+    }
+
+    // =========================
+    // 📌 전체 재집계 (원본 예약 → 일별 합계 → 일/주/월 구간)
+    //    재집계 중 커밋된 예약은 오차가 생길 수 있으므로 한가한 시간에 실행
+    // =========================
+    public synchronized int rebuild() {
+        pending.clear();   // 재집계 결과에 이미 포함됨
+        Integer buckets = writeTx.execute(status -> {
+            Map<Bucket, Delta> all = new HashMap<>();
+            for (Object[] row : reserveStatRepository.sumLandByDay()) {
+                Fact fact = new Fact((LocalDate) row[0], 1, (Long) row[1], landTypeKey((LandType) row[2]), 0, 0);
+                add(all, fact, (ReserveState) row[3],
+                        new Delta(((Number) row[4]).longValue(), toLong(row[5]), toLong(row[6])));
+            }
+            for (Object[] row : reserveStatRepository.sumVolunteerByDay()) {
+                Fact fact = new Fact((LocalDate) row[0], 2, (Long) row[1], ReserveStat.NO_LAND_TYPE, 0, 0);
+                add(all, fact, (ReserveState) row[2],
+                        new Delta(((Number) row[3]).longValue(), toLong(row[4]), 0));
+            }
+            jdbcTemplate.update(DELETE_ALL_SQL);
+            if (!all.isEmpty()) upsert(all);
+            return all.size();
+        });
+        log.info("예약 통계 재집계 완료: {}개 구간", buckets);
+        return buckets != null ? buckets : 0;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    // 배포 직후 통계가 비어 있으면 기존 예약으로 초기 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIfEmpty() {
+        try {
+            if (reserveStatRepository.count() == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("예약 통계 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+}
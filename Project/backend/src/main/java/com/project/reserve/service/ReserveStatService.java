@@ -0,0 +1,14 @@
+package com.project.reserve.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.project.reserve.dto.ReserveStatDto;
+import com.project.reserve.entity.StatPeriod;
+
+public interface ReserveStatService {
+
+	List<ReserveStatDto> getStats(StatPeriod period, LocalDate from, LocalDate to, Integer reserveType); //관리자 - 구간별 예약 통계
+
+	int rebuildStats(); //관리자 - 원본 예약으로 통계 재집계 (구간 수 반환)
+}
@@ -0,0 +1,71 @@
+package com.project.reserve.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.project.common.service.TimeSlotCatalog;
+import com.project.reserve.dto.ReserveStatDto;
+import com.project.reserve.entity.ReserveStat;
+import com.project.reserve.entity.StatPeriod;
+import com.project.reserve.repository.ReserveStatRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ReserveStatServiceImpl implements ReserveStatService {
+
+    // 한 번에 조회할 수 있는 최대 구간 수 (일별 기준 약 1년)
+    private static final int MAX_BUCKETS = 400;
+
+    private final ReserveStatRepository reserveStatRepository;
+    private final ReserveStatRollup reserveStatRollup;
+    private final TimeSlotCatalog timeSlotCatalog;
+
+    // 관리자 - 구간별 예약 통계 (롤업 테이블만 조회)
+    // - 누적분 반영(쓰기)이 읽기 전용 트랜잭션에 묶이지 않도록 트랜잭션 없이 실행
+    //   → flush 는 자체 쓰기 트랜잭션, 조회는 리포지토리 기본 읽기 전용 트랜잭션 1회
+    @Override
+    public List<ReserveStatDto> getStats(StatPeriod period, LocalDate from, LocalDate to, Integer reserveType) {
+        if (period == null || from == null || to == null) {
+            throw new IllegalArgumentException("집계 단위와 조회 기간은 필수입니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (reserveType != null && reserveType != 1 && reserveType != 2) {
+            throw new IllegalArgumentException("예약 유형이 유효하지 않습니다.");
+        }
+
+        LocalDate start = period.start(from);
+        LocalDate end = period.start(to);
+        long buckets = switch (period) {
+            case DAY -> end.toEpochDay() - start.toEpochDay() + 1;
+            case WEEK -> (end.toEpochDay() - start.toEpochDay()) / 7 + 1;
+            case MONTH -> (end.getYear() - start.getYear()) * 12L + end.getMonthValue() - start.getMonthValue() + 1;
+        };
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("조회 기간이 너무 깁니다. (최대 " + MAX_BUCKETS + "개 구간)");
+        }
+
+        // 아직 반영되지 않은 증감분까지 포함해 조회
+        reserveStatRollup.flush();
+
+        List<ReserveStat> stats = reserveType == null
+                ? reserveStatRepository.findByStatPeriodAndPeriodStartBetweenOrderByPeriodStartAscTimeSlotIdAsc(period, start, end)
+                : reserveStatRepository.findByStatPeriodAndReserveTypeAndPeriodStartBetweenOrderByPeriodStartAscTimeSlotIdAsc(period, reserveType, start, end);
+
+        return stats.stream()
+                .filter(s -> s.getReserveCount() != 0)
+                .map(s -> ReserveStatDto.from(s, timeSlotCatalog.find(s.getTimeSlotId()).map(TimeSlotCatalog.Slot::label).orElse(null)))
+                .toList();
+    }
+
+    // 관리자 - 원본 예약으로 통계 재집계
+    @Override
+    public int rebuildStats() {
+        return reserveStatRollup.rebuild();
+    }
+}
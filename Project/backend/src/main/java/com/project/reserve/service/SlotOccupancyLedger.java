@@ -0,0 +1,372 @@
+package com.project.reserve.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.common.entity.TimeType;
+import com.project.land.dto.LandCountDto;
+import com.project.land.entity.LandType;
+import com.project.land.repository.LandRepository;
+import com.project.reserve.exception.ReserveLedgerUnavailableException;
+import com.project.reserve.exception.SlotFullException;
+import com.project.volunteer.dto.VolunteerCountDto;
+import com.project.volunteer.repository.VolunteerRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간대별 예약 점유 현황 (메모리 원장)
+ * - 키: (날짜, 시간대, 놀이터타입) / 봉사는 놀이터타입 없음
+ * - 값: 진행중(ING)/완료(DONE) 예약의 점유 수 (놀이터=반려견 수, 봉사=신청 인원)
+ * - 월 단위로 처음 사용할 때 DB 에서 한 번 집계해 채우고, 이후에는 예약/취소 시 원장만 갱신
+ *   → 집계는 전용 스레드 1개가 별도 트랜잭션으로 실행 (호출한 트랜잭션 안에서 커넥션을 하나 더 잡지 않음)
+ *   → 이번 달/다음 달은 기동 시와 매일 새벽에 미리 적재, 그 밖의 달은 예약 트랜잭션을 열기 전에 warm 으로 적재
+ *     (커넥션을 잡은 채 적재를 기다리지 않음, 적재 대기 시간 초과는 503)
+ * - 예약 시 정원 초과 여부를 compare-and-set 으로 확인 후 점유 → 동시 예약으로 정원을 넘지 않음
+ * - 점유는 트랜잭션 롤백 시 자동 반환, 반환(취소/거절)은 커밋 후 반영
+ * - 커밋 전인 점유/반환은 진행 중 건수로 세어 두고, 적재/대조는 진행 중인 변경이 없을 때의 DB 값만 반영
+ * - 주기적으로 DB 집계와 대조해 어긋난 슬롯을 바로잡음 (reserve.ledger.reconcile-interval-ms)
+ * - 서버 1대 기준 (여러 대로 띄우면 인스턴스마다 원장이 따로 존재)
+ */
+@Slf4j
+@Component
+public class SlotOccupancyLedger {
+
+    private record SlotKey(LocalDate date, Long timeSlotId, LandType landType) {}
+
+    private record MonthKey(TimeType timeType, YearMonth month) {}
+
+    // 적재 중 반환이 겹치면 다시 집계하는 최대 횟수 (넘으면 그대로 채우고 다음 대조에서 보정)
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+    private static final long LOAD_RETRY_DELAY_MS = 50;
+
+    // 한 달치 원장
+    private static final class Month {
+        final ConcurrentHashMap<SlotKey, AtomicInteger> slots = new ConcurrentHashMap<>();
+        final CompletableFuture<Void> loaded = new CompletableFuture<>();
+        // 점유/반환 = 읽기 잠금 (서로 동시 진행), 적재 완료/대조 반영 = 쓰기 잠금
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // 점유/반환 후 아직 커밋/롤백되지 않은 건수 (0 이 아니면 DB 집계와 원장이 잠시 다를 수 있음)
+        final AtomicInteger inFlight = new AtomicInteger();
+        // 점유/반환이 끝날 때마다 증가 → DB 집계 도중 바뀐 것이 있는지 확인
+        final AtomicLong version = new AtomicLong();
+        volatile boolean installed;
+    }
+
+    @Value("${reserve.ledger.load-timeout-ms:10000}")
+    private long loadTimeoutMs;
+
+    private final LandRepository landRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final TransactionTemplate seedTx;
+    private final ExecutorService loader;
+
+    private final ConcurrentHashMap<MonthKey, Month> months = new ConcurrentHashMap<>();
+
+    public SlotOccupancyLedger(LandRepository landRepository,
+                               VolunteerRepository volunteerRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.landRepository = landRepository;
+        this.volunteerRepository = volunteerRepository;
+        // 커밋된 최신 값으로 채우기 위해 별도 트랜잭션 사용 (적재 스레드에서만 실행)
+        this.seedTx = new TransactionTemplate(transactionManager);
+        this.seedTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.seedTx.setReadOnly(true);
+        this.loader = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "slot-ledger-loader");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    // =========================
+    // 📌 미리 적재 (트랜잭션 밖에서 호출)
+    // =========================
+    // 예약 트랜잭션을 열기 전에 해당 달 적재를 기다림
+    public void warm(TimeType timeType, LocalDate date) {
+        loadedMonth(timeType, date);
+    }
+
+    // 기동 직후 이번 달/다음 달 적재 시작 (기다리지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadUpcoming() {
+        YearMonth current = YearMonth.now();
+        for (TimeType timeType : TimeType.values()) {
+            startLoad(new MonthKey(timeType, current));
+            startLoad(new MonthKey(timeType, current.plusMonths(1)));
+        }
+    }
+
+    // =========================
+    // 📌 조회
+    // =========================
+    public int reserved(TimeType timeType, LocalDate date, Long timeSlotId, LandType landType) {
+        AtomicInteger counter = loadedMonth(timeType, date).slots.get(new SlotKey(date, timeSlotId, landType));
+        return counter != null ? counter.get() : 0;
+    }
+
+    // =========================
+    // 📌 점유 (정원 초과 시 SlotFullException)
+    // =========================
+    public void acquire(TimeType timeType, LocalDate date, Long timeSlotId, LandType landType,
+                        int amount, int capacity) {
+        SlotKey key = new SlotKey(date, timeSlotId, landType);
+        Month month = loadedMonth(timeType, date);
+        AtomicInteger counter = month.slots.computeIfAbsent(key, k -> new AtomicInteger());
+        boolean inTx = TransactionSynchronizationManager.isSynchronizationActive();
+
+        month.lock.readLock().lock();
+        try {
+            while (true) {
+                int current = counter.get();
+                if (current + amount > capacity) {
+                    throw new SlotFullException("선택한 시간대의 정원이 마감되었습니다. (잔여 " + Math.max(capacity - current, 0) + ")");
+                }
+                if (counter.compareAndSet(current, current + amount)) break;
+            }
+            if (inTx) {
+                month.inFlight.incrementAndGet();
+            } else {
+                month.version.incrementAndGet();
+            }
+        } finally {
+            month.lock.readLock().unlock();
+        }
+
+        // 예약 저장이 롤백되면 점유 반환
+        if (inTx) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(month, key, status == STATUS_COMMITTED ? 0 : amount);
+                }
+            });
+        }
+    }
+
+    // =========================
+    // 📌 반환 (취소/거절) - 트랜잭션 커밋 후 반영
+    // =========================
+    public void release(TimeType timeType, LocalDate date, Long timeSlotId, LandType landType, int amount) {
+        // 아직 쓰지 않은 달이면 무시 (나중에 채울 때 DB 에 이미 반영된 상태를 읽음)
+        Month month = months.get(new MonthKey(timeType, YearMonth.from(date)));
+        if (month == null) return;
+
+        SlotKey key = new SlotKey(date, timeSlotId, landType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            month.inFlight.incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(month, key, status == STATUS_COMMITTED ? amount : 0);
+                }
+            });
+        } else {
+            month.inFlight.incrementAndGet();
+            complete(month, key, amount);
+        }
+    }
+
+    // 진행 중이던 점유/반환 마무리 (decrease 만큼 차감)
+    // 적재 전이면 차감하지 않음 → 버전이 바뀌었으므로 적재 쪽에서 커밋된 DB 값으로 다시 집계
+    private void complete(Month month, SlotKey key, int decrease) {
+        month.lock.readLock().lock();
+        try {
+            if (decrease > 0 && month.installed) {
+                AtomicInteger counter = month.slots.computeIfAbsent(key, k -> new AtomicInteger());
+                int before = counter.getAndUpdate(v -> Math.max(v - decrease, 0));
+                if (before < decrease) {
+                    // 원장이 DB 보다 적게 세고 있었음 → 다음 대조에서 DB 값으로 보정
+                    log.warn("예약 점유 원장 불일치: {} 점유 {} < 반환 {}", key, before, decrease);
+                }
+            }
+            month.version.incrementAndGet();
+            month.inFlight.decrementAndGet();
+        } finally {
+            month.lock.readLock().unlock();
+        }
+    }
+
+    // =========================
+    // 📌 월 단위 적재 (같은 달 동시 요청은 한 번만 DB 조회, 적재 스레드에서 실행)
+    // =========================
+    private Month loadedMonth(TimeType timeType, LocalDate date) {
+        MonthKey monthKey = new MonthKey(timeType, YearMonth.from(date));
+        Month month = startLoad(monthKey);
+        if (!month.installed) {
+            awaitLoaded(monthKey, month);
+        }
+        return month;
+    }
+
+    // 처음 쓰는 달이면 적재 스레드에 적재 요청
+    private Month startLoad(MonthKey monthKey) {
+        Month month = months.get(monthKey);
+        if (month == null) {
+            Month created = new Month();
+            month = months.putIfAbsent(monthKey, created);
+            if (month == null) {
+                month = created;
+                loader.execute(() -> load(monthKey, created));
+            }
+        }
+        return month;
+    }
+
+    private void awaitLoaded(MonthKey monthKey, Month month) {
+        try {
+            month.loaded.get(loadTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReserveLedgerUnavailableException("예약 현황을 불러오지 못했습니다. 잠시 후 다시 시도해 주세요.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("예약 점유 원장 적재 대기 실패: {} {}", monthKey.timeType(), monthKey.month(), e);
+            throw new ReserveLedgerUnavailableException("예약 현황을 불러오지 못했습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+    }
+
+    // 집계 도중 반환이 끝났거나 진행 중이면 (DB 에 반영됐는지 알 수 없으므로) 다시 집계
+    private void load(MonthKey monthKey, Month month) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                long version = month.version.get();
+                Map<SlotKey, Integer> rows = readMonth(monthKey);
+
+                month.lock.writeLock().lock();
+                try {
+                    boolean settled = month.inFlight.get() == 0 && month.version.get() == version;
+                    if (settled || attempt == MAX_LOAD_ATTEMPTS) {
+                        rows.forEach((key, count) -> month.slots.put(key, new AtomicInteger(count)));
+                        month.installed = true;
+                        if (!settled) {
+                            log.warn("예약 점유 원장 적재 중 변경이 계속됨, 다음 대조에서 보정: {} {}",
+                                    monthKey.timeType(), monthKey.month());
+                        }
+                        break;
+                    }
+                } finally {
+                    month.lock.writeLock().unlock();
+                }
+                Thread.sleep(LOAD_RETRY_DELAY_MS);
+            }
+            month.loaded.complete(null);
+            log.debug("예약 점유 원장 적재: {} {} ({}개 슬롯)", monthKey.timeType(), monthKey.month(), month.slots.size());
+        } catch (Exception e) {
+            // 실패한 달은 빼 두고 다음 요청에서 다시 적재
+            months.remove(monthKey, month);
+            month.loaded.completeExceptionally(e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 기간 내 ING/DONE 예약 점유 수 (예약이 있는 슬롯만)
+    private Map<SlotKey, Integer> readMonth(MonthKey monthKey) {
+        LocalDate start = monthKey.month().atDay(1);
+        LocalDate end = monthKey.month().atEndOfMonth();
+        Map<SlotKey, Integer> rows = new HashMap<>();
+
+        seedTx.executeWithoutResult(status -> {
+            if (monthKey.timeType() == TimeType.LAND) {
+                for (LandCountDto row : landRepository.getLandCountInfoBetween(start, end)) {
+                    rows.put(new SlotKey(row.getLandDate(), row.getTimeSlotId(), row.getLandType()),
+                            row.getReservedCount());
+                }
+            } else {
+                for (VolunteerCountDto row : volunteerRepository.getVolunteerCountInfoBetween(start, end)) {
+                    rows.put(new SlotKey(row.getVolDate(), row.getTimeSlotId(), null), row.getReservedCount());
+                }
+            }
+        });
+        return rows;
+    }
+
+    // =========================
+    // 📌 DB 대조 (주기 실행) - 진행 중인 점유/반환이 없는 달만, 집계 도중 바뀌었으면 다음 주기로
+    // =========================
+    @Scheduled(fixedDelayString = "${reserve.ledger.reconcile-interval-ms:300000}",
+               initialDelayString = "${reserve.ledger.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<Map.Entry<MonthKey, Month>> loaded = new ArrayList<>();
+        months.forEach((k, m) -> {
+            if (m.installed) loaded.add(Map.entry(k, m));
+        });
+
+        for (Map.Entry<MonthKey, Month> e : loaded) {
+            Month month = e.getValue();
+            if (month.inFlight.get() > 0) continue;
+            long version = month.version.get();
+            Map<SlotKey, Integer> rows;
+            try {
+                rows = readMonth(e.getKey());
+            } catch (RuntimeException ex) {
+                log.warn("예약 점유 원장 대조 실패: {} {}", e.getKey().timeType(), e.getKey().month(), ex);
+                continue;
+            }
+
+            int fixed = 0;
+            month.lock.writeLock().lock();
+            try {
+                if (month.inFlight.get() > 0 || month.version.get() != version) continue;
+                Set<SlotKey> keys = new HashSet<>(month.slots.keySet());
+                keys.addAll(rows.keySet());
+                for (SlotKey key : keys) {
+                    int expected = rows.getOrDefault(key, 0);
+                    AtomicInteger counter = month.slots.computeIfAbsent(key, k -> new AtomicInteger());
+                    if (counter.get() != expected) {
+                        log.warn("예약 점유 원장 보정: {} 원장 {} → DB {}", key, counter.get(), expected);
+                        counter.set(expected);
+                        fixed++;
+                    }
+                }
+            } finally {
+                month.lock.writeLock().unlock();
+            }
+            if (fixed > 0) {
+                log.warn("예약 점유 원장 대조: {} {} 슬롯 {}개 보정", e.getKey().timeType(), e.getKey().month(), fixed);
+            }
+        }
+    }
+
+    // 지난 달 원장 정리 + 이번 달/다음 달 미리 적재 (매일 새벽 3시 → 월이 바뀐 뒤 첫 예약이 적재를 기다리지 않음)
+    @Scheduled(cron = "0 0 3 * * *")
+    public void evictPastMonths() {
+        YearMonth current = YearMonth.now();
+        months.keySet().removeIf(k -> k.month().isBefore(current));
+        preloadUpcoming();
+    }
+}
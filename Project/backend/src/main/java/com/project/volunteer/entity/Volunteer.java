@@ -8,7 +8,11 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "Volunteer")
+@Table(name = "Volunteer",
+       indexes = {
+         // 월별/일별 시간대 현황 집계 + 관리자 기간 검색
+         @Index(name = "idx_volunteer_date_slot", columnList = "vol_date, time_slot_id")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
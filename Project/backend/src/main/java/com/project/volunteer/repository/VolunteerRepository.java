@@ -50,4 +50,27 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     	    ORDER BY ts.startTime ASC
     	    """)
     	List<VolunteerCountDto> getVolunteerCountInfo(@Param("date") LocalDate date);
+    
+    // 월별 달력용 - 기간 내 (날짜, 시간대)별 신청 인원을 한 번에 집계 (예약이 있는 조합만 반환)
+    @Query("""
+    	    SELECT new com.project.volunteer.dto.VolunteerCountDto(
+    	        ts.id,
+    	        ts.label,
+    	        SUM(r.reserveNumber),
+    	        ts.capacity,
+    	        v.volDate
+    	    )
+    	    FROM Volunteer v
+    	    JOIN v.timeSlot ts
+    	    JOIN v.reserve r
+    	    WHERE v.volDate BETWEEN :start AND :end
+    	      AND ts.timeType = com.project.common.entity.TimeType.VOL
+    	      AND r.reserveState IN (
+    	          com.project.reserve.entity.ReserveState.ING,
+    	          com.project.reserve.entity.ReserveState.DONE
+    	      )
+    	    GROUP BY v.volDate, ts.id, ts.label, ts.capacity
+    	    """)
+    	List<VolunteerCountDto> getVolunteerCountInfoBetween(@Param("start") LocalDate start,
+    	                                                     @Param("end") LocalDate end);
 }
\ No newline at end of file
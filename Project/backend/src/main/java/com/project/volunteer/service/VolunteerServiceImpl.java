@@ -7,11 +7,13 @@ import com.project.volunteer.entity.Volunteer;
 import com.project.volunteer.repository.VolunteerRepository;
 import com.project.reserve.entity.Reserve;
 import com.project.reserve.repository.ReserveRepository;
+import com.project.reserve.service.SlotOccupancyLedger;
 import com.project.member.entity.MemberEntity;
 import com.project.common.entity.TimeSlot;
 import com.project.common.entity.TimeType;
-import com.project.common.repository.TimeSlotRepository;
-import com.project.common.util.JasyptUtil;
+import com.project.common.service.ClosedDayCalendar;
+import com.project.common.service.TimeSlotCatalog;
+import com.project.common.util.FieldCrypto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,9 +21,11 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,7 +36,10 @@ public class VolunteerServiceImpl implements VolunteerService {
 
     private final VolunteerRepository volunteerRepository;
     private final ReserveRepository reserveRepository;
-    private final TimeSlotRepository timeSlotRepository;
+    private final TimeSlotCatalog timeSlotCatalog;
+    private final ClosedDayCalendar closedDayCalendar;
+    private final SlotOccupancyLedger occupancyLedger;
+    private final FieldCrypto fieldCrypto;
     
     //봉사 상세보기 화면
     @Override
@@ -49,7 +56,7 @@ public class VolunteerServiceImpl implements VolunteerService {
         MemberEntity member = reserve.getMember();
         
         // 전화번호 복호화
-        String decryptedPhone = JasyptUtil.decrypt(member.getMemberPhone());
+        String decryptedPhone = fieldCrypto.decrypt(member.getMemberPhone());
         
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
@@ -88,35 +95,54 @@ public class VolunteerServiceImpl implements VolunteerService {
     @Override
     @Transactional(readOnly = true)
     public VolunteerCountDto getVolunteerCountInfo(LocalDate volDate, Long timeSlotId) {
-    	TimeSlot timeSlot = timeSlotRepository.findById(timeSlotId)
+    	TimeSlotCatalog.Slot timeSlot = timeSlotCatalog.find(timeSlotId)
     	        .orElseThrow(() -> new IllegalArgumentException("해당 타임슬롯이 존재하지 않습니다."));
     	
-        Integer count = volunteerRepository.countByDateAndTimeSlot(volDate, timeSlot);
-        
-        if (count == null) {
-            count = 0;
-        }
+        // 예약 점유 원장 기준 (진행/완료 예약만)
+        int count = occupancyLedger.reserved(TimeType.VOL, volDate, timeSlot.id(), null);
         
         return VolunteerCountDto.builder()
-        		.timeSlotId(timeSlot.getId())
-                .label(timeSlot.getLabel())
-                .reservedCount(count != null ? count : 0)
-                .capacity(timeSlot.getCapacity())  // 예: 봉사 정원
+        		.timeSlotId(timeSlot.id())
+                .label(timeSlot.label())
+                .reservedCount(count)
+                .capacity(timeSlot.capacity())  // 예: 봉사 정원
                 .build();
     }
     
     //사용자 월별 예약마감 확인
+    // - 신청 인원은 예약 점유 원장(달마다 처음 한 번만 DB 집계), 시간대는 카탈로그, 휴무일은 메모리 달력에서 읽어 조립
+    // - 휴무일(isClosed)은 모든 시간대를 정원만큼 찬 것으로 내려 달력에서 마감 처리되도록 함
+    @Override
+    @Transactional(readOnly = true)
     public Map<LocalDate, List<VolunteerCountDto>> getVolunteerTimeSlotsByMonth(int year, int month) {
         YearMonth ym = YearMonth.of(year, month);
-        Map<LocalDate, List<VolunteerCountDto>> map = new HashMap<>();
+        LocalDate start = ym.atDay(1);
+        LocalDate end = ym.atEndOfMonth();
 
-        for (int day = 1; day <= ym.lengthOfMonth(); day++) {
-            LocalDate date = ym.atDay(day);
+        List<TimeSlotCatalog.Slot> slots = timeSlotCatalog.byType(TimeType.VOL);
+
+        Map<LocalDate, List<VolunteerCountDto>> map = new HashMap<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
             // 주말만 조회해도 됨 (프론트 규칙 반영하려면)
-            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
-                List<VolunteerCountDto> counts = getVolunteerTimeSlotsWithCount(date);
-                map.put(date, counts);
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                continue;
+            }
+            boolean closed = closedDayCalendar.isClosed(date);
+
+            List<VolunteerCountDto> counts = new ArrayList<>(slots.size());
+            for (TimeSlotCatalog.Slot ts : slots) {
+                int reserved = closed
+                        ? ts.capacity()
+                        : occupancyLedger.reserved(TimeType.VOL, date, ts.id(), null);
+                counts.add(VolunteerCountDto.builder()
+                        .timeSlotId(ts.id())
+                        .label(ts.label())
+                        .reservedCount(reserved)
+                        .capacity(ts.capacity())
+                        .volDate(date)
+                        .build());
             }
+            map.put(date, counts);
         }
         return map;
     }
@@ -125,11 +151,20 @@ public class VolunteerServiceImpl implements VolunteerService {
     @Override
     @Transactional(readOnly = true)
     public List<VolunteerCountDto> getVolunteerTimeSlotsWithCount(LocalDate volDate, Long memberNum) {
-        return volunteerRepository.getVolunteerCountInfo(volDate);
+        return getVolunteerTimeSlotsWithCount(volDate);
     }
+    // 시간대 목록 + 예약 점유 원장의 신청 인원
     @Override
     @Transactional(readOnly = true)
     public List<VolunteerCountDto> getVolunteerTimeSlotsWithCount(LocalDate volDate) {
-        return volunteerRepository.getVolunteerCountInfo(volDate);
+        return timeSlotCatalog.byType(TimeType.VOL).stream()
+                .map(ts -> VolunteerCountDto.builder()
+                        .timeSlotId(ts.id())
+                        .label(ts.label())
+                        .reservedCount(occupancyLedger.reserved(TimeType.VOL, volDate, ts.id(), null))
+                        .capacity(ts.capacity())
+                        .volDate(volDate)
+                        .build())
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
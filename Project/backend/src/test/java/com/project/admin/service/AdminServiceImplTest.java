@@ -0,0 +1,46 @@
+package com.project.admin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.project.admin.dto.AdminLoginRequestDto;
+import com.project.admin.dto.AdminLoginResponseDto;
+import com.project.admin.entity.AdminEntity;
+import com.project.admin.repository.AdminRepository;
+import com.project.common.jwt.RefreshTokenService;
+import com.project.common.jwt.RefreshTokenService.TokenPair;
+import com.project.common.service.LoginRateLimiter;
+import com.project.common.util.FieldCrypto;
+import com.project.member.repository.MemberRepository;
+
+/**
+ * 관리자 로그인 (user-024) - 응답에 RefreshTokenService 가 발급한 토큰을 그대로 담음
+ */
+class AdminServiceImplTest {
+
+    private final AdminRepository adminRepository = mock(AdminRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+
+    private final AdminServiceImpl adminService = new AdminServiceImpl(adminRepository, mock(MemberRepository.class),
+            passwordEncoder, mock(FieldCrypto.class), refreshTokenService, mock(LoginRateLimiter.class));
+
+    @Test
+    void loginReturnsIssuedTokens() {
+        AdminEntity admin = AdminEntity.builder().adminId("admin").adminPw("hashed").adminName("관리자").build();
+        when(adminRepository.findFirstByAdminId("admin")).thenReturn(Optional.of(admin));
+        when(passwordEncoder.matches("pw", "hashed")).thenReturn(true);
+        when(refreshTokenService.issue("admin", "ADMIN")).thenReturn(new TokenPair("access-token", "refresh-token"));
+
+        AdminLoginResponseDto response = adminService.login(new AdminLoginRequestDto("admin", "pw"));
+
+        assertThat(response.getAccessToken()).isEqualTo("access-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.animal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.project.animal.entity.AnimalEntity;
+import com.project.animal.repository.AnimalRepository;
+import com.project.common.dto.CursorPageResponseDto;
+
+/**
+ * 동물 목록 커서 페이지네이션
+ * - 입소일 있는 행 → 입소일 없는 행 순으로, 빠지거나 겹치는 행 없이 끝까지 넘어가는지 확인
+ */
+@DataJpaTest(showSql = false)
+class AnimalCursorPaginationTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    private AnimalService animalService;
+
+    @BeforeEach
+    void setUp() {
+        // 커서 조회는 AnimalRepository 만 사용 (withTotal=false)
+        animalService = new AnimalService(animalRepository, null, null);
+    }
+
+    @Test
+    void walksDatedRowsThenUndatedRowsWithoutGapsOrDuplicates() {
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 23; i++) {
+            // 같은 입소일이 여러 건 → 번호로 순서 결정
+            persist(base.plusDays(i / 3));
+        }
+        for (int i = 0; i < 8; i++) {
+            persist(null);
+        }
+        em.flush();
+        em.clear();
+
+        List<AnimalEntity> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponseDto<AnimalEntity> page = animalService.listByCursor(cursor, 5, false);
+            walked.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null && pages < 100);
+
+        List<AnimalEntity> expected = animalRepository.findAll().stream()
+                .sorted(Comparator.comparing(AnimalEntity::getAnimalDate,
+                                Comparator.nullsLast(Comparator.<LocalDate>reverseOrder()))
+                        .thenComparing(AnimalEntity::getAnimalId, Comparator.reverseOrder()))
+                .toList();
+
+        assertThat(walked).extracting(AnimalEntity::getAnimalId)
+                .containsExactlyElementsOf(expected.stream().map(AnimalEntity::getAnimalId).toList());
+        assertThat(pages).isEqualTo((31 + 4) / 5);
+    }
+
+    @Test
+    void pageBoundaryInsideUndatedSegment() {
+        persist(LocalDate.of(2024, 3, 1));
+        for (int i = 0; i < 4; i++) {
+            persist(null);
+        }
+        em.flush();
+        em.clear();
+
+        CursorPageResponseDto<AnimalEntity> first = animalService.listByCursor(null, 2, false);
+        assertThat(first.getContent()).extracting(AnimalEntity::getAnimalDate)
+                .containsExactly(LocalDate.of(2024, 3, 1), null);
+
+        CursorPageResponseDto<AnimalEntity> second = animalService.listByCursor(first.getNextCursor(), 2, false);
+        CursorPageResponseDto<AnimalEntity> third = animalService.listByCursor(second.getNextCursor(), 2, false);
+        assertThat(second.getContent()).hasSize(2).allMatch(a -> a.getAnimalDate() == null);
+        assertThat(third.getContent()).hasSize(1);
+        assertThat(third.isHasNext()).isFalse();
+        assertThat(second.getContent().get(1).getAnimalId()).isGreaterThan(third.getContent().get(0).getAnimalId());
+    }
+
+    private void persist(LocalDate animalDate) {
+        AnimalEntity animal = new AnimalEntity();
+        animal.setAnimalName("animal");
+        animal.setAnimalDate(animalDate);
+        em.persist(animal);
+    }
+}
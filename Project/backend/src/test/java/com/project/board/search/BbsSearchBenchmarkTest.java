@@ -0,0 +1,148 @@
+package com.project.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.board.BoardType;
+import com.project.board.dto.BbsDto;
+import com.project.board.repository.BbsRepository;
+import com.project.board.service.BbsServiceImpl;
+
+/**
+ * 게시글 검색 벤치마크 (user-003) - 합성 게시글 10만 건, DB LIKE 검색 vs 메모리 역색인
+ * - 기본 빌드에서는 제외: mvn test -DexcludedGroups= -Dgroups=benchmark -Dtest=BbsSearchBenchmarkTest
+ * - DB 는 H2(MySQL 모드) → 절대 수치는 MariaDB 와 다르지만 두 경로 모두 같은 DB 에서 비교
+ * - 두 경로의 결과(전체 건수, 첫 페이지 순서)가 같은지도 함께 확인
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BbsSearchBenchmarkTest {
+
+    private static final int POSTS = 100_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String[] SYLLABLES = ("가나다라마바사아자차카타파하강남동서봉사입양보호센터산책후원"
+            + "고양이강아지공지안내행사일정문의답변사진").split("");
+
+    @Autowired
+    private BbsRepository bbsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareLikeAndIndexSearch() {
+        insertPosts();
+
+        InMemoryBbsSearchIndex index = new InMemoryBbsSearchIndex(bbsRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        long buildStart = System.nanoTime();
+        index.build();
+        System.out.printf("index build: %d posts, %d ms%n", POSTS, (System.nanoTime() - buildStart) / 1_000_000);
+
+        InMemoryBbsSearchIndex disabled = new InMemoryBbsSearchIndex(bbsRepository);
+        ReflectionTestUtils.setField(disabled, "enabled", false);
+
+        BbsServiceImpl indexed = service(index);
+        BbsServiceImpl like = service(disabled);
+        PageRequest page = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "registdate"));
+
+        String[][] queries = {
+                {"title", "공지", "word"},
+                {"title", "봉사 일정", "phrase"},
+                {"content", "고양이", "word"},
+                {"content", "없는검색어", "no-hit"},
+        };
+
+        System.out.printf("%-8s %-8s %8s %12s %12s%n", "field", "query", "hits", "LIKE(ms)", "index(ms)");
+        for (String[] q : queries) {
+            String title = "title".equals(q[0]) ? q[1] : null;
+            String content = "content".equals(q[0]) ? q[1] : null;
+            Supplier<Page<BbsDto>> viaLike = () -> like.searchPosts(q[0], title, content, null, BoardType.NORMAL, page);
+            Supplier<Page<BbsDto>> viaIndex = () -> indexed.searchPosts(q[0], title, content, null, BoardType.NORMAL, page);
+
+            Page<BbsDto> expected = viaLike.get();
+            Page<BbsDto> actual = viaIndex.get();
+            assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+            assertThat(ids(actual)).isEqualTo(ids(expected));
+
+            double likeMs = measure(viaLike);
+            double indexMs = measure(viaIndex);
+            System.out.printf("%-8s %-8s %8d %12.2f %12.2f%n", q[0], q[2], expected.getTotalElements(), likeMs, indexMs);
+        }
+    }
+
+    private BbsServiceImpl service(BbsSearchIndex searchIndex) {
+        return new BbsServiceImpl(bbsRepository, null, null, null, null, null,
+                null, searchIndex, null, null, null, null);
+    }
+
+    private static double measure(Supplier<?> call) {
+        for (int i = 0; i < WARMUP; i++) call.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) call.get();
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private static List<Long> ids(Page<BbsDto> page) {
+        return page.getContent().stream().map(BbsDto::getBulletinNum).toList();
+    }
+
+    private void insertPosts() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < POSTS; i++) {
+            BoardType type = (i % 3 == 0) ? BoardType.POTO : BoardType.NORMAL;
+            batch.add(new Object[]{
+                    sentence(random, 2 + random.nextInt(4)),
+                    sentence(random, 30 + random.nextInt(40)),
+                    Timestamp.valueOf(base.plusMinutes(i)),
+                    0,
+                    type.name()});
+            if (batch.size() == 1000) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO bbs (bbs_title, bbs_content, regist_date, viewers, bulletin_type) "
+                + "VALUES (?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    // 2~3 음절 단어를 공백으로 이은 문장
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) sb.append(' ');
+            int len = 2 + random.nextInt(2);
+            for (int c = 0; c < len; c++) {
+                sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.board.BoardType;
+import com.project.board.dto.BbsDto;
+import com.project.board.repository.BbsRepository;
+import com.project.board.service.BbsServiceImpl;
+
+/**
+ * 게시글 검색 인덱스 (user-003) - 인덱스 경로와 DB LIKE 경로의 결과가 같은지
+ * - % _ 가 든 검색어: 목록 검색(@Query CONCAT)은 와일드카드, 검색 API(Containing)는 글자 그대로
+ * - 게시판 종류 없이 목록 검색하면 DB 와 같이 결과 없음
+ * - 대소문자만 다른 글은 DB 콜레이션 판정을 따름 (H2 는 구분)
+ */
+@DataJpaTest(showSql = false)
+class BbsSearchIndexTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "registdate"));
+
+    private static final String[] QUERIES = {"100% 달성", "file_name", "upper 공지", "안내", "달성", "_"};
+
+    @Autowired
+    private BbsRepository bbsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BbsServiceImpl indexed;
+    private BbsServiceImpl like;
+
+    @BeforeEach
+    void setUp() {
+        insert("100% 달성 후원", "목표 100% 달성", BoardType.NORMAL);
+        insert("1000 달성 후원", "목표 1000 달성", BoardType.NORMAL);
+        insert("file_name 안내", "a_b 형식", BoardType.NORMAL);
+        insert("filexname 안내", "axb 형식", BoardType.NORMAL);
+        insert("Upper 공지 안내", "대소문자", BoardType.NORMAL);
+        insert("100% 달성 FAQ", "목표 100% 달성", BoardType.FAQ);
+
+        InMemoryBbsSearchIndex index = new InMemoryBbsSearchIndex(bbsRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.build();
+        InMemoryBbsSearchIndex disabled = new InMemoryBbsSearchIndex(bbsRepository);
+        ReflectionTestUtils.setField(disabled, "enabled", false);
+
+        indexed = service(index);
+        like = service(disabled);
+    }
+
+    @Test
+    void searchApiMatchesContainingSearch() {
+        for (BoardType type : new BoardType[]{BoardType.NORMAL, null}) {
+            for (String q : QUERIES) {
+                assertThat(ids(indexed.searchPosts("title", q, null, null, type, PAGE)))
+                        .as("title %s / %s", q, type)
+                        .isEqualTo(ids(like.searchPosts("title", q, null, null, type, PAGE)));
+                assertThat(ids(indexed.searchPosts("content", null, q, null, type, PAGE)))
+                        .as("content %s / %s", q, type)
+                        .isEqualTo(ids(like.searchPosts("content", null, q, null, type, PAGE)));
+            }
+        }
+        // Containing 은 % 를 글자 그대로 찾음
+        assertThat(indexed.searchPosts("title", "100% 달성", null, null, BoardType.NORMAL, PAGE).getTotalElements())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void boardListMatchesLikeSearch() {
+        for (BoardType type : new BoardType[]{BoardType.NORMAL, BoardType.FAQ, null}) {
+            for (String q : QUERIES) {
+                assertThat(listIds(indexed.getBbsList(type, 0, 10, q, null, null)))
+                        .as("title %s / %s", q, type)
+                        .isEqualTo(listIds(like.getBbsList(type, 0, 10, q, null, null)));
+                assertThat(listIds(indexed.getBbsList(type, 0, 10, null, null, q)))
+                        .as("content %s / %s", q, type)
+                        .isEqualTo(listIds(like.getBbsList(type, 0, 10, null, null, q)));
+            }
+        }
+        // 목록 검색은 % _ 가 와일드카드, 게시판 종류가 없으면 결과 없음
+        assertThat(indexed.getBbsList(BoardType.NORMAL, 0, 10, "100% 달성", null, null).get("total")).isEqualTo(2L);
+        assertThat(indexed.getBbsList(BoardType.NORMAL, 0, 10, "file_name", null, null).get("total")).isEqualTo(2L);
+        assertThat(indexed.getBbsList(null, 0, 10, "달성", null, null).get("total")).isEqualTo(0L);
+    }
+
+    private BbsServiceImpl service(BbsSearchIndex searchIndex) {
+        return new BbsServiceImpl(bbsRepository, null, null, null, null, null,
+                null, searchIndex, null, null, null, null);
+    }
+
+    private void insert(String title, String content, BoardType type) {
+        int seq = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bbs", Integer.class);
+        jdbcTemplate.update("INSERT INTO bbs (bbs_title, bbs_content, regist_date, viewers, bulletin_type) "
+                + "VALUES (?, ?, ?, 0, ?)", title, content,
+                Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(seq)), type.name());
+    }
+
+    // "전체 건수 [첫 페이지 게시글 번호]"
+    private static String ids(Page<BbsDto> page) {
+        return page.getTotalElements() + " " + page.getContent().stream().map(BbsDto::getBulletinNum).toList();
+    }
+
+    // "전체 건수 [첫 페이지 게시글 번호]"
+    @SuppressWarnings("unchecked")
+    private static String listIds(Map<String, Object> result) {
+        List<Long> ids = ((List<BbsDto>) result.get("list")).stream().map(BbsDto::getBulletinNum).toList();
+        return result.get("total") + " " + ids;
+    }
+}
@@ -0,0 +1,137 @@
+package com.project.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.board.dto.ImageBbsDto;
+import com.project.board.repository.ImageBbsRepository;
+
+/**
+ * 썸네일 파이프라인 (user-004)
+ * - 생성 / 이미 있는 썸네일은 건너뜀
+ * - 종료 시 처리하지 못한 작업은 다음 기동의 누락 점검(BbsThumbnailReconciler)이 다시 생성
+ */
+class BbsThumbnailPipelineTest {
+
+    @TempDir
+    Path dir;
+
+    private Path imgDir;
+    private Path thumbDir;
+    private BbsThumbnailPipeline pipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imgDir = Files.createDirectories(dir.resolve("imgBbs"));
+        thumbDir = Files.createDirectories(dir.resolve("thumbnail"));
+        pipeline = newPipeline();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void generatesThumbnail() throws Exception {
+        Path source = image("a.png");
+        Path target = thumbDir.resolve("a.png");
+
+        pipeline.enqueueAfterCommit(source, target, 30, 30);
+
+        awaitStat(pipeline, "completed", 1);
+        BufferedImage thumbnail = ImageIO.read(target.toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(30);
+        assertThat(thumbnail.getHeight()).isEqualTo(30);
+    }
+
+    @Test
+    void skipsExistingThumbnail() throws Exception {
+        Path source = image("b.png");
+        Path target = Files.writeString(thumbDir.resolve("b.png"), "existing");
+
+        pipeline.enqueueAfterCommit(source, target, 30, 30);
+
+        awaitStat(pipeline, "skipped", 1);
+        assertThat(pipeline.getStats().get("completed")).isEqualTo(0L);
+        assertThat(Files.readString(target)).isEqualTo("existing");
+    }
+
+    @Test
+    void jobsLeftAtShutdownAreRegeneratedByReconcile() throws Exception {
+        Path source = image("c.png");
+        Path target = thumbDir.resolve("c.png");
+
+        // 종료 이후 들어온 작업 = 처리되지 않고 대기 목록에 남은 채 종료
+        pipeline.shutdown();
+        pipeline.enqueueAfterCommit(source, target, 300, 300);
+        pipeline.drainBacklog();
+        assertThat(pipeline.getStats().get("backlog")).isEqualTo(1);
+        assertThat(target).doesNotExist();
+
+        // 재기동 → 누락 점검
+        pipeline = newPipeline();
+        ImageBbsRepository repository = mock(ImageBbsRepository.class);
+        when(repository.findPathsAfter(anyLong(), any())).thenReturn(List.of());
+        when(repository.findPathsAfter(eq(0L), any())).thenReturn(List.of(
+                new ImageBbsDto(1L, "/DATA/bbs/thumbnail/c.png", "/DATA/bbs/imgBbs/c.png"),
+                new ImageBbsDto(2L, "/DATA/bbs/thumbnail/missing.png", "/DATA/bbs/imgBbs/missing.png")));
+        BbsThumbnailReconciler reconciler = new BbsThumbnailReconciler(repository, uploadPaths(), pipeline);
+
+        assertThat(reconciler.reconcile()).isEqualTo(1); // 원본이 없는 2번은 건너뜀
+        awaitStat(pipeline, "completed", 1);
+        assertThat(target).exists();
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    private BbsThumbnailPipeline newPipeline() {
+        BbsThumbnailPipeline created = new BbsThumbnailPipeline();
+        ReflectionTestUtils.setField(created, "queueCapacity", 10);
+        ReflectionTestUtils.setField(created, "maxAttempts", 2);
+        ReflectionTestUtils.setField(created, "retryBackoffMs", 10L);
+        ReflectionTestUtils.setField(created, "backlogCapacity", 10);
+        created.init();
+        return created;
+    }
+
+    private BbsUploadPaths uploadPaths() {
+        BbsUploadPaths paths = new BbsUploadPaths();
+        ReflectionTestUtils.setField(paths, "imgBbsUploadDir", imgDir.toString());
+        ReflectionTestUtils.setField(paths, "norBbsUploadDir", dir.resolve("norBbs").toString());
+        ReflectionTestUtils.setField(paths, "quesBbsUploadDir", dir.resolve("quesBbs").toString());
+        ReflectionTestUtils.setField(paths, "thumbnailUploadDir", thumbDir.toString());
+        return paths;
+    }
+
+    private Path image(String name) throws IOException {
+        Path path = imgDir.resolve(name);
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "png", path.toFile());
+        return path;
+    }
+
+    private static void awaitStat(BbsThumbnailPipeline pipeline, String key, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!Long.valueOf(expected).equals(pipeline.getStats().get(key)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(pipeline.getStats().get(key)).isEqualTo(expected);
+    }
+}
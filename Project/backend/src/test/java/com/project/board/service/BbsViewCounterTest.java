@@ -0,0 +1,129 @@
+package com.project.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 조회수 write-behind 카운터 (user-002)
+ * - 반영(flush)과 조회가 동시에 일어나도 누적분이 유실되지 않는지 확인
+ * - 배치 중 일부 행이 실패하면 전체가 롤백되고, 되돌린 누적분이 다음 반영에서 한 번만 더해지는지 확인
+ */
+class BbsViewCounterTest {
+
+    private static final int POSTS = 4;
+
+    private JdbcTemplate jdbcTemplate;
+    private BbsViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:viewcounter;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE bbs (bulletin_num BIGINT PRIMARY KEY, viewers INT NOT NULL)");
+        for (long i = 1; i <= POSTS; i++) {
+            jdbcTemplate.update("INSERT INTO bbs (bulletin_num, viewers) VALUES (?, 0)", i);
+        }
+        counter = new BbsViewCounter(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(counter, "dedupeWindowMs", 600_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE bbs");
+    }
+
+    @Test
+    void noIncrementIsLostWhileFlushing() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        counter.increase((long) (i % POSTS) + 1, null);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = pool.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    counter.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) writer.get(60, TimeUnit.SECONDS);
+            running.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 마지막 반영 이후 남은 누적분
+        counter.flush();
+
+        Long total = jdbcTemplate.queryForObject("SELECT SUM(viewers) FROM bbs", Long.class);
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    void repeatedViewFromSameViewerCountsOnce() {
+        assertThat(counter.increase(1L, "M:user")).isTrue();
+        assertThat(counter.increase(1L, "M:user")).isFalse();
+        assertThat(counter.increase(1L, "IP:10.0.0.1")).isTrue();
+        assertThat(counter.getPendingCount(1L)).isEqualTo(2);
+
+        counter.flush();
+
+        assertThat(counter.getPendingCount(1L)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT viewers FROM bbs WHERE bulletin_num = 1", Integer.class))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void failedBatchIsRolledBackAndRetriedOnce() {
+        // 2번 글만 반영 실패하도록 제약을 걸어 둠
+        jdbcTemplate.execute("ALTER TABLE bbs ADD CONSTRAINT viewers_cap CHECK (bulletin_num <> 2 OR viewers < 1)");
+        counter.increase(1L, null);
+        counter.increase(1L, null);
+        counter.increase(2L, null);
+
+        counter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(viewers) FROM bbs", Integer.class)).isZero();
+        assertThat(counter.getPendingCount(1L)).isEqualTo(2);
+        assertThat(counter.getPendingCount(2L)).isEqualTo(1);
+
+        jdbcTemplate.execute("ALTER TABLE bbs DROP CONSTRAINT viewers_cap");
+        counter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT viewers FROM bbs WHERE bulletin_num = 1", Integer.class))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT viewers FROM bbs WHERE bulletin_num = 2", Integer.class))
+                .isEqualTo(1);
+    }
+}
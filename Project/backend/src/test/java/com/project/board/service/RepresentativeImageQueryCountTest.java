@@ -0,0 +1,114 @@
+package com.project.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.project.board.BoardType;
+import com.project.board.dto.ImageBbsDto;
+import com.project.board.entity.BbsEntity;
+import com.project.board.entity.ImageBbsEntity;
+import com.project.board.repository.ImageBbsRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 사진 게시판 목록의 대표 이미지 일괄 조회 (user-001)
+ * - 페이지 크기가 커져도 실행되는 SQL 문 수가 1개로 고정되는지 확인
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+class RepresentativeImageQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ImageBbsRepository imageBbsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private BbsServiceImpl bbsService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 대표 이미지 일괄 조회는 ImageBbsRepository 만 사용
+        bbsService = new BbsServiceImpl(null, null, imageBbsRepository, null, null, null,
+                null, null, null, null, null, null);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        List<Long> small = createPhotoPosts(3);
+        List<Long> large = createPhotoPosts(30);
+        em.clear();
+
+        long smallCount = countStatements(small);
+        long largeCount = countStatements(large);
+
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void returnsRepresentativeImagePerPost() {
+        List<Long> ids = createPhotoPosts(5);
+        em.clear();
+
+        Map<Long, ImageBbsDto> images = bbsService.getRepresentativeImages(ids);
+
+        assertThat(images).hasSize(5);
+        ids.forEach(id -> assertThat(images.get(id).getImagePath()).isEqualTo("/DATA/bbs/imgBbs/" + id + ".jpg"));
+    }
+
+    @Test
+    void emptyPageRunsNoQuery() {
+        statistics.clear();
+        assertThat(bbsService.getRepresentativeImages(List.of())).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private long countStatements(List<Long> bulletinNums) {
+        statistics.clear();
+        Map<Long, ImageBbsDto> images = bbsService.getRepresentativeImages(bulletinNums);
+        assertThat(images).hasSize(bulletinNums.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> createPhotoPosts(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BbsEntity bbs = BbsEntity.builder()
+                    .bbstitle("사진 " + i)
+                    .bbscontent("내용")
+                    .registdate(LocalDateTime.now())
+                    .viewers(0)
+                    .bulletinType(BoardType.POTO)
+                    .build();
+            em.persist(bbs);
+            em.persist(ImageBbsEntity.builder()
+                    .bbs(bbs)
+                    .thumbnailPath("/DATA/bbs/thumbnail/" + bbs.getBulletinNum() + ".jpg")
+                    .imagePath("/DATA/bbs/imgBbs/" + bbs.getBulletinNum() + ".jpg")
+                    .build());
+            ids.add(bbs.getBulletinNum());
+        }
+        em.flush();
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JWT 인증 필터 요청당 비용 벤치마크 (user-021) - 같은 Access Token 으로 반복 요청
+ * - 기본 빌드에서는 제외: mvn test -DexcludedGroups= -Dgroups=benchmark -Dtest=JwtAuthenticationFilterBenchmarkTest
+ * - uncached: 요청마다 캐시를 비워 서명(HMAC) 검증 + 파싱 / cached: 검증 결과 캐시 사용
+ * - JMH 없이 JUnit 반복 측정 (워밍업 후 평균) → 절대 수치보다 두 경로의 비율을 볼 것
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterOverheadPerRequest() throws Exception {
+        JwtTokenProvider provider = JwtTokenProviderTest.newProvider();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(provider, "verified");
+        String token = provider.generateAccessToken("bench@test.com", "ADMIN");
+
+        Authentication authentication = run(filter, token);
+        assertThat(authentication.getName()).isEqualTo("bench@test.com");
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ADMIN");
+
+        double uncached = measure(filter, token, cache);
+        double cached = measure(filter, token, null);
+
+        System.out.printf("%-10s %12s%n", "path", "avg(us)");
+        System.out.printf("%-10s %12.2f%n", "uncached", uncached);
+        System.out.printf("%-10s %12.2f%n", "cached", cached);
+        assertThat(cached).isLessThan(uncached);
+    }
+
+    // 요청 1건 = 새 요청/응답 객체 + 필터 실행 (clearBeforeEach 가 있으면 매번 캐시 비움)
+    private static double measure(JwtAuthenticationFilter filter, String token, Map<?, ?> clearBeforeEach) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            if (clearBeforeEach != null) clearBeforeEach.clear();
+            run(filter, token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (clearBeforeEach != null) clearBeforeEach.clear();
+            run(filter, token);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static Authentication run(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/animals");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JWT 검증 캐시 (user-021)
+ * - Access Token 만 캐시, Refresh Token 은 검증만 하고 캐시에 넣지 않음 (재발급 경로 포함)
+ * - 위변조 토큰은 캐시 여부와 무관하게 거부
+ */
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = newProvider();
+    }
+
+    @Test
+    void onlyAccessTokensAreCached() {
+        String access = provider.generateAccessToken("user@test.com", "USER");
+        String refresh = provider.generateRefreshToken("user@test.com");
+
+        assertThat(provider.verify(access)).map(JwtPrincipal::subject).contains("user@test.com");
+        assertThat(provider.verify(refresh)).map(JwtPrincipal::role).isEmpty();
+        assertThat(provider.verifyRefreshToken(refresh)).map(JwtPrincipal::subject).contains("user@test.com");
+
+        assertThat(cache()).hasSize(1);
+        assertThat(cache().values()).extracting(JwtPrincipal::role).containsExactly("USER");
+    }
+
+    @Test
+    void reissueDoesNotPopulateCache() {
+        RefreshTokenStore store = mock(RefreshTokenStore.class);
+        RefreshTokenService service = new RefreshTokenService(provider, store);
+        String refresh = provider.generateRefreshToken("user@test.com");
+        when(store.find(anyString())).thenReturn(Optional.of(new RefreshTokenStore.Entry(
+                RefreshTokenService.hash(refresh), "family", "user@test.com", "USER",
+                System.currentTimeMillis() + 60_000, false)));
+        when(store.rotate(anyString(), any())).thenReturn(true);
+
+        assertThat(service.reissue(refresh)).isPresent();
+        assertThat(cache()).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        JwtTokenProvider other = newProvider();
+        ReflectionTestUtils.setField(other, "secretKeyRaw", "AnotherSecretKeyForJwtSigningThatIsLongEnough!!");
+        other.init();
+        String forged = other.generateAccessToken("admin@test.com", "ADMIN");
+
+        assertThat(provider.verify(forged)).isEmpty();
+        assertThat(provider.verifyRefreshToken(other.generateRefreshToken("admin@test.com"))).isEmpty();
+        assertThat(cache()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<?, JwtPrincipal> cache() {
+        return (Map<?, JwtPrincipal>) ReflectionTestUtils.getField(provider, "verified");
+    }
+
+    static JwtTokenProvider newProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKeyRaw", "VerySecretKeyForJwtSigningThatIsSecureAndLongEnough");
+        ReflectionTestUtils.setField(provider, "accessTokenValidityMs", 1_800_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidityMs", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "verifyCacheMaxEntries", 10_000);
+        provider.init();
+        return provider;
+    }
+}
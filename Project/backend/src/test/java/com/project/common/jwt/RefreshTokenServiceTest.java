@@ -0,0 +1,165 @@
+package com.project.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.common.jwt.RefreshTokenService.TokenPair;
+
+/**
+ * 리프레시 토큰 재발급 / 폐기 (user-024)
+ * - 유예 시간 안에 같은 토큰으로 다시 재발급하면 같은 새 토큰 (동시 요청 포함), 유예 시간이 지나면 family 폐기
+ * - 로그아웃/재사용 감지 폐기는 스냅샷을 기다리지 않고 바로 DB 삭제
+ * - 재발급(rotate) 도중 끼어든 폐기는 새 토큰까지 지움
+ */
+class RefreshTokenServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private InMemoryRefreshTokenStore store;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(jdbcTemplate);
+        service = new RefreshTokenService(JwtTokenProviderTest.newProvider(), store);
+        ReflectionTestUtils.setField(service, "reuseGraceMs", 5_000L);
+    }
+
+    @Test
+    void reuseWithinGraceReturnsSameSuccessor() {
+        TokenPair login = service.issue("user@test.com", "USER");
+
+        TokenPair first = service.reissue(login.refreshToken()).orElseThrow();
+        TokenPair again = service.reissue(login.refreshToken()).orElseThrow();
+
+        assertThat(again).isEqualTo(first);
+        assertThat(service.reissue(first.refreshToken())).isPresent();
+    }
+
+    @Test
+    void concurrentReissueSharesOneSuccessor() throws Exception {
+        TokenPair login = service.issue("user@test.com", "USER");
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<TokenPair>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return service.reissue(login.refreshToken());
+            }));
+        }
+        start.countDown();
+
+        Set<TokenPair> pairs = new HashSet<>();
+        for (Future<Optional<TokenPair>> result : results) {
+            pairs.add(result.get(10, TimeUnit.SECONDS).orElseThrow());
+        }
+        pool.shutdown();
+
+        assertThat(pairs).hasSize(1);
+        assertThat(service.reissue(pairs.iterator().next().refreshToken())).isPresent();
+    }
+
+    @Test
+    void reuseAfterGraceRevokesFamilyInDb() {
+        ReflectionTestUtils.setField(service, "reuseGraceMs", 0L);
+        TokenPair login = service.issue("user@test.com", "USER");
+        TokenPair next = service.reissue(login.refreshToken()).orElseThrow();
+        String familyId = store.find(RefreshTokenService.hash(next.refreshToken())).orElseThrow().familyId();
+
+        assertThat(service.reissue(login.refreshToken())).isEmpty();
+        assertThat(service.reissue(next.refreshToken())).isEmpty();
+        verify(jdbcTemplate).update("DELETE FROM refresh_token WHERE family_id = ?", familyId);
+    }
+
+    @Test
+    void logoutEndsGraceAndDeletesFromDb() {
+        TokenPair login = service.issue("user@test.com", "USER");
+        TokenPair next = service.reissue(login.refreshToken()).orElseThrow();
+
+        service.revokeAll("user@test.com");
+
+        verify(jdbcTemplate).update("DELETE FROM refresh_token WHERE subject = ?", "user@test.com");
+        assertThat(service.reissue(login.refreshToken())).isEmpty();
+        assertThat(service.reissue(next.refreshToken())).isEmpty();
+    }
+
+    @Test
+    void failedDbRevocationIsReportedAndLeftForSnapshot() {
+        TokenPair login = service.issue("user@test.com", "USER");
+        when(jdbcTemplate.update(eq("DELETE FROM refresh_token WHERE subject = ?"), anyString()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.revokeAll("user@test.com")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(service.reissue(login.refreshToken())).isEmpty();
+        @SuppressWarnings("unchecked")
+        Set<String> dirty = (Set<String>) ReflectionTestUtils.getField(store, "dirty");
+        assertThat(dirty).contains(RefreshTokenService.hash(login.refreshToken()));
+    }
+
+    @Test
+    void revokeDuringRotateAlsoRemovesSuccessor() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryRefreshTokenStore slowStore = new InMemoryRefreshTokenStore(jdbcTemplate) {
+            @Override
+            public void save(Entry entry) {
+                if (entry.tokenHash().equals("next")) {
+                    saving.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.save(entry);
+            }
+        };
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        slowStore.save(new RefreshTokenStore.Entry("old", "family", "user@test.com", "USER", expiresAt, false));
+
+        // 이전 토큰을 사용 처리한 뒤 새 토큰 저장 직전에 멈춤
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<Boolean> rotated = pool.submit(() -> slowStore.rotate("old",
+                new RefreshTokenStore.Entry("next", "family", "user@test.com", "USER", expiresAt, false)));
+        assertThat(saving.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 그 사이 로그아웃 → 재발급이 끝날 때까지 대기
+        Thread revoker = new Thread(() -> slowStore.revokeSubject("user@test.com"));
+        revoker.start();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (revoker.getState() != Thread.State.BLOCKED && revoker.isAlive()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        revoker.join(10_000);
+        pool.shutdown();
+
+        assertThat(rotated.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowStore.find("old")).isEmpty();
+        assertThat(slowStore.find("next")).isEmpty();
+    }
+}
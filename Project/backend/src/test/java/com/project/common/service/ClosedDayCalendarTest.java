@@ -0,0 +1,136 @@
+package com.project.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.common.dto.ClosedDayResponseDto;
+import com.project.common.entity.ClosedDay;
+import com.project.common.repository.ClosedDayRepository;
+
+/**
+ * 휴무일 메모리 달력 (user-016)
+ * - isClosed 는 행이 있고 is_closed 가 false 가 아닐 때만 true (NULL 은 휴무)
+ * - 연도별 적재 / 커밋 후 바뀐 연도만 다시 적재 (롤백이면 그대로) / 적재되지 않은 연도는 빈 달력
+ * - 커밋을 실제로 일으키기 위해 테스트 트랜잭션 없이 실행하고 끝나면 휴무일 삭제
+ */
+@DataJpaTest(showSql = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClosedDayCalendarTest {
+
+    @Autowired
+    private ClosedDayRepository closedDayRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private ClosedDayCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        calendar = new ClosedDayCalendar(closedDayRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM closed_day");
+    }
+
+    @Test
+    void isClosedOnlyWhenFlagIsNotFalse() {
+        save(LocalDate.of(2025, 3, 1), "삼일절", null);
+        save(LocalDate.of(2025, 3, 2), "정기 휴무", true);
+        save(LocalDate.of(2025, 3, 3), "임시 개장", false);
+        calendar.loadAll();
+
+        assertThat(calendar.isClosed(LocalDate.of(2025, 3, 1))).isTrue();
+        assertThat(calendar.isClosed(LocalDate.of(2025, 3, 2))).isTrue();
+        assertThat(calendar.isClosed(LocalDate.of(2025, 3, 3))).isFalse();
+        assertThat(calendar.isClosed(LocalDate.of(2025, 3, 4))).isFalse();
+
+        // 목록에는 행이 있는 날 모두 (isClosed=false 포함)
+        assertThat(calendar.between(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 4)))
+                .extracting(ClosedDayResponseDto::getClosedDate, ClosedDayResponseDto::getReason,
+                        ClosedDayResponseDto::getIsClosed)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 1), "삼일절", true),
+                        tuple(LocalDate.of(2025, 3, 2), "정기 휴무", true),
+                        tuple(LocalDate.of(2025, 3, 3), "임시 개장", false));
+    }
+
+    @Test
+    void loadsPerYearAndSpansYearBoundaries() {
+        save(LocalDate.of(2024, 12, 31), "연말", true);   // 윤년 366번째 날
+        save(LocalDate.of(2025, 1, 1), "신정", true);
+        save(LocalDate.of(2025, 12, 31), "연말", true);
+
+        // 기동 이벤트 전 조회도 전체 적재 후 응답
+        assertThat(calendar.isClosed(LocalDate.of(2024, 12, 31))).isTrue();
+        assertThat(calendar.between(LocalDate.of(2024, 12, 30), LocalDate.of(2026, 1, 2)))
+                .extracting(ClosedDayResponseDto::getClosedDate)
+                .containsExactly(LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+        // 적재된 연도 밖 = 휴무일 없음
+        assertThat(calendar.isClosed(LocalDate.of(1999, 1, 1))).isFalse();
+        assertThat(calendar.between(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31))).isEmpty();
+    }
+
+    @Test
+    void reloadsOnlyChangedYearsAfterCommit() {
+        save(LocalDate.of(2025, 5, 5), "어린이날", true);
+        save(LocalDate.of(2026, 5, 5), "어린이날", true);
+        calendar.loadAll();
+
+        tx.executeWithoutResult(s -> {
+            closedDayRepository.save(new ClosedDay(LocalDate.of(2025, 6, 6), "현충일", true));
+            closedDayRepository.save(new ClosedDay(LocalDate.of(2030, 1, 1), "신정", null));
+            // 알리지 않은 연도의 변경은 다시 적재되지 않음
+            closedDayRepository.deleteById(LocalDate.of(2026, 5, 5));
+            calendar.refreshAfterCommit(List.of(2025, 2030));
+            // 커밋 전에는 이전 상태
+            assertThat(calendar.isClosed(LocalDate.of(2025, 6, 6))).isFalse();
+        });
+
+        assertThat(calendar.isClosed(LocalDate.of(2025, 6, 6))).isTrue();
+        assertThat(calendar.isClosed(LocalDate.of(2030, 1, 1))).isTrue();   // 적재되지 않았던 연도 추가
+        assertThat(calendar.isClosed(LocalDate.of(2026, 5, 5))).isTrue();
+    }
+
+    @Test
+    void rollbackDoesNotReload() {
+        save(LocalDate.of(2025, 5, 5), "어린이날", true);
+        calendar.loadAll();
+
+        tx.executeWithoutResult(s -> {
+            closedDayRepository.save(new ClosedDay(LocalDate.of(2025, 5, 5), "어린이날", false));
+            closedDayRepository.save(new ClosedDay(LocalDate.of(2025, 6, 6), "현충일", true));
+            calendar.refreshAfterCommit(List.of(2025));
+            s.setRollbackOnly();
+        });
+
+        assertThat(calendar.isClosed(LocalDate.of(2025, 5, 5))).isTrue();
+        assertThat(calendar.isClosed(LocalDate.of(2025, 6, 6))).isFalse();
+    }
+
+    private void save(LocalDate date, String reason, Boolean isClosed) {
+        closedDayRepository.save(new ClosedDay(date, reason, isClosed));
+    }
+}
@@ -0,0 +1,201 @@
+package com.project.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.project.common.dto.HolidayDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 공휴일 API 조회 (user-017) - 로컬 스텁 서버로 data.go.kr 응답을 흉내
+ * - 한 해 전체 성공 → 스냅샷 저장, 보존 기간 안에서는 재사용
+ * - 한 달 실패 → 나머지 달 재시도 중단, 스냅샷 없음
+ * - 0건 / 오류 응답 코드 → 스냅샷 없음, 보존 기간 지난 스냅샷은 재조회 (실패하면 지난 스냅샷 사용)
+ */
+class HolidayApiServiceTest {
+
+    private static final int YEAR = 2030;
+
+    // 월별 응답 (월 → 응답)
+    private record Reply(int status, long delayMs, String body) {}
+
+    @TempDir
+    Path snapshotDir;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile IntFunction<Reply> replies;
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private HolidayApiService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.createContext("/holidays", this::handle);
+        server.start();
+
+        service = new HolidayApiService(JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(service, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(service, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/holidays");
+        ReflectionTestUtils.setField(service, "connectTimeoutMs", 1000);
+        ReflectionTestUtils.setField(service, "readTimeoutMs", 5000);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "retryBackoffMs", 20L);
+        ReflectionTestUtils.setField(service, "parallelism", 12);
+        ReflectionTestUtils.setField(service, "snapshotDir", snapshotDir.toString());
+        ReflectionTestUtils.setField(service, "snapshotTtlDays", 7L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void fullYearIsSnapshottedAndReusedWithinTtl() {
+        replies = month -> ok(month);
+
+        List<HolidayDto> first = service.getHolidays(YEAR);
+        List<HolidayDto> second = service.getHolidays(YEAR);
+
+        assertThat(first).hasSize(12);
+        assertThat(second).isEqualTo(first);
+        assertThat(requests.get()).isEqualTo(12);
+        assertThat(snapshot()).exists();
+    }
+
+    @Test
+    void failingMonthStopsOtherMonthsAndWritesNoSnapshot() throws InterruptedException {
+        // 3월은 바로 500, 나머지 달은 1초 뒤 500 → 취소되지 않으면 나머지 달도 재시도
+        replies = month -> month == 3 ? new Reply(500, 0, "{}") : new Reply(500, 1000, "{}");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.getHolidays(YEAR))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("3월");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        Thread.sleep(1500);
+        assertThat(elapsedMs).isLessThan(900);
+        assertThat(requests.get()).isEqualTo(3 + 11);
+        assertThat(snapshot()).doesNotExist();
+    }
+
+    @Test
+    void emptyYearIsNotSnapshotted() {
+        replies = month -> new Reply(200, 0, body("\"\"", 0));
+
+        assertThat(service.getHolidays(YEAR)).isEmpty();
+        assertThat(snapshot()).doesNotExist();
+
+        replies = month -> ok(month);
+        assertThat(service.getHolidays(YEAR)).hasSize(12);
+        assertThat(requests.get()).isEqualTo(24);
+    }
+
+    @Test
+    void errorResultCodeOrTruncatedMonthFails() {
+        replies = month -> month == 5
+                ? new Reply(200, 0, "{\"response\":{\"header\":{\"resultCode\":\"22\",\"resultMsg\":\"LIMITED\"},\"body\":{}}}")
+                : ok(month);
+        assertThatThrownBy(() -> service.getHolidays(YEAR)).hasMessageContaining("5월");
+
+        replies = month -> month == 8 ? new Reply(200, 0, body("{\"item\":[" + item(8) + "]}", 2)) : ok(month);
+        assertThatThrownBy(() -> service.getHolidays(YEAR)).hasMessageContaining("8월");
+
+        assertThat(snapshot()).doesNotExist();
+    }
+
+    @Test
+    void staleSnapshotIsRefetchedAndKeptWhenApiFails() throws IOException, InterruptedException {
+        replies = month -> ok(month);
+        List<HolidayDto> original = service.getHolidays(YEAR);
+        Files.setLastModifiedTime(snapshot(), FileTime.from(Instant.now().minus(Duration.ofDays(8))));
+
+        // 재조회 실패 → 지난 스냅샷 사용
+        replies = month -> new Reply(500, 0, "{}");
+        assertThat(service.getHolidays(YEAR)).isEqualTo(original);
+
+        // 재조회 성공 → 스냅샷 갱신 (취소 직전에 나간 요청이 끝날 때까지 대기 후 셈)
+        replies = month -> ok(month);
+        int before = awaitQuiet();
+        assertThat(service.getHolidays(YEAR)).hasSize(12);
+        assertThat(requests.get()).isEqualTo(before + 12);
+        assertThat(Files.getLastModifiedTime(snapshot()).toInstant())
+                .isAfter(Instant.now().minus(Duration.ofMinutes(1)));
+    }
+
+    // 스텁 서버 요청 수가 200ms 동안 변하지 않을 때까지 대기
+    private int awaitQuiet() throws InterruptedException {
+        int last;
+        do {
+            last = requests.get();
+            Thread.sleep(200);
+        } while (requests.get() != last);
+        return last;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String query = exchange.getRequestURI().getQuery();
+        int month = Integer.parseInt(query.replaceAll(".*solMonth=(\\d+).*", "$1"));
+        Reply reply = replies.apply(month);
+        try {
+            Thread.sleep(reply.delayMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(reply.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Path snapshot() {
+        return snapshotDir.resolve("holidays-" + YEAR + ".json");
+    }
+
+    // 매달 10일이 공휴일인 응답
+    private static Reply ok(int month) {
+        return new Reply(200, 0, body("{\"item\":" + item(month) + "}", 1));
+    }
+
+    private static String item(int month) {
+        return String.format("{\"locdate\":%d%02d10,\"dateName\":\"휴일%d\",\"isHoliday\":\"Y\"}", YEAR, month, month);
+    }
+
+    private static String body(String items, int totalCount) {
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":" + items + ",\"numOfRows\":30,\"pageNo\":1,\"totalCount\":" + totalCount + "}}}";
+    }
+}
@@ -0,0 +1,125 @@
+package com.project.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.common.storage.FileStorageService;
+
+/**
+ * 이미지 변형 캐시 (user-005)
+ * - 같은 변형 동시 요청은 한 번만 생성
+ * - 원본 교체/삭제 시 변형 제거 (같은 내용의 다른 원본이 남아 있으면 유지), 참조 해제 삭제도 제거
+ */
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private Path bannerDir;
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bannerDir = Files.createDirectories(dir.resolve("banner"));
+        service = new ImageVariantService();
+        ReflectionTestUtils.setField(service, "imgBbsUploadDir", dir.resolve("imgBbs").toString());
+        ReflectionTestUtils.setField(service, "norBbsUploadDir", dir.resolve("norBbs").toString());
+        ReflectionTestUtils.setField(service, "quesBbsUploadDir", dir.resolve("quesBbs").toString());
+        ReflectionTestUtils.setField(service, "thumbnailUploadDir", dir.resolve("thumbnail").toString());
+        ReflectionTestUtils.setField(service, "bannerUploadDir", bannerDir.toString());
+        ReflectionTestUtils.setField(service, "cacheDirRaw", dir.resolve("cache").toString());
+        service.init();
+    }
+
+    @Test
+    void concurrentMissesGenerateOnce() throws Exception {
+        image("big.png", 2400, 1800);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ImageVariantService.Variant>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return service.getVariant("/DATA/banner/big.png", 640, null);
+                }));
+            }
+            start.countDown();
+            for (Future<ImageVariantService.Variant> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS).file()).exists();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(service.getStats().get("generated")).isEqualTo(1L);
+        assertThat(ImageIO.read(service.getVariant("/DATA/banner/big.png", 640, null).file().toFile()).getWidth())
+                .isEqualTo(640);
+        assertThat(service.getStats().get("generated")).isEqualTo(1L);
+    }
+
+    @Test
+    void evictRemovesVariantsOfReplacedSource() throws Exception {
+        Path source = image("a.png", 400, 300);
+        ImageVariantService.Variant before = service.getVariant("/DATA/banner/a.png", 320, null);
+
+        service.evict(source);
+        assertThat(before.file()).doesNotExist();
+        assertThat(service.getStats().get("digests")).isEqualTo(0);
+
+        // 같은 경로에 다른 내용 → 새 변형
+        image("a.png", 200, 100);
+        ImageVariantService.Variant after = service.getVariant("/DATA/banner/a.png", 320, null);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(ImageIO.read(after.file().toFile()).getWidth()).isEqualTo(200);
+    }
+
+    @Test
+    void evictKeepsVariantsSharedBySameContent() throws Exception {
+        Path first = image("first.png", 400, 300);
+        Files.copy(first, bannerDir.resolve("second.png"));
+        ImageVariantService.Variant shared = service.getVariant("/DATA/banner/first.png", 320, null);
+        assertThat(service.getVariant("/DATA/banner/second.png", 320, null).file()).isEqualTo(shared.file());
+
+        service.evict(first);
+        assertThat(shared.file()).exists();
+    }
+
+    @Test
+    void releasedBlobIsEvicted() throws Exception {
+        Path source = image("blob.png", 400, 300);
+        ImageVariantService.Variant variant = service.getVariant("/DATA/banner/blob.png", 320, null);
+
+        FileStorageService storage = new FileStorageService(service);
+        assertThat(storage.release(source, () -> 0)).isTrue();
+        assertThat(variant.file()).doesNotExist();
+        assertThat(service.getStats().get("evicted")).isEqualTo(1L);
+    }
+
+    private Path image(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(width / 2, height / 2, 0xFF0000);
+        Path path = bannerDir.resolve(name);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.common.exception.LoginThrottledException;
+import com.project.common.util.ClientIpResolver;
+
+/**
+ * 로그인 시도 제한 (user-025)
+ * - 계정 버킷은 (계정, IP) 단위 → 다른 IP 에서 남의 ID 로 틀려도 본인 IP 는 막히지 않음
+ * - 여러 IP 로 나눠 찌르면 계정 전체 버킷이 막음, 로그인 성공은 (계정, IP) 버킷만 초기화
+ */
+class LoginRateLimiterTest {
+
+    private final ClientIpResolver clientIpResolver = mock(ClientIpResolver.class);
+    private final LoginRateLimiter limiter = new LoginRateLimiter(clientIpResolver);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "ipCapacity", 20);
+        ReflectionTestUtils.setField(limiter, "ipRefillMs", 3_000L);
+        ReflectionTestUtils.setField(limiter, "accountCapacity", 5);
+        ReflectionTestUtils.setField(limiter, "accountRefillMs", 30_000L);
+        ReflectionTestUtils.setField(limiter, "accountGlobalCapacity", 12);
+        ReflectionTestUtils.setField(limiter, "accountGlobalRefillMs", 60_000L);
+    }
+
+    @Test
+    void accountBucketIsPerIp() {
+        attempt("10.0.0.9", "victim", 5);
+        assertThatThrownBy(() -> acquire("10.0.0.9", "victim")).isInstanceOf(LoginThrottledException.class);
+
+        // 공격자 IP 의 실패가 본인 IP 의 시도를 막지 않음
+        acquire("10.0.0.1", "Victim");
+        assertThat(limiter.stats().rejectedByAccount()).isEqualTo(1);
+        assertThat(limiter.stats().trackedAccounts()).isEqualTo(2);
+        assertThat(limiter.stats().trackedAccountGlobals()).isEqualTo(1);
+    }
+
+    @Test
+    void globalBucketStopsSpreadAcrossIps() {
+        // IP 마다 (계정, IP) 한도 안에서만 시도해도 계정 전체로는 12번까지
+        attempt("10.0.0.1", "victim", 5);
+        attempt("10.0.0.2", "victim", 5);
+        attempt("10.0.0.3", "victim", 2);
+
+        assertThatThrownBy(() -> acquire("10.0.0.4", "victim")).isInstanceOf(LoginThrottledException.class);
+        assertThat(limiter.stats().rejectedByAccountGlobal()).isEqualTo(1);
+        acquire("10.0.0.4", "other");
+    }
+
+    @Test
+    void rejectedPerIpAttemptsDoNotDrainGlobalBucket() {
+        attempt("10.0.0.9", "victim", 5);
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> acquire("10.0.0.9", "victim")).isInstanceOf(LoginThrottledException.class);
+        }
+
+        attempt("10.0.0.1", "victim", 5);
+        assertThat(limiter.stats().rejectedByAccountGlobal()).isZero();
+    }
+
+    @Test
+    void resetClearsOnlyCurrentIpBucket() {
+        attempt("10.0.0.1", "victim", 5);
+        attempt("10.0.0.2", "victim", 5);
+
+        when(clientIpResolver.current()).thenReturn("10.0.0.1");
+        limiter.reset("victim");
+
+        acquire("10.0.0.1", "victim");
+        assertThatThrownBy(() -> acquire("10.0.0.2", "victim")).isInstanceOf(LoginThrottledException.class);
+    }
+
+    private void attempt(String ip, String accountId, int times) {
+        for (int i = 0; i < times; i++) {
+            acquire(ip, accountId);
+        }
+    }
+
+    private void acquire(String ip, String accountId) {
+        when(clientIpResolver.current()).thenReturn(ip);
+        limiter.acquire(accountId);
+    }
+}
@@ -0,0 +1,143 @@
+package com.project.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.common.dto.TimeSlotDto;
+import com.project.common.entity.TimeType;
+import com.project.common.repository.TimeSlotRepository;
+
+/**
+ * 시간대 카탈로그 (user-014)
+ * - 추가/수정/삭제가 커밋되면 find / findBookable / byType 에 반영, 롤백되면 다시 읽지 않음
+ * - 다시 읽기에 실패하면 이전 스냅샷 유지 → 재시도에서 반영
+ * - 커밋을 실제로 일으키기 위해 테스트 트랜잭션 없이 실행하고 끝나면 시간대 삭제
+ */
+@DataJpaTest(showSql = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TimeSlotCatalogTest {
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private TimeSlotCatalog catalog;
+    private TimeSlotServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        catalog = new TimeSlotCatalog(timeSlotRepository, transactionManager);
+        service = new TimeSlotServiceImpl(timeSlotRepository, null, catalog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM time_slot");
+    }
+
+    @Test
+    void addUpdateDeleteAreVisibleAfterCommit() {
+        assertThat(catalog.byType(TimeType.LAND)).isEmpty();
+
+        tx.executeWithoutResult(s -> service.addTimeSlot(dto(9, 11, 10, true, TimeType.LAND)));
+        tx.executeWithoutResult(s -> service.addTimeSlot(dto(7, 8, 5, true, TimeType.LAND)));
+        tx.executeWithoutResult(s -> service.addTimeSlot(dto(13, 15, 4, true, TimeType.VOL)));
+
+        assertThat(catalog.byType(TimeType.LAND)).extracting(TimeSlotCatalog.Slot::label)
+                .containsExactly("07:00 ~ 08:00", "09:00 ~ 11:00");
+        Long landId = catalog.byType(TimeType.LAND).get(1).id();
+        Long volId = catalog.byType(TimeType.VOL).get(0).id();
+        assertThat(catalog.find(landId)).get().extracting(TimeSlotCatalog.Slot::capacity).isEqualTo(10);
+        assertThat(catalog.findBookable(landId, TimeType.LAND)).isPresent();
+        assertThat(catalog.findBookable(landId, TimeType.VOL)).isEmpty();
+
+        // 비활성 + 정원 변경
+        tx.executeWithoutResult(s -> service.updateTimeSlot(landId, dto(9, 12, 20, false, TimeType.LAND)));
+        assertThat(catalog.find(landId)).get().satisfies(slot -> {
+            assertThat(slot.capacity()).isEqualTo(20);
+            assertThat(slot.label()).isEqualTo("09:00 ~ 12:00");
+        });
+        assertThat(catalog.findBookable(landId, TimeType.LAND)).isEmpty();
+
+        tx.executeWithoutResult(s -> service.deleteTimeSlot(volId));
+        assertThat(catalog.find(volId)).isEmpty();
+        assertThat(catalog.byType(TimeType.VOL)).isEmpty();
+        assertThat(catalog.version()).isEqualTo(6);
+    }
+
+    @Test
+    void rollbackDoesNotRefresh() {
+        tx.executeWithoutResult(s -> service.addTimeSlot(dto(9, 11, 10, true, TimeType.LAND)));
+        Long id = catalog.byType(TimeType.LAND).get(0).id();
+        long version = catalog.version();
+
+        tx.executeWithoutResult(s -> {
+            service.updateTimeSlot(id, dto(9, 11, 3, true, TimeType.LAND));
+            s.setRollbackOnly();
+        });
+        tx.executeWithoutResult(s -> {
+            service.addTimeSlot(dto(13, 15, 4, true, TimeType.LAND));
+            s.setRollbackOnly();
+        });
+
+        assertThat(catalog.version()).isEqualTo(version);
+        assertThat(catalog.get(id).capacity()).isEqualTo(10);
+        assertThat(catalog.byType(TimeType.LAND)).hasSize(1);
+    }
+
+    @Test
+    void failedReloadKeepsSnapshotAndIsRetried() {
+        TimeSlotRepository flaky = mock(TimeSlotRepository.class);
+        when(flaky.findAll())
+                .thenAnswer(inv -> timeSlotRepository.findAll())
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenAnswer(inv -> timeSlotRepository.findAll());
+        TimeSlotCatalog flakyCatalog = new TimeSlotCatalog(flaky, transactionManager);
+        assertThat(flakyCatalog.all()).isEmpty();
+
+        tx.executeWithoutResult(s -> {
+            timeSlotRepository.save(dto(9, 11, 10, true, TimeType.LAND).toEntity());
+            flakyCatalog.refreshAfterCommit();
+        });
+
+        // 커밋 후 다시 읽기 실패 → 예외 없이 이전 스냅샷 유지
+        assertThat(flakyCatalog.isStale()).isTrue();
+        assertThat(flakyCatalog.all()).isEmpty();
+
+        flakyCatalog.retryIfStale();
+        assertThat(flakyCatalog.isStale()).isFalse();
+        assertThat(flakyCatalog.byType(TimeType.LAND)).hasSize(1);
+    }
+
+    private static TimeSlotDto dto(int startHour, int endHour, int capacity, boolean enabled, TimeType timeType) {
+        return TimeSlotDto.builder()
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .capacity(capacity)
+                .enabled(enabled)
+                .timeType(timeType)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.project.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.project.common.dto.TimeSlotDto;
+import com.project.common.entity.TimeSlot;
+import com.project.common.entity.TimeType;
+import com.project.land.entity.Land;
+import com.project.land.entity.LandType;
+import com.project.member.entity.MemberEntity;
+import com.project.reserve.entity.Reserve;
+import com.project.reserve.entity.ReserveState;
+import com.project.reserve.repository.ReserveRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 시간대 목록 조회 (user-015)
+ * - 사용자 목록은 카탈로그만 사용 (SQL 0개)
+ * - 관리자 목록의 예약 존재 여부는 시간대 수와 무관하게 SQL 1개
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+class TimeSlotQueryCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReserveRepository reserveRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final TimeSlotCatalog timeSlotCatalog = mock(TimeSlotCatalog.class);
+    private TimeSlotServiceImpl timeSlotService;
+    private Statistics statistics;
+    private MemberEntity member;
+    private int slotSeq;
+
+    @BeforeEach
+    void setUp() {
+        // 시간대 목록은 카탈로그(모킹), 예약 존재 여부만 ReserveRepository 로 조회
+        timeSlotService = new TimeSlotServiceImpl(null, reserveRepository, timeSlotCatalog);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        member = new MemberEntity();
+        member.setMemberId("slot@test.com");
+        member.setMemberName("tester");
+        em.persist(member);
+    }
+
+    @Test
+    void adminListRunsOneStatementRegardlessOfSlotCount() {
+        List<TimeSlot> few = createSlots(3);
+        reserve(few.get(1), LocalDate.now().plusDays(3), ReserveState.ING);
+        catalogReturns(few);
+        long fewCount = countStatements(few.size());
+
+        List<TimeSlot> many = createSlots(12);
+        reserve(many.get(4), LocalDate.now().plusDays(5), ReserveState.DONE);
+        catalogReturns(many);
+        long manyCount = countStatements(many.size());
+
+        assertThat(fewCount).isEqualTo(1);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    @Test
+    void adminListMarksOnlySlotsWithFutureActiveReservations() {
+        List<TimeSlot> slots = createSlots(4);
+        reserve(slots.get(0), LocalDate.now().plusDays(1), ReserveState.ING);
+        reserve(slots.get(1), LocalDate.now().plusDays(1), ReserveState.CANCEL);
+        reserve(slots.get(2), LocalDate.now().minusDays(1), ReserveState.DONE);
+        catalogReturns(slots);
+        em.flush();
+        em.clear();
+
+        List<TimeSlotDto> result = timeSlotService.getTimeSlotsWithReserveState(TimeType.LAND);
+
+        assertThat(result).extracting(TimeSlotDto::isHasFutureReserve).containsExactly(true, false, false, false);
+    }
+
+    @Test
+    void publicListRunsNoStatement() {
+        List<TimeSlot> slots = createSlots(5);
+        reserve(slots.get(0), LocalDate.now().plusDays(2), ReserveState.ING);
+        catalogReturns(slots);
+        em.flush();
+        em.clear();
+
+        statistics.clear();
+        List<TimeSlotDto> result = timeSlotService.getTimeSlotsByType(TimeType.LAND);
+
+        assertThat(result).hasSize(5).noneMatch(TimeSlotDto::isHasFutureReserve);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private long countStatements(int expectedSize) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        assertThat(timeSlotService.getTimeSlotsWithReserveState(TimeType.LAND)).hasSize(expectedSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void catalogReturns(List<TimeSlot> slots) {
+        when(timeSlotCatalog.byType(TimeType.LAND)).thenReturn(slots.stream()
+                .map(s -> new TimeSlotCatalog.Slot(s.getId(), s.getLabel(), s.getStartTime(), s.getEndTime(),
+                        s.getCapacity(), s.isEnabled(), s.getTimeType()))
+                .toList());
+    }
+
+    private List<TimeSlot> createSlots(int count) {
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.of(0, 0).plusMinutes(10L * slotSeq++);
+            TimeSlot slot = TimeSlot.builder()
+                    .startTime(start)
+                    .endTime(start.plusMinutes(5))
+                    .capacity(10)
+                    .enabled(true)
+                    .timeType(TimeType.LAND)
+                    .build();
+            em.persist(slot);
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    private void reserve(TimeSlot slot, LocalDate date, ReserveState state) {
+        Reserve reserve = Reserve.builder()
+                .member(member)
+                .reserveType(1)
+                .reserveNumber(1)
+                .reserveState(state)
+                .applyDate(LocalDateTime.now())
+                .build();
+        em.persist(reserve);
+        em.persist(Land.builder()
+                .reserve(reserve)
+                .landDate(date)
+                .timeSlot(slot)
+                .landType(LandType.SMALL)
+                .animalNumber(1)
+                .build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 첨부파일 다운로드 (user-008)
+ * - 부분 요청 (a-b / 접미 -n), 범위 밖 416, If-Range 불일치 시 전체 전송, If-None-Match 일치 시 304
+ */
+class FileDownloadHandlerTest {
+
+    private static final String BODY = "0123456789".repeat(10);
+
+    @TempDir
+    Path dir;
+
+    private MockMvc mockMvc;
+
+    @RestController
+    static class DownloadController {
+        private final Path dir;
+        private final FileDownloadHandler handler;
+
+        DownloadController(Path dir, FileDownloadHandler handler) {
+            this.dir = dir;
+            this.handler = handler;
+        }
+
+        @GetMapping("/files/{name}")
+        public void download(@PathVariable String name, HttpServletRequest request, HttpServletResponse response)
+                throws IOException {
+            handler.serve(dir.resolve(name), "첨부 " + name, MediaType.TEXT_PLAIN, true, request, response);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(dir.resolve("a.txt"), BODY);
+        FileDownloadHandler handler = new FileDownloadHandler();
+        ReflectionTestUtils.setField(handler, "sendfileMinSize", 49152L);
+        mockMvc = MockMvcBuilders.standaloneSetup(new DownloadController(dir, handler)).build();
+    }
+
+    @Test
+    void fullDownload() throws Exception {
+        mockMvc.perform(get("/files/a.txt"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().bytes(BODY.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void partialRange() throws Exception {
+        mockMvc.perform(get("/files/a.txt").header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().string(BODY.substring(10, 20)));
+    }
+
+    @Test
+    void suffixRange() throws Exception {
+        mockMvc.perform(get("/files/a.txt").header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andExpect(content().string(BODY.substring(95)));
+    }
+
+    @Test
+    void unsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/files/a.txt").header(HttpHeaders.RANGE, "bytes=200-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void ifRangeMismatchSendsWholeFile() throws Exception {
+        String etag = etag();
+        mockMvc.perform(get("/files/a.txt").header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(BODY));
+
+        // 일치하면 부분 전송
+        mockMvc.perform(get("/files/a.txt").header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string(BODY.substring(10, 20)));
+    }
+
+    @Test
+    void ifNoneMatchReturnsNotModified() throws Exception {
+        String etag = etag();
+        byte[] body = mockMvc.perform(get("/files/a.txt").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEmpty();
+    }
+
+    private String etag() throws Exception {
+        return mockMvc.perform(get("/files/a.txt")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
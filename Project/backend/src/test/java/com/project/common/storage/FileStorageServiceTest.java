@@ -0,0 +1,103 @@
+package com.project.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 내용 주소 저장 파일의 참조 획득/해제 (user-007)
+ */
+class FileStorageServiceTest {
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 1, 2, 3, 4};
+
+    @TempDir
+    Path dir;
+
+    private final FileStorageService storage = new FileStorageService();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sameContentSharesOneFile() {
+        FileStorageService.StoredFile first = store();
+        FileStorageService.StoredFile second = store();
+
+        assertThat(second.savedName()).isEqualTo(first.savedName());
+        assertThat(Files.exists(first.path())).isTrue();
+    }
+
+    @Test
+    void uncommittedReferenceBlocksRelease() {
+        Path existing = store().path();
+
+        // 다른 트랜잭션이 같은 내용을 업로드 중 (아직 커밋 전)
+        TransactionSynchronizationManager.initSynchronization();
+        store();
+
+        // 커밋된 참조가 0 이어도 진행 중인 획득이 있으면 삭제하지 않음
+        assertThat(storage.release(existing, () -> 0)).isFalse();
+        assertThat(Files.exists(existing)).isTrue();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // 커밋 이후에는 DB 참조 수로 판단 (새 행이 있으면 유지)
+        assertThat(storage.release(existing, () -> 1)).isFalse();
+        assertThat(Files.exists(existing)).isTrue();
+    }
+
+    @Test
+    void acquireWhileCountingBlocksRelease() {
+        Path existing = store().path();
+
+        // 참조 수를 세는 사이에 새 참조가 획득된 경우
+        boolean deleted = storage.release(existing, () -> {
+            storage.acquire(existing);
+            return 0;
+        });
+
+        assertThat(deleted).isFalse();
+        assertThat(Files.exists(existing)).isTrue();
+    }
+
+    @Test
+    void rolledBackUploadCanBeReleased() {
+        TransactionSynchronizationManager.initSynchronization();
+        Path stored = store().path();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(storage.release(stored, () -> 0)).isTrue();
+        assertThat(Files.exists(stored)).isFalse();
+    }
+
+    @Test
+    void acquireReportsMissingFile() {
+        assertThat(storage.acquire(dir.resolve("missing.jpg"))).isFalse();
+        assertThat(storage.acquire(store().path())).isTrue();
+    }
+
+    private FileStorageService.StoredFile store() {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", JPEG);
+        return storage.storeContentAddressed(file, dir, "jpg", 1024, List.of("image/jpeg"));
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}
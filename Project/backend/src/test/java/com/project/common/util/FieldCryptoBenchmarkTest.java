@@ -0,0 +1,71 @@
+package com.project.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 개인정보 필드 암복호화 벤치마크 (user-023) - 기존 Jasypt(PBEWithMD5AndDES) vs FieldCrypto(AES-256-GCM)
+ * - 기본 빌드에서는 제외: mvn test -DexcludedGroups= -Dgroups=benchmark -Dtest=FieldCryptoBenchmarkTest
+ * - 건당 암호화/복호화 + 목록 화면처럼 중복이 섞인 1,000건 일괄 복호화(decryptAll)
+ * - JMH 없이 JUnit 반복 측정 (워밍업 후 평균) → 절대 수치보다 경로 간 비율을 볼 것
+ */
+@Tag("benchmark")
+class FieldCryptoBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+    private static final int LIST_SIZE = 1_000;
+    private static final int DISTINCT_PHONES = 700;
+
+    @Test
+    void compareJasyptAndFieldCrypto() {
+        FieldCrypto crypto = FieldCryptoTest.fieldCrypto(FieldCryptoTest.FIELD_KEY);
+        String phone = "010-1234-5678";
+        String jasypt = JasyptUtil.encrypt(phone);
+        String gcm = crypto.encrypt(phone);
+        assertThat(crypto.decrypt(jasypt)).isEqualTo(phone);
+        assertThat(crypto.decrypt(gcm)).isEqualTo(phone);
+
+        // 목록 1,000건 (같은 회원이 여러 번 나오는 목록처럼 저장값 700개가 반복됨)
+        List<String> distinct = new ArrayList<>(DISTINCT_PHONES);
+        for (int i = 0; i < DISTINCT_PHONES; i++) {
+            distinct.add(crypto.encrypt(String.format("010-%04d-%04d", i, i)));
+        }
+        List<String> stored = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            stored.add(distinct.get(i % DISTINCT_PHONES));
+        }
+        Map<String, String> all = crypto.decryptAll(stored);
+        assertThat(all).hasSize(DISTINCT_PHONES);
+
+        System.out.printf("%-24s %12s%n", "operation", "avg(us)");
+        print("jasypt encrypt", measure(() -> JasyptUtil.encrypt(phone), ITERATIONS));
+        print("jasypt decrypt", measure(() -> JasyptUtil.decrypt(jasypt), ITERATIONS));
+        double gcmEncrypt = measure(() -> crypto.encrypt(phone), ITERATIONS);
+        double gcmDecrypt = measure(() -> crypto.decrypt(gcm), ITERATIONS);
+        print("field-crypto encrypt", gcmEncrypt);
+        print("field-crypto decrypt", gcmDecrypt);
+        print("decrypt loop x1000", measure(() -> stored.stream().map(crypto::decrypt).toList(), 200));
+        print("decryptAll x1000", measure(() -> crypto.decryptAll(stored), 200));
+
+        assertThat(gcmDecrypt).isLessThan(measure(() -> JasyptUtil.decrypt(jasypt), ITERATIONS));
+    }
+
+    private static void print(String operation, double micros) {
+        System.out.printf("%-24s %12.2f%n", operation, micros);
+    }
+
+    private static double measure(Supplier<?> call, int iterations) {
+        for (int i = 0; i < Math.min(WARMUP, iterations); i++) call.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) call.get();
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 개인정보 필드 암호화 (user-023)
+ * - 전용 키가 없거나 Jasypt 비밀번호 / 휴대폰 인덱스 키와 같으면 기동 시 실패
+ * - "v1:" 왕복, 위변조 거부, 기존 Jasypt 값은 migrate 로 "v1:" 변환
+ */
+class FieldCryptoTest {
+
+    static final String JASYPT = "test-jasypt-key";
+    static final String PHONE_KEY = "test-phone-index-key";
+    static final String FIELD_KEY = "test-field-crypto-key";
+
+    @Test
+    void missingOrSharedKeyFailsFast() {
+        assertThatThrownBy(() -> fieldCrypto(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> fieldCrypto("")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> fieldCrypto(JASYPT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JASYPT_ENCRYPTOR_PASSWORD");
+        assertThatThrownBy(() -> fieldCrypto(PHONE_KEY))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("phone.blind-index.key");
+    }
+
+    @Test
+    void roundTripAndTamperDetection() {
+        FieldCrypto crypto = fieldCrypto(FIELD_KEY);
+        String stored = crypto.encrypt("010-1234-5678");
+
+        assertThat(stored).startsWith("v1:").isNotEqualTo(crypto.encrypt("010-1234-5678"));
+        assertThat(crypto.isCurrent(stored)).isTrue();
+        assertThat(crypto.decrypt(stored)).isEqualTo("010-1234-5678");
+
+        // 마지막 Base64 문자는 버려지는 비트를 담을 수 있으므로 디코딩한 인증태그 바이트를 직접 변조
+        byte[] raw = Base64.getUrlDecoder().decode(stored.substring("v1:".length()));
+        raw[raw.length - 1] ^= 0x01;
+        String tampered = "v1:" + Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        assertThatThrownBy(() -> crypto.decrypt(tampered)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> fieldCrypto("another-field-crypto-key").decrypt(stored))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void legacyJasyptValuesAreMigrated() {
+        FieldCrypto crypto = fieldCrypto(FIELD_KEY);
+        String legacy = JasyptUtil.encrypt("010-9876-5432");
+
+        assertThat(crypto.isCurrent(legacy)).isFalse();
+        assertThat(crypto.decrypt(legacy)).isEqualTo("010-9876-5432");
+        assertThat(crypto.decrypt("ENC(" + legacy + ")")).isEqualTo("010-9876-5432");
+
+        String migrated = crypto.migrate(legacy);
+        assertThat(migrated).startsWith("v1:");
+        assertThat(crypto.decrypt(migrated)).isEqualTo("010-9876-5432");
+        assertThat(crypto.migrate(migrated)).isSameAs(migrated);
+    }
+
+    static FieldCrypto fieldCrypto(String key) {
+        FieldCrypto crypto = new FieldCrypto();
+        ReflectionTestUtils.setField(crypto, "secretKey", key);
+        ReflectionTestUtils.setField(crypto, "salt", "teamproject-field-v1");
+        ReflectionTestUtils.setField(crypto, "jasyptPassword", JASYPT);
+        ReflectionTestUtils.setField(crypto, "blindIndexKey", PHONE_KEY);
+        crypto.init();
+        return crypto;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 휴대폰 번호 블라인드 인덱스 (user-022)
+ * - 전용 키가 없거나 Jasypt 비밀번호와 같으면 기동 시 실패
+ * - 표기가 달라도 같은 번호면 같은 인덱스, 키가 다르면 다른 인덱스
+ */
+class PhoneBlindIndexTest {
+
+    private static final String JASYPT = "test-jasypt-key";
+
+    @Test
+    void missingOrSharedKeyFailsFast() {
+        assertThatThrownBy(() -> blindIndex(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> blindIndex(" ")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> blindIndex(JASYPT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JASYPT_ENCRYPTOR_PASSWORD");
+    }
+
+    @Test
+    void sameNumberSameIndexPerKey() {
+        PhoneBlindIndex index = blindIndex("test-phone-index-key");
+
+        assertThat(index.index("010-1234-5678"))
+                .isEqualTo(index.index("01012345678"))
+                .isEqualTo(index.index("+82 10-1234-5678"))
+                .isNotEqualTo(blindIndex("another-phone-index-key").index("01012345678"));
+        assertThat(index.index(" - ")).isNull();
+    }
+
+    static PhoneBlindIndex blindIndex(String key) {
+        PhoneBlindIndex index = new PhoneBlindIndex();
+        ReflectionTestUtils.setField(index, "secretKey", key);
+        ReflectionTestUtils.setField(index, "jasyptPassword", JASYPT);
+        index.init();
+        return index;
+    }
+}
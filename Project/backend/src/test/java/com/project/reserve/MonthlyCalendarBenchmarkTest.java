@@ -0,0 +1,249 @@
+package com.project.reserve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.land.dto.LandCountDto;
+import com.project.land.entity.LandType;
+import com.project.land.repository.LandRepository;
+import com.project.reserve.entity.ReserveState;
+import com.project.volunteer.dto.VolunteerCountDto;
+import com.project.volunteer.repository.VolunteerRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 월별 예약 달력 집계 벤치마크 (user-011) - 1년치 놀이터/봉사 예약, 날짜별 반복 조회 vs 기간 한 번 집계
+ * - 기본 빌드에서는 제외: mvn test -DexcludedGroups= -Dgroups=benchmark -Dtest=MonthlyCalendarBenchmarkTest
+ * - DB 는 H2(MySQL 모드) → 절대 수치는 MariaDB 와 다르지만 두 경로 모두 같은 DB 에서 비교
+ * - 두 경로의 (날짜, 시간대, 견종)별 예약 수가 같은지, 실행된 SQL 문 수도 함께 확인
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MonthlyCalendarBenchmarkTest {
+
+    private static final int RESERVES = 40_000;
+    private static final int LAND_SLOTS = 6;
+    private static final int VOL_SLOTS = 2;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final YearMonth TARGET = YearMonth.of(2025, 6);
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String LAND_COUNT_PER_DAY = """
+            SELECT new com.project.land.dto.LandCountDto(
+                ts.id, ts.label, l.landType,
+                COALESCE(SUM(
+                    CASE WHEN r.reserveState IN (
+                        com.project.reserve.entity.ReserveState.ING,
+                        com.project.reserve.entity.ReserveState.DONE
+                    )
+                    THEN l.animalNumber ELSE 0 END
+                ), 0),
+                ts.capacity, :date
+            )
+            FROM TimeSlot ts
+            LEFT JOIN Land l ON ts.id = l.timeSlot.id AND l.landDate = :date AND l.landType = :landType
+            LEFT JOIN Reserve r ON l.reserve.reserveCode = r.reserveCode
+            WHERE ts.timeType = com.project.common.entity.TimeType.LAND
+            GROUP BY ts.id, ts.label, ts.capacity, l.landType
+            ORDER BY ts.startTime ASC
+            """;
+
+    @Autowired
+    private LandRepository landRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void comparePerDayAndMonthlyAggregate() {
+        insertReservations();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDate start = TARGET.atDay(1);
+        LocalDate end = TARGET.atEndOfMonth();
+
+        // 놀이터: 하루에 소형견/대형견 두 번씩 vs 한 달 한 번
+        Supplier<Map<String, Integer>> landPerDay = () -> {
+            Map<String, Integer> counts = new HashMap<>();
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                for (LandType type : List.of(LandType.SMALL, LandType.LARGE)) {
+                    for (LandCountDto dto : landCountInfo(date, type)) {
+                        putIfReserved(counts, date + "|" + dto.getTimeSlotId() + "|" + type, dto.getReservedCount());
+                    }
+                }
+            }
+            return counts;
+        };
+        Supplier<Map<String, Integer>> landMonthly = () -> {
+            Map<String, Integer> counts = new HashMap<>();
+            for (LandCountDto dto : landRepository.getLandCountInfoBetween(start, end)) {
+                putIfReserved(counts, dto.getLandDate() + "|" + dto.getTimeSlotId() + "|" + dto.getLandType(),
+                        dto.getReservedCount());
+            }
+            return counts;
+        };
+
+        // 봉사: 주말마다 한 번씩 vs 한 달 한 번
+        Supplier<Map<String, Integer>> volPerDay = () -> {
+            Map<String, Integer> counts = new HashMap<>();
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (!isWeekend(date)) continue;
+                for (VolunteerCountDto dto : volunteerRepository.getVolunteerCountInfo(date)) {
+                    putIfReserved(counts, date + "|" + dto.getTimeSlotId(), dto.getReservedCount());
+                }
+            }
+            return counts;
+        };
+        Supplier<Map<String, Integer>> volMonthly = () -> {
+            Map<String, Integer> counts = new HashMap<>();
+            for (VolunteerCountDto dto : volunteerRepository.getVolunteerCountInfoBetween(start, end)) {
+                if (isWeekend(dto.getVolDate())) {
+                    putIfReserved(counts, dto.getVolDate() + "|" + dto.getTimeSlotId(), dto.getReservedCount());
+                }
+            }
+            return counts;
+        };
+
+        System.out.printf("%-10s %-10s %10s %12s %8s%n", "calendar", "path", "statements", "avg(ms)", "cells");
+        compare("land", landPerDay, landMonthly, statistics);
+        compare("volunteer", volPerDay, volMonthly, statistics);
+    }
+
+    // LandRepository.getLandCountInfo 와 같은 JPQL (H2 는 SELECT 절의 enum 파라미터 CAST 를 못 하므로 l.landType 으로 대체)
+    private List<LandCountDto> landCountInfo(LocalDate date, LandType landType) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            return em.createQuery(LAND_COUNT_PER_DAY, LandCountDto.class)
+                    .setParameter("date", date)
+                    .setParameter("landType", landType)
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void compare(String calendar, Supplier<Map<String, Integer>> perDay,
+                         Supplier<Map<String, Integer>> monthly, Statistics statistics) {
+        statistics.clear();
+        Map<String, Integer> expected = perDay.get();
+        long perDayStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Map<String, Integer> actual = monthly.get();
+        long monthlyStatements = statistics.getPrepareStatementCount();
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).isEqualTo(expected);
+        assertThat(monthlyStatements).isEqualTo(1);
+
+        System.out.printf("%-10s %-10s %10d %12.2f %8d%n", calendar, "per-day", perDayStatements, measure(perDay), expected.size());
+        System.out.printf("%-10s %-10s %10d %12.2f %8d%n", calendar, "monthly", monthlyStatements, measure(monthly), actual.size());
+    }
+
+    private static void putIfReserved(Map<String, Integer> counts, String key, int reserved) {
+        if (reserved > 0) counts.put(key, reserved);
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    private static double measure(Supplier<?> call) {
+        for (int i = 0; i < WARMUP; i++) call.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) call.get();
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    // 시간대 + 회원 1명 + 예약 RESERVES 건 (놀이터 3 : 봉사 1, 상태는 ING/DONE/CANCEL/REJ 섞어서)
+    private void insertReservations() {
+        List<Long> landSlots = insertSlots("LAND", LAND_SLOTS, 30);
+        List<Long> volSlots = insertSlots("VOL", VOL_SLOTS, 10);
+        jdbcTemplate.update("INSERT INTO member (member_id, member_name, sns_yn) VALUES ('bench@test', 'bench', false)");
+        Long memberNum = jdbcTemplate.queryForObject("SELECT MAX(member_num) FROM member", Long.class);
+
+        Random random = new Random(42);
+        ReserveState[] states = ReserveState.values();
+        List<Object[]> reserves = new ArrayList<>(1000);
+        List<Object[]> lands = new ArrayList<>(1000);
+        List<Object[]> volunteers = new ArrayList<>(1000);
+        for (long code = 1; code <= RESERVES; code++) {
+            LocalDate date = FIRST_DAY.plusDays(random.nextInt(365));
+            boolean land = code % 4 != 0;
+            int number = 1 + random.nextInt(3);
+            reserves.add(new Object[]{code, Timestamp.valueOf(LocalDateTime.of(date.minusDays(3), LocalTime.NOON)),
+                    land ? 1 : 2, states[random.nextInt(states.length)].name(), number, memberNum});
+            if (land) {
+                lands.add(new Object[]{code, Date.valueOf(date), landSlots.get(random.nextInt(landSlots.size())),
+                        random.nextBoolean() ? LandType.SMALL.name() : LandType.LARGE.name(), number, number * 2000});
+            } else {
+                volunteers.add(new Object[]{code, Date.valueOf(date), volSlots.get(random.nextInt(volSlots.size()))});
+            }
+            if (reserves.size() == 1000) {
+                flush(reserves, lands, volunteers);
+            }
+        }
+        flush(reserves, lands, volunteers);
+    }
+
+    private List<Long> insertSlots(String timeType, int count, int capacity) {
+        for (int i = 0; i < count; i++) {
+            LocalTime from = LocalTime.of(9 + i, 0);
+            jdbcTemplate.update("INSERT INTO time_slot (label, start_time, end_time, capacity, enabled, time_type) "
+                    + "VALUES (?, ?, ?, ?, true, ?)", from + " ~ " + from.plusHours(1),
+                    Time.valueOf(from), Time.valueOf(from.plusHours(1)), capacity, timeType);
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM time_slot WHERE time_type = ? ORDER BY id", Long.class, timeType);
+    }
+
+    private void flush(List<Object[]> reserves, List<Object[]> lands, List<Object[]> volunteers) {
+        jdbcTemplate.batchUpdate("INSERT INTO reserve (reserve_code, apply_date, reserve_type, reserve_state, "
+                + "reserve_number, member_num) VALUES (?, ?, ?, ?, ?, ?)", reserves);
+        if (!lands.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO land (reserve_code, land_date, time_slot_id, land_type, "
+                    + "animal_number, pay_number) VALUES (?, ?, ?, ?, ?, ?)", lands);
+        }
+        if (!volunteers.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO volunteer (reserve_code, vol_date, time_slot_id) VALUES (?, ?, ?)",
+                    volunteers);
+        }
+        reserves.clear();
+        lands.clear();
+        volunteers.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.reserve.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.project.reserve.dto.AdminReservationSearchDto;
+import com.project.reserve.entity.ReserveState;
+import com.project.reserve.service.ReserveService;
+
+/**
+ * 관리자 예약 목록 페이지 API (user-018)
+ * - 검색조건은 AdminReservationSearchDto 하나로, 페이지는 Pageable 로 바인딩
+ * - 경로별 예약 유형(전체/놀이터/봉사) 전달, 페이지 크기는 100 까지
+ */
+class AdminReserveControllerTest {
+
+    private final ReserveService reserveService = mock(ReserveService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        when(reserveService.getReservationsPageForAdmin(any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+        mockMvc = MockMvcBuilders.standaloneSetup(new AdminReserveController(reserveService))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void bindsSearchConditionsAndPage() throws Exception {
+        mockMvc.perform(get("/admin/reserve/land/page")
+                        .param("reserveCode", "42")
+                        .param("memberName", "홍길동")
+                        .param("reserveState", "ING")
+                        .param("startDate", "2025-03-01")
+                        .param("endDate", "2025-03-31")
+                        .param("page", "2")
+                        .param("size", "30"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<AdminReservationSearchDto> cond = ArgumentCaptor.forClass(AdminReservationSearchDto.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(reserveService).getReservationsPageForAdmin(eq(1), cond.capture(), page.capture());
+        assertThat(cond.getValue().getReserveCode()).isEqualTo(42L);
+        assertThat(cond.getValue().getMemberName()).isEqualTo("홍길동");
+        assertThat(cond.getValue().getReserveState()).isEqualTo(ReserveState.ING);
+        assertThat(cond.getValue().getStartDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(cond.getValue().getEndDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(page.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(page.getValue().getPageSize()).isEqualTo(30);
+    }
+
+    @Test
+    void passesReserveTypeAndCapsPageSize() throws Exception {
+        mockMvc.perform(get("/admin/reserve/page").param("size", "500")).andExpect(status().isOk());
+        mockMvc.perform(get("/admin/reserve/volunteer/page")).andExpect(status().isOk());
+
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(reserveService).getReservationsPageForAdmin(isNull(), any(), page.capture());
+        assertThat(page.getValue().getPageSize()).isEqualTo(100);
+
+        verify(reserveService).getReservationsPageForAdmin(eq(2), any(), page.capture());
+        assertThat(page.getValue().getPageNumber()).isZero();
+        assertThat(page.getValue().getPageSize()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,181 @@
+package com.project.reserve.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.common.entity.TimeSlot;
+import com.project.common.entity.TimeType;
+import com.project.land.entity.Land;
+import com.project.land.entity.LandType;
+import com.project.member.entity.MemberEntity;
+import com.project.reserve.dto.AdminReservationListDto;
+import com.project.reserve.dto.AdminReservationSearchDto;
+import com.project.reserve.entity.Reserve;
+import com.project.reserve.entity.ReserveState;
+import com.project.volunteer.entity.Volunteer;
+
+/**
+ * 관리자 예약 검색 (user-019)
+ * - 입력된 조건 조합별 결과 / count
+ * - 검색이 기대는 복합 인덱스가 스키마에 선언된 컬럼 순서대로 만들어지는지
+ * - DB 는 H2 → MariaDB 옵티마이저의 인덱스 선택(EXPLAIN)은 여기서 확인하지 않음
+ */
+@DataJpaTest(showSql = false)
+class ReserveSearchRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 5, 10);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReserveRepository reserveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long kimLand;
+    private Long kimLandLater;
+    private Long leeLand;
+    private Long kimVolunteer;
+    private Long leeVolunteerCancelled;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity kim = member("kim@test.com", "김철수");
+        MemberEntity lee = member("lee@test.com", "이영희");
+        TimeSlot landSlot = slot(TimeType.LAND, 10);
+        TimeSlot volSlot = slot(TimeType.VOL, 14);
+
+        kimLand = land(kim, landSlot, DAY, ReserveState.ING);
+        kimLandLater = land(kim, landSlot, DAY.plusDays(20), ReserveState.DONE);
+        leeLand = land(lee, landSlot, DAY.plusDays(1), ReserveState.ING);
+        kimVolunteer = volunteer(kim, volSlot, DAY.plusDays(2), ReserveState.ING);
+        leeVolunteerCancelled = volunteer(lee, volSlot, DAY.plusDays(3), ReserveState.CANCEL);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void typeAndDateRangeUseOnlyThatDetail() {
+        AdminReservationSearchDto cond = AdminReservationSearchDto.builder()
+                .startDate(DAY).endDate(DAY.plusDays(5)).build();
+
+        assertThat(codes(search(1, cond))).containsExactly(leeLand, kimLand);
+        assertThat(codes(search(2, cond))).containsExactly(leeVolunteerCancelled, kimVolunteer);
+        assertThat(codes(search(null, cond))).containsExactly(leeVolunteerCancelled, kimVolunteer, leeLand, kimLand);
+    }
+
+    @Test
+    void onlyEnteredConditionsFilter() {
+        assertThat(codes(search(null, null)))
+                .containsExactly(leeVolunteerCancelled, kimVolunteer, leeLand, kimLandLater, kimLand);
+        assertThat(codes(search(null, AdminReservationSearchDto.builder().memberName(" 김철수 ").build())))
+                .containsExactly(kimVolunteer, kimLandLater, kimLand);
+        assertThat(codes(search(1, AdminReservationSearchDto.builder()
+                .memberName("김철수").reserveState(ReserveState.DONE).build())))
+                .containsExactly(kimLandLater);
+        assertThat(codes(search(null, AdminReservationSearchDto.builder().startDate(DAY.plusDays(3)).build())))
+                .containsExactly(leeVolunteerCancelled, kimLandLater);
+        assertThat(codes(search(null, AdminReservationSearchDto.builder().reserveCode(leeLand).build())))
+                .containsExactly(leeLand);
+    }
+
+    @Test
+    void pagedSearchCountsAllMatches() {
+        AdminReservationSearchDto cond = AdminReservationSearchDto.builder().memberName("김철수").build();
+
+        Page<AdminReservationListDto> page = reserveRepository.searchAdminReservations(null, cond, PageRequest.of(1, 1));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(codes(page)).containsExactly(kimLandLater);
+        assertThat(page.getContent().get(0).getReserveDate()).isEqualTo(DAY.plusDays(20));
+    }
+
+    @Test
+    void compositeIndexesAreCreatedInDeclaredOrder() {
+        assertThat(indexColumns("IDX_LAND_DATE_SLOT_TYPE")).containsExactly("LAND_DATE", "TIME_SLOT_ID", "LAND_TYPE");
+        assertThat(indexColumns("IDX_VOLUNTEER_DATE_SLOT")).containsExactly("VOL_DATE", "TIME_SLOT_ID");
+        assertThat(indexColumns("IDX_RESERVE_MEMBER_STATE")).containsExactly("MEMBER_NUM", "RESERVE_STATE");
+        assertThat(indexColumns("IDX_MEMBER_NAME")).containsExactly("MEMBER_NAME");
+    }
+
+    private List<String> indexColumns(String indexName) {
+        return jdbcTemplate.queryForList("SELECT UPPER(COLUMN_NAME) FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE UPPER(INDEX_NAME) = ? ORDER BY ORDINAL_POSITION", String.class, indexName);
+    }
+
+    private List<AdminReservationListDto> search(Integer reserveType, AdminReservationSearchDto cond) {
+        return reserveRepository.searchAdminReservations(reserveType, cond, Pageable.unpaged()).getContent();
+    }
+
+    private static List<Long> codes(Iterable<AdminReservationListDto> rows) {
+        List<Long> codes = new ArrayList<>();
+        rows.forEach(r -> codes.add(r.getReserveCode()));
+        return codes;
+    }
+
+    private MemberEntity member(String id, String name) {
+        MemberEntity member = new MemberEntity();
+        member.setMemberId(id);
+        member.setMemberName(name);
+        return em.persist(member);
+    }
+
+    private TimeSlot slot(TimeType type, int hour) {
+        return em.persist(TimeSlot.builder()
+                .startTime(LocalTime.of(hour, 0))
+                .endTime(LocalTime.of(hour + 1, 0))
+                .capacity(10)
+                .enabled(true)
+                .timeType(type)
+                .build());
+    }
+
+    private Reserve reserve(MemberEntity member, int type, ReserveState state) {
+        return em.persist(Reserve.builder()
+                .member(member)
+                .reserveType(type)
+                .reserveNumber(1)
+                .reserveState(state)
+                .applyDate(LocalDateTime.now())
+                .build());
+    }
+
+    private Long land(MemberEntity member, TimeSlot slot, LocalDate date, ReserveState state) {
+        Reserve reserve = reserve(member, 1, state);
+        em.persist(Land.builder()
+                .reserve(reserve)
+                .landDate(date)
+                .timeSlot(slot)
+                .landType(LandType.SMALL)
+                .animalNumber(1)
+                .build());
+        return reserve.getReserveCode();
+    }
+
+    private Long volunteer(MemberEntity member, TimeSlot slot, LocalDate date, ReserveState state) {
+        Reserve reserve = reserve(member, 2, state);
+        em.persist(Volunteer.builder()
+                .reserve(reserve)
+                .volDate(date)
+                .timeSlot(slot)
+                .build());
+        return reserve.getReserveCode();
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.reserve.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.common.entity.TimeType;
+import com.project.common.service.TimeSlotCatalog;
+import com.project.reserve.dto.FullReserveRequestDto;
+import com.project.reserve.dto.ReserveHoldResponseDto;
+import com.project.reserve.dto.ReserveRequestDto;
+import com.project.volunteer.dto.VolunteerRequestDto;
+
+/**
+ * 예약 접수 대기열 (user-013)
+ * - 카탈로그에 없는 시간대 / 예약 가능 기간 밖 날짜는 레인을 만들지 않음
+ * - 실패 홀드에는 예외 메시지 대신 고정 문구
+ */
+class ReserveAdmissionQueueTest {
+
+    private static final Long SLOT = 7L;
+
+    private final ReserveService reserveService = mock(ReserveService.class);
+    private final TimeSlotCatalog timeSlotCatalog = mock(TimeSlotCatalog.class);
+    private ReserveAdmissionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        TimeSlotCatalog.Slot slot = new TimeSlotCatalog.Slot(SLOT, "10:00 ~ 12:00", LocalTime.of(10, 0),
+                LocalTime.of(12, 0), 10, true, TimeType.VOL);
+        when(timeSlotCatalog.findBookable(any(), any())).thenReturn(Optional.empty());
+        when(timeSlotCatalog.findBookable(SLOT, TimeType.VOL)).thenReturn(Optional.of(slot));
+
+        queue = new ReserveAdmissionQueue(reserveService, timeSlotCatalog);
+        ReflectionTestUtils.setField(queue, "enabled", true);
+        ReflectionTestUtils.setField(queue, "laneDepth", 10);
+        ReflectionTestUtils.setField(queue, "workers", 1);
+        ReflectionTestUtils.setField(queue, "holdTtlMs", 600_000L);
+        ReflectionTestUtils.setField(queue, "maxDaysAhead", 30);
+        queue.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    void unknownSlotOrOutOfWindowDateCreatesNoLane() {
+        LocalDate today = LocalDate.now();
+        assertThatThrownBy(() -> queue.submit(volunteer(today.plusDays(1), 999L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> queue.submit(volunteer(today.minusDays(1), SLOT)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> queue.submit(volunteer(today.plusDays(31), SLOT)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> queue.submit(volunteer(null, SLOT)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(lanes()).isEmpty();
+        verify(reserveService, never()).createReserve(any());
+    }
+
+    @Test
+    void failedHoldUsesFixedMessage() throws InterruptedException {
+        when(reserveService.createReserve(any()))
+                .thenThrow(new RuntimeException("could not execute statement [insert into reserve ...]"));
+
+        ReserveHoldResponseDto hold = queue.submit(volunteer(LocalDate.now().plusDays(3), SLOT));
+        assertThat(lanes()).hasSize(1);
+
+        ReserveHoldResponseDto result = queue.status(hold.getHoldToken());
+        for (int i = 0; i < 200 && ReserveAdmissionQueue.PENDING.equals(result.getStatus()); i++) {
+            Thread.sleep(10);
+            result = queue.status(hold.getHoldToken());
+        }
+        assertThat(result.getStatus()).isEqualTo(ReserveAdmissionQueue.FAILED);
+        assertThat(result.getMessage()).isEqualTo("예약 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private Map<?, ?> lanes() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(queue, "lanes");
+    }
+
+    private static FullReserveRequestDto volunteer(LocalDate date, Long timeSlotId) {
+        return FullReserveRequestDto.builder()
+                .reserveDto(ReserveRequestDto.builder().memberNum(1L).reserveType(2).reserveNumber(1).build())
+                .volunteerDto(VolunteerRequestDto.builder().volDate(date).timeSlotId(timeSlotId).build())
+                .build();
+    }
+}
@@ -0,0 +1,391 @@
+package com.project.reserve.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.common.entity.TimeSlot;
+import com.project.common.entity.TimeType;
+import com.project.common.repository.TimeSlotRepository;
+import com.project.common.service.TimeSlotCatalog;
+import com.project.land.entity.Land;
+import com.project.land.entity.LandType;
+import com.project.land.repository.LandRepository;
+import com.project.member.entity.MemberEntity;
+import com.project.member.repository.MemberRepository;
+import com.project.reserve.dto.ReserveStatDto;
+import com.project.reserve.entity.Reserve;
+import com.project.reserve.entity.ReserveStat;
+import com.project.reserve.entity.ReserveState;
+import com.project.reserve.entity.StatPeriod;
+import com.project.reserve.repository.ReserveRepository;
+import com.project.reserve.repository.ReserveStatRepository;
+import com.project.volunteer.entity.Volunteer;
+import com.project.volunteer.repository.VolunteerRepository;
+
+/**
+ * 예약 통계 롤업 (user-020)
+ * - 커밋된 생성/취소/상태변경만 일/주/월 구간에 누적 → flush 후 원본 예약을 직접 GROUP BY 한 결과와 같아야 함
+ * - 구간 키 (주=월요일 시작, 연/월 경계) / 누적분 합산 / ON DUPLICATE KEY 가산 / 재집계 / 조회 구간 수 상한
+ * - 커밋을 실제로 일으키기 위해 테스트 트랜잭션 없이 실행하고 끝나면 관련 테이블 삭제
+ * - upsert 문법을 그대로 실행하도록 내장 DB 대신 MySQL 모드 H2 (test application.properties) 사용
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReserveStatRollupTest {
+
+    @Autowired
+    private ReserveStatRepository reserveStatRepository;
+
+    @Autowired
+    private ReserveRepository reserveRepository;
+
+    @Autowired
+    private LandRepository landRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private ReserveStatRollup rollup;
+    private ReserveStatServiceImpl service;
+
+    private MemberEntity member;
+    private TimeSlot morning;
+    private TimeSlot afternoon;
+    private TimeSlot volSlot;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        rollup = new ReserveStatRollup(reserveStatRepository, jdbcTemplate, transactionManager);
+        service = new ReserveStatServiceImpl(reserveStatRepository, rollup,
+                new TimeSlotCatalog(timeSlotRepository, transactionManager));
+
+        MemberEntity m = new MemberEntity();
+        m.setMemberId("stat@test.com");
+        m.setMemberName("통계");
+        member = memberRepository.save(m);
+        morning = timeSlotRepository.save(slot(TimeType.LAND, 10));
+        afternoon = timeSlotRepository.save(slot(TimeType.LAND, 14));
+        volSlot = timeSlotRepository.save(slot(TimeType.VOL, 9));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reserve_stat");
+        jdbcTemplate.update("DELETE FROM land");
+        jdbcTemplate.update("DELETE FROM volunteer");
+        jdbcTemplate.update("DELETE FROM reserve");
+        jdbcTemplate.update("DELETE FROM member");
+        jdbcTemplate.update("DELETE FROM time_slot");
+    }
+
+    @Test
+    void flushedBucketsMatchDirectGroupBy() {
+        Long newYear = seedAcrossBoundaries();
+
+        for (StatPeriod period : StatPeriod.values()) {
+            assertThat(rows(period)).as(period.name()).containsExactlyInAnyOrderElementsOf(groupBy(period));
+        }
+
+        // 구간 시작일: 주는 연도를 넘어 월요일, 일요일은 앞 주, 월은 1일
+        assertThat(periodStarts(StatPeriod.WEEK)).containsExactly(
+                LocalDate.of(2024, 12, 30), LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 31));
+        assertThat(periodStarts(StatPeriod.MONTH)).containsExactly(
+                LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1));
+
+        // 1/1 예약은 앞선 flush 로 ING 1 이 반영된 뒤 취소 → 같은 행에 -1 가산되어 0 으로 남음
+        assertThat(reserveStatRepository.findAll()).filteredOn(s -> s.getStatPeriod() == StatPeriod.DAY
+                        && s.getPeriodStart().equals(LocalDate.of(2025, 1, 1)))
+                .extracting(ReserveStat::getReserveState, ReserveStat::getReserveCount, ReserveStat::getRevenue)
+                .containsExactlyInAnyOrder(
+                        tuple(ReserveState.ING, 0L, 0L),
+                        tuple(ReserveState.CANCEL, 1L, 2000L));
+        assertThat(reserveRepository.findByReserveCode(newYear)).get()
+                .extracting(Reserve::getReserveState).isEqualTo(ReserveState.CANCEL);
+    }
+
+    @Test
+    void pendingDeltasMergeAndUpsertAddsToExistingRows() {
+        Reserve reserve = inMemoryLand(LocalDate.of(2025, 6, 10), 2, 3000);
+
+        // 트랜잭션 밖 기록은 바로 누적, 같은 구간끼리 합산 / 같은 상태로의 변경은 무시
+        rollup.record(reserve, null, ReserveState.ING);
+        rollup.record(reserve, null, ReserveState.ING);
+        rollup.record(reserve, ReserveState.ING, ReserveState.ING);
+        rollup.flush();
+        assertThat(count(StatPeriod.DAY, ReserveState.ING)).isEqualTo(2);
+        assertThat(reserveStatRepository.count()).isEqualTo(3);   // 일/주/월 각 1행
+
+        rollup.record(reserve, null, ReserveState.ING);
+        rollup.record(reserve, ReserveState.ING, ReserveState.DONE);
+        rollup.flush();
+        assertThat(count(StatPeriod.DAY, ReserveState.ING)).isEqualTo(2);
+        assertThat(count(StatPeriod.DAY, ReserveState.DONE)).isEqualTo(1);
+        assertThat(count(StatPeriod.MONTH, ReserveState.ING)).isEqualTo(2);
+        assertThat(reserveStatRepository.count()).isEqualTo(6);   // 기존 행은 가산, DONE 만 새 행
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT head_count || '/' || revenue FROM reserve_stat WHERE stat_period = 'WEEK' AND reserve_state = 'ING'",
+                String.class)).isEqualTo("4/6000");
+
+        // 롤백된 트랜잭션의 기록은 버림, 세부 정보 없는 예약은 무시
+        tx.executeWithoutResult(s -> {
+            rollup.record(reserve, ReserveState.ING, ReserveState.CANCEL);
+            s.setRollbackOnly();
+        });
+        rollup.record(Reserve.builder().reserveState(ReserveState.ING).build(), null, ReserveState.ING);
+        rollup.flush();
+        assertThat(count(StatPeriod.DAY, ReserveState.ING)).isEqualTo(2);
+        assertThat(reserveStatRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    void rebuildReplacesTableWithSourceTotalsAndDropsPending() {
+        seedAcrossBoundaries();
+        rollup.record(inMemoryLand(LocalDate.of(2025, 6, 10), 1, 2000), null, ReserveState.ING);
+
+        int buckets = rollup.rebuild();
+
+        int expected = 0;
+        for (StatPeriod period : StatPeriod.values()) {
+            List<String> direct = groupBy(period);
+            assertThat(rows(period)).as(period.name()).containsExactlyInAnyOrderElementsOf(direct);
+            expected += direct.size();
+        }
+        assertThat(buckets).isEqualTo(expected);
+        assertThat(reserveStatRepository.count()).isEqualTo(expected);   // 0 건 구간 없음
+
+        // 재집계 전 누적분은 반영되지 않음
+        rollup.flush();
+        assertThat(reserveStatRepository.count()).isEqualTo(expected);
+    }
+
+    @Test
+    void getStatsIncludesPendingAndSkipsEmptyBuckets() {
+        seedAcrossBoundaries();
+        createVolunteer(LocalDate.of(2025, 1, 1), 3, ReserveState.ING);   // flush 전 (누적분만 있음)
+
+        List<ReserveStatDto> day = service.getStats(StatPeriod.DAY, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), null);
+        assertThat(day).extracting(ReserveStatDto::getReserveType, ReserveStatDto::getLandType,
+                        ReserveStatDto::getReserveState, ReserveStatDto::getReserveCount, ReserveStatDto::getHeadCount)
+                .containsExactlyInAnyOrder(
+                        tuple(1, LandType.SMALL, ReserveState.CANCEL, 1L, 1L),
+                        tuple(2, null, ReserveState.ING, 1L, 3L));
+        assertThat(day).filteredOn(d -> d.getReserveType() == 2)
+                .extracting(ReserveStatDto::getLabel).containsExactly("09:00 ~ 10:00");
+
+        // 주 단위는 조회 기간을 구간 시작일로 내림 (4/6 일요일 → 3/31 주)
+        assertThat(service.getStats(StatPeriod.WEEK, LocalDate.of(2025, 4, 6), LocalDate.of(2025, 4, 6), 1))
+                .extracting(ReserveStatDto::getPeriodStart, ReserveStatDto::getTimeSlotId, ReserveStatDto::getReserveCount)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 31), morning.getId(), 1L),
+                        tuple(LocalDate.of(2025, 3, 31), afternoon.getId(), 1L));
+    }
+
+    @Test
+    void getStatsCapsBucketCount() {
+        LocalDate monday = LocalDate.of(2025, 1, 6);
+
+        assertThat(service.getStats(StatPeriod.DAY, monday, monday.plusDays(399), null)).isEmpty();
+        assertThatThrownBy(() -> service.getStats(StatPeriod.DAY, monday, monday.plusDays(400), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 주 단위는 구간 시작일 기준 (마지막 주 일요일까지 400개)
+        assertThat(service.getStats(StatPeriod.WEEK, monday.minusDays(1), monday.plusWeeks(398).plusDays(6), null)).isEmpty();
+        assertThatThrownBy(() -> service.getStats(StatPeriod.WEEK, monday, monday.plusWeeks(400), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(service.getStats(StatPeriod.MONTH, LocalDate.of(2000, 1, 31), LocalDate.of(2033, 4, 1), null)).isEmpty();
+        assertThatThrownBy(() -> service.getStats(StatPeriod.MONTH, LocalDate.of(2000, 1, 1), LocalDate.of(2033, 5, 1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> service.getStats(StatPeriod.DAY, monday.plusDays(1), monday, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getStats(StatPeriod.DAY, monday, monday, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getStats(null, monday, monday, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // =========================
+    // 📌 연/주/월 경계에 걸친 예약 + 취소/상태변경 (중간에 한 번 flush → 이후 변경은 기존 행에 가산)
+    //    1/1 놀이터 예약 코드 반환
+    // =========================
+    private Long seedAcrossBoundaries() {
+        createLand(LocalDate.of(2024, 12, 31), morning, LandType.SMALL, 2, 3000);   // 화, 주 12/30
+        Long newYear = createLand(LocalDate.of(2025, 1, 1), morning, LandType.SMALL, 1, 2000);   // 수, 주 12/30
+        Long sunday = createLand(LocalDate.of(2025, 3, 30), afternoon, LandType.LARGE, 3, 4000);   // 일, 주 3/24
+        createLand(LocalDate.of(2025, 3, 31), afternoon, LandType.LARGE, 1, 2000);   // 월, 주 3/31
+        Long april = createLand(LocalDate.of(2025, 4, 1), morning, LandType.SMALL, 2, 3000);   // 화, 주 3/31, 4월
+        Long volunteer = createVolunteer(LocalDate.of(2025, 3, 31), 4, ReserveState.ING);
+        createVolunteer(LocalDate.of(2025, 4, 6), 2, ReserveState.ING);   // 일, 주 3/31
+        rollup.flush();
+
+        changeState(newYear, ReserveState.CANCEL, false);
+        changeState(sunday, ReserveState.DONE, false);
+        changeState(volunteer, ReserveState.CANCEL, false);
+        changeState(april, ReserveState.CANCEL, true);   // 롤백
+        tx.executeWithoutResult(s -> {   // 롤백된 신규 예약
+            saveLand(LocalDate.of(2025, 4, 1), morning, LandType.SMALL, 1, 2000);
+            s.setRollbackOnly();
+        });
+        rollup.flush();
+        return newYear;
+    }
+
+    private Long createLand(LocalDate date, TimeSlot slot, LandType landType, int animals, int pay) {
+        return tx.execute(s -> saveLand(date, slot, landType, animals, pay));
+    }
+
+    private Long saveLand(LocalDate date, TimeSlot slot, LandType landType, int animals, int pay) {
+        Reserve reserve = saveReserve(1, 1, ReserveState.ING);
+        Land land = Land.builder()
+                .reserve(reserve)
+                .landDate(date)
+                .timeSlot(slot)
+                .landType(landType)
+                .animalNumber(animals)
+                .payNumber(pay)
+                .build();
+        reserve.setLandDetail(land);
+        landRepository.save(land);
+        rollup.record(reserve, null, reserve.getReserveState());
+        return reserve.getReserveCode();
+    }
+
+    private Long createVolunteer(LocalDate date, int people, ReserveState state) {
+        return tx.execute(s -> {
+            Reserve reserve = saveReserve(2, people, state);
+            Volunteer volunteer = Volunteer.builder()
+                    .reserve(reserve)
+                    .volDate(date)
+                    .timeSlot(volSlot)
+                    .build();
+            reserve.setVolunteerDetail(volunteer);
+            volunteerRepository.save(volunteer);
+            rollup.record(reserve, null, reserve.getReserveState());
+            return reserve.getReserveCode();
+        });
+    }
+
+    private Reserve saveReserve(int reserveType, int reserveNumber, ReserveState state) {
+        return reserveRepository.save(Reserve.builder()
+                .member(member)
+                .reserveType(reserveType)
+                .reserveNumber(reserveNumber)
+                .reserveState(state)
+                .applyDate(LocalDateTime.now())
+                .build());
+    }
+
+    private void changeState(Long reserveCode, ReserveState to, boolean rollback) {
+        tx.executeWithoutResult(s -> {
+            Reserve reserve = reserveRepository.findByReserveCode(reserveCode).orElseThrow();
+            rollup.record(reserve, reserve.getReserveState(), to);
+            reserve.setReserveState(to);
+            if (rollback) s.setRollbackOnly();
+        });
+    }
+
+    private Reserve inMemoryLand(LocalDate date, int animals, int pay) {
+        Reserve reserve = Reserve.builder().reserveType(1).reserveNumber(1).build();
+        reserve.setLandDetail(Land.builder()
+                .reserve(reserve)
+                .landDate(date)
+                .timeSlot(TimeSlot.builder().id(999L).build())
+                .landType(LandType.SMALL)
+                .animalNumber(animals)
+                .payNumber(pay)
+                .build());
+        return reserve;
+    }
+
+    // =========================
+    // 📌 비교용 조회 (유형|구간 시작일|시간대|놀이터타입|상태|건수|두수·인원|금액)
+    // =========================
+    private List<String> rows(StatPeriod period) {
+        return jdbcTemplate.queryForList(
+                "SELECT CONCAT_WS('|', reserve_type, period_start, time_slot_id, land_type, reserve_state, " +
+                "reserve_count, head_count, revenue) FROM reserve_stat WHERE stat_period = ? AND reserve_count <> 0",
+                String.class, period.name());
+    }
+
+    // 롤업을 거치지 않고 원본 예약을 구간별로 직접 집계
+    private List<String> groupBy(StatPeriod period) {
+        String landStart = periodStart(period, "l.land_date");
+        String volStart = periodStart(period, "v.vol_date");
+        List<String> rows = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT CONCAT_WS('|', 1, " + landStart + ", l.time_slot_id, l.land_type, r.reserve_state, " +
+                "COUNT(*), SUM(l.animal_number), SUM(l.pay_number)) " +
+                "FROM land l JOIN reserve r ON r.reserve_code = l.reserve_code " +
+                "GROUP BY " + landStart + ", l.time_slot_id, l.land_type, r.reserve_state", String.class));
+        rows.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT_WS('|', 2, " + volStart + ", v.time_slot_id, 'NONE', r.reserve_state, " +
+                "COUNT(*), SUM(r.reserve_number), 0) " +
+                "FROM volunteer v JOIN reserve r ON r.reserve_code = v.reserve_code " +
+                "GROUP BY " + volStart + ", v.time_slot_id, r.reserve_state", String.class));
+        return rows;
+    }
+
+    private static String periodStart(StatPeriod period, String column) {
+        return switch (period) {
+            case DAY -> column;
+            case WEEK -> "CAST(DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(" + column + "), " + column + ") AS DATE)";
+            case MONTH -> "CAST(DATEADD(DAY, 1 - DAY_OF_MONTH(" + column + "), " + column + ") AS DATE)";
+        };
+    }
+
+    private List<LocalDate> periodStarts(StatPeriod period) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT period_start FROM reserve_stat WHERE stat_period = ? ORDER BY period_start",
+                LocalDate.class, period.name());
+    }
+
+    private long count(StatPeriod period, ReserveState state) {
+        return jdbcTemplate.queryForObject(
+                "SELECT SUM(reserve_count) FROM reserve_stat WHERE stat_period = ? AND reserve_state = ?",
+                Long.class, period.name(), state.name());
+    }
+
+    private static TimeSlot slot(TimeType type, int hour) {
+        return TimeSlot.builder()
+                .startTime(LocalTime.of(hour, 0))
+                .endTime(LocalTime.of(hour + 1, 0))
+                .capacity(10)
+                .enabled(true)
+                .timeType(type)
+                .build();
+    }
+}
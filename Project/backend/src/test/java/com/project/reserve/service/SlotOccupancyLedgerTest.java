@@ -0,0 +1,300 @@
+package com.project.reserve.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.project.common.entity.TimeType;
+import com.project.land.dto.LandCountDto;
+import com.project.land.entity.LandType;
+import com.project.land.repository.LandRepository;
+import com.project.reserve.exception.ReserveLedgerUnavailableException;
+import com.project.reserve.exception.SlotFullException;
+import com.project.volunteer.repository.VolunteerRepository;
+
+/**
+ * 예약 점유 원장 (user-012)
+ * - DB 는 슬롯별 커밋된 점유 수 맵으로 흉내 (집계 쿼리 = 그 맵의 스냅샷)
+ * - 트랜잭션은 스레드마다 동기화 등록 → 커밋/롤백 콜백 호출로 흉내
+ * - 적재 대기 시간 초과는 ReserveLedgerUnavailableException (503), 미리 적재한 달은 트랜잭션 안에서 기다리지 않음
+ */
+class SlotOccupancyLedgerTest {
+
+    private static final int CAPACITY = 10;
+    private static final LocalDate DAY = YearMonth.now().plusMonths(1).atDay(10);
+    private static final Long SLOT = 1L;
+
+    private record Slot(LocalDate date, Long timeSlotId, LandType landType) {}
+
+    // 커밋된 예약 점유 수 (DB)
+    private final Map<Slot, AtomicInteger> db = new ConcurrentHashMap<>();
+    private final AtomicInteger seedCalls = new AtomicInteger();
+    private volatile CountDownLatch seedGate;
+
+    private SlotOccupancyLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        LandRepository landRepository = mock(LandRepository.class);
+        when(landRepository.getLandCountInfoBetween(any(), any())).thenAnswer(inv -> {
+            List<LandCountDto> rows = snapshot();
+            if (seedCalls.incrementAndGet() == 1 && seedGate != null) {
+                seedGate.await(5, TimeUnit.SECONDS);
+            }
+            return rows;
+        });
+        ledger = new SlotOccupancyLedger(landRepository, mock(VolunteerRepository.class), new NoopTransactionManager());
+        ReflectionTestUtils.setField(ledger, "loadTimeoutMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void releaseCommittedDuringLoadIsNotLost() throws Exception {
+        db.put(new Slot(DAY, SLOT, LandType.SMALL), new AtomicInteger(5));
+        seedGate = new CountDownLatch(1);
+
+        // 첫 조회가 적재를 시작 → 적재 스레드는 DB 값(5)을 읽은 채로 대기
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        Future<Integer> firstRead = caller.submit(() -> ledger.reserved(TimeType.LAND, DAY, SLOT, LandType.SMALL));
+        while (seedCalls.get() == 0) Thread.sleep(5);
+
+        // 그 사이 2마리 취소가 커밋됨
+        inTransaction(true, () -> {
+            ledger.release(TimeType.LAND, DAY, SLOT, LandType.SMALL, 2);
+            db.get(new Slot(DAY, SLOT, LandType.SMALL)).addAndGet(-2);
+        });
+        seedGate.countDown();
+
+        assertThat(firstRead.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(seedCalls.get()).isGreaterThan(1);
+        caller.shutdown();
+    }
+
+    @Test
+    void slowLoadTimesOutAsUnavailableAndWarmMonthIsReused() throws Exception {
+        db.put(new Slot(DAY, SLOT, LandType.SMALL), new AtomicInteger(3));
+        seedGate = new CountDownLatch(1);
+        ReflectionTestUtils.setField(ledger, "loadTimeoutMs", 100L);
+
+        assertThatThrownBy(() -> ledger.warm(TimeType.LAND, DAY))
+                .isInstanceOf(ReserveLedgerUnavailableException.class);
+
+        // 적재가 끝나면 트랜잭션 안의 조회/점유는 다시 적재하지 않음
+        seedGate.countDown();
+        ReflectionTestUtils.setField(ledger, "loadTimeoutMs", 5_000L);
+        ledger.warm(TimeType.LAND, DAY);
+        inTransaction(true, () -> ledger.acquire(TimeType.LAND, DAY, SLOT, LandType.SMALL, 2, CAPACITY));
+        assertThat(ledger.reserved(TimeType.LAND, DAY, SLOT, LandType.SMALL)).isEqualTo(5);
+        assertThat(seedCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void preloadLoadsCurrentAndNextMonth() throws Exception {
+        ledger.preloadUpcoming();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (seedCalls.get() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertThat(seedCalls.get()).isEqualTo(2);
+
+        // 다음 달(DAY) 조회는 이미 적재된 원장 사용
+        ledger.reserved(TimeType.LAND, DAY, SLOT, LandType.SMALL);
+        assertThat(seedCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rollbackReturnsOccupancyAndCapacityIsEnforced() {
+        inTransaction(false, () -> ledger.acquire(TimeType.LAND, DAY, SLOT, LandType.LARGE, CAPACITY, CAPACITY));
+        assertThat(ledger.reserved(TimeType.LAND, DAY, SLOT, LandType.LARGE)).isZero();
+
+        inTransaction(true, () -> book(new Slot(DAY, SLOT, LandType.LARGE), CAPACITY));
+        assertThatThrownBy(() -> inTransaction(true, () -> ledger.acquire(TimeType.LAND, DAY, SLOT, LandType.LARGE, 1, CAPACITY)))
+                .isInstanceOf(SlotFullException.class);
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        Slot slot = new Slot(DAY, SLOT, LandType.SMALL);
+        inTransaction(true, () -> book(slot, 4));
+
+        // 원장을 거치지 않은 DB 변경 (관리자 직접 수정 등)
+        db.get(slot).set(7);
+        assertThat(ledger.reserved(TimeType.LAND, DAY, SLOT, LandType.SMALL)).isEqualTo(4);
+
+        ledger.reconcile();
+        assertThat(ledger.reserved(TimeType.LAND, DAY, SLOT, LandType.SMALL)).isEqualTo(7);
+    }
+
+    // 여러 스레드가 예약/롤백/취소/조회를 섞어 실행하는 동안 대조도 계속 실행
+    // → DB 점유 수가 정원을 넘은 적이 없고, 끝난 뒤 원장 == DB
+    @Test
+    void concurrentBookingsNeverOversellAndLeaveNoDrift() throws Exception {
+        List<Slot> slots = new ArrayList<>();
+        for (int d = 0; d < 3; d++) {
+            for (long id = 1; id <= 2; id++) {
+                for (LandType type : LandType.values()) {
+                    slots.add(new Slot(DAY.plusDays(d), id, type));
+                }
+            }
+        }
+        // 적재 전부터 있던 예약
+        db.put(slots.get(0), new AtomicInteger(CAPACITY - 2));
+
+        Map<Long, Slot> bookingSlot = new ConcurrentHashMap<>();
+        Map<Long, Integer> bookingAmount = new ConcurrentHashMap<>();
+        Set<Long> cancelling = ConcurrentHashMap.newKeySet();
+        AtomicLong ids = new AtomicLong();
+        AtomicBoolean oversold = new AtomicBoolean();
+        AtomicInteger full = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        int threads = 12;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        Future<?> reconciler = pool.submit(() -> {
+            while (running.get()) {
+                ledger.reconcile();
+            }
+        });
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int op = 0; op < 3000; op++) {
+                    int roll = random.nextInt(100);
+                    Slot slot = slots.get(random.nextInt(slots.size()));
+                    if (roll < 60) {
+                        int amount = 1 + random.nextInt(3);
+                        boolean commit = roll >= 10;
+                        try {
+                            inTransaction(commit, () -> {
+                                ledger.acquire(TimeType.LAND, slot.date(), slot.timeSlotId(), slot.landType(), amount, CAPACITY);
+                                if (commit) {
+                                    if (db.computeIfAbsent(slot, k -> new AtomicInteger()).addAndGet(amount) > CAPACITY) {
+                                        oversold.set(true);
+                                    }
+                                    long id = ids.incrementAndGet();
+                                    bookingAmount.put(id, amount);
+                                    bookingSlot.put(id, slot);
+                                }
+                            });
+                        } catch (SlotFullException e) {
+                            full.incrementAndGet();
+                        }
+                    } else if (roll < 90) {
+                        Long id = bookingSlot.isEmpty() ? null : bookingSlot.keySet().iterator().next();
+                        if (id == null || !cancelling.add(id)) continue;
+                        Slot booked = bookingSlot.remove(id);
+                        int amount = bookingAmount.remove(id);
+                        inTransaction(true, () -> {
+                            ledger.release(TimeType.LAND, booked.date(), booked.timeSlotId(), booked.landType(), amount);
+                            db.get(booked).addAndGet(-amount);
+                        });
+                    } else {
+                        assertThat(ledger.reserved(TimeType.LAND, slot.date(), slot.timeSlotId(), slot.landType()))
+                                .isBetween(0, CAPACITY);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        reconciler.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertThat(oversold).isFalse();
+        assertThat(full.get()).isPositive();
+        for (Slot slot : slots) {
+            int expected = db.getOrDefault(slot, new AtomicInteger()).get();
+            assertThat(ledger.reserved(TimeType.LAND, slot.date(), slot.timeSlotId(), slot.landType()))
+                    .as("원장 %s", slot)
+                    .isEqualTo(expected);
+        }
+    }
+
+    // 예약 1건 커밋 (원장 점유 + DB 반영)
+    private void book(Slot slot, int amount) {
+        ledger.acquire(TimeType.LAND, slot.date(), slot.timeSlotId(), slot.landType(), amount, CAPACITY);
+        db.computeIfAbsent(slot, k -> new AtomicInteger()).addAndGet(amount);
+    }
+
+    // body 를 트랜잭션 안에서 실행한 것처럼 커밋/롤백 콜백 호출 (예외면 롤백)
+    private static void inTransaction(boolean commit, Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        boolean committed = false;
+        List<TransactionSynchronization> synchronizations;
+        try {
+            body.run();
+            committed = commit;
+        } finally {
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            if (committed) {
+                TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            }
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                    committed ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    private List<LandCountDto> snapshot() {
+        List<LandCountDto> rows = new ArrayList<>();
+        db.forEach((slot, count) -> {
+            if (count.get() > 0) {
+                rows.add(new LandCountDto(slot.timeSlotId(), "label", slot.landType(), (long) count.get(), CAPACITY, slot.date()));
+            }
+        });
+        return rows;
+    }
+
+    private static final class NoopTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {}
+
+        @Override
+        public void rollback(TransactionStatus status) {}
+    }
+}